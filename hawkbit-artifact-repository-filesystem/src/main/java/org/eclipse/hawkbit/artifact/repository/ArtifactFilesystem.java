@@ -12,13 +12,19 @@ import java.io.BufferedInputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.IOException;
 import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.Optional;
 
 import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
 import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
 import org.springframework.util.Assert;
 
 import com.google.common.base.Throwables;
+import com.google.common.io.ByteStreams;
 
 /**
  * {@link AbstractDbArtifact} implementation which dynamically creates a
@@ -46,4 +52,23 @@ public class ArtifactFilesystem extends AbstractDbArtifact {
             throw Throwables.propagate(e);
         }
     }
+
+    @Override
+    // suppress warning, this InputStream needs to be closed by the caller, this
+    // cannot be closed in this method
+    @SuppressWarnings("squid:S2095")
+    public InputStream getFileInputStream(final long offset, final long length) {
+        try {
+            final FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+            channel.position(offset);
+            return ByteStreams.limit(new BufferedInputStream(Channels.newInputStream(channel)), length);
+        } catch (final IOException e) {
+            throw Throwables.propagate(e);
+        }
+    }
+
+    @Override
+    public Optional<File> getFile() {
+        return Optional.of(file);
+    }
 }
@@ -13,6 +13,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 
 import org.apache.commons.io.IOUtils;
 import org.assertj.core.api.Assertions;
@@ -53,4 +56,31 @@ public class ArtifactFilesystemTest {
         final byte[] buffer = new byte[1024];
         IOUtils.read(underTest.getFileInputStream(), buffer);
     }
+
+    @Test
+    @Description("Verifies that the local file of the artifact is exposed for the hand-over to the container")
+    public void getFileOfExistingFile() throws IOException {
+        final File createTempFile = File.createTempFile(ArtifactFilesystemTest.class.getSimpleName(), "");
+        createTempFile.deleteOnExit();
+
+        final ArtifactFilesystem underTest = new ArtifactFilesystem(createTempFile,
+                ArtifactFilesystemTest.class.getSimpleName(), new DbArtifactHash("1", "2", "3"), 0L, null);
+
+        assertThat(underTest.getFile()).contains(createTempFile);
+    }
+
+    @Test
+    @Description("Verifies that an InputStream on a range of the file starts at the offset and ends after the length")
+    public void getInputStreamOfRangeOfExistingFile() throws IOException {
+        final File createTempFile = File.createTempFile(ArtifactFilesystemTest.class.getSimpleName(), "");
+        createTempFile.deleteOnExit();
+        Files.write(createTempFile.toPath(), "hawkbit".getBytes(StandardCharsets.US_ASCII));
+
+        final ArtifactFilesystem underTest = new ArtifactFilesystem(createTempFile,
+                ArtifactFilesystemTest.class.getSimpleName(), new DbArtifactHash("1", "2", "3"), 7L, null);
+
+        try (InputStream in = underTest.getFileInputStream(1, 3)) {
+            assertThat(IOUtils.toString(in, StandardCharsets.US_ASCII)).isEqualTo("awk");
+        }
+    }
 }
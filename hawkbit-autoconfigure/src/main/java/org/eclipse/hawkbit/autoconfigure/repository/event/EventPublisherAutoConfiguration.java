@@ -11,6 +11,8 @@ package org.eclipse.hawkbit.autoconfigure.repository.event;
 import java.util.concurrent.Executor;
 
 import org.eclipse.hawkbit.event.BusProtoStuffMessageConverter;
+import org.eclipse.hawkbit.event.RemoteEventFilterInterceptor;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
 import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
 import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
@@ -21,6 +23,7 @@ import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
 import org.springframework.cloud.bus.ConditionalOnBusEnabled;
 import org.springframework.cloud.bus.ServiceMatcher;
+import org.springframework.cloud.bus.SpringCloudBusClient;
 import org.springframework.cloud.bus.jackson.RemoteApplicationEventScan;
 import org.springframework.cloud.stream.annotation.StreamMessageConverter;
 import org.springframework.context.ApplicationEvent;
@@ -30,8 +33,11 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.context.event.ApplicationEventMulticaster;
 import org.springframework.context.event.SimpleApplicationEventMulticaster;
 import org.springframework.context.support.AbstractApplicationContext;
+import org.springframework.core.Ordered;
 import org.springframework.core.ResolvableType;
+import org.springframework.integration.config.GlobalChannelInterceptor;
 import org.springframework.messaging.converter.MessageConverter;
+import org.springframework.messaging.support.ChannelInterceptor;
 
 import io.protostuff.ProtostuffIOUtil;
 import io.protostuff.Schema;
@@ -134,13 +140,32 @@ public class EventPublisherAutoConfiguration {
     @ConditionalOnClass({ Schema.class, ProtostuffIOUtil.class })
     protected static class BusProtoStuffAutoConfiguration {
         /**
-         * 
+         * @param repositoryProperties
+         *            for the compression threshold of the events
          * @return the protostuff io message converter
          */
         @Bean
         @StreamMessageConverter
-        public MessageConverter busProtoBufConverter() {
-            return new BusProtoStuffMessageConverter();
+        public MessageConverter busProtoBufConverter(final RepositoryProperties repositoryProperties) {
+            return new BusProtoStuffMessageConverter(repositoryProperties.getBusCompressionThreshold());
+        }
+
+    }
+
+    @ConditionalOnBusEnabled
+    protected static class BusRemoteEventFilterAutoConfiguration {
+        /**
+         * Drops the events of this instance that must not be sent to the
+         * other instances, before they are converted for the event bus.
+         *
+         * @param applicationEventFilter
+         *            that decides which events stay on this instance
+         * @return the interceptor of the bus output channel
+         */
+        @Bean
+        @GlobalChannelInterceptor(patterns = SpringCloudBusClient.OUTPUT, order = Ordered.HIGHEST_PRECEDENCE)
+        public ChannelInterceptor remoteEventFilterInterceptor(final ApplicationEventFilter applicationEventFilter) {
+            return new RemoteEventFilterInterceptor(applicationEventFilter);
         }
 
     }
@@ -33,7 +33,8 @@ import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
 import org.eclipse.hawkbit.mgmt.rest.resource.MgmtApiConfiguration;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.security.ControllerTenantAwareAuthenticationDetailsSource;
 import org.eclipse.hawkbit.security.DdiSecurityProperties;
 import org.eclipse.hawkbit.security.DosFilter;
@@ -168,23 +169,26 @@ public class SecurityManagedConfiguration {
                         + "/{controllerId}/softwaremodules/{softwareModuleId}/artifacts" };
 
         private final ControllerManagement controllerManagement;
-        private final TenantConfigurationManagement tenantConfigurationManagement;
+        private final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache;
         private final TenantAware tenantAware;
         private final DdiSecurityProperties ddiSecurityConfiguration;
         private final HawkbitSecurityProperties securityProperties;
         private final SystemSecurityContext systemSecurityContext;
+        private final TargetAuthenticationCache targetAuthenticationCache;
 
         @Autowired
         ControllerSecurityConfigurationAdapter(final ControllerManagement controllerManagement,
-                final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
+                final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
                 final DdiSecurityProperties ddiSecurityConfiguration,
-                final HawkbitSecurityProperties securityProperties, final SystemSecurityContext systemSecurityContext) {
+                final HawkbitSecurityProperties securityProperties, final SystemSecurityContext systemSecurityContext,
+                final TargetAuthenticationCache targetAuthenticationCache) {
             this.controllerManagement = controllerManagement;
-            this.tenantConfigurationManagement = tenantConfigurationManagement;
+            this.tenantConfigurationSnapshotCache = tenantConfigurationSnapshotCache;
             this.tenantAware = tenantAware;
             this.ddiSecurityConfiguration = ddiSecurityConfiguration;
             this.securityProperties = securityProperties;
             this.systemSecurityContext = systemSecurityContext;
+            this.targetAuthenticationCache = targetAuthenticationCache;
         }
 
         /**
@@ -216,20 +220,21 @@ public class SecurityManagedConfiguration {
 
             final HttpControllerPreAuthenticatedSecurityHeaderFilter securityHeaderFilter = new HttpControllerPreAuthenticatedSecurityHeaderFilter(
                     ddiSecurityConfiguration.getRp().getCnHeader(),
-                    ddiSecurityConfiguration.getRp().getSslIssuerHashHeader(), tenantConfigurationManagement,
+                    ddiSecurityConfiguration.getRp().getSslIssuerHashHeader(), tenantConfigurationSnapshotCache,
                     tenantAware, systemSecurityContext);
             securityHeaderFilter.setAuthenticationManager(authenticationManager());
             securityHeaderFilter.setCheckForPrincipalChanges(true);
             securityHeaderFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
 
             final HttpControllerPreAuthenticateSecurityTokenFilter securityTokenFilter = new HttpControllerPreAuthenticateSecurityTokenFilter(
-                    tenantConfigurationManagement, tenantAware, controllerManagement, systemSecurityContext);
+                    tenantConfigurationSnapshotCache, tenantAware, controllerManagement, systemSecurityContext,
+                    targetAuthenticationCache);
             securityTokenFilter.setAuthenticationManager(authenticationManager());
             securityTokenFilter.setCheckForPrincipalChanges(true);
             securityTokenFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
 
             final HttpControllerPreAuthenticatedGatewaySecurityTokenFilter gatewaySecurityTokenFilter = new HttpControllerPreAuthenticatedGatewaySecurityTokenFilter(
-                    tenantConfigurationManagement, tenantAware, systemSecurityContext);
+                    tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
             gatewaySecurityTokenFilter.setAuthenticationManager(authenticationManager());
             gatewaySecurityTokenFilter.setCheckForPrincipalChanges(true);
             gatewaySecurityTokenFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
@@ -284,23 +289,26 @@ public class SecurityManagedConfiguration {
                 + "/{controllerId}/softwaremodules/{softwareModuleId}/artifacts/*";
 
         private final ControllerManagement controllerManagement;
-        private final TenantConfigurationManagement tenantConfigurationManagement;
+        private final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache;
         private final TenantAware tenantAware;
         private final DdiSecurityProperties ddiSecurityConfiguration;
         private final HawkbitSecurityProperties securityProperties;
         private final SystemSecurityContext systemSecurityContext;
+        private final TargetAuthenticationCache targetAuthenticationCache;
 
         @Autowired
         ControllerDownloadSecurityConfigurationAdapter(final ControllerManagement controllerManagement,
-                final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
+                final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
                 final DdiSecurityProperties ddiSecurityConfiguration,
-                final HawkbitSecurityProperties securityProperties, final SystemSecurityContext systemSecurityContext) {
+                final HawkbitSecurityProperties securityProperties, final SystemSecurityContext systemSecurityContext,
+                final TargetAuthenticationCache targetAuthenticationCache) {
             this.controllerManagement = controllerManagement;
-            this.tenantConfigurationManagement = tenantConfigurationManagement;
+            this.tenantConfigurationSnapshotCache = tenantConfigurationSnapshotCache;
             this.tenantAware = tenantAware;
             this.ddiSecurityConfiguration = ddiSecurityConfiguration;
             this.securityProperties = securityProperties;
             this.systemSecurityContext = systemSecurityContext;
+            this.targetAuthenticationCache = targetAuthenticationCache;
         }
 
         /**
@@ -332,26 +340,27 @@ public class SecurityManagedConfiguration {
 
             final HttpControllerPreAuthenticatedSecurityHeaderFilter securityHeaderFilter = new HttpControllerPreAuthenticatedSecurityHeaderFilter(
                     ddiSecurityConfiguration.getRp().getCnHeader(),
-                    ddiSecurityConfiguration.getRp().getSslIssuerHashHeader(), tenantConfigurationManagement,
+                    ddiSecurityConfiguration.getRp().getSslIssuerHashHeader(), tenantConfigurationSnapshotCache,
                     tenantAware, systemSecurityContext);
             securityHeaderFilter.setAuthenticationManager(authenticationManager());
             securityHeaderFilter.setCheckForPrincipalChanges(true);
             securityHeaderFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
 
             final HttpControllerPreAuthenticateSecurityTokenFilter securityTokenFilter = new HttpControllerPreAuthenticateSecurityTokenFilter(
-                    tenantConfigurationManagement, tenantAware, controllerManagement, systemSecurityContext);
+                    tenantConfigurationSnapshotCache, tenantAware, controllerManagement, systemSecurityContext,
+                    targetAuthenticationCache);
             securityTokenFilter.setAuthenticationManager(authenticationManager());
             securityTokenFilter.setCheckForPrincipalChanges(true);
             securityTokenFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
 
             final HttpControllerPreAuthenticatedGatewaySecurityTokenFilter gatewaySecurityTokenFilter = new HttpControllerPreAuthenticatedGatewaySecurityTokenFilter(
-                    tenantConfigurationManagement, tenantAware, systemSecurityContext);
+                    tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
             gatewaySecurityTokenFilter.setAuthenticationManager(authenticationManager());
             gatewaySecurityTokenFilter.setCheckForPrincipalChanges(true);
             gatewaySecurityTokenFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
 
             final HttpControllerPreAuthenticateAnonymousDownloadFilter controllerAnonymousDownloadFilter = new HttpControllerPreAuthenticateAnonymousDownloadFilter(
-                    tenantConfigurationManagement, tenantAware, systemSecurityContext);
+                    tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
             controllerAnonymousDownloadFilter.setAuthenticationManager(authenticationManager());
             controllerAnonymousDownloadFilter.setCheckForPrincipalChanges(true);
             controllerAnonymousDownloadFilter.setAuthenticationDetailsSource(authenticationDetailsSource);
@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.amqp;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.benchmark.BenchmarkData;
+import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
+import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
+import org.eclipse.hawkbit.repository.model.ActionProperties;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+
+/**
+ * Creation of the DMF download and update payload of an assignment, i.e. the
+ * request with the software modules, artifacts and their URLs, and its
+ * conversion into an AMQP message as sent to the target.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class AmqpMessageDispatcherServiceBenchmark {
+
+    private BenchmarkData data;
+    private ActionProperties actionProperties;
+    private AmqpMessageDispatcherService dispatcherService;
+
+    @Setup
+    public void setup() {
+        data = new BenchmarkData();
+        actionProperties = new ActionProperties(data.getAction());
+
+        final RabbitTemplate rabbitTemplate = new RabbitTemplate();
+        rabbitTemplate.setMessageConverter(new Jackson2JsonMessageConverter());
+        // the message is converted but not sent
+        dispatcherService = new AmqpMessageDispatcherService(rabbitTemplate,
+                mock(AmqpMessageSenderService.class, withSettings().stubOnly()), data.getArtifactUrlHandler(),
+                data.getSystemSecurityContext(), data.getSystemManagement(), null, null, null, null,
+                mock(DeploymentManagement.class, withSettings().stubOnly()), new TargetAuthenticationCache());
+    }
+
+    @Benchmark
+    public DmfDownloadAndUpdateRequest createDownloadAndUpdateRequest() {
+        return dispatcherService.createDownloadAndUpdateRequest(data.getTarget(), data.getAction().getId(),
+                data.getSoftwareModules());
+    }
+
+    @Benchmark
+    public void sendUpdateMessageToTarget() {
+        dispatcherService.sendUpdateMessageToTarget(actionProperties, data.getTarget(), data.getSoftwareModules());
+    }
+
+    @Benchmark
+    public void sendMultiActionRequestToTarget() {
+        dispatcherService.sendMultiActionRequestToTarget(BenchmarkData.TENANT, data.getTarget(),
+                Collections.singletonList(data.getAction()), action -> data.getSoftwareModules());
+    }
+}
@@ -0,0 +1,61 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import java.net.URI;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.api.ApiType;
+import org.eclipse.hawkbit.api.ArtifactUrl;
+import org.eclipse.hawkbit.api.ArtifactUrlHandler;
+import org.eclipse.hawkbit.api.URLPlaceholder;
+import org.eclipse.hawkbit.api.URLPlaceholder.SoftwareData;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Generation of the download URLs of an artifact by the
+ * {@link org.eclipse.hawkbit.api.PropertyBasedArtifactUrlHandler}, which is
+ * called per artifact of every DDI deployment base and DMF download request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ArtifactUrlHandlerBenchmark {
+
+    private ArtifactUrlHandler urlHandler;
+    private URLPlaceholder placeholder;
+    private URI requestUri;
+
+    @Setup
+    public void setup() {
+        final BenchmarkData data = new BenchmarkData();
+        urlHandler = data.getArtifactUrlHandler();
+        placeholder = new URLPlaceholder(BenchmarkData.TENANT, 1L, BenchmarkData.CONTROLLER_ID, 4711L,
+                new SoftwareData(10L, "os-part0.bin", 100L, "2d86c2a659e364e9abba49ea6ffcd53dd5559f05"));
+        requestUri = URI.create("https://hawkbit.example.com:8443/DEFAULT/controller/v1/"
+                + BenchmarkData.CONTROLLER_ID + "/deploymentBase/1000");
+    }
+
+    @Benchmark
+    public List<ArtifactUrl> getUrlsDdi() {
+        return urlHandler.getUrls(placeholder, ApiType.DDI, requestUri);
+    }
+
+    @Benchmark
+    public List<ArtifactUrl> getUrlsDmf() {
+        return urlHandler.getUrls(placeholder, ApiType.DMF);
+    }
+}
@@ -0,0 +1,211 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.hawkbit.api.ApiType;
+import org.eclipse.hawkbit.api.ArtifactUrlHandler;
+import org.eclipse.hawkbit.api.ArtifactUrlHandlerProperties;
+import org.eclipse.hawkbit.api.ArtifactUrlHandlerProperties.UrlProtocol;
+import org.eclipse.hawkbit.api.PropertyBasedArtifactUrlHandler;
+import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
+import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
+import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSetType;
+import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModule;
+import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModuleMetadata;
+import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModuleType;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTenantMetaData;
+import org.eclipse.hawkbit.repository.jpa.model.helper.SystemSecurityContextHolder;
+import org.eclipse.hawkbit.repository.model.Action.ActionType;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.eclipse.hawkbit.tenancy.TenantAware.TenantRunner;
+import org.springframework.beans.factory.annotation.AutowiredAnnotationBeanPostProcessor;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+
+/**
+ * Entities and services of a typical deployment that the benchmarks work on:
+ * a target with an active action of a distribution set with an OS and an
+ * application module with {@link #ARTIFACTS_PER_MODULE} artifacts each.
+ *
+ * The entities are not persisted. The repository services are stub-only mocks
+ * that return them, i.e. the benchmarks measure the conversion but not the
+ * database access.
+ */
+public final class BenchmarkData {
+
+    public static final String TENANT = "DEFAULT";
+    public static final String CONTROLLER_ID = "benchmark-controller-0001";
+    public static final int ARTIFACTS_PER_MODULE = 3;
+
+    private final JpaTenantMetaData tenantMetaData;
+    private final JpaTarget target;
+    private final JpaAction action;
+    private final Map<SoftwareModule, List<SoftwareModuleMetadata>> softwareModules = new HashMap<>();
+    private final ArtifactUrlHandler artifactUrlHandler;
+    private final SystemManagement systemManagement;
+    private final ControllerManagement controllerManagement;
+    private final TenantAware tenantAware;
+    private final SystemSecurityContext systemSecurityContext;
+
+    /**
+     * Creates the entities and services.
+     */
+    public BenchmarkData() {
+        final JpaDistributionSetType dsType = new JpaDistributionSetType("os_app", "OS with app", "benchmark");
+        dsType.setId(1L);
+        tenantMetaData = new JpaTenantMetaData(dsType, TENANT);
+        tenantMetaData.setId(1L);
+
+        target = new JpaTarget(CONTROLLER_ID, "4a28d893bb841def706073c789c0f3a7");
+        target.setId(4711L);
+        target.setTenant(TENANT);
+        target.setAddress("amqp://benchmark/controllers");
+
+        final List<SoftwareModule> modules = new ArrayList<>();
+        modules.add(createModule(dsType, 10L, "os"));
+        modules.add(createModule(dsType, 20L, "application"));
+        final JpaDistributionSet distributionSet = new JpaDistributionSet("benchmark", "1.0.0", "benchmark", dsType,
+                modules);
+        distributionSet.setId(100L);
+
+        action = new JpaAction();
+        action.setId(1000L);
+        action.setTenant(TENANT);
+        action.setTarget(target);
+        action.setDistributionSet(distributionSet);
+        action.setActionType(ActionType.FORCED);
+        action.setStatus(Status.RUNNING);
+        action.setActive(true);
+
+        artifactUrlHandler = new PropertyBasedArtifactUrlHandler(createUrlHandlerProperties());
+
+        systemManagement = mock(SystemManagement.class, withSettings().stubOnly());
+        when(systemManagement.getTenantMetadata()).thenReturn(tenantMetaData);
+
+        final Map<Long, List<SoftwareModuleMetadata>> metadataByModuleId = new HashMap<>();
+        softwareModules.forEach((module, metadata) -> metadataByModuleId.put(module.getId(), metadata));
+        controllerManagement = mock(ControllerManagement.class, withSettings().stubOnly());
+        when(controllerManagement.findTargetVisibleMetaDataBySoftwareModuleId(anyCollection()))
+                .thenReturn(metadataByModuleId);
+
+        tenantAware = mock(TenantAware.class, withSettings().stubOnly());
+        when(tenantAware.getCurrentTenant()).thenReturn(TENANT);
+        when(tenantAware.runAsTenant(anyString(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, TenantRunner.class).run());
+
+        // the entities read e.g. the security token by means of the holder
+        systemSecurityContext = new SystemSecurityContext(tenantAware);
+        final DefaultListableBeanFactory beanFactory = new DefaultListableBeanFactory();
+        beanFactory.registerSingleton("systemSecurityContext", systemSecurityContext);
+        final AutowiredAnnotationBeanPostProcessor autowiring = new AutowiredAnnotationBeanPostProcessor();
+        autowiring.setBeanFactory(beanFactory);
+        autowiring.processInjection(SystemSecurityContextHolder.getInstance());
+    }
+
+    private JpaSoftwareModule createModule(final JpaDistributionSetType dsType, final Long id,
+            final String typeKey) {
+        final JpaSoftwareModuleType type = new JpaSoftwareModuleType(typeKey, typeKey, "benchmark", 1);
+        type.setId(id);
+        dsType.addMandatoryModuleType(type);
+        final JpaSoftwareModule module = new JpaSoftwareModule(type, typeKey, "1.0." + id, "benchmark", "Bosch");
+        module.setId(id);
+        module.setTenant(TENANT);
+        for (int i = 0; i < ARTIFACTS_PER_MODULE; i++) {
+            final JpaArtifact artifact = new JpaArtifact(String.format("%040d", id * 10 + i),
+                    typeKey + "-part" + i + ".bin", module);
+            artifact.setId(id * 10 + i);
+        }
+
+        final List<SoftwareModuleMetadata> metadata = new ArrayList<>();
+        metadata.add(new JpaSoftwareModuleMetadata("installer", module, "/usr/bin/install-" + typeKey, true));
+        softwareModules.put(module, metadata);
+        return module;
+    }
+
+    private static ArtifactUrlHandlerProperties createUrlHandlerProperties() {
+        final ArtifactUrlHandlerProperties properties = new ArtifactUrlHandlerProperties();
+
+        final UrlProtocol http = new UrlProtocol();
+        http.setHostname("hawkbit.example.com");
+        properties.getProtocols().put("download-http", http);
+
+        final UrlProtocol https = new UrlProtocol();
+        https.setRel("download");
+        https.setProtocol("https");
+        https.setPort(443);
+        https.setHostname("hawkbit.example.com");
+        properties.getProtocols().put("download", https);
+
+        final UrlProtocol coap = new UrlProtocol();
+        coap.setRel("coap");
+        coap.setProtocol("coap");
+        coap.setPort(5683);
+        coap.setRef("{protocol}://{ip}:{port}/fws/{tenant}/{targetIdBase62}/{artifactIdBase62}");
+        coap.setSupports(Collections.singletonList(ApiType.DMF));
+        properties.getProtocols().put("coap", coap);
+
+        return properties;
+    }
+
+    public JpaTenantMetaData getTenantMetaData() {
+        return tenantMetaData;
+    }
+
+    public JpaTarget getTarget() {
+        return target;
+    }
+
+    public JpaAction getAction() {
+        return action;
+    }
+
+    public Map<SoftwareModule, List<SoftwareModuleMetadata>> getSoftwareModules() {
+        return softwareModules;
+    }
+
+    public ArtifactUrlHandler getArtifactUrlHandler() {
+        return artifactUrlHandler;
+    }
+
+    public SystemManagement getSystemManagement() {
+        return systemManagement;
+    }
+
+    public ControllerManagement getControllerManagement() {
+        return controllerManagement;
+    }
+
+    public TenantAware getTenantAware() {
+        return tenantAware;
+    }
+
+    public SystemSecurityContext getSystemSecurityContext() {
+        return systemSecurityContext;
+    }
+}
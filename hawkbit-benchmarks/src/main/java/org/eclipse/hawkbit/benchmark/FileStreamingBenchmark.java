@@ -0,0 +1,113 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.eclipse.hawkbit.rest.util.FileStreamingUtil;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Artifact downloads by {@link FileStreamingUtil}, i.e. the evaluation of the
+ * range header and the streaming of the requested ranges of an artifact of
+ * {@link #ARTIFACT_SIZE} bytes that is held in memory.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class FileStreamingBenchmark {
+
+    private static final int ARTIFACT_SIZE = 64 * 1024;
+    private static final String SHA1 = "2d86c2a659e364e9abba49ea6ffcd53dd5559f05";
+    private static final long LAST_MODIFIED = 1_600_000_000_000L;
+
+    private AbstractDbArtifact artifact;
+
+    private MockHttpServletRequest fullRequest;
+    private MockHttpServletRequest rangeRequest;
+    private MockHttpServletRequest multipartRangeRequest;
+    private MockHttpServletRequest invalidRangeRequest;
+
+    @Setup
+    public void setup() {
+        final byte[] content = new byte[ARTIFACT_SIZE];
+        new Random(42).nextBytes(content);
+        artifact = new InMemoryArtifact(content);
+
+        fullRequest = new MockHttpServletRequest("GET", "/artifact.bin");
+        rangeRequest = createRangeRequest("bytes=1024-");
+        multipartRangeRequest = createRangeRequest("bytes=0-99,1000-1999,-500");
+        invalidRangeRequest = createRangeRequest("bytes=a-b");
+    }
+
+    private static MockHttpServletRequest createRangeRequest(final String range) {
+        final MockHttpServletRequest request = new MockHttpServletRequest("GET", "/artifact.bin");
+        request.addHeader("Range", range);
+        request.addHeader("If-Range", SHA1);
+        return request;
+    }
+
+    @Benchmark
+    public ResponseEntity<InputStream> fullDownload() {
+        return download(fullRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<InputStream> rangeDownload() {
+        return download(rangeRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<InputStream> multipartRangeDownload() {
+        return download(multipartRangeRequest);
+    }
+
+    @Benchmark
+    public ResponseEntity<InputStream> invalidRangeDownload() {
+        return download(invalidRangeRequest);
+    }
+
+    private ResponseEntity<InputStream> download(final MockHttpServletRequest request) {
+        return FileStreamingUtil.writeFileResponse(artifact, "artifact.bin", LAST_MODIFIED,
+                new MockHttpServletResponse(), request, null);
+    }
+
+    /**
+     * Artifact whose content is held in memory, i.e. the benchmark does not
+     * depend on the file system.
+     */
+    private static final class InMemoryArtifact extends AbstractDbArtifact {
+
+        private final byte[] content;
+
+        private InMemoryArtifact(final byte[] content) {
+            super(SHA1, new DbArtifactHash(SHA1, null, null), content.length, "application/octet-stream");
+            this.content = content;
+        }
+
+        @Override
+        public InputStream getFileInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+    }
+}
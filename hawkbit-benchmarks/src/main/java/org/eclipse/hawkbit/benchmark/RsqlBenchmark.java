@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.benchmark;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+import java.util.concurrent.TimeUnit;
+
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+
+import org.eclipse.hawkbit.repository.SoftwareModuleFields;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
+import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
+import org.eclipse.hawkbit.repository.model.SoftwareModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.orm.jpa.vendor.Database;
+
+/**
+ * Parsing of RSQL queries, e.g. of target filters and search requests, and the
+ * building of their JPA predicate with and without a hit of the cache of
+ * parsed queries.
+ *
+ * The criteria API is stubbed, i.e. the predicate benchmark measures the
+ * traversal of the parsed query and the field mapping but not the criteria
+ * implementation of the JPA provider.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class RsqlBenchmark {
+
+    private static final String QUERY = "name==abc*;version==1.2";
+
+    private final ParsedRsqlCache parsedRsqlCache = new ParsedRsqlCache();
+
+    private long uncachedQueryCount;
+
+    private Root<Object> root;
+    private CriteriaQuery<SoftwareModule> query;
+    private CriteriaBuilder criteriaBuilder;
+
+    @Setup
+    @SuppressWarnings({ "unchecked", "rawtypes" })
+    public void setup() {
+        root = mock(Root.class, withSettings().stubOnly());
+        query = mock(CriteriaQuery.class, withSettings().stubOnly());
+        criteriaBuilder = mock(CriteriaBuilder.class, withSettings().stubOnly());
+        final Predicate predicate = mock(Predicate.class, withSettings().stubOnly());
+
+        when(root.get(anyString())).thenReturn((Path) root);
+        when(root.getJavaType()).thenReturn((Class) SoftwareModule.class);
+        when(criteriaBuilder.upper(any(Expression.class))).thenReturn((Path) root);
+        when(criteriaBuilder.like(any(Expression.class), anyString(), eq('\\'))).thenReturn(predicate);
+        when(criteriaBuilder.equal(any(Expression.class), any(Object.class))).thenReturn(predicate);
+        when(criteriaBuilder.and(any())).thenReturn(predicate);
+    }
+
+    @Benchmark
+    public void parse() {
+        RSQLUtility.isValid(QUERY);
+    }
+
+    @Benchmark
+    public Predicate buildPredicate() {
+        return RSQLUtility.parse(QUERY, SoftwareModuleFields.class, null, Database.H2, parsedRsqlCache)
+                .toPredicate(root, query, criteriaBuilder);
+    }
+
+    @Benchmark
+    public Predicate buildPredicateOfUncachedQuery() {
+        return RSQLUtility.parse("name==abc" + uncachedQueryCount++ + ";version==1.2", SoftwareModuleFields.class,
+                null, Database.H2, parsedRsqlCache).toPredicate(root, query, criteriaBuilder);
+    }
+}
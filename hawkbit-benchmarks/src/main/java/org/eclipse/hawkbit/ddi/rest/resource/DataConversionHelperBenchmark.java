@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.ddi.rest.resource;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.benchmark.BenchmarkData;
+import org.eclipse.hawkbit.ddi.json.model.DdiChunk;
+import org.eclipse.hawkbit.ddi.json.model.DdiControllerBase;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+/**
+ * Creation of the DDI resources of a poll, i.e. the controller base with the
+ * links of the {@link DdiRootController#getControllerBase} and the chunks of
+ * the deployment base.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DataConversionHelperBenchmark {
+
+    private BenchmarkData data;
+    private HttpRequest request;
+
+    @Setup
+    public void setup() {
+        data = new BenchmarkData();
+
+        final MockHttpServletRequest servletRequest = new MockHttpServletRequest("GET",
+                "/DEFAULT/controller/v1/" + BenchmarkData.CONTROLLER_ID + "/deploymentBase/1000");
+        servletRequest.setServerName("hawkbit.example.com");
+        request = new ServletServerHttpRequest(servletRequest);
+        // the links of the controller base are built from the current request
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(servletRequest));
+    }
+
+    @TearDown
+    public void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Benchmark
+    public DdiControllerBase fromTarget() {
+        return DataConversionHelper.fromTarget(data.getTarget(), data.getAction(), "00:05:00",
+                data.getTenantAware());
+    }
+
+    @Benchmark
+    public List<DdiChunk> createChunks() {
+        return DataConversionHelper.createChunks(data.getTarget(), data.getAction(), data.getArtifactUrlHandler(),
+                data.getSystemManagement(), request, data.getControllerManagement());
+    }
+}
@@ -0,0 +1,88 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.security;
+
+import java.io.IOException;
+import java.util.Collections;
+import java.util.concurrent.TimeUnit;
+
+import javax.servlet.FilterChain;
+import javax.servlet.ServletException;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+/**
+ * Overhead of the {@link DosFilter} per DDI request of a client that stays
+ * below the limits, a white listed client, e.g. a reverse proxy, and a request
+ * that is not covered by the filter.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class DosFilterBenchmark {
+
+    private static final FilterChain NO_OP_CHAIN = (request, response) -> {
+    };
+
+    private DosFilter filter;
+    private MockHttpServletResponse response;
+
+    private MockHttpServletRequest readRequest;
+    private MockHttpServletRequest writeRequest;
+    private MockHttpServletRequest whitelistedRequest;
+    private MockHttpServletRequest excludedRequest;
+
+    @Setup
+    public void setup() {
+        // limits that are never reached, i.e. every request passes the filter
+        filter = new DosFilter(Collections.singletonList("/{tenant}/controller/v1/**"), Integer.MAX_VALUE,
+                Integer.MAX_VALUE, "10\\.0\\.0\\.1", "192\\.168\\.100\\.1", "X-Forwarded-For");
+        response = new MockHttpServletResponse();
+
+        readRequest = createRequest("GET", "/DEFAULT/controller/v1/device-1", "172.16.0.1");
+        writeRequest = createRequest("PUT", "/DEFAULT/controller/v1/device-1/configData", "172.16.0.1");
+        whitelistedRequest = createRequest("GET", "/DEFAULT/controller/v1/device-1", "10.0.0.1");
+        excludedRequest = createRequest("GET", "/rest/v1/targets", "172.16.0.1");
+    }
+
+    private static MockHttpServletRequest createRequest(final String method, final String uri,
+            final String forwardedFor) {
+        final MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader("X-Forwarded-For", forwardedFor);
+        return request;
+    }
+
+    @Benchmark
+    public void readRequest() throws ServletException, IOException {
+        filter.doFilterInternal(readRequest, response, NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void writeRequest() throws ServletException, IOException {
+        filter.doFilterInternal(writeRequest, response, NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void whitelistedRequest() throws ServletException, IOException {
+        filter.doFilterInternal(whitelistedRequest, response, NO_OP_CHAIN);
+    }
+
+    @Benchmark
+    public void excludedRequest() throws ServletException, IOException {
+        filter.doFilterInternal(excludedRequest, response, NO_OP_CHAIN);
+    }
+}
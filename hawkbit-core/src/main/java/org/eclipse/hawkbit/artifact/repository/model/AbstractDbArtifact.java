@@ -8,10 +8,16 @@
  */
 package org.eclipse.hawkbit.artifact.repository.model;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.InputStream;
+import java.util.Optional;
 
 import org.springframework.util.Assert;
 
+import com.google.common.base.Throwables;
+import com.google.common.io.ByteStreams;
+
 /**
  * Database representation of artifact.
  * 
@@ -68,4 +74,49 @@ public abstract class AbstractDbArtifact {
      * @return {@link InputStream} to read from artifact.
      */
     public abstract InputStream getFileInputStream();
+
+    /**
+     * Creates an {@link InputStream} on the given range of this artifact.
+     * Caller has to take care of closing the stream. Repeatable calls open a
+     * new {@link InputStream}.
+     * 
+     * The default implementation skips the bytes before the given offset.
+     * Repositories that support positioned reads should override this method.
+     * 
+     * @param offset
+     *            position of the first byte to read
+     * @param length
+     *            maximum number of bytes to read
+     * 
+     * @return {@link InputStream} to read the range from artifact.
+     */
+    // suppress warning, this InputStream needs to be closed by the caller,
+    // this cannot be closed in this method
+    @SuppressWarnings("squid:S2095")
+    public InputStream getFileInputStream(final long offset, final long length) {
+        final InputStream in = getFileInputStream();
+        try {
+            ByteStreams.skipFully(in, offset);
+        } catch (final IOException e) {
+            closeQuietly(in, e);
+            throw Throwables.propagate(e);
+        }
+        return ByteStreams.limit(in, length);
+    }
+
+    /**
+     * @return the local file of this artifact or {@link Optional#empty()} if
+     *         the binary is not stored in a local file.
+     */
+    public Optional<File> getFile() {
+        return Optional.empty();
+    }
+
+    private static void closeQuietly(final InputStream in, final IOException cause) {
+        try {
+            in.close();
+        } catch (final IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
 }
@@ -79,6 +79,18 @@ public enum SpServerError {
     SP_REST_SORT_PARAM_INVALID_FIELD("hawkbit.server.error.rest.param.invalidField",
             "The given sort parameter field does not exist"),
 
+    /**
+     *
+     */
+    SP_REST_PAGING_CURSOR_SYNTAX("hawkbit.server.error.rest.param.cursorSyntax",
+            "The given paging cursor is not well formed"),
+
+    /**
+     *
+     */
+    SP_REST_EXPORT_PARAM_INVALID_FIELD("hawkbit.server.error.rest.param.invalidExportField",
+            "The given export field does not exist"),
+
     /**
      *
      */
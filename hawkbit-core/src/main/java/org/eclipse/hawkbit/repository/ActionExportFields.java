@@ -0,0 +1,128 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository;
+
+/**
+ * Describing the fields of the Action model which can be exported by the REST
+ * API.
+ */
+public enum ActionExportFields implements ExportFieldProvider {
+    /**
+     * The id field.
+     */
+    ID("id", "id"),
+
+    /**
+     * The controllerId of the target.
+     */
+    TARGET("target", "target.controllerId"),
+
+    /**
+     * The id of the distribution set.
+     */
+    DISTRIBUTIONSET("distributionSet", "distributionSet.id"),
+
+    /**
+     * The active field.
+     */
+    ACTIVE("active", "active"),
+
+    /**
+     * The status field.
+     */
+    STATUS("status", "status"),
+
+    /**
+     * The type of the action.
+     */
+    TYPE("type", "actionType"),
+
+    /**
+     * The time the action is forced at.
+     */
+    FORCETIME("forceTime", "forcedTime"),
+
+    /**
+     * The weight field.
+     */
+    WEIGHT("weight", "weight"),
+
+    /**
+     * The id of the rollout.
+     */
+    ROLLOUT("rollout", "rollout.id"),
+
+    /**
+     * The id of the rollout group.
+     */
+    ROLLOUTGROUP("rolloutGroup", "rolloutGroup.id"),
+
+    /**
+     * The schedule of the maintenance window.
+     */
+    MAINTENANCEWINDOWSCHEDULE("maintenanceWindowSchedule", "maintenanceWindowSchedule"),
+
+    /**
+     * The duration of the maintenance window.
+     */
+    MAINTENANCEWINDOWDURATION("maintenanceWindowDuration", "maintenanceWindowDuration"),
+
+    /**
+     * The time zone of the maintenance window.
+     */
+    MAINTENANCEWINDOWTIMEZONE("maintenanceWindowTimeZone", "maintenanceWindowTimeZone"),
+
+    /**
+     * The externalRef field.
+     */
+    EXTERNALREF("externalRef", "externalRef"),
+
+    /**
+     * The initiatedBy field.
+     */
+    INITIATEDBY("initiatedBy", "initiatedBy"),
+
+    /**
+     * The createdBy field.
+     */
+    CREATEDBY("createdBy", "createdBy"),
+
+    /**
+     * The createdAt field.
+     */
+    CREATEDAT("createdAt", "createdAt"),
+
+    /**
+     * The lastModifiedBy field.
+     */
+    LASTMODIFIEDBY("lastModifiedBy", "lastModifiedBy"),
+
+    /**
+     * The lastModifiedAt field.
+     */
+    LASTMODIFIEDAT("lastModifiedAt", "lastModifiedAt");
+
+    private final String name;
+    private final String fieldName;
+
+    private ActionExportFields(final String name, final String fieldName) {
+        this.name = name;
+        this.fieldName = fieldName;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+}
@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository;
+
+/**
+ * Describing the fields of the ActionStatus model which can be exported by the
+ * REST API.
+ */
+public enum ActionStatusExportFields implements ExportFieldProvider {
+    /**
+     * The id field.
+     */
+    ID("id", "id"),
+
+    /**
+     * The id of the action.
+     */
+    ACTION("action", "action.id"),
+
+    /**
+     * The controllerId of the target of the action.
+     */
+    TARGET("target", "action.target.controllerId"),
+
+    /**
+     * The status field.
+     */
+    STATUS("status", "status"),
+
+    /**
+     * The time the status has been reported at.
+     */
+    REPORTEDAT("reportedAt", "createdAt"),
+
+    /**
+     * The time the status occurred at according to the reporter.
+     */
+    OCCURREDAT("occurredAt", "occurredAt");
+
+    private final String name;
+    private final String fieldName;
+
+    private ActionStatusExportFields(final String name, final String fieldName) {
+        this.name = name;
+        this.fieldName = fieldName;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+}
@@ -0,0 +1,21 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository;
+
+/**
+ * A {@link FieldNameProvider} for the fields of an export, i.e. a projection of
+ * an entity to values of the entity and of its direct references.
+ */
+public interface ExportFieldProvider extends FieldNameProvider {
+
+    /**
+     * @return the name of the field in the export. Never {@code null}.
+     */
+    String getName();
+}
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository;
+
+/**
+ * Describing the fields of the Target model which can be exported by the REST
+ * API.
+ */
+public enum TargetExportFields implements ExportFieldProvider {
+    /**
+     * The controllerId field.
+     */
+    CONTROLLERID("controllerId", "controllerId"),
+
+    /**
+     * The name field.
+     */
+    NAME("name", "name"),
+
+    /**
+     * The description field.
+     */
+    DESCRIPTION("description", "description"),
+
+    /**
+     * The address field.
+     */
+    ADDRESS("address", "address"),
+
+    /**
+     * The updateStatus field.
+     */
+    UPDATESTATUS("updateStatus", "updateStatus"),
+
+    /**
+     * The time of the last poll of the target.
+     */
+    LASTCONTROLLERREQUESTAT("lastControllerRequestAt", "lastTargetQuery"),
+
+    /**
+     * The time of the last installation on the target.
+     */
+    INSTALLEDAT("installedAt", "installationDate"),
+
+    /**
+     * The flag if the attributes of the target are requested.
+     */
+    REQUESTATTRIBUTES("requestAttributes", "requestControllerAttributes"),
+
+    /**
+     * The id of the assigned distribution set.
+     */
+    ASSIGNEDDISTRIBUTIONSET("assignedDistributionSet", "assignedDistributionSet.id"),
+
+    /**
+     * The id of the installed distribution set.
+     */
+    INSTALLEDDISTRIBUTIONSET("installedDistributionSet", "installedDistributionSet.id"),
+
+    /**
+     * The createdBy field.
+     */
+    CREATEDBY("createdBy", "createdBy"),
+
+    /**
+     * The createdAt field.
+     */
+    CREATEDAT("createdAt", "createdAt"),
+
+    /**
+     * The lastModifiedBy field.
+     */
+    LASTMODIFIEDBY("lastModifiedBy", "lastModifiedBy"),
+
+    /**
+     * The lastModifiedAt field.
+     */
+    LASTMODIFIEDAT("lastModifiedAt", "lastModifiedAt");
+
+    private final String name;
+    private final String fieldName;
+
+    private TargetExportFields(final String name, final String fieldName) {
+        this.name = name;
+        this.fieldName = fieldName;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public String getFieldName() {
+        return fieldName;
+    }
+}
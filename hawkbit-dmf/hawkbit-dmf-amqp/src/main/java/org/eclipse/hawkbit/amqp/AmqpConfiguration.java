@@ -22,8 +22,10 @@ import org.eclipse.hawkbit.repository.DistributionSetManagement;
 import org.eclipse.hawkbit.repository.EntityFactory;
 import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.security.DdiSecurityProperties;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.tenancy.TenantAware;
@@ -295,24 +297,28 @@ public class AmqpConfiguration {
      *            the systemManagement
      * @param controllerManagement
      *            the controllerManagement
-     * @param tenantConfigurationManagement
-     *            the tenantConfigurationManagement
+     * @param tenantConfigurationSnapshotCache
+     *            the tenantConfigurationSnapshotCache
      * @param tenantAware
      *            the tenantAware
      * @param ddiSecruityProperties
      *            the ddiSecruityProperties
      * @param systemSecurityContext
      *            the systemSecurityContext
+     * @param targetAuthenticationCache
+     *            the targetAuthenticationCache
      * @return the bean
      */
     @Bean
     @ConditionalOnMissingBean(AmqpControllerAuthentication.class)
     public AmqpControllerAuthentication amqpControllerAuthentication(final SystemManagement systemManagement,
             final ControllerManagement controllerManagement,
-            final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
-            final DdiSecurityProperties ddiSecruityProperties, final SystemSecurityContext systemSecurityContext) {
-        return new AmqpControllerAuthentication(systemManagement, controllerManagement, tenantConfigurationManagement,
-                tenantAware, ddiSecruityProperties, systemSecurityContext);
+            final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
+            final DdiSecurityProperties ddiSecruityProperties, final SystemSecurityContext systemSecurityContext,
+            final TargetAuthenticationCache targetAuthenticationCache) {
+        return new AmqpControllerAuthentication(systemManagement, controllerManagement,
+                tenantConfigurationSnapshotCache, tenantAware, ddiSecruityProperties, systemSecurityContext,
+                targetAuthenticationCache);
     }
 
     @Bean
@@ -321,10 +327,11 @@ public class AmqpConfiguration {
             final AmqpMessageSenderService amqpSenderService, final ArtifactUrlHandler artifactUrlHandler,
             final SystemSecurityContext systemSecurityContext, final SystemManagement systemManagement,
             final TargetManagement targetManagement, final DistributionSetManagement distributionSetManagement,
-            final SoftwareModuleManagement softwareModuleManagement, final DeploymentManagement deploymentManagement) {
+            final SoftwareModuleManagement softwareModuleManagement, final DeploymentManagement deploymentManagement,
+            final TargetAuthenticationCache targetAuthenticationCache) {
         return new AmqpMessageDispatcherService(rabbitTemplate, amqpSenderService, artifactUrlHandler,
                 systemSecurityContext, systemManagement, targetManagement, serviceMatcher, distributionSetManagement,
-                softwareModuleManagement, deploymentManagement);
+                softwareModuleManagement, deploymentManagement, targetAuthenticationCache);
     }
 
     private static Map<String, Object> getTTLMaxArgsAuthenticationQueue() {
@@ -15,7 +15,8 @@ import javax.annotation.PostConstruct;
 import org.eclipse.hawkbit.im.authentication.TenantAwareAuthenticationDetails;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.security.ControllerPreAuthenticateSecurityTokenFilter;
 import org.eclipse.hawkbit.security.ControllerPreAuthenticatedAnonymousDownload;
 import org.eclipse.hawkbit.security.ControllerPreAuthenticatedAnonymousFilter;
@@ -50,7 +51,7 @@ public class AmqpControllerAuthentication {
 
     private final SystemManagement systemManagement;
 
-    private final TenantConfigurationManagement tenantConfigurationManagement;
+    private final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache;
 
     private final TenantAware tenantAware;
 
@@ -58,29 +59,35 @@ public class AmqpControllerAuthentication {
 
     private final SystemSecurityContext systemSecurityContext;
 
+    private final TargetAuthenticationCache targetAuthenticationCache;
+
     /**
      * Constructor.
      * 
      * @param systemManagement
      * @param controllerManagement
-     * @param tenantConfigurationManagement
+     * @param tenantConfigurationSnapshotCache
      * @param tenantAware
      *            current tenant
      * @param ddiSecruityProperties
      *            security configurations
      * @param systemSecurityContext
      *            security context
+     * @param targetAuthenticationCache
+     *            cache for the data to verify the target security token
      */
     public AmqpControllerAuthentication(final SystemManagement systemManagement,
             final ControllerManagement controllerManagement,
-            final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
-            final DdiSecurityProperties ddiSecruityProperties, final SystemSecurityContext systemSecurityContext) {
+            final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
+            final DdiSecurityProperties ddiSecruityProperties, final SystemSecurityContext systemSecurityContext,
+            final TargetAuthenticationCache targetAuthenticationCache) {
         this.controllerManagement = controllerManagement;
         this.systemManagement = systemManagement;
-        this.tenantConfigurationManagement = tenantConfigurationManagement;
+        this.tenantConfigurationSnapshotCache = tenantConfigurationSnapshotCache;
         this.tenantAware = tenantAware;
         this.ddiSecruityProperties = ddiSecruityProperties;
         this.systemSecurityContext = systemSecurityContext;
+        this.targetAuthenticationCache = targetAuthenticationCache;
     }
 
     /**
@@ -95,20 +102,21 @@ public class AmqpControllerAuthentication {
         filterChain = Lists.newArrayListWithExpectedSize(5);
 
         final ControllerPreAuthenticatedGatewaySecurityTokenFilter gatewaySecurityTokenFilter = new ControllerPreAuthenticatedGatewaySecurityTokenFilter(
-                tenantConfigurationManagement, tenantAware, systemSecurityContext);
+                tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
         filterChain.add(gatewaySecurityTokenFilter);
 
         final ControllerPreAuthenticatedSecurityHeaderFilter securityHeaderFilter = new ControllerPreAuthenticatedSecurityHeaderFilter(
                 ddiSecruityProperties.getRp().getCnHeader(), ddiSecruityProperties.getRp().getSslIssuerHashHeader(),
-                tenantConfigurationManagement, tenantAware, systemSecurityContext);
+                tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
         filterChain.add(securityHeaderFilter);
 
         final ControllerPreAuthenticateSecurityTokenFilter securityTokenFilter = new ControllerPreAuthenticateSecurityTokenFilter(
-                tenantConfigurationManagement, controllerManagement, tenantAware, systemSecurityContext);
+                tenantConfigurationSnapshotCache, controllerManagement, tenantAware, systemSecurityContext,
+                targetAuthenticationCache);
         filterChain.add(securityTokenFilter);
 
         final ControllerPreAuthenticatedAnonymousDownload anonymousDownloadFilter = new ControllerPreAuthenticatedAnonymousDownload(
-                tenantConfigurationManagement, tenantAware, systemSecurityContext);
+                tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
         filterChain.add(anonymousDownloadFilter);
 
         filterChain.add(new ControllerPreAuthenticatedAnonymousFilter(ddiSecruityProperties));
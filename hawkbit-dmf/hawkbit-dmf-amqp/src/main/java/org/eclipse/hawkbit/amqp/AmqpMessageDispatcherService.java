@@ -28,12 +28,14 @@ import org.eclipse.hawkbit.repository.DistributionSetManagement;
 import org.eclipse.hawkbit.repository.RepositoryConstants;
 import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.event.remote.MultiActionEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.CancelTargetAssignmentEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.EntitySnapshot;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.ActionProperties;
 import org.eclipse.hawkbit.repository.model.Artifact;
@@ -61,6 +63,7 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Optional;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 
@@ -87,6 +90,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
     private final DistributionSetManagement distributionSetManagement;
     private final DeploymentManagement deploymentManagement;
     private final SoftwareModuleManagement softwareModuleManagement;
+    private final TargetAuthenticationCache targetAuthenticationCache;
 
     /**
      * Constructor.
@@ -108,13 +112,20 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
      *            node
      * @param distributionSetManagement
      *            to retrieve modules
+     * @param softwareModuleManagement
+     *            to retrieve the metadata of modules
+     * @param deploymentManagement
+     *            to retrieve actions
+     * @param targetAuthenticationCache
+     *            to check if the snapshot of an event is behind
      */
     protected AmqpMessageDispatcherService(final RabbitTemplate rabbitTemplate,
             final AmqpMessageSenderService amqpSenderService, final ArtifactUrlHandler artifactUrlHandler,
             final SystemSecurityContext systemSecurityContext, final SystemManagement systemManagement,
             final TargetManagement targetManagement, final ServiceMatcher serviceMatcher,
             final DistributionSetManagement distributionSetManagement,
-            final SoftwareModuleManagement softwareModuleManagement, final DeploymentManagement deploymentManagement) {
+            final SoftwareModuleManagement softwareModuleManagement, final DeploymentManagement deploymentManagement,
+            final TargetAuthenticationCache targetAuthenticationCache) {
         super(rabbitTemplate);
         this.artifactUrlHandler = artifactUrlHandler;
         this.amqpSenderService = amqpSenderService;
@@ -125,6 +136,7 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
         this.distributionSetManagement = distributionSetManagement;
         this.softwareModuleManagement = softwareModuleManagement;
         this.deploymentManagement = deploymentManagement;
+        this.targetAuthenticationCache = targetAuthenticationCache;
     }
 
     /**
@@ -281,6 +293,19 @@ public class AmqpMessageDispatcherService extends BaseAmqpService {
             return;
         }
 
+        // the embedded snapshot spares loading the target unless a later
+        // change of the target has been seen on this node already
+        final EntitySnapshot snapshot = cancelEvent.getSnapshot();
+        final boolean snapshotBehind = snapshot != null
+                && targetAuthenticationCache.isBehind(cancelEvent.getTenant(), cancelEvent.getEntityId(), snapshot);
+        final Optional<String> controllerId = cancelEvent.getSnapshotField(EntitySnapshot.CONTROLLER_ID);
+        final Optional<String> address = cancelEvent.getSnapshotField(EntitySnapshot.ADDRESS);
+        if (!snapshotBehind && controllerId.isPresent() && address.isPresent()) {
+            sendCancelMessageToTarget(cancelEvent.getTenant(), controllerId.get(), cancelEvent.getActionId(),
+                    URI.create(address.get()));
+            return;
+        }
+
         final Target target = cancelEvent.getEntity();
         if (target != null) {
             sendCancelMessageToTarget(cancelEvent.getTenant(), target.getControllerId(), cancelEvent.getActionId(),
@@ -12,13 +12,15 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.util.Collections;
 import java.util.Optional;
 
 import org.eclipse.hawkbit.api.HostnameResolver;
@@ -29,13 +31,15 @@ import org.eclipse.hawkbit.dmf.json.model.DmfDownloadResponse;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.repository.jpa.JpaEntityFactory;
 import org.eclipse.hawkbit.repository.jpa.model.JpaArtifact;
 import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModule;
 import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModuleType;
 import org.eclipse.hawkbit.repository.model.Target;
-import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
+import org.eclipse.hawkbit.repository.model.TenantConfigurationSnapshot;
 import org.eclipse.hawkbit.repository.model.TenantMetaData;
 import org.eclipse.hawkbit.security.DdiSecurityProperties;
 import org.eclipse.hawkbit.security.DdiSecurityProperties.Authentication.Anonymous;
@@ -93,6 +97,9 @@ public class AmqpControllerAuthenticationTest {
     @Mock
     private TenantConfigurationManagement tenantConfigurationManagementMock;
 
+    @Mock
+    private TenantConfigurationSnapshotCache tenantConfigurationSnapshotCacheMock;
+
     @Mock
     private SystemManagement systemManagement;
 
@@ -129,24 +136,25 @@ public class AmqpControllerAuthenticationTest {
     @Mock
     private Anonymous anonymous;
 
-    private static final TenantConfigurationValue<Boolean> CONFIG_VALUE_FALSE = TenantConfigurationValue
-            .<Boolean> builder().value(Boolean.FALSE).build();
+    private static final TenantConfigurationSnapshot CONFIG_VALUE_FALSE = new TenantConfigurationSnapshot(
+            Collections.emptyMap());
 
-    private static final TenantConfigurationValue<Boolean> CONFIG_VALUE_TRUE = TenantConfigurationValue
-            .<Boolean> builder().value(Boolean.TRUE).build();
+    private static final TenantConfigurationSnapshot CONFIG_VALUE_TRUE = new TenantConfigurationSnapshot(
+            Collections.singletonMap(TenantConfigurationKey.AUTHENTICATION_MODE_TARGET_SECURITY_TOKEN_ENABLED,
+                    Boolean.TRUE));
 
     @BeforeEach
     public void before() {
         when(securityProperties.getRp()).thenReturn(rp);
         when(rp.getSslIssuerHashHeader()).thenReturn("X-Ssl-Issuer-Hash-%d");
-        when(tenantConfigurationManagementMock.getConfigurationValue(any(), eq(Boolean.class)))
-                .thenReturn(CONFIG_VALUE_FALSE);
+        when(tenantConfigurationSnapshotCacheMock.getSnapshot()).thenReturn(CONFIG_VALUE_FALSE);
 
         final SecurityContextTenantAware tenantAware = new SecurityContextTenantAware(authoritiesResolver);
         final SystemSecurityContext systemSecurityContext = new SystemSecurityContext(tenantAware);
 
         authenticationManager = new AmqpControllerAuthentication(systemManagement, controllerManagement,
-                tenantConfigurationManagementMock, tenantAware, securityProperties, systemSecurityContext);
+                tenantConfigurationSnapshotCacheMock, tenantAware, securityProperties, systemSecurityContext,
+                new TargetAuthenticationCache());
 
         authenticationManager.postConstruct();
 
@@ -172,9 +180,7 @@ public class AmqpControllerAuthenticationTest {
     private void mockSuccessfulAuthentication() throws MalformedURLException {
         when(rabbitTemplate.getMessageConverter()).thenReturn(messageConverter);
         when(hostnameResolverMock.resolveHostname()).thenReturn(new URL("http://localhost"));
-        when(tenantConfigurationManagementMock.getConfigurationValue(
-                eq(TenantConfigurationKey.AUTHENTICATION_MODE_TARGET_SECURITY_TOKEN_ENABLED), eq(Boolean.class)))
-                        .thenReturn(CONFIG_VALUE_TRUE);
+        when(tenantConfigurationSnapshotCacheMock.getSnapshot()).thenReturn(CONFIG_VALUE_TRUE);
         when(targetMock.getSecurityToken()).thenReturn(CONTROLLER_ID);
         when(targetMock.getControllerId()).thenReturn(CONTROLLER_ID);
     }
@@ -198,9 +204,7 @@ public class AmqpControllerAuthenticationTest {
         final DmfTenantSecurityToken securityToken = new DmfTenantSecurityToken(TENANT, TENANT_ID, CONTROLLER_ID,
                 TARGET_ID, FileResource.createFileResourceBySha1(SHA1));
 
-        when(tenantConfigurationManagementMock.getConfigurationValue(
-                eq(TenantConfigurationKey.AUTHENTICATION_MODE_TARGET_SECURITY_TOKEN_ENABLED), eq(Boolean.class)))
-                        .thenReturn(CONFIG_VALUE_TRUE);
+        when(tenantConfigurationSnapshotCacheMock.getSnapshot()).thenReturn(CONFIG_VALUE_TRUE);
 
         securityToken.putHeader(DmfTenantSecurityToken.AUTHORIZATION_HEADER, "TargetToken 12" + CONTROLLER_ID);
 
@@ -218,9 +222,7 @@ public class AmqpControllerAuthenticationTest {
         final DmfTenantSecurityToken securityToken = new DmfTenantSecurityToken(TENANT, TENANT_ID, CONTROLLER_ID,
                 TARGET_ID, FileResource.createFileResourceBySha1(SHA1));
 
-        when(tenantConfigurationManagementMock.getConfigurationValue(
-                eq(TenantConfigurationKey.AUTHENTICATION_MODE_TARGET_SECURITY_TOKEN_ENABLED), eq(Boolean.class)))
-                        .thenReturn(CONFIG_VALUE_TRUE);
+        when(tenantConfigurationSnapshotCacheMock.getSnapshot()).thenReturn(CONFIG_VALUE_TRUE);
         when(targetMock.getSecurityToken()).thenReturn(CONTROLLER_ID);
         when(targetMock.getControllerId()).thenReturn(CONTROLLER_ID);
 
@@ -229,6 +231,33 @@ public class AmqpControllerAuthenticationTest {
         assertThat(authentication).isNotNull();
     }
 
+    @Test
+    @Description("Tests that the target is loaded only once for repeated authentications and that a wrong credential "
+            + "is still rejected based on the cached data")
+    public void repeatedAuthenticationIsVerifiedFromCache() {
+
+        when(controllerManagement.get(any(Long.class))).thenReturn(Optional.of(targetMock));
+        when(tenantConfigurationSnapshotCacheMock.getSnapshot()).thenReturn(CONFIG_VALUE_TRUE);
+        when(targetMock.getId()).thenReturn(TARGET_ID);
+        when(targetMock.getSecurityToken()).thenReturn(CONTROLLER_ID);
+        when(targetMock.getControllerId()).thenReturn(CONTROLLER_ID);
+
+        final DmfTenantSecurityToken securityToken = new DmfTenantSecurityToken(TENANT, TENANT_ID, CONTROLLER_ID,
+                TARGET_ID, FileResource.createFileResourceBySha1(SHA1));
+        securityToken.putHeader(DmfTenantSecurityToken.AUTHORIZATION_HEADER, "TargetToken " + CONTROLLER_ID);
+        assertThat(authenticationManager.doAuthenticate(securityToken)).isNotNull();
+        assertThat(authenticationManager.doAuthenticate(securityToken)).isNotNull();
+
+        final DmfTenantSecurityToken wrongSecurityToken = new DmfTenantSecurityToken(TENANT, TENANT_ID,
+                CONTROLLER_ID, TARGET_ID, FileResource.createFileResourceBySha1(SHA1));
+        wrongSecurityToken.putHeader(DmfTenantSecurityToken.AUTHORIZATION_HEADER, "TargetToken 12" + CONTROLLER_ID);
+        assertThatExceptionOfType(BadCredentialsException.class)
+                .as("BadCredentialsException was expected due to wrong credential")
+                .isThrownBy(() -> authenticationManager.doAuthenticate(wrongSecurityToken));
+
+        verify(controllerManagement, times(1)).get(TARGET_ID);
+    }
+
     @Test
     @Description("Tests authentication message without principal")
     public void testAuthenticationMessageBadCredentialsWithoutPrincipal() {
@@ -258,9 +287,7 @@ public class AmqpControllerAuthenticationTest {
         final DmfTenantSecurityToken securityToken = new DmfTenantSecurityToken(TENANT, TENANT_ID, CONTROLLER_ID,
                 TARGET_ID, FileResource.createFileResourceBySha1(SHA1));
 
-        when(tenantConfigurationManagementMock.getConfigurationValue(
-                eq(TenantConfigurationKey.AUTHENTICATION_MODE_TARGET_SECURITY_TOKEN_ENABLED), eq(Boolean.class)))
-                .thenReturn(CONFIG_VALUE_TRUE);
+        when(tenantConfigurationSnapshotCacheMock.getSnapshot()).thenReturn(CONFIG_VALUE_TRUE);
 
         when(rabbitTemplate.getMessageConverter()).thenReturn(messageConverter);
 
@@ -14,12 +14,14 @@ import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.io.File;
+import java.io.Serializable;
 import java.net.URI;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 import org.eclipse.hawkbit.api.ArtifactUrl;
 import org.eclipse.hawkbit.api.ArtifactUrlHandler;
@@ -33,11 +35,15 @@ import org.eclipse.hawkbit.dmf.json.model.DmfActionRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfDownloadAndUpdateRequest;
 import org.eclipse.hawkbit.dmf.json.model.DmfMetadata;
 import org.eclipse.hawkbit.dmf.json.model.DmfSoftwareModule;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache.TargetAuthentication;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.CancelTargetAssignmentEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.EntitySnapshot;
 import org.eclipse.hawkbit.repository.jpa.RepositoryApplicationConfiguration;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Artifact;
@@ -57,8 +63,10 @@ import org.springframework.amqp.core.MessageProperties;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.AbstractJavaTypeMapper;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.SerializationUtils;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -87,6 +95,12 @@ public class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
 
     private Target testTarget;
 
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
+    @Autowired
+    private TargetAuthenticationCache targetAuthenticationCache;
+
     @BeforeEach
     public void beforeEach() throws Exception {
 
@@ -111,7 +125,7 @@ public class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
 
         amqpMessageDispatcherService = new AmqpMessageDispatcherService(rabbitTemplate, senderService,
                 artifactUrlHandlerMock, systemSecurityContext, systemManagement, targetManagement, serviceMatcher,
-                distributionSetManagement, softwareModuleManagement, deploymentManagement);
+                distributionSetManagement, softwareModuleManagement, deploymentManagement, targetAuthenticationCache);
 
     }
 
@@ -233,6 +247,95 @@ public class AmqpMessageDispatcherServiceTest extends AbstractIntegrationTest {
 
     }
 
+    @Test
+    @Description("Verifies that the cancel message is sent to the controller ID and address of the snapshot embedded "
+            + "in the cancel event without loading the target.")
+    public void sendCancelRequestFromSnapshot() {
+        final CancelTargetAssignmentEvent cancelEvent = withSnapshotEvents(
+                () -> new CancelTargetAssignmentEvent(testTarget, 1L, serviceMatcher.getServiceId()));
+        // the target of the received event can no longer be loaded
+        targetManagement.deleteByControllerID(CONTROLLER_ID);
+
+        amqpMessageDispatcherService.targetCancelAssignmentToDistributionSet(received(cancelEvent));
+
+        assertCancelMessage(createArgumentCapture(AMQP_URI));
+    }
+
+    @Test
+    @Description("Verifies that the target is loaded to send the cancel message if no snapshot is embedded in the "
+            + "cancel event and that no message is sent if the target does no longer exist.")
+    public void sendCancelRequestWithoutSnapshotLoadsTarget() {
+        final CancelTargetAssignmentEvent cancelEvent = received(
+                new CancelTargetAssignmentEvent(testTarget, 1L, serviceMatcher.getServiceId()));
+        assertThat(cancelEvent.getSnapshot()).isNull();
+
+        amqpMessageDispatcherService.targetCancelAssignmentToDistributionSet(cancelEvent);
+        assertCancelMessage(createArgumentCapture(AMQP_URI));
+
+        Mockito.reset(senderService);
+        targetManagement.deleteByControllerID(CONTROLLER_ID);
+        amqpMessageDispatcherService.targetCancelAssignmentToDistributionSet(received(cancelEvent));
+        Mockito.verifyZeroInteractions(senderService);
+    }
+
+    @Test
+    @Description("Verifies that the target is loaded to send the cancel message if the embedded snapshot misses the "
+            + "address of the target.")
+    public void sendCancelRequestWithIncompleteSnapshotLoadsTarget() {
+        final Target targetWithoutAddress = testdataFactory.createTarget("withoutAddress");
+        final CancelTargetAssignmentEvent cancelEvent = withSnapshotEvents(
+                () -> new CancelTargetAssignmentEvent(targetWithoutAddress, 1L, serviceMatcher.getServiceId()));
+        assertThat(cancelEvent.getSnapshotField(EntitySnapshot.CONTROLLER_ID)).contains("withoutAddress");
+        // the address is known by the time the event is received
+        targetManagement.update(entityFactory.target().update("withoutAddress").address(AMQP_URI.toString()));
+
+        amqpMessageDispatcherService.targetCancelAssignmentToDistributionSet(received(cancelEvent));
+
+        final Message sendMessage = createArgumentCapture(AMQP_URI);
+        assertThat(sendMessage.getMessageProperties().getHeaders().get(MessageHeaderKey.THING_ID))
+                .isEqualTo("withoutAddress");
+        assertThat(sendMessage.getMessageProperties().getHeaders().get(MessageHeaderKey.TOPIC))
+                .isEqualTo(EventTopic.CANCEL_DOWNLOAD);
+    }
+
+    @Test
+    @Description("Verifies that the target is loaded to send the cancel message if the embedded snapshot is behind "
+            + "a later change of the target that is known on this node.")
+    public void sendCancelRequestWithOutdatedSnapshotLoadsTarget() {
+        final CancelTargetAssignmentEvent cancelEvent = withSnapshotEvents(
+                () -> new CancelTargetAssignmentEvent(testTarget, 1L, serviceMatcher.getServiceId()));
+        final URI changedUri = IpUtil.createAmqpUri("vHost", "changed");
+        final Target updated = targetManagement
+                .update(entityFactory.target().update(CONTROLLER_ID).address(changedUri.toString()));
+        // the revision of the changed target is known from its authentication
+        targetAuthenticationCache.getByControllerId(TENANT, CONTROLLER_ID, () -> Optional.of(TargetAuthentication
+                .of(updated.getId(), CONTROLLER_ID, TEST_TOKEN, updated.getOptLockRevision())));
+
+        amqpMessageDispatcherService.targetCancelAssignmentToDistributionSet(received(cancelEvent));
+
+        assertCancelMessage(createArgumentCapture(changedUri));
+    }
+
+    private <T> T withSnapshotEvents(final Supplier<T> eventFactory) {
+        final List<String> snapshotEvents = repositoryProperties.getSnapshotEvents();
+        repositoryProperties
+                .setSnapshotEvents(Collections.singletonList(CancelTargetAssignmentEvent.class.getSimpleName()));
+        try {
+            return eventFactory.get();
+        } finally {
+            repositoryProperties.setSnapshotEvents(snapshotEvents);
+        }
+    }
+
+    /**
+     * @return the event as received by another node, i.e. without the entity
+     *         it has been created with
+     */
+    @SuppressWarnings("unchecked")
+    private static <T extends Serializable> T received(final T event) {
+        return (T) SerializationUtils.deserialize(SerializationUtils.serialize(event));
+    }
+
     @Test
     @Description("Verifies that sending a delete message when receiving a delete event works.")
     public void sendDeleteRequest() {
@@ -21,7 +21,7 @@ import javax.servlet.ServletResponse;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.security.DmfTenantSecurityToken.FileResource;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.slf4j.Logger;
@@ -59,7 +59,7 @@ public abstract class AbstractHttpControllerAuthenticationFilter extends Abstrac
 
     private static final String CONTROLLER_DL_REQUEST_ANT_PATTERN = "/{" + TENANT_PLACE_HOLDER
             + "}/controller/artifacts/v1/**";
-    protected TenantConfigurationManagement tenantConfigurationManagement;
+    protected TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache;
     protected TenantAware tenantAware;
     protected SystemSecurityContext systemSecurityContext;
 
@@ -70,16 +70,17 @@ public abstract class AbstractHttpControllerAuthenticationFilter extends Abstrac
     /**
      * Constructor for sub-classes.
      * 
-     * @param tenantConfigurationManagement
-     *            the tenant configuration service
+     * @param tenantConfigurationSnapshotCache
+     *            the cache of the tenant configuration
      * @param tenantAware
      *            the tenant aware service
      * @param systemSecurityContext
      *            the system secruity context
      */
-    public AbstractHttpControllerAuthenticationFilter(final TenantConfigurationManagement tenantConfigurationManagement,
-            final TenantAware tenantAware, final SystemSecurityContext systemSecurityContext) {
-        this.tenantConfigurationManagement = tenantConfigurationManagement;
+    public AbstractHttpControllerAuthenticationFilter(
+            final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
+            final SystemSecurityContext systemSecurityContext) {
+        this.tenantConfigurationSnapshotCache = tenantConfigurationSnapshotCache;
         this.tenantAware = tenantAware;
         this.systemSecurityContext = systemSecurityContext;
         pathExtractor = new AntPathMatcher();
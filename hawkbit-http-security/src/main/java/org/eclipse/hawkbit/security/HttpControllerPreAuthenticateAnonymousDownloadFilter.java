@@ -9,7 +9,7 @@
 package org.eclipse.hawkbit.security;
 
 import org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions;
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 
 /**
@@ -23,9 +23,9 @@ public class HttpControllerPreAuthenticateAnonymousDownloadFilter extends Abstra
     /**
      * Constructor.
      * 
-     * @param tenantConfigurationManagement
-     *            the system management service to retrieve configuration
-     *            properties
+     * @param tenantConfigurationSnapshotCache
+     *            the cache of the tenant configuration to retrieve the
+     *            configuration properties
      * @param tenantAware
      *            the tenant aware service to get configuration for the specific
      *            tenant
@@ -33,14 +33,14 @@ public class HttpControllerPreAuthenticateAnonymousDownloadFilter extends Abstra
      *            the system security context
      */
     public HttpControllerPreAuthenticateAnonymousDownloadFilter(
-            final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
+            final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
             final SystemSecurityContext systemSecurityContext) {
-        super(tenantConfigurationManagement, tenantAware, systemSecurityContext);
+        super(tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
     }
 
     @Override
     protected PreAuthenticationFilter createControllerAuthenticationFilter() {
-        return new ControllerPreAuthenticatedAnonymousDownload(tenantConfigurationManagement, tenantAware,
+        return new ControllerPreAuthenticatedAnonymousDownload(tenantConfigurationSnapshotCache, tenantAware,
                 systemSecurityContext);
     }
 
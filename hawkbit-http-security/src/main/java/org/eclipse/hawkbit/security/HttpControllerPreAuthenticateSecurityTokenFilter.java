@@ -9,7 +9,8 @@
 package org.eclipse.hawkbit.security;
 
 import org.eclipse.hawkbit.repository.ControllerManagement;
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 
 /**
@@ -31,13 +32,14 @@ import org.eclipse.hawkbit.tenancy.TenantAware;
 public class HttpControllerPreAuthenticateSecurityTokenFilter extends AbstractHttpControllerAuthenticationFilter {
 
     private final ControllerManagement controllerManagement;
+    private final TargetAuthenticationCache targetAuthenticationCache;
 
     /**
      * Constructor.
      * 
-     * @param tenantConfigurationManagement
-     *            the system management service to retrieve configuration
-     *            properties
+     * @param tenantConfigurationSnapshotCache
+     *            the cache of the tenant configuration to retrieve the
+     *            configuration properties
      * @param tenantAware
      *            the tenant aware service to get configuration for the specific
      *            tenant
@@ -46,18 +48,22 @@ public class HttpControllerPreAuthenticateSecurityTokenFilter extends AbstractHt
      *            security token to verify
      * @param systemSecurityContext
      *            the system security context
+     * @param targetAuthenticationCache
+     *            the cache for the data to verify the target security token
      */
     public HttpControllerPreAuthenticateSecurityTokenFilter(
-            final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
-            final ControllerManagement controllerManagement, final SystemSecurityContext systemSecurityContext) {
-        super(tenantConfigurationManagement, tenantAware, systemSecurityContext);
+            final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
+            final ControllerManagement controllerManagement, final SystemSecurityContext systemSecurityContext,
+            final TargetAuthenticationCache targetAuthenticationCache) {
+        super(tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
         this.controllerManagement = controllerManagement;
+        this.targetAuthenticationCache = targetAuthenticationCache;
     }
 
     @Override
     protected PreAuthenticationFilter createControllerAuthenticationFilter() {
-        return new ControllerPreAuthenticateSecurityTokenFilter(tenantConfigurationManagement, controllerManagement,
-                tenantAware, systemSecurityContext);
+        return new ControllerPreAuthenticateSecurityTokenFilter(tenantConfigurationSnapshotCache, controllerManagement,
+                tenantAware, systemSecurityContext, targetAuthenticationCache);
     }
 
 }
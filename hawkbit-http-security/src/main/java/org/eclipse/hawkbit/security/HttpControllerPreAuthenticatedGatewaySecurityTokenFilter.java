@@ -8,7 +8,7 @@
  */
 package org.eclipse.hawkbit.security;
 
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 
 /**
@@ -27,9 +27,9 @@ public class HttpControllerPreAuthenticatedGatewaySecurityTokenFilter
     /**
      * Constructor.
      * 
-     * @param tenantConfigurationManagement
-     *            the system management service to retrieve configuration
-     *            properties
+     * @param tenantConfigurationSnapshotCache
+     *            the cache of the tenant configuration to retrieve the
+     *            configuration properties
      * @param tenantAware
      *            the tenant aware service to get configuration for the specific
      *            tenant
@@ -37,14 +37,14 @@ public class HttpControllerPreAuthenticatedGatewaySecurityTokenFilter
      *            the system security context
      */
     public HttpControllerPreAuthenticatedGatewaySecurityTokenFilter(
-            final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
+            final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
             final SystemSecurityContext systemSecurityContext) {
-        super(tenantConfigurationManagement, tenantAware, systemSecurityContext);
+        super(tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
     }
 
     @Override
     protected PreAuthenticationFilter createControllerAuthenticationFilter() {
-        return new ControllerPreAuthenticatedGatewaySecurityTokenFilter(tenantConfigurationManagement, tenantAware,
+        return new ControllerPreAuthenticatedGatewaySecurityTokenFilter(tenantConfigurationSnapshotCache, tenantAware,
                 systemSecurityContext);
     }
 
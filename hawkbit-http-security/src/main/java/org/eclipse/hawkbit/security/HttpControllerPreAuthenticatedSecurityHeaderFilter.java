@@ -8,7 +8,7 @@
  */
 package org.eclipse.hawkbit.security;
 
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 
 /**
@@ -35,8 +35,8 @@ public class HttpControllerPreAuthenticatedSecurityHeaderFilter extends Abstract
      * @param caAuthorityNameHeader
      *            the http-header which holds the ca-authority name of the
      *            certificate
-     * @param tenantConfigurationManagement
-     *            the tenant configuration management service to retrieve
+     * @param tenantConfigurationSnapshotCache
+     *            the cache of the tenant configuration to retrieve the
      *            configuration properties to check if the header authentication
      *            is enabled for this tenant
      * @param tenantAware
@@ -46,9 +46,10 @@ public class HttpControllerPreAuthenticatedSecurityHeaderFilter extends Abstract
      *            the system security context
      */
     public HttpControllerPreAuthenticatedSecurityHeaderFilter(final String caCommonNameHeader,
-            final String caAuthorityNameHeader, final TenantConfigurationManagement tenantConfigurationManagement,
-            final TenantAware tenantAware, final SystemSecurityContext systemSecurityContext) {
-        super(tenantConfigurationManagement, tenantAware, systemSecurityContext);
+            final String caAuthorityNameHeader,
+            final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
+            final SystemSecurityContext systemSecurityContext) {
+        super(tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
         this.caCommonNameHeader = caCommonNameHeader;
         this.caAuthorityNameHeader = caAuthorityNameHeader;
     }
@@ -56,7 +57,7 @@ public class HttpControllerPreAuthenticatedSecurityHeaderFilter extends Abstract
     @Override
     protected PreAuthenticationFilter createControllerAuthenticationFilter() {
         return new ControllerPreAuthenticatedSecurityHeaderFilter(caCommonNameHeader, caAuthorityNameHeader,
-                tenantConfigurationManagement, tenantAware, systemSecurityContext);
+                tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
     }
 
 }
@@ -236,6 +236,23 @@ public interface ControllerManagement {
     @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
     Target findOrRegisterTargetIfItDoesNotExist(@NotEmpty String controllerId, @NotNull URI address, String name);
 
+    /**
+     * Registers a poll of an existing target, i.e. updates
+     * {@link Target#getLastTargetQuery()}, without loading it. Intended for
+     * polls that are answered from a cached controller state and
+     * therefore are known to neither change {@link Target#getAddress()} nor
+     * {@link Target#getUpdateStatus()}.
+     *
+     * @param controllerId
+     *            reference
+     *
+     * @throws EntityNotFoundException
+     *             if target with given ID does not exist and polls are
+     *             persisted eagerly
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_CONTROLLER)
+    void registerPoll(@NotEmpty String controllerId);
+
     /**
      * Retrieves last {@link Action} for a download of an artifact of given
      * module and target if exists and is not canceled.
@@ -13,6 +13,7 @@ import java.util.List;
 import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 
 import javax.validation.Valid;
 import javax.validation.constraints.NotEmpty;
@@ -209,6 +210,56 @@ public interface DeploymentManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     long countActionStatusAll();
 
+    /**
+     * Exports the given fields of all {@link Action}s that match the given
+     * filter in the order of their creation. The actions are read by a
+     * forward-only cursor field by field, i.e. neither the actions nor the
+     * result are held in memory.
+     *
+     * @param rsqlParam
+     *            in RSQL notation or <code>null</code> to export all actions
+     * @param fields
+     *            to export
+     * @param rowConsumer
+     *            that is called with the values of the fields in the order of
+     *            the given fields for every action
+     * @return the number of exported actions
+     *
+     * @throws RSQLParameterUnsupportedFieldException
+     *             if a field in the RSQL string is used but not provided by the
+     *             given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException
+     *             if the RSQL syntax is wrong
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    long exportActions(String rsqlParam, @NotEmpty List<ActionExportFields> fields,
+            @NotNull Consumer<Object[]> rowConsumer);
+
+    /**
+     * Exports the given fields of all {@link ActionStatus} entries that match
+     * the given filter in the order of their creation. The status entries are
+     * read by a forward-only cursor field by field, i.e. neither the entries
+     * nor the result are held in memory.
+     *
+     * @param rsqlParam
+     *            in RSQL notation or <code>null</code> to export all entries
+     * @param fields
+     *            to export
+     * @param rowConsumer
+     *            that is called with the values of the fields in the order of
+     *            the given fields for every entry
+     * @return the number of exported entries
+     *
+     * @throws RSQLParameterUnsupportedFieldException
+     *             if a field in the RSQL string is used but not provided by the
+     *             given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException
+     *             if the RSQL syntax is wrong
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    long exportActionStatus(String rsqlParam, @NotEmpty List<ActionStatusExportFields> fields,
+            @NotNull Consumer<Object[]> rowConsumer);
+
     /**
      * @return the total amount of stored actions
      */
@@ -0,0 +1,234 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.io.UnsupportedEncodingException;
+import java.net.URLDecoder;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+
+import org.eclipse.hawkbit.repository.exception.InvalidPagingCursorException;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.beans.BeansException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.util.StringUtils;
+
+/**
+ * A {@link PageRequest} for keyset (seek) pagination. Instead of skipping
+ * {@link #getOffset()} entries the repository continues after the sort keys of
+ * the last entry of the previous page, i.e. the costs of a page do not grow
+ * with its position.
+ *
+ * The position is handed over to the client as opaque cursor, see
+ * {@link #next(List)} and {@link #of(String, long, int, Sort)}. The sort is
+ * made unique by the {@code id} so that the sort keys identify a single entry,
+ * i.e. keyset pagination is limited to entities with an {@code id}. The cursor
+ * carries a fingerprint of the sort it has been created for and is rejected
+ * for any other sort.
+ *
+ * {@link #getOffset()} returns the absolute offset of the page. Repository
+ * methods that do not support keyset pagination fall back to offset based
+ * paging by that.
+ */
+public final class KeysetPageRequest extends PageRequest {
+
+    private static final long serialVersionUID = 1L;
+
+    private static final String ID = "id";
+    private static final String SEPARATOR = ",";
+
+    private final long offset;
+    private final List<String> keys;
+
+    private KeysetPageRequest(final long offset, final List<String> keys, final int limit, final Sort sort) {
+        super(0, limit, sort);
+        this.offset = offset;
+        this.keys = Collections.unmodifiableList(keys);
+    }
+
+    /**
+     * Creates a new {@link KeysetPageRequest} for the given cursor.
+     *
+     * @param cursor
+     *            as returned by {@link #next(List)} for the previous page or
+     *            <code>null</code> or empty to start at the given offset
+     * @param offset
+     *            zero-based offset index to start at if no cursor is given
+     * @param limit
+     *            the limit of the page to be returned
+     * @param sort
+     *            of the entries, extended by {@code id} if not part of it
+     *            already
+     * @return the page request
+     *
+     * @throws InvalidPagingCursorException
+     *             if the cursor cannot be decoded or does not match the sort
+     */
+    public static KeysetPageRequest of(final String cursor, final long offset, final int limit, final Sort sort) {
+        final Sort uniqueSort = withId(sort);
+        if (!StringUtils.hasText(cursor)) {
+            return new KeysetPageRequest(offset, Collections.emptyList(), limit, uniqueSort);
+        }
+
+        final String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8).split(SEPARATOR, -1);
+        } catch (final IllegalArgumentException e) {
+            throw new InvalidPagingCursorException("Cursor " + cursor + " is not encoded properly.", e);
+        }
+
+        final int sortSize = (int) uniqueSort.stream().count();
+        if ((parts.length != 2 && parts.length != 2 + sortSize) || !fingerprint(uniqueSort).equals(parts[1])) {
+            throw new InvalidPagingCursorException("Cursor " + cursor + " does not match the requested sort.");
+        }
+
+        try {
+            final long cursorOffset = Long.parseLong(parts[0]);
+            if (cursorOffset < 0) {
+                throw new InvalidPagingCursorException("Cursor " + cursor + " has a negative position.");
+            }
+
+            final List<String> cursorKeys = new ArrayList<>(sortSize);
+            for (int i = 2; i < parts.length; i++) {
+                cursorKeys.add(URLDecoder.decode(parts[i], StandardCharsets.UTF_8.name()));
+            }
+            return new KeysetPageRequest(cursorOffset, cursorKeys, limit, uniqueSort);
+        } catch (final NumberFormatException | UnsupportedEncodingException e) {
+            throw new InvalidPagingCursorException("Cursor " + cursor + " is not encoded properly.", e);
+        }
+    }
+
+    private static Sort withId(final Sort sort) {
+        if (sort.getOrderFor(ID) != null) {
+            return sort;
+        }
+        return sort.and(Sort.by(Order.asc(ID)));
+    }
+
+    private static String fingerprint(final Sort sort) {
+        final StringBuilder orders = new StringBuilder();
+        for (final Order order : sort) {
+            orders.append(order.getProperty()).append(' ').append(order.getDirection())
+                    .append(order.isIgnoreCase() ? " IGNORE_CASE" : "").append(SEPARATOR);
+        }
+        return Integer.toHexString(orders.toString().hashCode());
+    }
+
+    /**
+     * Creates the cursor of the page that follows the given content of this
+     * page. The sort keys are read from the properties of the last entry. If
+     * one of them is not readable or <code>null</code> the next page is
+     * located by its offset.
+     *
+     * @param content
+     *            of the page loaded with this request
+     * @return the cursor of the next page or <code>null</code> if the given
+     *         content is the last page
+     */
+    public String next(final List<?> content) {
+        if (content.size() < getPageSize()) {
+            return null;
+        }
+
+        final long nextOffset = offset + getPageSize();
+        final BeanWrapper last = new BeanWrapperImpl(content.get(content.size() - 1));
+        final List<String> nextKeys = new ArrayList<>();
+        try {
+            for (final Order order : getSort()) {
+                final Object value = last.getPropertyValue(order.getProperty());
+                if (value == null) {
+                    return encode(nextOffset, getSort(), Collections.emptyList());
+                }
+                nextKeys.add(value instanceof Enum ? ((Enum<?>) value).name() : value.toString());
+            }
+        } catch (final BeansException e) {
+            return encode(nextOffset, getSort(), Collections.emptyList());
+        }
+
+        return encode(nextOffset, getSort(), nextKeys);
+    }
+
+    private static String encode(final long offset, final Sort sort, final List<String> keys) {
+        final StringBuilder cursor = new StringBuilder().append(offset).append(SEPARATOR).append(fingerprint(sort));
+        try {
+            for (final String key : keys) {
+                cursor.append(SEPARATOR).append(URLEncoder.encode(key, StandardCharsets.UTF_8.name()));
+            }
+        } catch (final UnsupportedEncodingException e) {
+            throw new IllegalStateException(e);
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(cursor.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return <code>true</code> if the page starts after the {@link #getKeys()}
+     *         , <code>false</code> if it starts at {@link #getOffset()}
+     */
+    public boolean hasKeys() {
+        return !keys.isEmpty();
+    }
+
+    /**
+     * @return the sort keys of the last entry of the previous page in the order
+     *         of {@link #getSort()}, empty if the page is located by its offset
+     */
+    public List<String> getKeys() {
+        return keys;
+    }
+
+    /**
+     * @return the page request that has to be applied to the entries after
+     *         the {@link #getKeys()}, i.e. starting at the first of them if
+     *         the request has keys and at {@link #getOffset()} otherwise
+     */
+    public Pageable getSeekPageRequest() {
+        return new OffsetBasedPageRequest(hasKeys() ? 0 : offset, getPageSize(), getSort());
+    }
+
+    @Override
+    public long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPageRequest [offset=" + offset + ", keys=" + keys + ", getPageSize()="
+                + getPageSize() + ", getSort()=" + getSort() + "]";
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(super.hashCode(), offset, keys);
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        if (getClass() != obj.getClass()) {
+            return false;
+        }
+        final KeysetPageRequest other = (KeysetPageRequest) obj;
+        return offset == other.offset && keys.equals(other.keys);
+    }
+}
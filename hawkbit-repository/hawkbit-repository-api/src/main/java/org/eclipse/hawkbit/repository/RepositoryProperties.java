@@ -8,6 +8,8 @@
  */
 package org.eclipse.hawkbit.repository;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
@@ -40,7 +42,36 @@ public class RepositoryProperties {
     private boolean publishTargetPollEvent = true;
 
     /**
-     * Maximum number of poll operations queued before flush.
+     * Set to <code>false</code> if the {@link TargetPollEvent}s and
+     * {@link org.eclipse.hawkbit.repository.event.remote.MultiTargetPollEvent}s
+     * should only be delivered to the listeners of this instance but not to
+     * the other instances of the cluster, e.g. if no UI is attached to them.
+     */
+    private boolean remoteTargetPollEvent = true;
+
+    /**
+     * Simple class names of the remote entity events, e.g.
+     * <code>TargetUpdatedEvent</code>, that embed an
+     * {@link org.eclipse.hawkbit.repository.event.remote.entity.EntitySnapshot}
+     * of their entity so that the listeners on the other nodes do not have to
+     * load the entity from the database. Supported by
+     * <code>TargetUpdatedEvent</code>, <code>ActionUpdatedEvent</code> and
+     * <code>CancelTargetAssignmentEvent</code>.
+     */
+    private List<String> snapshotEvents = new ArrayList<>();
+
+    /**
+     * Minimum size in bytes of a serialized remote event to send it as
+     * compressed frame over the event bus, e.g. large bulk events.
+     * <code>0</code> disables the compression. Only enable if all instances
+     * of the cluster are able to read compressed frames.
+     */
+    private int busCompressionThreshold;
+
+    /**
+     * Number of targets with pending polls that triggers a flush before the
+     * {@link #pollPersistenceFlushTime} is reached. Repeated polls of the same
+     * target are coalesced and count once.
      */
     private int pollPersistenceQueueSize = 10_000;
 
@@ -54,11 +85,126 @@ public class RepositoryProperties {
      */
     private boolean eagerPollPersistence;
 
+    /**
+     * Number of lanes of the action status feedback group commit. Feedback of
+     * the same {@link Action} is always handled by the same lane, i.e. in
+     * order. Every lane commits its groups in a dedicated thread.
+     */
+    private int actionFeedbackLanes = 4;
+
+    /**
+     * Maximum number of action status feedbacks persisted in one group
+     * commit.
+     */
+    private int actionFeedbackGroupSize = 100;
+
+    /**
+     * Maximum number of action status feedbacks waiting in a lane for their
+     * group commit. Feedback that exceeds the limit is persisted on its own.
+     */
+    private int actionFeedbackQueueSize = 10_000;
+
+    /**
+     * Maximum time in milliseconds a controller waits for the group commit
+     * that already contains its action status feedback before its request
+     * fails.
+     */
+    private long actionFeedbackCommitTimeout = 30_000;
+
+    /**
+     * Set to true to handle rollouts event driven, i.e. a rollout is handled
+     * shortly after one of its actions, groups or the rollout itself changed.
+     * The periodic handling of all rollouts is then only a safety sweep that
+     * runs every {@link #rolloutSafetySweepInterval}.
+     */
+    private boolean eventDrivenRolloutHandling;
+
+    /**
+     * Time in {@link TimeUnit#MILLISECONDS} changes of rollouts are collected
+     * before the changed rollouts are handled in event driven mode.
+     */
+    private long rolloutHandlingDebounce = 500;
+
+    /**
+     * Minimum time in {@link TimeUnit#MILLISECONDS} between two handlings of
+     * all rollouts in event driven mode. Covers the rollouts that need to be
+     * handled without a change, e.g. rollouts with a start time.
+     */
+    private long rolloutSafetySweepInterval = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * Set to true to run the auto assignment incrementally, i.e. only created
+     * and changed targets are checked against the target filter queries with
+     * an auto assign distribution set. The check of all targets is then only
+     * a reconciliation that runs every {@link #autoAssignReconciliationInterval}.
+     */
+    private boolean incrementalAutoAssignment;
+
+    /**
+     * Time in {@link TimeUnit#MILLISECONDS} changes of targets are collected
+     * before the changed targets are checked in incremental mode.
+     */
+    private long autoAssignDebounce = 1000;
+
+    /**
+     * Minimum time in {@link TimeUnit#MILLISECONDS} between two checks of all
+     * targets in incremental mode. Covers changes without an event, e.g. a
+     * target filter query that matches targets by their overdue state.
+     */
+    private long autoAssignReconciliationInterval = TimeUnit.HOURS.toMillis(1);
+
+    /**
+     * Number of worker threads that handle rollouts. Independent rollouts are
+     * handled concurrently, each under its own lock.
+     */
+    private int rolloutWorkers = 4;
+
+    /**
+     * Maximum number of rollouts of one tenant that are handled concurrently,
+     * i.e. the share of the {@link #rolloutWorkers} a single tenant can take.
+     */
+    private int rolloutWorkersPerTenant = 2;
+
+    /**
+     * Time in {@link TimeUnit#MILLISECONDS} between two runs that fold the
+     * logged changes of the action counters of the rollout groups into the
+     * counters.
+     */
+    private long rolloutGroupStatusCountFoldInterval = TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * Set to <code>true</code> if several nodes share the database. The locks
+     * are held in the database then and the tenants are partitioned over the
+     * live nodes, i.e. each node runs the schedulers only for its tenants.
+     */
+    private boolean clusterMode;
+
+    /**
+     * Time in milliseconds after which the lease of a node or of a lock in
+     * {@link #clusterMode} expires if it is not renewed.
+     */
+    private long clusterLeaseTime = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * Unique ID of this node in {@link #clusterMode}. A random ID is used if
+     * not set.
+     */
+    private String clusterNodeId;
+
     /**
      * If an {@link Action} has a weight of null this value is used as weight.
      */
     private int actionWeightIfAbsent = 1000;
 
+    /**
+     * Minimum count of entities of a type that are created or updated by a
+     * bulk operation, e.g. an assignment or the start of a rollout group, in
+     * one transaction to publish a single
+     * {@link org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent}
+     * instead of an event per entity. Set to 0 to disable.
+     */
+    private int bulkEventThreshold = 100;
+
     public boolean isEagerPollPersistence() {
         return eagerPollPersistence;
     }
@@ -83,6 +229,134 @@ public class RepositoryProperties {
         this.pollPersistenceQueueSize = pollPersistenceQueueSize;
     }
 
+    public int getActionFeedbackLanes() {
+        return actionFeedbackLanes;
+    }
+
+    public void setActionFeedbackLanes(final int actionFeedbackLanes) {
+        this.actionFeedbackLanes = actionFeedbackLanes;
+    }
+
+    public int getActionFeedbackGroupSize() {
+        return actionFeedbackGroupSize;
+    }
+
+    public void setActionFeedbackGroupSize(final int actionFeedbackGroupSize) {
+        this.actionFeedbackGroupSize = actionFeedbackGroupSize;
+    }
+
+    public int getActionFeedbackQueueSize() {
+        return actionFeedbackQueueSize;
+    }
+
+    public void setActionFeedbackQueueSize(final int actionFeedbackQueueSize) {
+        this.actionFeedbackQueueSize = actionFeedbackQueueSize;
+    }
+
+    public long getActionFeedbackCommitTimeout() {
+        return actionFeedbackCommitTimeout;
+    }
+
+    public void setActionFeedbackCommitTimeout(final long actionFeedbackCommitTimeout) {
+        this.actionFeedbackCommitTimeout = actionFeedbackCommitTimeout;
+    }
+
+    public boolean isEventDrivenRolloutHandling() {
+        return eventDrivenRolloutHandling;
+    }
+
+    public void setEventDrivenRolloutHandling(final boolean eventDrivenRolloutHandling) {
+        this.eventDrivenRolloutHandling = eventDrivenRolloutHandling;
+    }
+
+    public long getRolloutHandlingDebounce() {
+        return rolloutHandlingDebounce;
+    }
+
+    public void setRolloutHandlingDebounce(final long rolloutHandlingDebounce) {
+        this.rolloutHandlingDebounce = rolloutHandlingDebounce;
+    }
+
+    public long getRolloutSafetySweepInterval() {
+        return rolloutSafetySweepInterval;
+    }
+
+    public void setRolloutSafetySweepInterval(final long rolloutSafetySweepInterval) {
+        this.rolloutSafetySweepInterval = rolloutSafetySweepInterval;
+    }
+
+    public boolean isIncrementalAutoAssignment() {
+        return incrementalAutoAssignment;
+    }
+
+    public void setIncrementalAutoAssignment(final boolean incrementalAutoAssignment) {
+        this.incrementalAutoAssignment = incrementalAutoAssignment;
+    }
+
+    public long getAutoAssignDebounce() {
+        return autoAssignDebounce;
+    }
+
+    public void setAutoAssignDebounce(final long autoAssignDebounce) {
+        this.autoAssignDebounce = autoAssignDebounce;
+    }
+
+    public long getAutoAssignReconciliationInterval() {
+        return autoAssignReconciliationInterval;
+    }
+
+    public void setAutoAssignReconciliationInterval(final long autoAssignReconciliationInterval) {
+        this.autoAssignReconciliationInterval = autoAssignReconciliationInterval;
+    }
+
+    public int getRolloutWorkers() {
+        return rolloutWorkers;
+    }
+
+    public void setRolloutWorkers(final int rolloutWorkers) {
+        this.rolloutWorkers = rolloutWorkers;
+    }
+
+    public int getRolloutWorkersPerTenant() {
+        return rolloutWorkersPerTenant;
+    }
+
+    public void setRolloutWorkersPerTenant(final int rolloutWorkersPerTenant) {
+        this.rolloutWorkersPerTenant = rolloutWorkersPerTenant;
+    }
+
+    public long getRolloutGroupStatusCountFoldInterval() {
+        return rolloutGroupStatusCountFoldInterval;
+    }
+
+    public void setRolloutGroupStatusCountFoldInterval(final long rolloutGroupStatusCountFoldInterval) {
+        this.rolloutGroupStatusCountFoldInterval = rolloutGroupStatusCountFoldInterval;
+    }
+
+    public boolean isClusterMode() {
+        return clusterMode;
+    }
+
+    public void setClusterMode(final boolean clusterMode) {
+        this.clusterMode = clusterMode;
+    }
+
+    public long getClusterLeaseTime() {
+        return clusterLeaseTime;
+    }
+
+    public void setClusterLeaseTime(final long clusterLeaseTime) {
+        this.clusterLeaseTime = clusterLeaseTime;
+    }
+
+    public String getClusterNodeId() {
+        return clusterNodeId;
+    }
+
+    public void setClusterNodeId(final String clusterNodeId) {
+        this.clusterNodeId = clusterNodeId;
+    }
+
     public boolean isRejectActionStatusForClosedAction() {
         return rejectActionStatusForClosedAction;
     }
@@ -99,6 +373,30 @@ public class RepositoryProperties {
         this.publishTargetPollEvent = publishTargetPollEvent;
     }
 
+    public boolean isRemoteTargetPollEvent() {
+        return remoteTargetPollEvent;
+    }
+
+    public void setRemoteTargetPollEvent(final boolean remoteTargetPollEvent) {
+        this.remoteTargetPollEvent = remoteTargetPollEvent;
+    }
+
+    public List<String> getSnapshotEvents() {
+        return snapshotEvents;
+    }
+
+    public void setSnapshotEvents(final List<String> snapshotEvents) {
+        this.snapshotEvents = snapshotEvents;
+    }
+
+    public int getBusCompressionThreshold() {
+        return busCompressionThreshold;
+    }
+
+    public void setBusCompressionThreshold(final int busCompressionThreshold) {
+        this.busCompressionThreshold = busCompressionThreshold;
+    }
+
     public int getActionWeightIfAbsent() {
         return actionWeightIfAbsent;
     }
@@ -107,4 +405,12 @@ public class RepositoryProperties {
         this.actionWeightIfAbsent = actionWeightIfAbsent;
     }
 
+    public int getBulkEventThreshold() {
+        return bulkEventThreshold;
+    }
+
+    public void setBulkEventThreshold(final int bulkEventThreshold) {
+        this.bulkEventThreshold = bulkEventThreshold;
+    }
+
 }
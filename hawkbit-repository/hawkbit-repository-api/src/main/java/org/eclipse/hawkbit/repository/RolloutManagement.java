@@ -8,6 +8,7 @@
  */
 package org.eclipse.hawkbit.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -76,6 +77,17 @@ public interface RolloutManagement {
     @PreAuthorize(SpringEvalExpressions.IS_SYSTEM_CODE)
     void handleRollouts();
 
+    /**
+     * Handles the given rollouts as described in {@link #handleRollouts()}.
+     * Rollouts that do not exist or are not in one of the states mentioned
+     * there are skipped.
+     * 
+     * @param rolloutIds
+     *            the IDs of the rollouts to handle
+     */
+    @PreAuthorize(SpringEvalExpressions.IS_SYSTEM_CODE)
+    void handleRollouts(@NotNull Collection<Long> rolloutIds);
+
     /**
      * Counts all {@link Rollout}s in the repository that are not marked as
      * deleted.
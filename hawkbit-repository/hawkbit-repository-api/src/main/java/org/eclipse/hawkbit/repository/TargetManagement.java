@@ -12,6 +12,7 @@ import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
 import javax.validation.ConstraintViolationException;
 import javax.validation.Valid;
@@ -32,6 +33,8 @@ import org.eclipse.hawkbit.repository.model.RolloutGroup;
 import org.eclipse.hawkbit.repository.model.Tag;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
+import org.eclipse.hawkbit.repository.model.TargetImport;
+import org.eclipse.hawkbit.repository.model.TargetImportResult;
 import org.eclipse.hawkbit.repository.model.TargetMetadata;
 import org.eclipse.hawkbit.repository.model.TargetTag;
 import org.eclipse.hawkbit.repository.model.TargetTagAssignmentResult;
@@ -206,6 +209,24 @@ public interface TargetManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_CREATE_TARGET)
     List<Target> create(@NotNull @Valid Collection<TargetCreate> creates);
 
+    /**
+     * Imports a chunk of {@link Target}s together with their tags, metadata
+     * and controller attributes. In contrast to
+     * {@link #create(Collection)} every {@link TargetImport} is validated on
+     * its own, i.e. invalid entries, entries with unknown tags or entries of
+     * already existing targets are reported in the result while the other
+     * entries are created. Instead of an event per target a single
+     * {@link org.eclipse.hawkbit.repository.event.remote.MultiTargetCreatedEvent}
+     * is published for the created targets of the chunk.
+     *
+     * @param targets
+     *            to be imported
+     * @return the count of created targets and the errors of the rejected
+     *         entries
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_CREATE_TARGET)
+    TargetImportResult importTargets(@NotNull Collection<TargetImport> targets);
+
     /**
      * Deletes all targets with the given IDs.
      *
@@ -250,6 +271,28 @@ public interface TargetManagement {
     Page<Target> findByTargetFilterQueryAndNonDS(@NotNull Pageable pageRequest, long distributionSetId,
             @NotNull String rsqlParam);
 
+    /**
+     * Finds the targets out of the given ones that match the given
+     * {@link TargetFilterQuery} and that don't have the specified distribution
+     * set in their action history.
+     *
+     * @param pageRequest
+     *            the pageRequest to enhance the query for paging and sorting
+     * @param targetIds
+     *            IDs of the {@link Target}s to check
+     * @param distributionSetId
+     *            id of the {@link DistributionSet}
+     * @param rsqlParam
+     *            filter definition in RSQL syntax
+     * @return a page of the found {@link Target}s
+     * 
+     * @throws EntityNotFoundException
+     *             if distribution set with given ID does not exist
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    Page<Target> findByIdInAndTargetFilterQueryAndNonDS(@NotNull Pageable pageRequest,
+            @NotNull Collection<Long> targetIds, long distributionSetId, @NotNull String rsqlParam);
+
     /**
      * Counts all targets for all the given parameter {@link TargetFilterQuery}
      * and that don't have the specified distribution set in their action
@@ -476,6 +519,30 @@ public interface TargetManagement {
     @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
     Page<Target> findByRsql(@NotNull Pageable pageable, @NotNull String rsqlParam);
 
+    /**
+     * Exports the given fields of all targets that match the given filter in
+     * the order of their creation. The targets are read by a forward-only
+     * cursor field by field, i.e. neither the targets nor the result are held
+     * in memory.
+     *
+     * @param rsqlParam
+     *            in RSQL notation or <code>null</code> to export all targets
+     * @param fields
+     *            to export
+     * @param rowConsumer
+     *            that is called with the values of the fields in the order of
+     *            the given fields for every target
+     * @return the number of exported targets
+     *
+     * @throws RSQLParameterUnsupportedFieldException
+     *             if a field in the RSQL string is used but not provided by the
+     *             given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException
+     *             if the RSQL syntax is wrong
+     */
+    @PreAuthorize(SpringEvalExpressions.HAS_AUTH_READ_TARGET)
+    long export(String rsqlParam, @NotEmpty List<TargetExportFields> fields, @NotNull Consumer<Object[]> rowConsumer);
+
     /**
      * Retrieves all target based on {@link TargetFilterQuery}.
      * 
@@ -8,6 +8,8 @@
  */
 package org.eclipse.hawkbit.repository.autoassign;
 
+import java.util.Collection;
+
 /**
  * An interface declaration which contains the check for the auto assignment
  * logic.
@@ -22,4 +24,17 @@ public interface AutoAssignExecutor {
      */
     void check();
 
+    /**
+     * Checks only the given targets against all target filter queries with an
+     * auto assign distribution set and assigns the distribution sets to the
+     * targets that match and don't have the design DS yet. The default
+     * implementation runs the full {@link #check()}.
+     *
+     * @param targetIds
+     *            IDs of the targets that have been created or changed
+     */
+    default void check(final Collection<Long> targetIds) {
+        check();
+    }
+
 }
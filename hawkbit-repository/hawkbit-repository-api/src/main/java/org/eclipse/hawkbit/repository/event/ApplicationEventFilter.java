@@ -25,4 +25,15 @@ public interface ApplicationEventFilter {
      * @return true if event should be filtered
      */
     boolean filter(final ApplicationEvent event);
+
+    /**
+     * 
+     * @param event
+     *            to verify
+     * @return true if event should only be delivered to the listeners of this
+     *         instance but not to other instances by means of the event bus
+     */
+    default boolean filterRemote(final ApplicationEvent event) {
+        return false;
+    }
 }
@@ -0,0 +1,129 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Event that is published once for the entities of a type that have been
+ * created or updated by a bulk operation, e.g. the actions of an assignment,
+ * instead of an entity event per entity. The event payload is compact, i.e. it
+ * holds the IDs of the entities but not the entities.
+ */
+public class BulkEntityEvent extends RemoteTenantAwareEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * The kind of change of the entities.
+     */
+    public enum Kind {
+        CREATED, UPDATED
+    }
+
+    private String entityClass;
+    private Kind kind;
+    private final List<Long> entityIds = new ArrayList<>();
+    private final List<Long> parentIds = new ArrayList<>();
+    private final List<String> changedFields = new ArrayList<>();
+    private final List<Long> rolloutIds = new ArrayList<>();
+    private final List<Long> rolloutGroupIds = new ArrayList<>();
+
+    /**
+     * Default constructor.
+     */
+    public BulkEntityEvent() {
+        // for serialization libs like jackson
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenant
+     *            tenant the event is scoped to
+     * @param applicationId
+     *            the application id
+     * @param entityClass
+     *            the class of the entities
+     * @param kind
+     *            of the change
+     * @param entityIds
+     *            the IDs of the changed entities
+     * @param parentIds
+     *            the ID of the parent per entity, e.g. the target of an
+     *            action, empty if the entities have no parent
+     * @param changedFields
+     *            the fields that have been changed of any of the entities,
+     *            empty if created or unknown
+     * @param rolloutIds
+     *            the rollouts the entities belong to, aligned with the
+     *            rolloutGroupIds
+     * @param rolloutGroupIds
+     *            the rollout groups the entities belong to
+     */
+    // Exception squid:S00107 - the event is a flat value object
+    @SuppressWarnings("squid:S00107")
+    public BulkEntityEvent(final String tenant, final String applicationId, final String entityClass,
+            final Kind kind, final List<Long> entityIds, final List<Long> parentIds,
+            final Collection<String> changedFields, final List<Long> rolloutIds, final List<Long> rolloutGroupIds) {
+        super(applicationId, tenant, applicationId);
+        this.entityClass = entityClass;
+        this.kind = kind;
+        this.entityIds.addAll(entityIds);
+        this.parentIds.addAll(parentIds);
+        this.changedFields.addAll(changedFields);
+        this.rolloutIds.addAll(rolloutIds);
+        this.rolloutGroupIds.addAll(rolloutGroupIds);
+    }
+
+    public String getEntityClass() {
+        return entityClass;
+    }
+
+    public Kind getKind() {
+        return kind;
+    }
+
+    public List<Long> getEntityIds() {
+        return entityIds;
+    }
+
+    public List<Long> getParentIds() {
+        return parentIds;
+    }
+
+    public List<String> getChangedFields() {
+        return changedFields;
+    }
+
+    public List<Long> getRolloutIds() {
+        return rolloutIds;
+    }
+
+    public List<Long> getRolloutGroupIds() {
+        return rolloutGroupIds;
+    }
+
+    /**
+     * @param type
+     *            the entity type, e.g.
+     *            {@link org.eclipse.hawkbit.repository.model.Action}
+     * @return <code>true</code> if the entities of this event are of the given
+     *         type
+     */
+    public boolean isEntityOfType(final Class<?> type) {
+        try {
+            return type.isAssignableFrom(Class.forName(entityClass));
+        } catch (final ClassNotFoundException e) {
+            return false;
+        }
+    }
+}
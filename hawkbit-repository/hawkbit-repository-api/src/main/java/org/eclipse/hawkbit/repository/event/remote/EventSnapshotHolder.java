@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.springframework.beans.factory.annotation.Autowired;
+
+/**
+ * A singleton bean which holds the repository properties to decide in the
+ * events whether they embed a snapshot of their entity.
+ */
+public final class EventSnapshotHolder {
+
+    private static final EventSnapshotHolder SINGLETON = new EventSnapshotHolder();
+
+    @Autowired(required = false)
+    private RepositoryProperties repositoryProperties;
+
+    private EventSnapshotHolder() {
+
+    }
+
+    /**
+     * @return the event snapshot holder singleton instance
+     */
+    public static EventSnapshotHolder getInstance() {
+        return SINGLETON;
+    }
+
+    /**
+     * @param eventType
+     *            the type of the event
+     * @return <code>true</code> if the events of the given type embed a
+     *         snapshot of their entity
+     */
+    public boolean isSnapshotEnabled(final Class<?> eventType) {
+        return repositoryProperties != null
+                && repositoryProperties.getSnapshotEvents().contains(eventType.getSimpleName());
+    }
+}
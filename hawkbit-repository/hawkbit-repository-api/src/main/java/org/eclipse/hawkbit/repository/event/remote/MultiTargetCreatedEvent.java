@@ -0,0 +1,63 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.repository.Identifiable;
+import org.eclipse.hawkbit.repository.model.Target;
+
+/**
+ * Event that is published once for a batch of created targets, e.g. of an
+ * import, instead of a
+ * {@link org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent}
+ * per target. The event payload holds the IDs and controller IDs of the
+ * created targets.
+ */
+public class MultiTargetCreatedEvent extends RemoteTenantAwareEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<Long> targetIds = new ArrayList<>();
+    private final List<String> controllerIds = new ArrayList<>();
+
+    /**
+     * Default constructor.
+     */
+    public MultiTargetCreatedEvent() {
+        // for serialization libs like jackson
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenant
+     *            tenant the event is scoped to
+     * @param applicationId
+     *            the application id
+     * @param targets
+     *            the created targets
+     */
+    public MultiTargetCreatedEvent(final String tenant, final String applicationId,
+            final List<? extends Target> targets) {
+        super(applicationId, tenant, applicationId);
+        this.targetIds.addAll(targets.stream().map(Identifiable::getId).collect(Collectors.toList()));
+        this.controllerIds.addAll(targets.stream().map(Target::getControllerId).collect(Collectors.toList()));
+    }
+
+    public List<Long> getTargetIds() {
+        return targetIds;
+    }
+
+    public List<String> getControllerIds() {
+        return controllerIds;
+    }
+}
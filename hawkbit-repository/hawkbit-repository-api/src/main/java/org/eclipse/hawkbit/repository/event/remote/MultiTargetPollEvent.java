@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.event.remote;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Event that is published once for the target polls that are persisted
+ * together, instead of a {@link TargetPollEvent} per poll. The event payload
+ * holds the controller IDs of the targets and the time of their last poll.
+ */
+public class MultiTargetPollEvent extends RemoteTenantAwareEvent {
+
+    private static final long serialVersionUID = 1L;
+
+    private final List<String> controllerIds = new ArrayList<>();
+    private final List<Long> lastTargetQueries = new ArrayList<>();
+
+    /**
+     * Default constructor.
+     */
+    public MultiTargetPollEvent() {
+        // for serialization libs like jackson
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param tenant
+     *            tenant the event is scoped to
+     * @param applicationId
+     *            the application id
+     * @param controllerIds
+     *            the controller IDs of the targets that polled
+     * @param lastTargetQueries
+     *            the time of the last poll per target
+     */
+    public MultiTargetPollEvent(final String tenant, final String applicationId, final List<String> controllerIds,
+            final List<Long> lastTargetQueries) {
+        super(applicationId, tenant, applicationId);
+        this.controllerIds.addAll(controllerIds);
+        this.lastTargetQueries.addAll(lastTargetQueries);
+    }
+
+    public List<String> getControllerIds() {
+        return controllerIds;
+    }
+
+    public List<Long> getLastTargetQueries() {
+        return lastTargetQueries;
+    }
+}
@@ -43,4 +43,28 @@ public class ActionCreatedEvent extends AbstractActionEvent implements EntityCre
         super(action, targetId, rolloutId, rolloutGroupId, applicationId);
     }
 
+    /**
+     * Constructor for an action that has been created without entity, e.g. by
+     * a batch insert.
+     *
+     * @param tenant
+     *            the tenant of the action
+     * @param actionId
+     *            the ID of the created action
+     * @param entityClass
+     *            the class name of the action entity
+     * @param targetId
+     *            targetId identifier (optional)
+     * @param rolloutId
+     *            rollout identifier (optional)
+     * @param rolloutGroupId
+     *            rollout group identifier (optional)
+     * @param applicationId
+     *            the origin application id
+     */
+    public ActionCreatedEvent(final String tenant, final Long actionId, final String entityClass,
+            final Long targetId, final Long rolloutId, final Long rolloutGroupId, final String applicationId) {
+        super(tenant, actionId, entityClass, targetId, rolloutId, rolloutGroupId, applicationId);
+    }
+
 }
@@ -17,6 +17,8 @@ import org.eclipse.hawkbit.repository.model.Action;
 public class ActionUpdatedEvent extends AbstractActionEvent implements EntityUpdatedEvent {
     private static final long serialVersionUID = 2L;
 
+    private EntitySnapshot snapshot;
+
     /**
      * Default constructor.
      */
@@ -41,6 +43,20 @@ public class ActionUpdatedEvent extends AbstractActionEvent implements EntityUpd
     public ActionUpdatedEvent(final Action action, final Long targetId, final Long rolloutId, final Long rolloutGroupId,
             final String applicationId) {
         super(action, targetId, rolloutId, rolloutGroupId, applicationId);
+        this.snapshot = snapshotIfEnabled(() -> EntitySnapshot.of(action));
+    }
+
+    /**
+     * @return the embedded snapshot of the action or <code>null</code> if none
+     *         is embedded
+     */
+    public EntitySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    protected EntitySnapshot embeddedSnapshot() {
+        return snapshot;
     }
 
 }
@@ -20,6 +20,9 @@ public class CancelTargetAssignmentEvent extends RemoteEntityEvent<Target> {
 
     private Long actionId;
 
+    // declared last to keep the protostuff field numbers of earlier versions
+    private EntitySnapshot snapshot;
+
     /**
      * Default constructor.
      */
@@ -40,6 +43,7 @@ public class CancelTargetAssignmentEvent extends RemoteEntityEvent<Target> {
     public CancelTargetAssignmentEvent(final Target baseEntity, final Long actionId, final String applicationId) {
         super(baseEntity, applicationId);
         this.actionId = actionId;
+        this.snapshot = snapshotIfEnabled(() -> EntitySnapshot.of(baseEntity));
     }
 
     /**
@@ -49,4 +53,17 @@ public class CancelTargetAssignmentEvent extends RemoteEntityEvent<Target> {
         return actionId;
     }
 
+    /**
+     * @return the embedded snapshot of the target or <code>null</code> if none
+     *         is embedded
+     */
+    public EntitySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    protected EntitySnapshot embeddedSnapshot() {
+        return snapshot;
+    }
+
 }
@@ -0,0 +1,142 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.event.remote.entity;
+
+import java.io.Serializable;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.BaseEntity;
+import org.eclipse.hawkbit.repository.model.Target;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+
+/**
+ * Compact snapshot of the fields of an entity that the listeners of a
+ * {@link RemoteEntityEvent} use, embedded into the event so that the receiving
+ * nodes do not have to load the entity from the database.
+ *
+ * The snapshot is versioned by its format, i.e. a node ignores a snapshot of a
+ * different format, e.g. during a rolling update, and by the
+ * {@link BaseEntity#getOptLockRevision()} of the entity.
+ *
+ * The snapshot holds the fields as of the change that caused the event.
+ * Listeners compare its revision with the latest revision of the entity they
+ * know of and load the entity if the snapshot is behind, i.e. a later change
+ * of the entity has been seen already.
+ */
+public class EntitySnapshot implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Version of the snapshot format, to be increased on incompatible changes
+     * of the fields.
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    public static final String CONTROLLER_ID = "controllerId";
+    public static final String ADDRESS = "address";
+    public static final String UPDATE_STATUS = "updateStatus";
+    public static final String STATUS = "status";
+    public static final String ACTIVE = "active";
+    public static final String DISTRIBUTION_SET_ID = "distributionSetId";
+
+    private int formatVersion;
+    private final Map<String, String> fields = new HashMap<>();
+    // declared last to keep the protostuff field numbers of earlier versions
+    private int revision;
+
+    /**
+     * Default constructor.
+     */
+    public EntitySnapshot() {
+        // for serialization libs like jackson
+    }
+
+    private EntitySnapshot(final BaseEntity entity) {
+        this.formatVersion = FORMAT_VERSION;
+        this.revision = entity.getOptLockRevision();
+    }
+
+    /**
+     * @param target
+     *            to take the snapshot of
+     * @return the snapshot of the target
+     */
+    public static EntitySnapshot of(final Target target) {
+        final EntitySnapshot snapshot = new EntitySnapshot(target);
+        snapshot.put(CONTROLLER_ID, target.getControllerId());
+        snapshot.put(ADDRESS, target.getAddress());
+        snapshot.put(UPDATE_STATUS, target.getUpdateStatus());
+        return snapshot;
+    }
+
+    /**
+     * @param action
+     *            to take the snapshot of
+     * @return the snapshot of the action
+     */
+    public static EntitySnapshot of(final Action action) {
+        final EntitySnapshot snapshot = new EntitySnapshot(action);
+        snapshot.put(STATUS, action.getStatus());
+        snapshot.put(ACTIVE, action.isActive());
+        snapshot.put(DISTRIBUTION_SET_ID, BaseEntity.getIdOrNull(action.getDistributionSet()));
+        return snapshot;
+    }
+
+    private void put(final String field, final Object value) {
+        if (value != null) {
+            fields.put(field, value.toString());
+        }
+    }
+
+    public int getFormatVersion() {
+        return formatVersion;
+    }
+
+    public Map<String, String> getFields() {
+        return fields;
+    }
+
+    public int getRevision() {
+        return revision;
+    }
+
+    /**
+     * @return <code>true</code> if the snapshot has the format of this node
+     */
+    @JsonIgnore
+    public boolean isCompatible() {
+        return formatVersion == FORMAT_VERSION;
+    }
+
+    /**
+     * @param field
+     *            name of the field
+     * @return the value of the field, empty if the snapshot is not compatible
+     *         or the field is not set
+     */
+    public Optional<String> get(final String field) {
+        return isCompatible() ? Optional.ofNullable(fields.get(field)) : Optional.empty();
+    }
+
+    /**
+     * @param knownRevision
+     *            the latest revision of the entity known to the caller,
+     *            <code>null</code> if none is known
+     * @return <code>true</code> if the snapshot is older than the known
+     *         revision, i.e. its fields might be outdated
+     */
+    public boolean isBehind(final Integer knownRevision) {
+        return knownRevision != null && revision < knownRevision;
+    }
+}
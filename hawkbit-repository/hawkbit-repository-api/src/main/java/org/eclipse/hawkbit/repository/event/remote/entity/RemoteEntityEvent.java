@@ -8,7 +8,12 @@
  */
 package org.eclipse.hawkbit.repository.event.remote.entity;
 
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.event.remote.EventEntityManagerHolder;
+import org.eclipse.hawkbit.repository.event.remote.EventSnapshotHolder;
 import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
 import org.eclipse.hawkbit.repository.model.TenantAwareBaseEntity;
 import org.slf4j.Logger;
@@ -51,6 +56,64 @@ public class RemoteEntityEvent<E extends TenantAwareBaseEntity> extends RemoteId
         this.entity = baseEntity;
     }
 
+    /**
+     * Constructor for an entity that is not at hand, e.g. as it has been
+     * created by native SQL. The entity is loaded on the first call of
+     * {@link #getEntity()}.
+     *
+     * @param tenant
+     *            the tenant of the entity
+     * @param entityId
+     *            the ID of the entity
+     * @param entityClass
+     *            the class name of the entity
+     * @param applicationId
+     *            the origin application id
+     */
+    protected RemoteEntityEvent(final String tenant, final Long entityId, final String entityClass,
+            final String applicationId) {
+        super(entityId, tenant, entityClass, applicationId);
+    }
+
+    /**
+     * Takes the snapshot of the entity if enabled for this event type (see
+     * {@link RepositoryProperties#getSnapshotEvents()}).
+     *
+     * The events that embed a snapshot declare it as their last field, as
+     * protostuff numbers the fields of the superclasses first, i.e. a field of
+     * this class would renumber the fields of all subclasses.
+     *
+     * @param snapshotOfEntity
+     *            creates the snapshot of the entity
+     * @return the snapshot or <code>null</code> if not enabled
+     */
+    protected EntitySnapshot snapshotIfEnabled(final Supplier<EntitySnapshot> snapshotOfEntity) {
+        return EventSnapshotHolder.getInstance().isSnapshotEnabled(getClass()) ? snapshotOfEntity.get() : null;
+    }
+
+    /**
+     * @return the embedded snapshot of the entity or <code>null</code> if none
+     *         is embedded or the event type does not embed snapshots
+     */
+    protected EntitySnapshot embeddedSnapshot() {
+        return null;
+    }
+
+    /**
+     * Returns the value of a field of the embedded snapshot. Listeners fall
+     * back to {@link #getEntity()} if the value is empty, i.e. no snapshot is
+     * embedded or the snapshot has another format.
+     *
+     * @param field
+     *            name of the field, see {@link EntitySnapshot}
+     * @return the value of the field
+     */
+    @JsonIgnore
+    public Optional<String> getSnapshotField(final String field) {
+        final EntitySnapshot snapshot = embeddedSnapshot();
+        return snapshot == null ? Optional.empty() : snapshot.get(field);
+    }
+
     @JsonIgnore
     public E getEntity() {
         if (entity == null) {
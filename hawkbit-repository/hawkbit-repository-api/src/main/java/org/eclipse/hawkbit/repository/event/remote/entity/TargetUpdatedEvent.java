@@ -19,6 +19,8 @@ public class TargetUpdatedEvent extends RemoteEntityEvent<Target> implements Ent
 
     private static final long serialVersionUID = 1L;
 
+    private EntitySnapshot snapshot;
+
     /**
      * Default constructor.
      */
@@ -36,6 +38,20 @@ public class TargetUpdatedEvent extends RemoteEntityEvent<Target> implements Ent
      */
     public TargetUpdatedEvent(final Target baseEntity, final String applicationId) {
         super(baseEntity, applicationId);
+        this.snapshot = snapshotIfEnabled(() -> EntitySnapshot.of(baseEntity));
+    }
+
+    /**
+     * @return the embedded snapshot of the target or <code>null</code> if none
+     *         is embedded
+     */
+    public EntitySnapshot getSnapshot() {
+        return snapshot;
+    }
+
+    @Override
+    protected EntitySnapshot embeddedSnapshot() {
+        return snapshot;
     }
 
 }
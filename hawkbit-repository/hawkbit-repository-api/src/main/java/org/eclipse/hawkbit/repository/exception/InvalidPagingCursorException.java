@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.exception;
+
+import org.eclipse.hawkbit.exception.AbstractServerRtException;
+import org.eclipse.hawkbit.exception.SpServerError;
+
+/**
+ * Thrown if a paging cursor of a
+ * {@link org.eclipse.hawkbit.repository.KeysetPageRequest} cannot be decoded
+ * or does not match the requested sort order.
+ */
+public class InvalidPagingCursorException extends AbstractServerRtException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new InvalidPagingCursorException with
+     * {@link SpServerError#SP_REST_PAGING_CURSOR_SYNTAX} error.
+     * 
+     * @param message
+     *            the message of the exception
+     */
+    public InvalidPagingCursorException(final String message) {
+        super(message, SpServerError.SP_REST_PAGING_CURSOR_SYNTAX);
+    }
+
+    /**
+     * Creates a new InvalidPagingCursorException with
+     * {@link SpServerError#SP_REST_PAGING_CURSOR_SYNTAX} error.
+     * 
+     * @param message
+     *            the message of the exception
+     * @param cause
+     *            the cause of this exception
+     */
+    public InvalidPagingCursorException(final String message, final Throwable cause) {
+        super(message, SpServerError.SP_REST_PAGING_CURSOR_SYNTAX, cause);
+    }
+}
@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+
+import org.eclipse.hawkbit.repository.builder.TargetCreate;
+
+/**
+ * A {@link Target} to import together with its tags, metadata and controller
+ * attributes.
+ */
+public class TargetImport {
+
+    private final long line;
+    private final TargetCreate create;
+    private final Collection<String> tags;
+    private final Map<String, String> metadata;
+    private final Map<String, String> attributes;
+
+    /**
+     * Constructor.
+     *
+     * @param line
+     *            the position of the target in the import, used to report
+     *            errors
+     * @param create
+     *            of the target
+     * @param tags
+     *            the names of the existing {@link TargetTag}s to assign
+     * @param metadata
+     *            the {@link TargetMetadata} entries to create by key
+     * @param attributes
+     *            the controller attributes of the target
+     */
+    public TargetImport(final long line, final TargetCreate create, final Collection<String> tags,
+            final Map<String, String> metadata, final Map<String, String> attributes) {
+        this.line = line;
+        this.create = create;
+        this.tags = tags == null ? Collections.emptyList() : tags;
+        this.metadata = metadata == null ? Collections.emptyMap() : metadata;
+        this.attributes = attributes == null ? Collections.emptyMap() : attributes;
+    }
+
+    public long getLine() {
+        return line;
+    }
+
+    public TargetCreate getCreate() {
+        return create;
+    }
+
+    public Collection<String> getTags() {
+        return tags;
+    }
+
+    public Map<String, String> getMetadata() {
+        return metadata;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+}
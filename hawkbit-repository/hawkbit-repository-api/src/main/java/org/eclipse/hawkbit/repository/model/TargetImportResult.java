@@ -0,0 +1,90 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.hawkbit.exception.SpServerError;
+
+/**
+ * Result object of a {@link TargetImport}, i.e. the number of created targets
+ * and the errors of the targets that have been rejected.
+ */
+public class TargetImportResult {
+
+    private final int created;
+    private final List<Error> errors;
+
+    /**
+     * Constructor.
+     *
+     * @param created
+     *            count of the created targets
+     * @param errors
+     *            of the rejected targets
+     */
+    public TargetImportResult(final int created, final List<Error> errors) {
+        this.created = created;
+        this.errors = Collections.unmodifiableList(errors);
+    }
+
+    public int getCreated() {
+        return created;
+    }
+
+    public List<Error> getErrors() {
+        return errors;
+    }
+
+    /**
+     * The reason why a {@link TargetImport} has been rejected.
+     */
+    public static class Error {
+        private final long line;
+        private final String controllerId;
+        private final SpServerError error;
+        private final String message;
+
+        /**
+         * Constructor.
+         *
+         * @param line
+         *            of the rejected {@link TargetImport}
+         * @param controllerId
+         *            of the rejected target, <code>null</code> if unknown
+         * @param error
+         *            the kind of error
+         * @param message
+         *            the details of the error
+         */
+        public Error(final long line, final String controllerId, final SpServerError error, final String message) {
+            this.line = line;
+            this.controllerId = controllerId;
+            this.error = error;
+            this.message = message;
+        }
+
+        public long getLine() {
+            return line;
+        }
+
+        public String getControllerId() {
+            return controllerId;
+        }
+
+        public SpServerError getError() {
+            return error;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+    }
+}
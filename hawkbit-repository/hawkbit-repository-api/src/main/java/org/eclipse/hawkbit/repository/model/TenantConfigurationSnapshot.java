@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.model;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.hawkbit.tenancy.configuration.DurationHelper;
+import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
+
+/**
+ * Immutable snapshot of the effective configuration values of a tenant, i.e.
+ * the tenant specific values or the global defaults. The values are already
+ * converted into the data type of their {@link TenantConfigurationKey} and
+ * the polling related durations are parsed in advance so that the snapshot
+ * can be read on hot paths (e.g. controller polls and authentication)
+ * without any conversion.
+ */
+public final class TenantConfigurationSnapshot {
+
+    private final Map<String, Object> values;
+
+    private final String pollingTime;
+    private final Duration pollingTimeDuration;
+    private final String minPollingTime;
+    private final Duration pollingOverdueTimeDuration;
+    private final int maintenanceWindowPollCount;
+
+    /**
+     * Constructor.
+     *
+     * @param values
+     *            the configuration values by key name, converted into the
+     *            data type of the key
+     */
+    public TenantConfigurationSnapshot(final Map<String, ?> values) {
+        this.values = Collections.unmodifiableMap(new HashMap<>(values));
+
+        pollingTime = getValue(TenantConfigurationKey.POLLING_TIME_INTERVAL, String.class);
+        pollingTimeDuration = toDuration(pollingTime);
+        minPollingTime = getValue(TenantConfigurationKey.MIN_POLLING_TIME_INTERVAL, String.class);
+        pollingOverdueTimeDuration = toDuration(
+                getValue(TenantConfigurationKey.POLLING_OVERDUE_TIME_INTERVAL, String.class));
+        final Integer pollCount = getValue(TenantConfigurationKey.MAINTENANCE_WINDOW_POLL_COUNT, Integer.class);
+        maintenanceWindowPollCount = pollCount == null ? 0 : pollCount;
+    }
+
+    private static Duration toDuration(final String formattedDuration) {
+        return formattedDuration == null ? null : DurationHelper.formattedStringToDuration(formattedDuration);
+    }
+
+    /**
+     * @param keyName
+     *            of the {@link TenantConfigurationKey}
+     * @param propertyType
+     *            the data type of the key
+     * @return the value or {@code null} if the key has neither a tenant
+     *         specific nor a global value
+     */
+    public <T> T getValue(final String keyName, final Class<T> propertyType) {
+        return propertyType.cast(values.get(keyName));
+    }
+
+    /**
+     * @param keyName
+     *            of a {@link Boolean} {@link TenantConfigurationKey}
+     * @return {@code true} if the value of the key is {@code true}
+     */
+    public boolean isEnabled(final String keyName) {
+        return Boolean.TRUE.equals(values.get(keyName));
+    }
+
+    /**
+     * @return value of {@link TenantConfigurationKey#POLLING_TIME_INTERVAL}
+     */
+    public String getPollingTime() {
+        return pollingTime;
+    }
+
+    /**
+     * @return value of {@link TenantConfigurationKey#POLLING_TIME_INTERVAL}
+     */
+    public Duration getPollingTimeDuration() {
+        return pollingTimeDuration;
+    }
+
+    /**
+     * @return value of {@link TenantConfigurationKey#MIN_POLLING_TIME_INTERVAL}
+     */
+    public String getMinPollingTime() {
+        return minPollingTime;
+    }
+
+    /**
+     * @return value of
+     *         {@link TenantConfigurationKey#POLLING_OVERDUE_TIME_INTERVAL}
+     */
+    public Duration getPollingOverdueTimeDuration() {
+        return pollingOverdueTimeDuration;
+    }
+
+    /**
+     * @return value of
+     *         {@link TenantConfigurationKey#MAINTENANCE_WINDOW_POLL_COUNT}
+     */
+    public int getMaintenanceWindowPollCount() {
+        return maintenanceWindowPollCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TenantConfigurationSnapshot [pollingTime=" + pollingTime + ", minPollingTime=" + minPollingTime
+                + ", keys=" + values.keySet() + "]";
+    }
+}
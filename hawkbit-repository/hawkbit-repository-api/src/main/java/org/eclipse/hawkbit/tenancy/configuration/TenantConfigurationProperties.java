@@ -147,6 +147,19 @@ public class TenantConfigurationProperties {
          */
         public static final String MULTI_ASSIGNMENTS_ENABLED = "multi.assignments.enabled";
 
+        /**
+         * Switch to enable/disable the group commit of action status feedback
+         * from the controllers.
+         */
+        public static final String ACTION_FEEDBACK_GROUP_COMMIT_ENABLED = "action.feedback.groupcommit.enabled";
+
+        /**
+         * Specifies how long a controller waits in milli-seconds for the group
+         * commit of its action status feedback before the feedback is
+         * persisted on its own.
+         */
+        public static final String ACTION_FEEDBACK_GROUP_COMMIT_MAX_WAIT = "action.feedback.groupcommit.maxWait";
+
         private String keyName;
         private String defaultValue = "";
         private Class<?> dataType = String.class;
@@ -0,0 +1,103 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.event;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageHeaders;
+import org.springframework.messaging.support.GenericMessage;
+
+/**
+ * Throughput of the {@link BusProtoStuffMessageConverter} for a small event,
+ * i.e. the common case, and a large bulk event with and without compression.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BusProtoStuffMessageConverterBenchmark {
+
+    private static final MessageHeaders HEADERS = new MessageHeaders(new HashMap<>());
+
+    private final BusProtoStuffMessageConverter converter = new BusProtoStuffMessageConverter();
+    private final BusProtoStuffMessageConverter compressingConverter = new BusProtoStuffMessageConverter(1024);
+
+    private TargetDeletedEvent smallEvent;
+    private BulkEntityEvent bulkEvent;
+
+    private Message<Object> smallMessage;
+    private Message<Object> bulkMessage;
+    private Message<Object> compressedBulkMessage;
+
+    @Setup
+    public void setup() {
+        smallEvent = new TargetDeletedEvent("DEFAULT", 1L, "controller-1", "amqp://vhost/target",
+                Target.class.getName(), "node-1");
+        final List<Long> ids = LongStream.range(0, 5_000).boxed().collect(Collectors.toList());
+        bulkEvent = new BulkEntityEvent("DEFAULT", "node-1", Target.class.getName(), Kind.UPDATED, ids, ids,
+                Collections.singletonList("lastModifiedAt"), Collections.emptyList(), Collections.emptyList());
+
+        smallMessage = new GenericMessage<>(converter.convertToInternal(smallEvent, HEADERS, null));
+        bulkMessage = new GenericMessage<>(converter.convertToInternal(bulkEvent, HEADERS, null));
+        compressedBulkMessage = new GenericMessage<>(
+                compressingConverter.convertToInternal(bulkEvent, HEADERS, null));
+    }
+
+    @Benchmark
+    public Object writeSmallEvent() {
+        return converter.convertToInternal(smallEvent, HEADERS, null);
+    }
+
+    @Benchmark
+    public Object readSmallEvent() {
+        return converter.convertFromInternal(smallMessage, Object.class, null);
+    }
+
+    @Benchmark
+    public Object writeBulkEvent() {
+        return converter.convertToInternal(bulkEvent, HEADERS, null);
+    }
+
+    @Benchmark
+    public Object readBulkEvent() {
+        return converter.convertFromInternal(bulkMessage, Object.class, null);
+    }
+
+    @Benchmark
+    public Object writeCompressedBulkEvent() {
+        return compressingConverter.convertToInternal(bulkEvent, HEADERS, null);
+    }
+
+    @Benchmark
+    public Object readCompressedBulkEvent() {
+        return converter.convertFromInternal(compressedBulkMessage, Object.class, null);
+    }
+}
@@ -8,6 +8,18 @@
  */
 package org.eclipse.hawkbit.event;
 
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.cloud.bus.event.RemoteApplicationEvent;
@@ -33,6 +45,11 @@ import io.protostuff.runtime.RuntimeSchema;
  * information about the event-type is encoded in the payload of the message
  * directly using the encoded values of {@link EventType}.
  *
+ * Events whose serialized content reaches the compression threshold are
+ * written as compressed frame, i.e. {@link #COMPRESSED_FRAME} followed by the
+ * event-type and the deflated content. The compression is disabled by default
+ * and must only be enabled if all nodes of the cluster can read compressed
+ * frames.
  */
 public class BusProtoStuffMessageConverter extends AbstractMessageConverter {
 
@@ -43,11 +60,40 @@ public class BusProtoStuffMessageConverter extends AbstractMessageConverter {
      */
     private static final byte EVENT_TYPE_LENGTH = 2;
 
+    /**
+     * Leading byte of a compressed frame. An uncompressed frame starts with
+     * the tag of the event-type value, i.e. never with this byte.
+     */
+    static final byte COMPRESSED_FRAME = (byte) 0xFF;
+
+    private static final Schema<EventType> EVENT_TYPE_SCHEMA = RuntimeSchema.getSchema(EventType.class);
+
+    private static final ThreadLocal<LinkedBuffer> BUFFER = ThreadLocal.withInitial(LinkedBuffer::allocate);
+    private static final ThreadLocal<Deflater> DEFLATER = ThreadLocal.withInitial(Deflater::new);
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private final Map<Class<?>, EventSchema> schemasByClass = new ConcurrentHashMap<>();
+    private final Map<Integer, EventSchema> schemasByValue = new ConcurrentHashMap<>();
+
+    private final int compressionThreshold;
+
     /**
      * Constructor.
      */
     public BusProtoStuffMessageConverter() {
+        this(0);
+    }
+
+    /**
+     * Constructor.
+     * 
+     * @param compressionThreshold
+     *            minimum size in bytes of the serialized event to write it as
+     *            compressed frame, <code>0</code> disables the compression
+     */
+    public BusProtoStuffMessageConverter(final int compressionThreshold) {
         super(APPLICATION_BINARY_PROTOSTUFF);
+        this.compressionThreshold = compressionThreshold;
     }
 
     @Override
@@ -60,13 +106,16 @@ public class BusProtoStuffMessageConverter extends AbstractMessageConverter {
             final Object conversionHint) {
         final Object objectPayload = message.getPayload();
         if (objectPayload instanceof byte[]) {
-
             final byte[] payload = (byte[]) objectPayload;
-            final byte[] clazzHeader = extractClazzHeader(payload);
-            final byte[] content = extraxtContent(payload);
-
-            final EventType eventType = readClassHeader(clazzHeader);
-            return readContent(eventType, content);
+            if (payload.length > 0 && payload[0] == COMPRESSED_FRAME) {
+                return readCompressedContent(payload);
+            }
+
+            final EventSchema eventSchema = readClassHeader(payload, 0);
+            final Object deserializeEvent = eventSchema.schema.newMessage();
+            ProtobufIOUtil.mergeFrom(payload, EVENT_TYPE_LENGTH, payload.length - EVENT_TYPE_LENGTH,
+                    deserializeEvent, eventSchema.schema);
+            return deserializeEvent;
         }
         return null;
     }
@@ -74,71 +123,126 @@ public class BusProtoStuffMessageConverter extends AbstractMessageConverter {
     @Override
     protected Object convertToInternal(final Object payload, final MessageHeaders headers,
             final Object conversionHint) {
-
-        final byte[] clazzHeader = writeClassHeader(payload.getClass());
-
-        final byte[] writeContent = writeContent(payload);
-
-        return mergeClassHeaderAndContent(clazzHeader, writeContent);
+        final EventSchema eventSchema = schemaOf(payload.getClass());
+
+        final LinkedBuffer buffer = BUFFER.get();
+        try {
+            final int size = ProtobufIOUtil.writeTo(buffer, payload, eventSchema.schema);
+            if (compressionThreshold > 0 && size >= compressionThreshold) {
+                return writeCompressedContent(eventSchema, buffer, size);
+            }
+
+            final byte[] body = new byte[EVENT_TYPE_LENGTH + size];
+            System.arraycopy(eventSchema.header, 0, body, 0, EVENT_TYPE_LENGTH);
+            LinkedBuffer.writeTo(new ArrayOutputStream(body, EVENT_TYPE_LENGTH), buffer);
+            return body;
+        } catch (final IOException e) {
+            throw new MessageConversionException("Failed to write event " + payload.getClass(), e);
+        } finally {
+            buffer.clear();
+        }
     }
 
-    private static Object readContent(final EventType eventType, final byte[] content) {
-        final Class<?> targetClass = eventType.getTargetClass();
-        if (targetClass == null) {
-            LOG.error("Cannot read clazz header for given EventType value {}, missing mapping", eventType.getValue());
-            throw new MessageConversionException("Missing mapping of EventType for value " + eventType.getValue());
+    private Object readCompressedContent(final byte[] payload) {
+        final EventSchema eventSchema = readClassHeader(payload, 1);
+        final Object deserializeEvent = eventSchema.schema.newMessage();
+
+        final Inflater inflater = INFLATER.get();
+        final LinkedBuffer buffer = BUFFER.get();
+        inflater.reset();
+        final int offset = 1 + EVENT_TYPE_LENGTH;
+        try (final InputStream content = new InflaterInputStream(
+                new ByteArrayInputStream(payload, offset, payload.length - offset), inflater)) {
+            ProtobufIOUtil.mergeFrom(content, deserializeEvent, eventSchema.schema, buffer);
+        } catch (final IOException e) {
+            throw new MessageConversionException("Failed to read compressed event of " + eventSchema.targetClass, e);
+        } finally {
+            buffer.clear();
         }
-        @SuppressWarnings("unchecked")
-        final Schema<Object> schema = (Schema<Object>) RuntimeSchema.getSchema(targetClass);
-        final Object deserializeEvent = schema.newMessage();
-        ProtobufIOUtil.mergeFrom(content, deserializeEvent, schema);
         return deserializeEvent;
     }
 
-    private static byte[] mergeClassHeaderAndContent(final byte[] clazzHeader, final byte[] writeContent) {
-        final byte[] body = new byte[clazzHeader.length + writeContent.length];
-        System.arraycopy(clazzHeader, 0, body, 0, clazzHeader.length);
-        System.arraycopy(writeContent, 0, body, clazzHeader.length, writeContent.length);
-        return body;
+    private static byte[] writeCompressedContent(final EventSchema eventSchema, final LinkedBuffer content,
+            final int size) throws IOException {
+        final ByteArrayOutputStream body = new ByteArrayOutputStream(1 + EVENT_TYPE_LENGTH + size / 2);
+        body.write(COMPRESSED_FRAME);
+        body.write(eventSchema.header, 0, EVENT_TYPE_LENGTH);
+
+        final Deflater deflater = DEFLATER.get();
+        deflater.reset();
+        final DeflaterOutputStream compressed = new DeflaterOutputStream(body, deflater);
+        LinkedBuffer.writeTo(compressed, content);
+        compressed.finish();
+        return body.toByteArray();
     }
 
-    private static byte[] extractClazzHeader(final byte[] payload) {
-        final byte[] clazzHeader = new byte[EVENT_TYPE_LENGTH];
-        System.arraycopy(payload, 0, clazzHeader, 0, EVENT_TYPE_LENGTH);
-        return clazzHeader;
-    }
+    private EventSchema readClassHeader(final byte[] payload, final int offset) {
+        final EventType eventType = EVENT_TYPE_SCHEMA.newMessage();
+        ProtobufIOUtil.mergeFrom(payload, offset, EVENT_TYPE_LENGTH, eventType, EVENT_TYPE_SCHEMA);
 
-    private static byte[] extraxtContent(final byte[] payload) {
-        final byte[] content = new byte[payload.length - EVENT_TYPE_LENGTH];
-        System.arraycopy(payload, EVENT_TYPE_LENGTH, content, 0, content.length);
-        return content;
+        final EventSchema eventSchema = schemasByValue.computeIfAbsent(eventType.getValue(), value -> {
+            final Class<?> targetClass = eventType.getTargetClass();
+            return targetClass == null ? null : schemaOf(targetClass);
+        });
+        if (eventSchema == null) {
+            LOG.error("Cannot read clazz header for given EventType value {}, missing mapping", eventType.getValue());
+            throw new MessageConversionException("Missing mapping of EventType for value " + eventType.getValue());
+        }
+        return eventSchema;
     }
 
-    private static EventType readClassHeader(final byte[] typeInformation) {
-        final Schema<EventType> schema = RuntimeSchema.getSchema(EventType.class);
-        final EventType deserializedType = schema.newMessage();
-        ProtobufIOUtil.mergeFrom(typeInformation, deserializedType, schema);
-        return deserializedType;
+    private EventSchema schemaOf(final Class<?> clazz) {
+        final EventSchema eventSchema = schemasByClass.computeIfAbsent(clazz, key -> {
+            final EventType clazzEventType = EventType.from(key);
+            return clazzEventType == null ? null : new EventSchema(clazzEventType, key);
+        });
+        if (eventSchema == null) {
+            LOG.error("There is no mapping to EventType for the given class {}", clazz);
+            throw new MessageConversionException("Missing EventType for given class : " + clazz);
+        }
+        return eventSchema;
     }
 
-    private static byte[] writeContent(final Object payload) {
-        final Class<?> serializeClass = payload.getClass();
+    /**
+     * The pre-resolved schema and encoded event-type of an event class.
+     */
+    private static final class EventSchema {
+
+        private final Class<?> targetClass;
+        private final byte[] header;
+        private final Schema<Object> schema;
+
         @SuppressWarnings("unchecked")
-        final Schema<Object> schema = (Schema<Object>) RuntimeSchema.getSchema(serializeClass);
-        final LinkedBuffer buffer = LinkedBuffer.allocate();
-        return ProtobufIOUtil.toByteArray(payload, schema, buffer);
+        private EventSchema(final EventType eventType, final Class<?> targetClass) {
+            this.targetClass = targetClass;
+            this.header = ProtobufIOUtil.toByteArray(eventType, EVENT_TYPE_SCHEMA,
+                    LinkedBuffer.allocate(LinkedBuffer.MIN_BUFFER_SIZE));
+            this.schema = (Schema<Object>) RuntimeSchema.getSchema(targetClass);
+        }
     }
 
-    private static byte[] writeClassHeader(final Class<?> clazz) {
-        final EventType clazzEventType = EventType.from(clazz);
-        if (clazzEventType == null) {
-            LOG.error("There is no mapping to EventType for the given class {}", clazz);
-            throw new MessageConversionException("Missing EventType for given class : " + clazz);
+    /**
+     * Writes into a pre-sized array, starting at an offset.
+     */
+    private static final class ArrayOutputStream extends OutputStream {
+
+        private final byte[] target;
+        private int position;
+
+        private ArrayOutputStream(final byte[] target, final int offset) {
+            this.target = target;
+            this.position = offset;
+        }
+
+        @Override
+        public void write(final int b) {
+            target[position++] = (byte) b;
+        }
+
+        @Override
+        public void write(final byte[] b, final int off, final int len) {
+            System.arraycopy(b, off, target, position, len);
+            position += len;
         }
-        @SuppressWarnings("unchecked")
-        final Schema<Object> schema = (Schema<Object>) RuntimeSchema
-                .getSchema((Class<?>) EventType.class);
-        final LinkedBuffer buffer = LinkedBuffer.allocate();
-        return ProtobufIOUtil.toByteArray(clazzEventType, schema, buffer);
     }
 }
@@ -10,15 +10,16 @@ package org.eclipse.hawkbit.event;
 
 import java.util.HashMap;
 import java.util.Map;
-import java.util.Map.Entry;
-import java.util.Optional;
 
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
 import org.eclipse.hawkbit.repository.event.remote.DistributionSetDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.DistributionSetTagDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.DistributionSetTypeDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.DownloadProgressEvent;
 import org.eclipse.hawkbit.repository.event.remote.MultiActionAssignEvent;
 import org.eclipse.hawkbit.repository.event.remote.MultiActionCancelEvent;
+import org.eclipse.hawkbit.repository.event.remote.MultiTargetCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.MultiTargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutGroupDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.SoftwareModuleDeletedEvent;
@@ -68,6 +69,7 @@ import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpd
 public class EventType {
 
     private static final Map<Integer, Class<?>> TYPES = new HashMap<>();
+    private static final Map<Class<?>, Integer> VALUES = new HashMap<>();
 
     /**
      * The associated event-type-value must remain the same as initially
@@ -146,6 +148,17 @@ public class EventType {
         TYPES.put(40, TenantConfigurationCreatedEvent.class);
         TYPES.put(41, TenantConfigurationUpdatedEvent.class);
         TYPES.put(42, TenantConfigurationDeletedEvent.class);
+
+        // targets created in a batch, e.g. by an import
+        TYPES.put(43, MultiTargetCreatedEvent.class);
+
+        // entities created or updated by a bulk operation
+        TYPES.put(44, BulkEntityEvent.class);
+
+        // target polls persisted together
+        TYPES.put(45, MultiTargetPollEvent.class);
+
+        TYPES.forEach((value, clazz) -> VALUES.put(clazz, value));
     }
 
     private int value;
@@ -185,9 +198,7 @@ public class EventType {
      *         does not have a {@link EventType}.
      */
     public static EventType from(final Class<?> clazz) {
-        final Optional<Integer> foundEventType = TYPES.entrySet().stream()
-                .filter(entry -> entry.getValue().equals(clazz)).map(Entry::getKey).findAny();
-
-        return foundEventType.map(EventType::new).orElse(null);
+        final Integer value = VALUES.get(clazz);
+        return value == null ? null : new EventType(value);
     }
 }
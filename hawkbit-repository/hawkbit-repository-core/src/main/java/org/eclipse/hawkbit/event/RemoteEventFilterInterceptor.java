@@ -0,0 +1,46 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.event;
+
+import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+/**
+ * Interceptor of the output channel of the event bus that drops the events
+ * which are filtered by {@link ApplicationEventFilter#filterRemote}. These
+ * events are still delivered to the listeners of this instance, but are not
+ * sent to the other instances.
+ */
+public class RemoteEventFilterInterceptor implements ChannelInterceptor {
+
+    private final ApplicationEventFilter applicationEventFilter;
+
+    /**
+     * Constructor.
+     *
+     * @param applicationEventFilter
+     *            that decides which events stay on this instance
+     */
+    public RemoteEventFilterInterceptor(final ApplicationEventFilter applicationEventFilter) {
+        this.applicationEventFilter = applicationEventFilter;
+    }
+
+    @Override
+    public Message<?> preSend(final Message<?> message, final MessageChannel channel) {
+        final Object payload = message.getPayload();
+        if (payload instanceof ApplicationEvent && applicationEventFilter.filterRemote((ApplicationEvent) payload)) {
+            // a null message stops the sending
+            return null;
+        }
+        return message;
+    }
+}
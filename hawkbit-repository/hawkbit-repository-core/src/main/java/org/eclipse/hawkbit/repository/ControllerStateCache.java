@@ -0,0 +1,259 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.eclipse.hawkbit.cache.TenancyCacheManager;
+import org.eclipse.hawkbit.cache.TenantAwareCacheManager;
+import org.eclipse.hawkbit.repository.event.remote.MultiActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.CancelTargetAssignmentEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.cache.Cache;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.event.EventListener;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Internal cache for the state a controller has been informed about on its
+ * last poll, e.g. an ETag of the DDI controller base resource. This allows to
+ * answer polls of unchanged controllers from memory.
+ *
+ * The cached state of a {@link Target} is evicted on every event that might
+ * change what the controller sees: action creation and updates, assignments,
+ * cancellations, requests for config data, target updates and deletion as
+ * well as changes of the tenant configuration (e.g. the polling interval).
+ * As the events are distributed in the cluster the cache is invalidated on
+ * every node.
+ *
+ * In order to avoid that a state that has been calculated before an
+ * invalidation is cached afterwards, callers retrieve a version by
+ * {@link #getVersion(String)} before they calculate the state and pass it to
+ * {@link #putState(long, long, String, String, String)}. The state is only
+ * cached if no invalidation happened in between.
+ */
+public class ControllerStateCache {
+    private static final String CACHE_STATE_NAME = "ControllerState";
+    private static final String CACHE_TARGET_NAME = "ControllerStateTarget";
+    private static final long DEFAULT_SIZE = 100_000;
+    private static final int VERSION_STRIPES = 1024;
+
+    private final TenancyCacheManager cacheManager;
+    private final TenantAware tenantAware;
+    private final AtomicLongArray versions = new AtomicLongArray(VERSION_STRIPES);
+
+    /**
+     * @param tenantAware
+     *            to get current tenant
+     * @param size
+     *            the maximum size of the cache
+     */
+    public ControllerStateCache(final TenantAware tenantAware, final long size) {
+        this.tenantAware = tenantAware;
+
+        final Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().maximumSize(size);
+        final CaffeineCacheManager caffeineCacheManager = new CaffeineCacheManager();
+        caffeineCacheManager.setCaffeine(cacheBuilder);
+
+        this.cacheManager = new TenantAwareCacheManager(caffeineCacheManager, tenantAware);
+    }
+
+    /**
+     * @param tenantAware
+     *            to get current tenant
+     */
+    public ControllerStateCache(final TenantAware tenantAware) {
+        this(tenantAware, DEFAULT_SIZE);
+    }
+
+    /**
+     * Retrieves the current version of the cached state of the given
+     * controller. The version changes on every invalidation.
+     *
+     * @param controllerId
+     *            of the {@link Target}
+     * @return the version
+     */
+    public long getVersion(final String controllerId) {
+        return versions.get(stripe(tenantAware.getCurrentTenant(), controllerId));
+    }
+
+    /**
+     * Retrieves the cached state of the given controller if the controller
+     * polls from the same address as before.
+     *
+     * @param controllerId
+     *            of the {@link Target}
+     * @param address
+     *            the controller polls from
+     * @return the cached state or {@link Optional#empty()} if the state is not
+     *         cached or the address has changed
+     */
+    public Optional<String> getState(final String controllerId, final String address) {
+        final CachedControllerState cached = cacheManager.getCache(CACHE_STATE_NAME).get(controllerId,
+                CachedControllerState.class);
+        if (cached == null || !Objects.equals(cached.getAddress(), address)) {
+            return Optional.empty();
+        }
+        return Optional.of(cached.getState());
+    }
+
+    /**
+     * Puts the state of a controller into the cache unless it has been
+     * invalidated since the given version has been retrieved.
+     *
+     * @param version
+     *            as retrieved by {@link #getVersion(String)} before the state
+     *            has been calculated
+     * @param targetId
+     *            of the {@link Target}
+     * @param controllerId
+     *            of the {@link Target}
+     * @param address
+     *            the controller polled from
+     * @param state
+     *            the controller has been informed about
+     */
+    public void putState(final long version, final long targetId, final String controllerId, final String address,
+            final String state) {
+        cacheManager.getCache(CACHE_TARGET_NAME).put(targetId, controllerId);
+        if (versions.get(stripe(tenantAware.getCurrentTenant(), controllerId)) != version) {
+            return;
+        }
+
+        cacheManager.getCache(CACHE_STATE_NAME).put(controllerId, new CachedControllerState(address, state));
+
+        // double check as the cache might have been invalidated concurrently
+        if (versions.get(stripe(tenantAware.getCurrentTenant(), controllerId)) != version) {
+            cacheManager.getCache(CACHE_STATE_NAME).evict(controllerId);
+        }
+    }
+
+    @EventListener(classes = AbstractActionEvent.class)
+    void invalidateOnAction(final AbstractActionEvent event) {
+        invalidateByTargetId(event.getTenant(), event.getTargetId());
+    }
+
+    @EventListener(classes = CancelTargetAssignmentEvent.class)
+    void invalidateOnCancel(final CancelTargetAssignmentEvent event) {
+        invalidateByTargetId(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener(classes = TargetUpdatedEvent.class)
+    void invalidateOnTargetUpdate(final TargetUpdatedEvent event) {
+        invalidateByTargetId(event.getTenant(), event.getEntityId());
+    }
+
+    @EventListener(classes = TargetAssignDistributionSetEvent.class)
+    void invalidateOnAssignment(final TargetAssignDistributionSetEvent event) {
+        invalidate(event.getTenant(), event.getActions().keySet());
+    }
+
+    @EventListener(classes = MultiActionEvent.class)
+    void invalidateOnMultiAction(final MultiActionEvent event) {
+        invalidate(event.getTenant(), event.getControllerIds());
+    }
+
+    @EventListener(classes = TargetAttributesRequestedEvent.class)
+    void invalidateOnAttributesRequest(final TargetAttributesRequestedEvent event) {
+        invalidate(event.getTenant(), event.getControllerId());
+    }
+
+    @EventListener(classes = TargetDeletedEvent.class)
+    void invalidateOnTargetDelete(final TargetDeletedEvent event) {
+        invalidate(event.getTenant(), event.getControllerId());
+    }
+
+    @EventListener(classes = { TenantConfigurationCreatedEvent.class, TenantConfigurationUpdatedEvent.class,
+            TenantConfigurationDeletedEvent.class })
+    void invalidateOnTenantConfiguration(final RemoteIdEvent event) {
+        evictCaches(event.getTenant());
+    }
+
+    /**
+     * Evicts all caches for a given tenant. All caches under a certain tenant
+     * gets evicted.
+     *
+     * @param tenant
+     *            the tenant to evict caches
+     */
+    public void evictCaches(final String tenant) {
+        incrementAllVersions();
+        cacheManager.evictCaches(tenant);
+    }
+
+    private void invalidateByTargetId(final String tenant, final Long targetId) {
+        if (targetId == null) {
+            return;
+        }
+
+        final String controllerId = tenantAware.runAsTenant(tenant,
+                () -> cacheManager.getCache(CACHE_TARGET_NAME).get(targetId, String.class));
+        if (controllerId != null) {
+            invalidate(tenant, controllerId);
+            return;
+        }
+
+        // the controller might calculate its first state right now
+        incrementAllVersions();
+    }
+
+    private void invalidate(final String tenant, final Collection<String> controllerIds) {
+        controllerIds.forEach(controllerId -> invalidate(tenant, controllerId));
+    }
+
+    private void invalidate(final String tenant, final String controllerId) {
+        versions.incrementAndGet(stripe(tenant, controllerId));
+        final Cache cache = tenantAware.runAsTenant(tenant, () -> cacheManager.getCache(CACHE_STATE_NAME));
+        cache.evict(controllerId);
+    }
+
+    private void incrementAllVersions() {
+        for (int i = 0; i < VERSION_STRIPES; i++) {
+            versions.incrementAndGet(i);
+        }
+    }
+
+    private static int stripe(final String tenant, final String controllerId) {
+        return Math.floorMod(Objects.hash(tenant == null ? null : tenant.toUpperCase(), controllerId),
+                VERSION_STRIPES);
+    }
+
+    private static final class CachedControllerState {
+        private final String address;
+        private final String state;
+
+        private CachedControllerState(final String address, final String state) {
+            this.address = address;
+            this.state = state;
+        }
+
+        public String getAddress() {
+            return address;
+        }
+
+        public String getState() {
+            return state;
+        }
+    }
+}
@@ -16,6 +16,7 @@ import java.util.stream.Collectors;
 
 import org.eclipse.hawkbit.cache.TenancyCacheManager;
 import org.eclipse.hawkbit.cache.TenantAwareCacheManager;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutGroupDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
@@ -211,6 +212,25 @@ public class RolloutStatusCache {
         }
     }
 
+    /**
+     * Actions of a bulk operation publish a single event with the rollouts and
+     * rollout groups of the actions.
+     */
+    @EventListener(classes = BulkEntityEvent.class)
+    void invalidateCachedTotalTargetCountOnBulkEvent(final BulkEntityEvent event) {
+        if (event.getRolloutIds().isEmpty()) {
+            return;
+        }
+
+        final Cache rolloutCache = tenantAware.runAsTenant(event.getTenant(),
+                () -> cacheManager.getCache(CACHE_RO_NAME));
+        event.getRolloutIds().stream().filter(Objects::nonNull).distinct().forEach(rolloutCache::evict);
+
+        final Cache groupCache = tenantAware.runAsTenant(event.getTenant(),
+                () -> cacheManager.getCache(CACHE_GR_NAME));
+        event.getRolloutGroupIds().stream().filter(Objects::nonNull).distinct().forEach(groupCache::evict);
+    }
+
     @EventListener(classes = RolloutDeletedEvent.class)
     void invalidateCachedTotalTargetCountOnRolloutDelete(final RolloutDeletedEvent event) {
         final Cache cache = tenantAware.runAsTenant(event.getTenant(), () -> cacheManager.getCache(CACHE_RO_NAME));
@@ -0,0 +1,382 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.EntitySnapshot;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.springframework.context.event.EventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Internal cache for the data that is needed to authenticate a {@link Target}
+ * by its security token, i.e. the ID, the controller ID and a hash of the
+ * security token. The security token itself is not kept.
+ *
+ * The cached data of a {@link Target} is evicted on every update and on the
+ * deletion of the target. As the events are distributed in the cluster the
+ * cache is invalidated on every node.
+ *
+ * In order to avoid that data that has been loaded before an invalidation is
+ * cached afterwards, the loads in progress are tracked and their data is not
+ * cached if the target has been invalidated while it has been loaded.
+ *
+ * The cache also keeps the latest revision of a target known on this node,
+ * taken from the loaded data and the snapshots of the update events, so that
+ * listeners can check if the {@link EntitySnapshot} of an event is behind
+ * (see {@link #isBehind(String, Long, EntitySnapshot)}).
+ */
+public class TargetAuthenticationCache {
+    private static final long DEFAULT_SIZE = 100_000;
+
+    private final Cache<TenantKey, TargetAuthentication> byControllerId;
+    private final Cache<TenantKey, String> controllerIdByTargetId;
+    private final Cache<TenantKey, Integer> revisionByTargetId;
+    private final Set<Load> loads = ConcurrentHashMap.newKeySet();
+
+    /**
+     * @param size
+     *            the maximum size of the cache
+     */
+    public TargetAuthenticationCache(final long size) {
+        byControllerId = Caffeine.newBuilder().maximumSize(size).build();
+        controllerIdByTargetId = Caffeine.newBuilder().maximumSize(size).build();
+        revisionByTargetId = Caffeine.newBuilder().maximumSize(size).build();
+    }
+
+    /**
+     * Constructor with default size.
+     */
+    public TargetAuthenticationCache() {
+        this(DEFAULT_SIZE);
+    }
+
+    /**
+     * Retrieves the authentication data of the target with the given
+     * controller ID.
+     *
+     * @param tenant
+     *            of the {@link Target}
+     * @param controllerId
+     *            of the {@link Target}
+     * @param loader
+     *            to load the data in case it is not cached
+     * @return the authentication data or {@link Optional#empty()} if the target
+     *         does not exist
+     */
+    public Optional<TargetAuthentication> getByControllerId(final String tenant, final String controllerId,
+            final Supplier<Optional<TargetAuthentication>> loader) {
+        final TargetAuthentication cached = byControllerId.getIfPresent(new TenantKey(tenant, controllerId));
+        if (cached != null) {
+            return Optional.of(cached);
+        }
+
+        return load(tenant, loader);
+    }
+
+    /**
+     * Retrieves the authentication data of the target with the given ID.
+     *
+     * @param tenant
+     *            of the {@link Target}
+     * @param targetId
+     *            of the {@link Target}
+     * @param loader
+     *            to load the data in case it is not cached
+     * @return the authentication data or {@link Optional#empty()} if the target
+     *         does not exist
+     */
+    public Optional<TargetAuthentication> getByTargetId(final String tenant, final long targetId,
+            final Supplier<Optional<TargetAuthentication>> loader) {
+        final String controllerId = controllerIdByTargetId.getIfPresent(new TenantKey(tenant, targetId));
+        if (controllerId != null) {
+            final TargetAuthentication cached = byControllerId.getIfPresent(new TenantKey(tenant, controllerId));
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+
+        return load(tenant, loader);
+    }
+
+    private Optional<TargetAuthentication> load(final String tenant,
+            final Supplier<Optional<TargetAuthentication>> loader) {
+        // registered before loading so that every invalidation of a target
+        // that is committed after the data has been read is seen
+        final Load load = new Load(tenant);
+        loads.add(load);
+        try {
+            final Optional<TargetAuthentication> loaded = loader.get();
+            loaded.ifPresent(authentication -> put(load, authentication));
+            return loaded;
+        } finally {
+            loads.remove(load);
+        }
+    }
+
+    private void put(final Load load, final TargetAuthentication authentication) {
+        if (load.isInvalidated(authentication)) {
+            return;
+        }
+
+        final TenantKey key = new TenantKey(load.tenant, authentication.getControllerId());
+        if (authentication.getTargetId() != null) {
+            controllerIdByTargetId.put(new TenantKey(load.tenant, authentication.getTargetId()),
+                    authentication.getControllerId());
+            updateRevision(load.tenant, authentication.getTargetId(), authentication.getRevision());
+        }
+        byControllerId.put(key, authentication);
+
+        // double check as the target might have been invalidated concurrently
+        if (load.isInvalidated(authentication)) {
+            byControllerId.invalidate(key);
+        }
+    }
+
+    /**
+     * Checks if the given snapshot of a target is behind the latest revision
+     * of the target known on this node, i.e. a later change of the target has
+     * been seen already and the fields of the snapshot might be outdated.
+     *
+     * @param tenant
+     *            of the {@link Target}
+     * @param targetId
+     *            of the {@link Target}
+     * @param snapshot
+     *            of the {@link Target}
+     * @return <code>true</code> if the snapshot is behind and the target has
+     *         to be loaded instead
+     */
+    public boolean isBehind(final String tenant, final Long targetId, final EntitySnapshot snapshot) {
+        return snapshot.isBehind(revisionByTargetId.getIfPresent(new TenantKey(tenant, targetId)));
+    }
+
+    @EventListener(classes = TargetUpdatedEvent.class)
+    void invalidateOnTargetUpdate(final TargetUpdatedEvent event) {
+        final String tenant = event.getTenant();
+        final Long targetId = event.getEntityId();
+        final EntitySnapshot snapshot = event.getSnapshot();
+
+        // the snapshot of an event that is behind is not used, the controller
+        // ID is taken from the cached data then
+        String controllerId = null;
+        if (snapshot != null && snapshot.isCompatible() && !isBehind(tenant, targetId, snapshot)) {
+            controllerId = snapshot.get(EntitySnapshot.CONTROLLER_ID).orElse(null);
+            updateRevision(tenant, targetId, snapshot.getRevision());
+        }
+        if (controllerId == null) {
+            controllerId = controllerIdByTargetId.getIfPresent(new TenantKey(tenant, targetId));
+        }
+        invalidate(tenant, targetId, controllerId);
+    }
+
+    @EventListener(classes = TargetDeletedEvent.class)
+    void invalidateOnTargetDelete(final TargetDeletedEvent event) {
+        final TenantKey key = new TenantKey(event.getTenant(), event.getEntityId());
+        controllerIdByTargetId.invalidate(key);
+        revisionByTargetId.invalidate(key);
+        invalidate(event.getTenant(), event.getEntityId(), event.getControllerId());
+    }
+
+    private void updateRevision(final String tenant, final Long targetId, final Integer revision) {
+        if (revision != null) {
+            revisionByTargetId.asMap().merge(new TenantKey(tenant, targetId), revision, Math::max);
+        }
+    }
+
+    private void invalidate(final String tenant, final Long targetId, final String controllerId) {
+        for (final Load load : loads) {
+            if (load.isOfTenant(tenant)) {
+                load.invalidate(targetId, controllerId);
+            }
+        }
+
+        // the controller ID is unknown if the target is not cached
+        if (controllerId != null) {
+            byControllerId.invalidate(new TenantKey(tenant, controllerId));
+        }
+    }
+
+    /**
+     * Evicts all cached data of the given tenant.
+     *
+     * @param tenant
+     *            the tenant to evict the data of
+     */
+    public void evictCaches(final String tenant) {
+        for (final Load load : loads) {
+            if (load.isOfTenant(tenant)) {
+                load.evicted = true;
+            }
+        }
+        byControllerId.asMap().keySet().removeIf(key -> key.isOfTenant(tenant));
+        controllerIdByTargetId.asMap().keySet().removeIf(key -> key.isOfTenant(tenant));
+        revisionByTargetId.asMap().keySet().removeIf(key -> key.isOfTenant(tenant));
+    }
+
+    /**
+     * A load in progress with the targets that have been invalidated
+     * meanwhile, identified by their ID or controller ID as the loaded target
+     * is not known before.
+     */
+    private static final class Load {
+        private final String tenant;
+        private final Set<Object> invalidatedIds = ConcurrentHashMap.newKeySet();
+        private volatile boolean evicted;
+
+        private Load(final String tenant) {
+            this.tenant = tenant;
+        }
+
+        private boolean isOfTenant(final String other) {
+            return tenant == null ? other == null : tenant.equalsIgnoreCase(other);
+        }
+
+        private void invalidate(final Long targetId, final String controllerId) {
+            if (targetId != null) {
+                invalidatedIds.add(targetId);
+            }
+            if (controllerId != null) {
+                invalidatedIds.add(controllerId);
+            }
+        }
+
+        private boolean isInvalidated(final TargetAuthentication authentication) {
+            return evicted || invalidatedIds.contains(authentication.getControllerId())
+                    || (authentication.getTargetId() != null
+                            && invalidatedIds.contains(authentication.getTargetId()));
+        }
+    }
+
+    private static final class TenantKey {
+        private final String tenant;
+        private final Object id;
+
+        private TenantKey(final String tenant, final Object id) {
+            this.tenant = tenant == null ? null : tenant.toUpperCase();
+            this.id = id;
+        }
+
+        private boolean isOfTenant(final String other) {
+            return tenant != null && tenant.equalsIgnoreCase(other);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(tenant, id);
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final TenantKey other = (TenantKey) obj;
+            return Objects.equals(tenant, other.tenant) && Objects.equals(id, other.id);
+        }
+    }
+
+    /**
+     * The data needed to authenticate a {@link Target} by its security token.
+     */
+    public static final class TargetAuthentication {
+        private final Long targetId;
+        private final String controllerId;
+        private final byte[] securityTokenHash;
+        private final Integer revision;
+
+        private TargetAuthentication(final Long targetId, final String controllerId,
+                final byte[] securityTokenHash, final Integer revision) {
+            this.targetId = targetId;
+            this.controllerId = controllerId;
+            this.securityTokenHash = securityTokenHash;
+            this.revision = revision;
+        }
+
+        /**
+         * @param targetId
+         *            of the {@link Target}
+         * @param controllerId
+         *            of the {@link Target}
+         * @param securityToken
+         *            of the {@link Target}, only its hash is kept
+         * @return the authentication data
+         */
+        public static TargetAuthentication of(final Long targetId, final String controllerId,
+                final String securityToken) {
+            return of(targetId, controllerId, securityToken, null);
+        }
+
+        /**
+         * @param targetId
+         *            of the {@link Target}
+         * @param controllerId
+         *            of the {@link Target}
+         * @param securityToken
+         *            of the {@link Target}, only its hash is kept
+         * @param revision
+         *            of the loaded {@link Target}, <code>null</code> if unknown
+         * @return the authentication data
+         */
+        public static TargetAuthentication of(final Long targetId, final String controllerId,
+                final String securityToken, final Integer revision) {
+            return new TargetAuthentication(targetId, controllerId, hash(securityToken), revision);
+        }
+
+        public Long getTargetId() {
+            return targetId;
+        }
+
+        public String getControllerId() {
+            return controllerId;
+        }
+
+        public Integer getRevision() {
+            return revision;
+        }
+
+        /**
+         * @param securityToken
+         *            to verify
+         * @return {@code true} if the given token is the security token of the
+         *         {@link Target}
+         */
+        public boolean matchesSecurityToken(final String securityToken) {
+            return securityTokenHash != null && securityToken != null
+                    && MessageDigest.isEqual(securityTokenHash, hash(securityToken));
+        }
+
+        private static byte[] hash(final String securityToken) {
+            if (securityToken == null) {
+                return null;
+            }
+
+            try {
+                return MessageDigest.getInstance("SHA-256").digest(securityToken.getBytes(StandardCharsets.UTF_8));
+            } catch (final NoSuchAlgorithmException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
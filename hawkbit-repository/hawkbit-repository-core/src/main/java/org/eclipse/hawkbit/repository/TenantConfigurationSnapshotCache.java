@@ -0,0 +1,112 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.TenantConfigurationDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TenantConfigurationUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.TenantConfigurationSnapshot;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Internal cache of the {@link TenantConfigurationSnapshot} per tenant, read
+ * by hot paths like the authentication of controllers and their polls.
+ * Unlike the {@link TenantConfigurationManagement} it is not protected by
+ * permissions, i.e. it must not be exposed to users.
+ *
+ * A snapshot is dropped on every change of the configuration of its tenant
+ * and loaded again on the next access. As the change events are distributed
+ * in the cluster the snapshots are dropped on every node.
+ */
+public class TenantConfigurationSnapshotCache {
+
+    private final Map<String, TenantConfigurationSnapshot> snapshots = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> versions = new ConcurrentHashMap<>();
+
+    private final TenantAware tenantAware;
+    private final Supplier<TenantConfigurationSnapshot> loader;
+
+    /**
+     * Constructor.
+     *
+     * @param tenantAware
+     *            to get the current tenant
+     * @param loader
+     *            to load the snapshot of the current tenant
+     */
+    public TenantConfigurationSnapshotCache(final TenantAware tenantAware,
+            final Supplier<TenantConfigurationSnapshot> loader) {
+        this.tenantAware = tenantAware;
+        this.loader = loader;
+    }
+
+    /**
+     * Retrieves the snapshot of the current tenant. In case it is not cached
+     * it is loaded and cached unless the configuration of the tenant changed
+     * in the meantime.
+     *
+     * @return the snapshot of the current tenant
+     */
+    public TenantConfigurationSnapshot getSnapshot() {
+        final String currentTenant = tenantAware.getCurrentTenant();
+        if (currentTenant == null) {
+            return loader.get();
+        }
+
+        final String tenant = key(currentTenant);
+        final TenantConfigurationSnapshot cached = snapshots.get(tenant);
+        if (cached != null) {
+            return cached;
+        }
+
+        final AtomicLong version = versions.computeIfAbsent(tenant, key -> new AtomicLong());
+        final long loadedVersion = version.get();
+        final TenantConfigurationSnapshot loaded = loader.get();
+        if (version.get() == loadedVersion) {
+            snapshots.put(tenant, loaded);
+
+            // double check as the snapshot might have been evicted
+            // concurrently
+            if (version.get() != loadedVersion) {
+                snapshots.remove(tenant, loaded);
+            }
+        }
+        return loaded;
+    }
+
+    @EventListener(classes = { TenantConfigurationCreatedEvent.class, TenantConfigurationUpdatedEvent.class,
+            TenantConfigurationDeletedEvent.class })
+    void evictOnTenantConfiguration(final RemoteIdEvent event) {
+        evictCaches(event.getTenant());
+    }
+
+    /**
+     * Evicts the snapshot of the given tenant.
+     *
+     * @param tenant
+     *            the tenant to evict the snapshot of
+     */
+    public void evictCaches(final String tenant) {
+        final String key = key(tenant);
+        versions.computeIfAbsent(key, k -> new AtomicLong()).incrementAndGet();
+        snapshots.remove(key);
+    }
+
+    // the tenant is notated in different cases, e.g. in the events
+    private static String key(final String tenant) {
+        return tenant.toUpperCase();
+    }
+}
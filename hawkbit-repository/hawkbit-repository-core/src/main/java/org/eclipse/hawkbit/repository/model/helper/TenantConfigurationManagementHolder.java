@@ -9,12 +9,13 @@
 package org.eclipse.hawkbit.repository.model.helper;
 
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.springframework.beans.factory.annotation.Autowired;
 
 /**
  * A singleton bean which holds {@link TenantConfigurationManagement} service
- * and makes it accessible to beans which are not managed by spring, e.g. JPA
- * entities.
+ * and the {@link TenantConfigurationSnapshotCache} and makes them accessible
+ * to beans which are not managed by spring, e.g. JPA entities.
  */
 public final class TenantConfigurationManagementHolder {
 
@@ -23,6 +24,9 @@ public final class TenantConfigurationManagementHolder {
     @Autowired
     private TenantConfigurationManagement tenantConfiguration;
 
+    @Autowired(required = false)
+    private TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache;
+
     private TenantConfigurationManagementHolder() {
     }
 
@@ -41,4 +45,11 @@ public final class TenantConfigurationManagementHolder {
         return tenantConfiguration;
     }
 
+    /**
+     * @return the {@link TenantConfigurationSnapshotCache}
+     */
+    public TenantConfigurationSnapshotCache getTenantConfigurationSnapshotCache() {
+        return tenantConfigurationSnapshotCache;
+    }
+
 }
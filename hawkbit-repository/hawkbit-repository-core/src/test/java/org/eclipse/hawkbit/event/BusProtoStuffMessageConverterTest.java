@@ -10,12 +10,23 @@ package org.eclipse.hawkbit.event;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.when;
 
+import java.util.Collections;
 import java.util.HashMap;
-
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.CancelTargetAssignmentEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.RemoteEntityEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -27,6 +38,7 @@ import org.springframework.messaging.Message;
 import org.springframework.messaging.MessageHeaders;
 import org.springframework.messaging.converter.MessageConversionException;
 
+import io.protostuff.runtime.RuntimeSchema;
 import io.qameta.allure.Description;
 
 @ExtendWith(MockitoExtension.class)
@@ -42,7 +54,8 @@ public class BusProtoStuffMessageConverterTest {
 
     @BeforeEach
     public void before() {
-        when(targetMock.getId()).thenReturn(1L);
+        // not all tests create an entity event
+        lenient().when(targetMock.getId()).thenReturn(1L);
     }
 
     @Test
@@ -61,6 +74,66 @@ public class BusProtoStuffMessageConverterTest {
         assertThat(deserializedEvent).isEqualTo(targetCreatedEvent);
     }
 
+    @Test
+    @Description("Verifies that the snapshot is the last field of the events that embed one, i.e. the other fields "
+            + "keep the protostuff field numbers of the events without snapshot")
+    public void snapshotDoesNotRenumberFieldsOfEvents() {
+        assertSnapshotIsAppended(TargetUpdatedEvent.class, TargetCreatedEvent.class);
+        assertSnapshotIsAppended(ActionUpdatedEvent.class, ActionCreatedEvent.class);
+        assertSnapshotIsAppended(CancelTargetAssignmentEvent.class, TargetCreatedEvent.class);
+        assertThat(schema(TargetCreatedEvent.class).getFieldByName("snapshot")).isNull();
+    }
+
+    private static void assertSnapshotIsAppended(final Class<?> eventWithSnapshot, final Class<?> eventWithout) {
+        final RuntimeSchema<?> schema = schema(eventWithSnapshot);
+        assertThat(schema.getFieldNumber("snapshot")).as("snapshot is the last field of %s", eventWithSnapshot)
+                .isEqualTo(schema.getFieldCount());
+        schema(eventWithout).getFields().forEach(field -> assertThat(schema.getFieldNumber(field.name))
+                .as("number of field %s of %s", field.name, eventWithSnapshot).isEqualTo(field.number));
+    }
+
+    private static RuntimeSchema<?> schema(final Class<?> eventType) {
+        return (RuntimeSchema<?>) RuntimeSchema.getSchema(eventType);
+    }
+
+    @Test
+    @Description("Verifies that an event below the compression threshold is written as uncompressed frame")
+    public void eventBelowCompressionThresholdIsNotCompressed() {
+        final BusProtoStuffMessageConverter compressing = new BusProtoStuffMessageConverter(Integer.MAX_VALUE);
+        final TargetCreatedEvent targetCreatedEvent = new TargetCreatedEvent(targetMock, "1");
+
+        final byte[] serializedEvent = (byte[]) compressing.convertToInternal(targetCreatedEvent,
+                new MessageHeaders(new HashMap<>()), null);
+
+        assertThat(serializedEvent).isEqualTo(
+                underTest.convertToInternal(targetCreatedEvent, new MessageHeaders(new HashMap<>()), null));
+        assertThat(serializedEvent[0]).isNotEqualTo(BusProtoStuffMessageConverter.COMPRESSED_FRAME);
+    }
+
+    @Test
+    @Description("Verifies that a large event is written as compressed frame and can be deserialized")
+    public void successfullySerializeAndDeserializeCompressedEvent() {
+        final BusProtoStuffMessageConverter compressing = new BusProtoStuffMessageConverter(64);
+        final List<Long> ids = LongStream.range(0, 1000).boxed().collect(Collectors.toList());
+        final BulkEntityEvent bulkEvent = new BulkEntityEvent("DEFAULT", "1", Target.class.getName(), Kind.UPDATED,
+                ids, Collections.emptyList(), Collections.singletonList("lastModifiedAt"), Collections.emptyList(),
+                Collections.emptyList());
+
+        final byte[] serializedEvent = (byte[]) compressing.convertToInternal(bulkEvent,
+                new MessageHeaders(new HashMap<>()), null);
+        assertThat(serializedEvent[0]).isEqualTo(BusProtoStuffMessageConverter.COMPRESSED_FRAME);
+        assertThat(serializedEvent.length).isLessThan(((byte[]) underTest.convertToInternal(bulkEvent,
+                new MessageHeaders(new HashMap<>()), null)).length);
+
+        // frames are readable independent of the compression threshold
+        when(messageMock.getPayload()).thenReturn(serializedEvent);
+        final BulkEntityEvent deserializedEvent = (BulkEntityEvent) underTest.convertFromInternal(messageMock,
+                RemoteApplicationEvent.class, null);
+        assertThat(deserializedEvent.getEntityIds()).isEqualTo(ids);
+        assertThat(deserializedEvent.getKind()).isEqualTo(Kind.UPDATED);
+        assertThat(deserializedEvent.getChangedFields()).containsExactly("lastModifiedAt");
+    }
+
     @Test
     @Description("Verifies that a MessageConversationException is thrown on missing event-type information encoding")
     public void missingEventTypeMappingThrowsMessageConversationException() {
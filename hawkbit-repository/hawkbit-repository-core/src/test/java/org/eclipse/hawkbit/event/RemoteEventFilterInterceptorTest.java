@@ -0,0 +1,72 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.event;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
+import org.eclipse.hawkbit.repository.event.remote.MultiTargetPollEvent;
+import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.support.MessageBuilder;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Event bus")
+public class RemoteEventFilterInterceptorTest {
+
+    private final RemoteEventFilterInterceptor underTest = new RemoteEventFilterInterceptor(new PollEventFilter());
+
+    private final MessageChannel channel = (message, timeout) -> true;
+
+    @Test
+    @Description("Verifies that the events which stay on this instance are not sent on the event bus.")
+    public void remoteFilteredEventIsNotSent() {
+        final Message<?> pollEvent = MessageBuilder.withPayload(new TargetPollEvent("controller", "tenant", "app"))
+                .build();
+        final Message<?> multiPollEvent = MessageBuilder.withPayload(new MultiTargetPollEvent("tenant", "app",
+                Collections.singletonList("controller"), Collections.singletonList(1L))).build();
+
+        assertThat(underTest.preSend(pollEvent, channel)).isNull();
+        assertThat(underTest.preSend(multiPollEvent, channel)).isNull();
+    }
+
+    @Test
+    @Description("Verifies that the events which are not filtered and messages without event are sent unchanged.")
+    public void otherMessagesAreSent() {
+        final Message<?> event = MessageBuilder.withPayload(new ApplicationEvent("source") {
+            private static final long serialVersionUID = 1L;
+        }).build();
+        final Message<?> converted = MessageBuilder.withPayload(new byte[] { 1 }).build();
+
+        assertThat(underTest.preSend(event, channel)).isSameAs(event);
+        assertThat(underTest.preSend(converted, channel)).isSameAs(converted);
+    }
+
+    private static final class PollEventFilter implements ApplicationEventFilter {
+
+        @Override
+        public boolean filter(final ApplicationEvent event) {
+            return false;
+        }
+
+        @Override
+        public boolean filterRemote(final ApplicationEvent event) {
+            return event instanceof TargetPollEvent || event instanceof MultiTargetPollEvent;
+        }
+    }
+}
@@ -0,0 +1,164 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache.TargetAuthentication;
+import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.EntitySnapshot;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.junit.jupiter.api.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Target authentication cache")
+public class TargetAuthenticationCacheTest {
+
+    private static final String TENANT = "tenant";
+    private static final long TARGET_ID = 1L;
+    private static final String CONTROLLER_ID = "controller";
+
+    private final TargetAuthenticationCache underTest = new TargetAuthenticationCache();
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    @Description("Verifies that the loaded data is found by the controller ID and by the target ID.")
+    public void loadedTargetIsCachedByControllerIdAndTargetId() {
+        final TargetAuthentication loaded = underTest.getByControllerId(TENANT, CONTROLLER_ID, loader()).get();
+
+        assertThat(underTest.getByControllerId(TENANT.toUpperCase(), CONTROLLER_ID, loader())).contains(loaded);
+        assertThat(underTest.getByTargetId(TENANT, TARGET_ID, loader())).contains(loaded);
+        assertThat(loads).hasValue(1);
+
+        final TargetAuthentication other = underTest.getByTargetId(TENANT, 2L, loader(2L, "other")).get();
+        assertThat(underTest.getByControllerId(TENANT, "other", loader())).contains(other);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that a target is loaded again after it has been updated or deleted.")
+    public void updatedOrDeletedTargetIsLoadedAgain() {
+        underTest.getByControllerId(TENANT, CONTROLLER_ID, loader());
+
+        underTest.invalidateOnTargetUpdate(updatedEvent(TARGET_ID));
+        underTest.getByTargetId(TENANT, TARGET_ID, loader());
+        assertThat(loads).hasValue(2);
+
+        underTest.invalidateOnTargetDelete(deletedEvent());
+        assertThat(underTest.getByControllerId(TENANT, CONTROLLER_ID, Optional::empty)).isEmpty();
+        assertThat(underTest.getByTargetId(TENANT, TARGET_ID, Optional::empty)).isEmpty();
+    }
+
+    @Test
+    @Description("Verifies that data which has been loaded while the target has been updated is not cached, "
+            + "independent of the ID it is looked up by.")
+    public void loadRacingInvalidationIsNotCached() {
+        underTest.getByControllerId(TENANT, CONTROLLER_ID, racingLoader(() -> updatedEvent(TARGET_ID)));
+        underTest.getByTargetId(TENANT, TARGET_ID, racingLoader(() -> updatedEvent(TARGET_ID)));
+        assertThat(loads).hasValue(2);
+
+        underTest.getByControllerId(TENANT, CONTROLLER_ID, loader());
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @Description("Verifies that the update of another target while loading does not prevent caching.")
+    public void loadRacingInvalidationOfOtherTargetIsCached() {
+        underTest.getByTargetId(TENANT, TARGET_ID, racingLoader(() -> updatedEvent(2L)));
+
+        underTest.getByTargetId(TENANT, TARGET_ID, loader());
+        underTest.getByControllerId(TENANT, CONTROLLER_ID, loader());
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    @Description("Verifies that evicting the caches of a tenant drops its data, also if it is loaded right now, "
+            + "but keeps the data of other tenants.")
+    public void evictCachesDropsDataOfTenant() {
+        underTest.getByControllerId(TENANT, CONTROLLER_ID, loader());
+        underTest.getByControllerId("other", CONTROLLER_ID, loader());
+
+        underTest.evictCaches(TENANT.toUpperCase());
+
+        underTest.getByTargetId("other", TARGET_ID, loader());
+        assertThat(loads).hasValue(2);
+        underTest.getByTargetId(TENANT, TARGET_ID, () -> {
+            underTest.evictCaches(TENANT);
+            return loader().get();
+        });
+        assertThat(loads).hasValue(3);
+        underTest.getByControllerId(TENANT, CONTROLLER_ID, loader());
+        assertThat(loads).hasValue(4);
+    }
+
+    @Test
+    @Description("Verifies that a snapshot of a target is behind if a later revision of the target is known, "
+            + "and that the revision is dropped on the deletion of the target.")
+    public void snapshotOfOlderRevisionIsBehind() {
+        assertThat(underTest.isBehind(TENANT, TARGET_ID, snapshot(1))).isFalse();
+
+        underTest.getByControllerId(TENANT, CONTROLLER_ID,
+                () -> Optional.of(TargetAuthentication.of(TARGET_ID, CONTROLLER_ID, "token", 2)));
+        assertThat(underTest.isBehind(TENANT, TARGET_ID, snapshot(1))).isTrue();
+        assertThat(underTest.isBehind(TENANT, TARGET_ID, snapshot(2))).isFalse();
+        assertThat(underTest.isBehind(TENANT, 2L, snapshot(1))).isFalse();
+
+        underTest.invalidateOnTargetDelete(deletedEvent());
+        assertThat(underTest.isBehind(TENANT, TARGET_ID, snapshot(1))).isFalse();
+    }
+
+    private Supplier<Optional<TargetAuthentication>> loader() {
+        return loader(TARGET_ID, CONTROLLER_ID);
+    }
+
+    private Supplier<Optional<TargetAuthentication>> loader(final long targetId, final String controllerId) {
+        return () -> {
+            loads.incrementAndGet();
+            return Optional.of(TargetAuthentication.of(targetId, controllerId, "token"));
+        };
+    }
+
+    private Supplier<Optional<TargetAuthentication>> racingLoader(final Supplier<TargetUpdatedEvent> event) {
+        return () -> {
+            final Optional<TargetAuthentication> loaded = loader().get();
+            underTest.invalidateOnTargetUpdate(event.get());
+            return loaded;
+        };
+    }
+
+    private static TargetUpdatedEvent updatedEvent(final long targetId) {
+        final Target target = mock(Target.class);
+        when(target.getId()).thenReturn(targetId);
+        when(target.getTenant()).thenReturn(TENANT);
+        return new TargetUpdatedEvent(target, "app");
+    }
+
+    private static EntitySnapshot snapshot(final int revision) {
+        final Target target = mock(Target.class);
+        when(target.getControllerId()).thenReturn(CONTROLLER_ID);
+        when(target.getOptLockRevision()).thenReturn(revision);
+        return EntitySnapshot.of(target);
+    }
+
+    private static TargetDeletedEvent deletedEvent() {
+        return new TargetDeletedEvent(TENANT, TARGET_ID, CONTROLLER_ID, null, Target.class.getName(), "app");
+    }
+}
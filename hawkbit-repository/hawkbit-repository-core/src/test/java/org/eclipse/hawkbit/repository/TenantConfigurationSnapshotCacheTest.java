@@ -0,0 +1,95 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import org.eclipse.hawkbit.repository.model.TenantConfigurationSnapshot;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.junit.jupiter.api.Test;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Tenant configuration snapshot cache")
+public class TenantConfigurationSnapshotCacheTest {
+
+    private final TenantAware tenantAware = mock(TenantAware.class);
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Supplier<TenantConfigurationSnapshot> loader = () -> {
+        loads.incrementAndGet();
+        return new TenantConfigurationSnapshot(Collections.emptyMap());
+    };
+
+    private final TenantConfigurationSnapshotCache underTest = new TenantConfigurationSnapshotCache(tenantAware,
+            () -> loader.get());
+
+    @Test
+    @Description("Verifies that the snapshot is loaded once per tenant, independent of the case of the tenant.")
+    public void snapshotIsCachedPerTenant() {
+        when(tenantAware.getCurrentTenant()).thenReturn("tenant");
+        final TenantConfigurationSnapshot snapshot = underTest.getSnapshot();
+        when(tenantAware.getCurrentTenant()).thenReturn("TENANT");
+        assertThat(underTest.getSnapshot()).isSameAs(snapshot);
+        assertThat(loads).hasValue(1);
+
+        when(tenantAware.getCurrentTenant()).thenReturn("other");
+        assertThat(underTest.getSnapshot()).isNotSameAs(snapshot);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    @Description("Verifies that only the snapshot of the evicted tenant is loaded again.")
+    public void evictionDropsSnapshotOfTenantOnly() {
+        when(tenantAware.getCurrentTenant()).thenReturn("other");
+        final TenantConfigurationSnapshot other = underTest.getSnapshot();
+        when(tenantAware.getCurrentTenant()).thenReturn("tenant");
+        final TenantConfigurationSnapshot snapshot = underTest.getSnapshot();
+
+        underTest.evictCaches("Tenant");
+
+        assertThat(underTest.getSnapshot()).isNotSameAs(snapshot);
+        when(tenantAware.getCurrentTenant()).thenReturn("other");
+        assertThat(underTest.getSnapshot()).isSameAs(other);
+        assertThat(loads).hasValue(3);
+    }
+
+    @Test
+    @Description("Verifies that a snapshot which was loaded while the configuration of its tenant changed is not "
+            + "cached.")
+    public void snapshotLoadedDuringEvictionIsNotCached() {
+        when(tenantAware.getCurrentTenant()).thenReturn("tenant");
+        loader = () -> {
+            loads.incrementAndGet();
+            underTest.evictCaches("tenant");
+            return new TenantConfigurationSnapshot(Collections.emptyMap());
+        };
+        final TenantConfigurationSnapshot stale = underTest.getSnapshot();
+
+        loader = () -> {
+            loads.incrementAndGet();
+            return new TenantConfigurationSnapshot(Collections.emptyMap());
+        };
+        final TenantConfigurationSnapshot snapshot = underTest.getSnapshot();
+
+        assertThat(snapshot).isNotSameAs(stale);
+        assertThat(underTest.getSnapshot()).isSameAs(snapshot);
+        assertThat(loads).hasValue(2);
+    }
+}
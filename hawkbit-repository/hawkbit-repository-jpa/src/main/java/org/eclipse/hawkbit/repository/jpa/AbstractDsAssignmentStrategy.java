@@ -9,17 +9,23 @@
 package org.eclipse.hawkbit.repository.jpa;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.function.BooleanSupplier;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryConstants;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
 import org.eclipse.hawkbit.repository.event.remote.entity.CancelTargetAssignmentEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.event.BulkEventScope;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
@@ -125,8 +131,11 @@ public abstract class AbstractDsAssignmentStrategy {
     abstract void sendDeploymentEvents(final List<DistributionSetAssignmentResult> assignmentResults);
 
     protected void sendTargetUpdatedEvent(final JpaTarget target) {
-        afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
-                .publishEvent(new TargetUpdatedEvent(target, eventPublisherHolder.getApplicationId())));
+        final Runnable publish = () -> eventPublisherHolder.getEventPublisher()
+                .publishEvent(new TargetUpdatedEvent(target, eventPublisherHolder.getApplicationId()));
+        if (!BulkEventScope.collect(target, Kind.UPDATED, Collections.emptyList(), publish)) {
+            afterCommit.afterCommit(publish);
+        }
     }
 
     /**
@@ -208,7 +217,6 @@ public abstract class AbstractDsAssignmentStrategy {
 
         // create the action
         return optTarget.map(target -> {
-            assertActionsPerTargetQuota(target, 1);
             final JpaAction actionForTarget = new JpaAction();
             actionForTarget.setActionType(targetWithActionType.getActionType());
             actionForTarget.setForcedTime(targetWithActionType.getForceTime());
@@ -239,10 +247,28 @@ public abstract class AbstractDsAssignmentStrategy {
         return actionStatus;
     }
 
-    private void assertActionsPerTargetQuota(final Target target, final int requested) {
-        final int quota = quotaManagement.getMaxActionsPerTarget();
-        QuotaHelper.assertAssignmentQuota(target.getId(), requested, quota, Action.class, Target.class,
-                actionRepository::countByTargetId);
+    /**
+     * Enforces the quota defining the maximum number of {@link Action}s per
+     * {@link Target} for the actions that are created by
+     * {@link #createTargetAction(String, TargetWithActionType, List, JpaDistributionSet)}.
+     * The existing actions of the targets are counted with one grouped query
+     * per chunk of targets.
+     *
+     * @param targetsWithActionType
+     *            the actions that are about to be created
+     * @param targets
+     *            the targets of the actions
+     */
+    void assertActionsPerTargetQuota(final Collection<TargetWithActionType> targetsWithActionType,
+            final List<JpaTarget> targets) {
+        final Map<String, Long> targetIdsByControllerId = targets.stream()
+                .collect(Collectors.toMap(Target::getControllerId, Target::getId, (first, second) -> first));
+        final Map<Long, Long> requested = targetsWithActionType.stream()
+                .map(twt -> targetIdsByControllerId.get(twt.getControllerId())).filter(Objects::nonNull)
+                .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
+
+        QuotaHelper.assertAssignmentQuota(requested, quotaManagement.getMaxActionsPerTarget(), Action.class,
+                Target.class, ids -> QuotaHelper.toCountMap(actionRepository.countByTargetIdInGroupByTargetId(ids)));
     }
 
     protected boolean isMultiAssignmentsEnabled() {
@@ -252,6 +252,24 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction, Long>,
             @Param("targetsIds") List<Long> targetIds, @Param("active") boolean active,
             @Param("currentStatus") Action.Status currentStatus);
 
+    /**
+     * Counts the {@link Action}s of rollouts per rollout group and status that
+     * are switched by
+     * {@link #switchStatus(Action.Status, List, boolean, Action.Status)}.
+     *
+     * @param targetIds
+     *            the IDs of targets for the actions
+     * @param active
+     *            flag to indicate active/inactive actions
+     * @param currentStatus
+     *            the current status of the actions
+     * @return the number of actions per rollout group and status
+     */
+    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status, COUNT(a.id)) FROM JpaAction a WHERE a.target IN :targetsIds AND a.active = :active AND a.status = :currentStatus AND a.distributionSet.requiredMigrationStep = false AND a.rolloutGroup IS NOT NULL GROUP BY a.rolloutGroup.id, a.status")
+    List<TotalTargetCountActionStatus> getRolloutGroupStatusCountByTargetIdInAndIsActiveAndActionStatus(
+            @Param("targetsIds") List<Long> targetIds, @Param("active") boolean active,
+            @Param("currentStatus") Action.Status currentStatus);
+
     /**
      * Retrieves all {@link Action}s that matches the queried externalRefs.
      *
@@ -342,6 +360,43 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction, Long>,
      */
     Long countByTargetId(Long targetId);
 
+    /**
+     * Counts the {@link Action}s per target for the given target IDs.
+     *
+     * @param targetIds
+     *            the targets to count the {@link Action}s of
+     * @return the target ID and the count of actions for every target that has
+     *         at least one action
+     */
+    @Query("SELECT a.target.id, COUNT(a.id) FROM JpaAction a WHERE a.target.id IN :targetIds GROUP BY a.target.id")
+    List<Object[]> countByTargetIdInGroupByTargetId(@Param("targetIds") Collection<Long> targetIds);
+
+    /**
+     * Retrieves the IDs of the {@link Action}s of the given rollout group and
+     * targets.
+     *
+     * @param rolloutGroupId
+     *            the rollout group of the {@link Action}s
+     * @param targetIds
+     *            the targets of the {@link Action}s
+     * @return the action ID and the target ID for every found action
+     */
+    @Query("SELECT a.id, a.target.id FROM JpaAction a WHERE a.rolloutGroup.id = :rolloutGroupId AND a.target.id IN :targetIds")
+    List<Object[]> findIdAndTargetIdByRolloutGroupIdAndTargetIdIn(@Param("rolloutGroupId") Long rolloutGroupId,
+            @Param("targetIds") Collection<Long> targetIds);
+
+    /**
+     * Counts the {@link Action}s per target for the given controller IDs.
+     *
+     * @param controllerIds
+     *            the targets to count the {@link Action}s of
+     * @return the controller ID and the count of actions for every target that
+     *         has at least one action
+     */
+    @Query("SELECT t.controllerId, COUNT(a.id) FROM JpaAction a JOIN a.target t WHERE t.controllerId IN :controllerIds GROUP BY t.controllerId")
+    List<Object[]> countByTargetControllerIdInGroupByControllerId(
+            @Param("controllerIds") Collection<String> controllerIds);
+
     /**
      * Counts all {@link Action}s referring to the given DistributionSet.
      *
@@ -351,24 +406,6 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction, Long>,
      */
     Long countByDistributionSetId(Long distributionSet);
 
-    /**
-     * Counts all actions referring to a given rollout and rolloutgroup which
-     * are currently not in the given status. An in-clause statement does not
-     * work with the spring-data, so this is specific usecase regarding to the
-     * rollout-management to find out actions which are not in specific states.
-     *
-     * @param rollout
-     *            the rollout the actions are belong to
-     * @param rolloutGroup
-     *            the rolloutgroup the actions are belong to
-     * @param statuses
-     *            the list of statuses the action should not have
-     * @return the count of actions referring the rollout and rolloutgroup and
-     *         are not in given states
-     */
-    Long countByRolloutAndRolloutGroupAndStatusNotIn(JpaRollout rollout, JpaRolloutGroup rolloutGroup,
-            List<Status> statuses);
-
     /**
      * Counts all actions referring to a given rollout and rolloutgroup.
      *
@@ -380,20 +417,6 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction, Long>,
      */
     Long countByRolloutAndRolloutGroup(JpaRollout rollout, JpaRolloutGroup rolloutGroup);
 
-    /**
-     * Counts all actions referring to a given rollout, rolloutgroup and status.
-     *
-     * @param rolloutId
-     *            the ID of rollout the actions belong to
-     * @param rolloutGroupId
-     *            the ID rolloutgroup the actions belong to
-     * @param status
-     *            the status the actions should have
-     * @return the count of actions referring to a rollout, rolloutgroup and are
-     *         in a given status
-     */
-    Long countByRolloutIdAndRolloutGroupIdAndStatus(Long rolloutId, Long rolloutGroupId, Action.Status status);
-
     /**
      * Counts all actions referring to a given rollout and status.
      * 
@@ -482,50 +505,6 @@ public interface ActionRepository extends BaseEntityRepository<JpaAction, Long>,
      */
     Page<JpaAction> findByRolloutIdAndStatus(Pageable pageable, Long rolloutId, Status actionStatus);
 
-    /**
-     * Get list of objects which has details of status and count of targets in
-     * each status in specified rollout.
-     *
-     * @param rolloutId
-     *            id of {@link Rollout}
-     * @return list of objects with status and target count
-     */
-    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus( a.rollout.id, a.status , COUNT(a.id)) FROM JpaAction a WHERE a.rollout.id IN ?1 GROUP BY a.rollout.id,a.status")
-    List<TotalTargetCountActionStatus> getStatusCountByRolloutId(List<Long> rolloutId);
-
-    /**
-     * Get list of objects which has details of status and count of targets in
-     * each status in specified rollout.
-     *
-     * @param rolloutId
-     *            id of {@link Rollout}
-     * @return list of objects with status and target count
-     */
-    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus( a.rollout.id, a.status , COUNT(a.id)) FROM JpaAction a WHERE a.rollout.id = ?1 GROUP BY a.rollout.id,a.status")
-    List<TotalTargetCountActionStatus> getStatusCountByRolloutId(Long rolloutId);
-
-    /**
-     * Get list of objects which has details of status and count of targets in
-     * each status in specified rollout group.
-     *
-     * @param rolloutGroupId
-     *            id of {@link RolloutGroup}
-     * @return list of objects with status and target count
-     */
-    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status , COUNT(a.id)) FROM JpaAction a WHERE a.rolloutGroup.id = ?1 GROUP BY a.rolloutGroup.id, a.status")
-    List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupId(Long rolloutGroupId);
-
-    /**
-     * Get list of objects which has details of status and count of targets in
-     * each status in specified rollout group.
-     *
-     * @param rolloutGroupId
-     *            list of id of {@link RolloutGroup}
-     * @return list of objects with status and target count
-     */
-    @Query("SELECT NEW org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus(a.rolloutGroup.id, a.status , COUNT(a.id)) FROM JpaAction a WHERE a.rolloutGroup.id IN ?1 GROUP BY a.rolloutGroup.id, a.status")
-    List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupId(List<Long> rolloutGroupId);
-
     /**
      * Deletes all actions with the given IDs.
      * 
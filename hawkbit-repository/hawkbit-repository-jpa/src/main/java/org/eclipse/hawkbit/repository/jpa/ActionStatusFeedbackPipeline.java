@@ -0,0 +1,302 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.ActionStatus;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.annotation.Isolation;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Group commit stage for {@link ActionStatus} feedback of the controllers.
+ *
+ * Feedback is queued in one of {@link RepositoryProperties#getActionFeedbackLanes()}
+ * lanes by tenant and {@link Action}, i.e. the feedback of an action is always
+ * handled in order. Every lane takes up to
+ * {@link RepositoryProperties#getActionFeedbackGroupSize()} queued feedbacks of
+ * a tenant and persists them in one transaction. If the transaction fails, the
+ * feedbacks of the group are persisted one by one in order to isolate the
+ * failing one.
+ *
+ * The submitting thread is released only after the transaction that contains
+ * its feedback has been committed. If the commit does not happen within the
+ * given time or the lane is full the feedback is taken out of the lane and
+ * persisted by the submitting thread on its own. If the feedback is already
+ * part of a group commit in progress, the submitting thread waits at most
+ * {@link RepositoryProperties#getActionFeedbackCommitTimeout()} for it.
+ */
+public class ActionStatusFeedbackPipeline {
+    private static final Logger LOG = LoggerFactory.getLogger(ActionStatusFeedbackPipeline.class);
+
+    private static final String METRIC_PREFIX = "hawkbit.repository.action.feedback.";
+
+    private final List<BlockingQueue<Feedback>> lanes;
+    private final ExecutorService workers;
+    private final int groupSize;
+    private final long commitTimeout;
+    private final PlatformTransactionManager txManager;
+    private final TenantAware tenantAware;
+
+    private final Counter submittedFeedback;
+    private final Counter directFeedback;
+    private final Counter isolatedFeedback;
+    private final DistributionSummary groupSizes;
+    private final Timer commitTimer;
+
+    /**
+     * Constructor. Starts a worker thread for every lane.
+     *
+     * @param repositoryProperties
+     *            for the number of lanes, their size, the group size and the
+     *            commit timeout
+     * @param txManager
+     *            transaction manager
+     * @param tenantAware
+     *            to run the group commits as tenant
+     * @param meterRegistry
+     *            to register the metrics of the pipeline
+     */
+    public ActionStatusFeedbackPipeline(final RepositoryProperties repositoryProperties,
+            final PlatformTransactionManager txManager, final TenantAware tenantAware,
+            final MeterRegistry meterRegistry) {
+        this.groupSize = Math.max(1, repositoryProperties.getActionFeedbackGroupSize());
+        this.commitTimeout = repositoryProperties.getActionFeedbackCommitTimeout();
+        this.txManager = txManager;
+        this.tenantAware = tenantAware;
+
+        final int laneCount = Math.max(1, repositoryProperties.getActionFeedbackLanes());
+        lanes = new ArrayList<>(laneCount);
+        for (int i = 0; i < laneCount; i++) {
+            lanes.add(new LinkedBlockingQueue<>(Math.max(1, repositoryProperties.getActionFeedbackQueueSize())));
+        }
+
+        submittedFeedback = Counter.builder(METRIC_PREFIX + "submitted")
+                .description("Action status feedbacks submitted for group commit").register(meterRegistry);
+        directFeedback = Counter.builder(METRIC_PREFIX + "direct")
+                .description("Action status feedbacks persisted on their own due to a full lane or a timeout")
+                .register(meterRegistry);
+        isolatedFeedback = Counter.builder(METRIC_PREFIX + "isolated")
+                .description("Action status feedbacks persisted on their own after a failed group commit")
+                .register(meterRegistry);
+        groupSizes = DistributionSummary.builder(METRIC_PREFIX + "group.size")
+                .description("Action status feedbacks per group commit").register(meterRegistry);
+        commitTimer = Timer.builder(METRIC_PREFIX + "commit").description("Duration of a group commit")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "queued", lanes, l -> l.stream().mapToInt(BlockingQueue::size).sum())
+                .description("Action status feedbacks waiting for their group commit").register(meterRegistry);
+
+        workers = Executors.newFixedThreadPool(laneCount,
+                new ThreadFactoryBuilder().setNameFormat("action-feedback-pipeline-%d").setDaemon(true).build());
+        lanes.forEach(lane -> workers.execute(() -> processLane(lane)));
+    }
+
+    /**
+     * Submits the feedback for the given action and waits until it has been
+     * persisted. The feedback is executed in the security context of the
+     * caller.
+     *
+     * @param tenant
+     *            of the action
+     * @param actionId
+     *            of the action the feedback is for
+     * @param feedback
+     *            persists the feedback, runs in a transaction
+     * @param maxWait
+     *            maximum time in {@link TimeUnit#MILLISECONDS} to wait for the
+     *            group commit before the feedback is persisted on its own
+     * @return the updated action
+     * @throws TransactionTimedOutException
+     *             if the group commit that contains the feedback did not
+     *             finish within the commit timeout. The feedback might still
+     *             be persisted.
+     */
+    public Action submit(final String tenant, final long actionId, final Supplier<Action> feedback,
+            final long maxWait) {
+        final Feedback queued = new Feedback(tenant, feedback, SecurityContextHolder.getContext());
+        final BlockingQueue<Feedback> lane = lanes
+                .get(Math.floorMod(Objects.hash(tenant.toUpperCase(), actionId), lanes.size()));
+
+        if (!lane.offer(queued)) {
+            LOG.debug("Feedback lane is full, persisting feedback of action {} on its own.", actionId);
+            return persistDirectly(queued);
+        }
+        submittedFeedback.increment();
+
+        try {
+            return queued.result.get(maxWait, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            if (lane.remove(queued)) {
+                LOG.debug("Group commit timed out, persisting feedback of action {} on its own.", actionId);
+                return persistDirectly(queued);
+            }
+            // the feedback is already part of a group that is in progress
+            return await(queued, actionId);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the group commit.", e);
+        } catch (final ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private Action persistDirectly(final Feedback feedback) {
+        directFeedback.increment();
+        return DeploymentHelper.runInNewTransaction(txManager, "actionFeedback", Isolation.READ_COMMITTED.value(),
+                status -> feedback.task.get());
+    }
+
+    private Action await(final Feedback feedback, final long actionId) {
+        try {
+            return feedback.result.get(commitTimeout, TimeUnit.MILLISECONDS);
+        } catch (final TimeoutException e) {
+            throw new TransactionTimedOutException("Group commit of the feedback of action " + actionId
+                    + " did not finish within " + commitTimeout + " ms.");
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for the group commit.", e);
+        } catch (final ExecutionException e) {
+            throw rethrow(e.getCause());
+        }
+    }
+
+    private static RuntimeException rethrow(final Throwable cause) {
+        if (cause instanceof RuntimeException) {
+            return (RuntimeException) cause;
+        }
+        if (cause instanceof Error) {
+            throw (Error) cause;
+        }
+        return new IllegalStateException(cause);
+    }
+
+    private void processLane(final BlockingQueue<Feedback> lane) {
+        final List<Feedback> group = new ArrayList<>(groupSize);
+        while (!Thread.currentThread().isInterrupted()) {
+            try {
+                group.add(lane.take());
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+            lane.drainTo(group, groupSize - 1);
+
+            // the feedbacks of one tenant are committed together, the order
+            // within the tenant is kept
+            final Map<String, List<Feedback>> byTenant = group.stream()
+                    .collect(Collectors.groupingBy(feedback -> feedback.tenant.toUpperCase(), LinkedHashMap::new,
+                            Collectors.toList()));
+            byTenant.values().forEach(this::commit);
+            group.clear();
+        }
+    }
+
+    private void commit(final List<Feedback> group) {
+        final String tenant = group.get(0).tenant;
+        try {
+            final List<Action> results = commitTimer
+                    .record(() -> tenantAware.runAsTenant(tenant, () -> DeploymentHelper.runInNewTransaction(
+                            txManager, "actionFeedbackGroup", Isolation.READ_COMMITTED.value(),
+                            status -> group.stream().map(Feedback::execute).collect(Collectors.toList()))));
+            groupSizes.record(group.size());
+            for (int i = 0; i < group.size(); i++) {
+                group.get(i).result.complete(results.get(i));
+            }
+        } catch (final RuntimeException e) {
+            if (group.size() == 1) {
+                group.get(0).result.completeExceptionally(e);
+                return;
+            }
+
+            LOG.debug("Group commit of {} feedbacks of tenant {} failed, persisting them one by one.", group.size(),
+                    tenant, e);
+            group.forEach(this::commitIsolated);
+        } catch (final Error e) {
+            group.forEach(feedback -> feedback.result.completeExceptionally(e));
+            throw e;
+        }
+    }
+
+    private void commitIsolated(final Feedback feedback) {
+        isolatedFeedback.increment();
+        try {
+            feedback.result.complete(tenantAware.runAsTenant(feedback.tenant,
+                    () -> DeploymentHelper.runInNewTransaction(txManager, "actionFeedback",
+                            Isolation.READ_COMMITTED.value(), status -> feedback.execute())));
+        } catch (final RuntimeException e) {
+            feedback.result.completeExceptionally(e);
+        }
+    }
+
+    /**
+     * Stops the worker threads. Feedback that is still queued is not
+     * persisted, its submitters time out and persist it on their own.
+     */
+    public void shutdown() {
+        workers.shutdownNow();
+    }
+
+    private static final class Feedback {
+        private final String tenant;
+        private final Supplier<Action> task;
+        private final SecurityContext securityContext;
+        private final CompletableFuture<Action> result = new CompletableFuture<>();
+
+        private Feedback(final String tenant, final Supplier<Action> task, final SecurityContext securityContext) {
+            this.tenant = tenant;
+            this.task = task;
+            this.securityContext = securityContext;
+        }
+
+        /**
+         * Runs the feedback in the security context of its submitter, e.g.
+         * for auditing.
+         */
+        private Action execute() {
+            final SecurityContext previous = SecurityContextHolder.getContext();
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                return task.get();
+            } finally {
+                SecurityContextHolder.setContext(previous);
+            }
+        }
+    }
+}
@@ -24,15 +24,9 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
-import java.util.concurrent.BlockingDeque;
-import java.util.concurrent.LinkedBlockingDeque;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
-import javax.persistence.Query;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.Root;
@@ -45,7 +39,7 @@ import org.eclipse.hawkbit.repository.MaintenanceScheduleHelper;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryConstants;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.repository.UpdateMode;
 import org.eclipse.hawkbit.repository.builder.ActionStatusCreate;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
@@ -76,8 +70,8 @@ import org.eclipse.hawkbit.repository.model.SoftwareModule;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleMetadata;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+import org.eclipse.hawkbit.repository.model.TenantConfigurationSnapshot;
 import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
-import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.slf4j.Logger;
@@ -95,15 +89,12 @@ import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
-import com.google.common.collect.Sets;
-
 /**
  * JPA based {@link ControllerManagement} implementation.
  *
@@ -113,7 +104,8 @@ import com.google.common.collect.Sets;
 public class JpaControllerManagement extends JpaActionManagement implements ControllerManagement {
     private static final Logger LOG = LoggerFactory.getLogger(JpaControllerManagement.class);
 
-    private final BlockingDeque<TargetPoll> queue;
+    private final TargetPollTracker targetPollTracker;
+    private final ActionStatusFeedbackPipeline actionStatusFeedbackPipeline;
 
     @Autowired
     private EntityManager entityManager;
@@ -131,10 +123,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     private QuotaManagement quotaManagement;
 
     @Autowired
-    private TenantConfigurationManagement tenantConfigurationManagement;
-
-    @Autowired
-    private SystemSecurityContext systemSecurityContext;
+    private TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache;
 
     @Autowired
     private EntityFactory entityFactory;
@@ -149,30 +138,22 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
     private SoftwareModuleMetadataRepository softwareModuleMetadataRepository;
 
     @Autowired
-    private PlatformTransactionManager txManager;
+    private TenantAware tenantAware;
 
     @Autowired
-    private TenantAware tenantAware;
+    private PlatformTransactionManager txManager;
 
-    JpaControllerManagement(final ScheduledExecutorService executorService,
-            final RepositoryProperties repositoryProperties, final ActionRepository actionRepository) {
+    JpaControllerManagement(final RepositoryProperties repositoryProperties, final ActionRepository actionRepository,
+            final TargetPollTracker targetPollTracker,
+            final ActionStatusFeedbackPipeline actionStatusFeedbackPipeline) {
         super(actionRepository, repositoryProperties);
-
-        if (!repositoryProperties.isEagerPollPersistence()) {
-            executorService.scheduleWithFixedDelay(this::flushUpdateQueue,
-                    repositoryProperties.getPollPersistenceFlushTime(),
-                    repositoryProperties.getPollPersistenceFlushTime(), TimeUnit.MILLISECONDS);
-
-            queue = new LinkedBlockingDeque<>(repositoryProperties.getPollPersistenceQueueSize());
-        } else {
-            queue = null;
-        }
+        this.targetPollTracker = targetPollTracker;
+        this.actionStatusFeedbackPipeline = actionStatusFeedbackPipeline;
     }
 
     @Override
     public String getPollingTime() {
-        return systemSecurityContext.runAsSystem(() -> tenantConfigurationManagement
-                .getConfigurationValue(TenantConfigurationKey.POLLING_TIME_INTERVAL, String.class).getValue());
+        return tenantConfigurationSnapshotCache.getSnapshot().getPollingTime();
     }
 
     /**
@@ -182,8 +163,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
      */
     @Override
     public String getMinPollingTime() {
-        return systemSecurityContext.runAsSystem(() -> tenantConfigurationManagement
-                .getConfigurationValue(TenantConfigurationKey.MIN_POLLING_TIME_INTERVAL, String.class).getValue());
+        return tenantConfigurationSnapshotCache.getSnapshot().getMinPollingTime();
     }
 
     /**
@@ -195,8 +175,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
      */
     @Override
     public int getMaintenanceWindowPollCount() {
-        return systemSecurityContext.runAsSystem(() -> tenantConfigurationManagement
-                .getConfigurationValue(TenantConfigurationKey.MAINTENANCE_WINDOW_POLL_COUNT, Integer.class).getValue());
+        return tenantConfigurationSnapshotCache.getSnapshot().getMaintenanceWindowPollCount();
     }
 
     @Override
@@ -391,6 +370,23 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
                 .orElseGet(() -> createTarget(controllerId, address, name));
     }
 
+    @Override
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Retryable(include = ConcurrencyFailureException.class, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
+    public void registerPoll(final String controllerId) {
+        if (!repositoryProperties.isEagerPollPersistence()) {
+            targetPollTracker.record(tenantAware.getCurrentTenant().toUpperCase(), controllerId);
+            return;
+        }
+
+        final JpaTarget target = (JpaTarget) targetRepository.findByControllerId(controllerId)
+                .orElseThrow(() -> new EntityNotFoundException(Target.class, controllerId));
+        target.setLastTargetQuery(System.currentTimeMillis());
+        afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
+                .publishEvent(new TargetPollEvent(target, eventPublisherHolder.getApplicationId())));
+        targetRepository.save(target);
+    }
+
     private Target createTarget(final String controllerId, final URI address, String name) {
 
         final Target result = targetRepository.save((JpaTarget) entityFactory.target().create()
@@ -404,94 +400,14 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         return result;
     }
 
-    /**
-     * Flush the update queue by means to persisting
-     * {@link Target#getLastTargetQuery()}.
-     */
-    private void flushUpdateQueue() {
-        LOG.debug("Run flushUpdateQueue.");
-
-        final int size = queue.size();
-        if (size <= 0) {
-            return;
-        }
-
-        LOG.debug("{} events in flushUpdateQueue.", size);
-
-        final Set<TargetPoll> events = Sets.newHashSetWithExpectedSize(queue.size());
-        final int drained = queue.drainTo(events);
-
-        if (drained <= 0) {
-            return;
-        }
-
-        try {
-            events.stream().collect(Collectors.groupingBy(TargetPoll::getTenant)).forEach((tenant, polls) -> {
-                final TransactionCallback<Void> createTransaction = status -> updateLastTargetQueries(tenant, polls);
-                tenantAware.runAsTenant(tenant,
-                        () -> DeploymentHelper.runInNewTransaction(txManager, "flushUpdateQueue", createTransaction));
-            });
-        } catch (final RuntimeException ex) {
-            LOG.error("Failed to persist UpdateQueue content.", ex);
-            return;
-        }
-
-        LOG.debug("{} events persisted.", drained);
-    }
-
-    private Void updateLastTargetQueries(final String tenant, final List<TargetPoll> polls) {
-        LOG.debug("Persist {} targetqueries.", polls.size());
-
-        final List<List<String>> pollChunks = Lists.partition(
-                polls.stream().map(TargetPoll::getControllerId).collect(Collectors.toList()),
-                Constants.MAX_ENTRIES_IN_STATEMENT);
-
-        pollChunks.forEach(chunk -> {
-            setLastTargetQuery(tenant, System.currentTimeMillis(), chunk);
-            chunk.forEach(controllerId -> afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
-                    .publishEvent(new TargetPollEvent(controllerId, tenant, eventPublisherHolder.getApplicationId()))));
-        });
-
-        return null;
-    }
-
-    /**
-     * Sets {@link Target#getLastTargetQuery()} by native SQL in order to avoid
-     * raising opt lock revision as this update is not mission critical and in fact
-     * only written by {@link ControllerManagement}, i.e. the target itself.
-     */
-    private void setLastTargetQuery(final String tenant, final long currentTimeMillis, final List<String> chunk) {
-        final Map<String, String> paramMapping = Maps.newHashMapWithExpectedSize(chunk.size());
-
-        for (int i = 0; i < chunk.size(); i++) {
-            paramMapping.put("cid" + i, chunk.get(i));
-        }
-
-        final Query updateQuery = entityManager.createNativeQuery(
-                "UPDATE sp_target SET last_target_query = #last_target_query WHERE controller_id IN ("
-                        + formatQueryInStatementParams(paramMapping.keySet()) + ") AND tenant = #tenant");
-
-        paramMapping.forEach(updateQuery::setParameter);
-        updateQuery.setParameter("last_target_query", currentTimeMillis);
-        updateQuery.setParameter("tenant", tenant);
-
-        final int updated = updateQuery.executeUpdate();
-        if (updated < chunk.size()) {
-            LOG.error("Targets polls could not be applied completely ({} instead of {}).", updated, chunk.size());
-        }
-    }
-
-    private static String formatQueryInStatementParams(final Collection<String> paramNames) {
-        return "#" + String.join(",#", paramNames);
-    }
-
     /**
      * Stores target directly to DB in case either {@link Target#getAddress()} or
-     * {@link Target#getUpdateStatus()} or {@link Target#getName()} changes or the buffer queue is full.
+     * {@link Target#getUpdateStatus()} or {@link Target#getName()} changes.
+     * Otherwise the poll is handed over to the {@link TargetPollTracker}.
      *
      */
     private Target updateTarget(final JpaTarget toUpdate, final URI address, final String name) {
-        if (isStoreEager(toUpdate, address, name) || !queue.offer(new TargetPoll(toUpdate))) {
+        if (isStoreEager(toUpdate, address, name)) {
             if (isAddressChanged(toUpdate.getAddress(), address)) {
                 toUpdate.setAddress(address.toString());
             }
@@ -506,6 +422,7 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
                     .publishEvent(new TargetPollEvent(toUpdate, eventPublisherHolder.getApplicationId())));
             return targetRepository.save(toUpdate);
         }
+        targetPollTracker.record(toUpdate);
         return toUpdate;
     }
     private boolean isStoreEager(final JpaTarget toUpdate, final URI address, final String name) {
@@ -573,12 +490,41 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
         DeploymentHelper.successCancellation(action, actionRepository, targetRepository);
     }
 
+    /**
+     * Persists the feedback in the transaction of the caller if there is one.
+     * Otherwise the feedback is persisted by means of the
+     * {@link ActionStatusFeedbackPipeline} if enabled for the tenant or in a
+     * transaction of its own.
+     */
     @Override
-    @Transactional(isolation = Isolation.READ_COMMITTED)
+    @Transactional(propagation = Propagation.SUPPORTS)
     @Retryable(include = {
             ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
     public Action addUpdateActionStatus(final ActionStatusCreate c) {
         final JpaActionStatusCreate create = (JpaActionStatusCreate) c;
+
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return handleUpdateActionStatus(create);
+        }
+
+        final TenantConfigurationSnapshot configuration = tenantConfigurationSnapshotCache.getSnapshot();
+        if (configuration.isEnabled(TenantConfigurationKey.ACTION_FEEDBACK_GROUP_COMMIT_ENABLED)) {
+            final Long maxWait = configuration.getValue(TenantConfigurationKey.ACTION_FEEDBACK_GROUP_COMMIT_MAX_WAIT,
+                    Long.class);
+            return actionStatusFeedbackPipeline.submit(tenantAware.getCurrentTenant(), create.getActionId(), () -> {
+                final Action action = handleUpdateActionStatus(create);
+                // flush within the security context of the controller for
+                // auditing
+                entityManager.flush();
+                return action;
+            }, maxWait == null ? 0 : maxWait);
+        }
+
+        return DeploymentHelper.runInNewTransaction(txManager, "addUpdateActionStatus",
+                Isolation.READ_COMMITTED.value(), status -> handleUpdateActionStatus(create));
+    }
+
+    private Action handleUpdateActionStatus(final JpaActionStatusCreate create) {
         final JpaAction action = getActionAndThrowExceptionIfNotFound(create.getActionId());
         final JpaActionStatus actionStatus = create.build();
 
@@ -940,64 +886,6 @@ public class JpaControllerManagement extends JpaActionManagement implements Cont
                         Collectors.mapping(o -> (SoftwareModuleMetadata) o[1], Collectors.toList())));
     }
 
-    private static class TargetPoll {
-
-        private final String tenant;
-        private final String controllerId;
-
-        TargetPoll(final Target target) {
-            this.tenant = target.getTenant();
-            this.controllerId = target.getControllerId();
-        }
-
-        public String getTenant() {
-            return tenant;
-        }
-
-        public String getControllerId() {
-            return controllerId;
-        }
-
-        @Override
-        public int hashCode() {
-            final int prime = 31;
-            int result = 1;
-            result = prime * result + (controllerId == null ? 0 : controllerId.hashCode());
-            result = prime * result + (tenant == null ? 0 : tenant.hashCode());
-            return result;
-        }
-
-        @Override
-        public boolean equals(final Object obj) {
-            if (this == obj) {
-                return true;
-            }
-            if (obj == null) {
-                return false;
-            }
-            if (getClass() != obj.getClass()) {
-                return false;
-            }
-            final TargetPoll other = (TargetPoll) obj;
-            if (controllerId == null) {
-                if (other.controllerId != null) {
-                    return false;
-                }
-            } else if (!controllerId.equals(other.controllerId)) {
-                return false;
-            }
-            if (tenant == null) {
-                if (other.tenant != null) {
-                    return false;
-                }
-            } else if (!tenant.equals(other.tenant)) {
-                return false;
-            }
-            return true;
-        }
-
-    }
-
     /**
      * Cancels given {@link Action} for this {@link Target}. The method will
      * immediately add a {@link Status#CANCELED} status to the action. However,
@@ -14,27 +14,29 @@ import java.io.Serializable;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
-import java.util.stream.IntStream;
 
 import javax.persistence.EntityManager;
-import javax.persistence.Query;
 import javax.persistence.criteria.CriteriaBuilder;
 import javax.persistence.criteria.CriteriaQuery;
 import javax.persistence.criteria.JoinType;
 import javax.persistence.criteria.ListJoin;
 import javax.persistence.criteria.Root;
 
+import org.eclipse.hawkbit.repository.ActionExportFields;
 import org.eclipse.hawkbit.repository.ActionFields;
+import org.eclipse.hawkbit.repository.ActionStatusExportFields;
+import org.eclipse.hawkbit.repository.ActionStatusFields;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
 import org.eclipse.hawkbit.repository.QuotaManagement;
 import org.eclipse.hawkbit.repository.RepositoryConstants;
 import org.eclipse.hawkbit.repository.RepositoryProperties;
@@ -46,7 +48,9 @@ import org.eclipse.hawkbit.repository.exception.ForceQuitActionNotAllowedExcepti
 import org.eclipse.hawkbit.repository.exception.IncompleteDistributionSetException;
 import org.eclipse.hawkbit.repository.exception.MultiAssignmentIsNotEnabledException;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.event.BulkEventScope;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
+import org.eclipse.hawkbit.repository.jpa.model.AbstractJpaBaseEntity_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus;
 import org.eclipse.hawkbit.repository.jpa.model.JpaActionStatus_;
@@ -54,8 +58,11 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaAction_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
+import org.eclipse.hawkbit.repository.jpa.specifications.ActionSpecifications;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.jpa.utils.ExportHelper;
 import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.jpa.utils.TenantConfigHelper;
 import org.eclipse.hawkbit.repository.jpa.utils.WeightValidationHelper;
@@ -84,6 +91,7 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.retry.RetryCallback;
@@ -95,6 +103,7 @@ import org.springframework.retry.support.RetryTemplate;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 import org.springframework.validation.annotation.Validated;
 
 import com.google.common.collect.Lists;
@@ -114,20 +123,6 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
      */
     private static final int ACTION_PAGE_LIMIT = 1000;
 
-    private static final String QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED_DEFAULT = "DELETE FROM sp_action WHERE tenant=#tenant AND status IN (%s) AND last_modified_at<#last_modified_at LIMIT "
-            + ACTION_PAGE_LIMIT;
-
-    private static final EnumMap<Database, String> QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED;
-
-    static {
-        QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED = new EnumMap<>(Database.class);
-        QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED.put(Database.SQL_SERVER, "DELETE TOP (" + ACTION_PAGE_LIMIT
-                + ") FROM sp_action WHERE tenant=#tenant AND status IN (%s) AND last_modified_at<#last_modified_at ");
-        QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED.put(Database.POSTGRESQL,
-                "DELETE FROM sp_action WHERE id IN (SELECT id FROM sp_action WHERE tenant=#tenant AND status IN (%s) AND last_modified_at<#last_modified_at LIMIT "
-                        + ACTION_PAGE_LIMIT + ")");
-    }
-
     private final EntityManager entityManager;
     private final DistributionSetRepository distributionSetRepository;
     private final TargetRepository targetRepository;
@@ -142,6 +137,9 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
     private final SystemSecurityContext systemSecurityContext;
     private final TenantAware tenantAware;
     private final Database database;
+    private final ParsedRsqlCache parsedRsqlCache;
+    private final RolloutGroupStatusCounter rolloutGroupStatusCounter;
+    private final NoCountPagingRepository criteriaNoCountDao;
     private final RetryTemplate retryTemplate;
 
     protected JpaDeploymentManagement(final EntityManager entityManager, final ActionRepository actionRepository,
@@ -151,8 +149,12 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
             final VirtualPropertyReplacer virtualPropertyReplacer, final PlatformTransactionManager txManager,
             final TenantConfigurationManagement tenantConfigurationManagement, final QuotaManagement quotaManagement,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware, final Database database,
-            final RepositoryProperties repositoryProperties) {
+            final ParsedRsqlCache parsedRsqlCache,
+            final RepositoryProperties repositoryProperties, final RolloutGroupStatusCounter rolloutGroupStatusCounter,
+            final NoCountPagingRepository criteriaNoCountDao) {
         super(actionRepository, repositoryProperties);
+        this.rolloutGroupStatusCounter = rolloutGroupStatusCounter;
+        this.criteriaNoCountDao = criteriaNoCountDao;
         this.entityManager = entityManager;
         this.distributionSetRepository = distributionSetRepository;
         this.targetRepository = targetRepository;
@@ -170,6 +172,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         this.systemSecurityContext = systemSecurityContext;
         this.tenantAware = tenantAware;
         this.database = database;
+        this.parsedRsqlCache = parsedRsqlCache;
         retryTemplate = createRetryTemplate();
     }
 
@@ -211,12 +214,17 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
         final List<DeploymentRequest> validatedRequests = validateRequestForAssignments(deploymentRequests);
         final Map<Long, List<TargetWithActionType>> assignmentsByDsIds = convertRequest(validatedRequests);
 
-        final List<DistributionSetAssignmentResult> results = assignmentsByDsIds.entrySet().stream()
-                .map(entry -> assignDistributionSetToTargetsWithRetry(initiatedBy, entry.getKey(), entry.getValue(),
-                        actionMessage, strategy))
-                .collect(Collectors.toList());
-        strategy.sendDeploymentEvents(results);
-        return results;
+        // the actions and targets are flushed within the scope so that their
+        // entity events are aggregated
+        return BulkEventScope.run(repositoryProperties.getBulkEventThreshold(), () -> {
+            final List<DistributionSetAssignmentResult> results = assignmentsByDsIds.entrySet().stream()
+                    .map(entry -> assignDistributionSetToTargetsWithRetry(initiatedBy, entry.getKey(),
+                            entry.getValue(), actionMessage, strategy))
+                    .collect(Collectors.toList());
+            strategy.sendDeploymentEvents(results);
+            entityManager.flush();
+            return results;
+        });
     }
 
     private List<DeploymentRequest> validateRequestForAssignments(List<DeploymentRequest> deploymentRequests) {
@@ -393,8 +401,9 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
                 .map(DeploymentRequest::getControllerId)
                 .collect(Collectors.groupingBy(Function.identity(), Collectors.counting()));
 
-        countOfTargtInRequest.forEach((controllerId, count) -> QuotaHelper.assertAssignmentQuota(controllerId, count,
-                quota, Action.class, Target.class, actionRepository::countByTargetControllerId));
+        QuotaHelper.assertAssignmentQuota(countOfTargtInRequest, quota, Action.class, Target.class,
+                controllerIds -> QuotaHelper
+                        .toCountMap(actionRepository.countByTargetControllerIdInGroupByControllerId(controllerIds)));
     }
 
     private void closeOrCancelActiveActions(final AbstractDsAssignmentStrategy assignmentStrategy,
@@ -412,6 +421,11 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
             ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
     public void cancelInactiveScheduledActionsForTargets(final List<Long> targetIds) {
         if (!isMultiAssignmentsEnabled()) {
+            // the bulk update bypasses the entity listeners
+            rolloutGroupStatusCounter.move(
+                    actionRepository.getRolloutGroupStatusCountByTargetIdInAndIsActiveAndActionStatus(targetIds,
+                            false, Status.SCHEDULED),
+                    Status.CANCELED);
             actionRepository.switchStatus(Status.CANCELED, targetIds, false, Status.SCHEDULED);
         } else {
             LOG.debug("The Multi Assignments feature is enabled: No need to cancel inactive scheduled actions.");
@@ -427,6 +441,9 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
     private List<JpaAction> createActions(final String initiatedBy,
             final Collection<TargetWithActionType> targetsWithActionType, final List<JpaTarget> targets,
             final AbstractDsAssignmentStrategy assignmentStrategy, final JpaDistributionSet set) {
+        // the targets are locked by the update of their assignment at this
+        // point, i.e. the actions of the targets are counted exactly
+        assignmentStrategy.assertActionsPerTargetQuota(targetsWithActionType, targets);
 
         return targetsWithActionType.stream()
                 .map(twt -> assignmentStrategy.createTargetAction(initiatedBy, twt, targets, set))
@@ -524,25 +541,26 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
 
     private long startScheduledActionsByRolloutGroupParentInNewTransaction(final Long rolloutId,
             final Long distributionSetId, final Long rolloutGroupParentId, final int limit) {
-        return DeploymentHelper.runInNewTransaction(txManager, "startScheduledActions-" + rolloutId, status -> {
-            final Page<Action> rolloutGroupActions = findActionsByRolloutAndRolloutGroupParent(rolloutId,
-                    rolloutGroupParentId, limit);
+        return BulkEventScope.run(repositoryProperties.getBulkEventThreshold(), () -> DeploymentHelper
+                .runInNewTransaction(txManager, "startScheduledActions-" + rolloutId, status -> {
+                    final Page<Action> rolloutGroupActions = findActionsByRolloutAndRolloutGroupParent(rolloutId,
+                            rolloutGroupParentId, limit);
 
-            if (rolloutGroupActions.getContent().isEmpty()) {
-                return 0L;
-            }
+                    if (rolloutGroupActions.getContent().isEmpty()) {
+                        return 0L;
+                    }
 
-            final List<Action> targetAssignments = rolloutGroupActions.getContent().stream()
-                    .map(action -> (JpaAction) action).map(this::closeActionIfSetWasAlreadyAssigned)
-                    .filter(Objects::nonNull).map(this::startScheduledActionIfNoCancelationHasToBeHandledFirst)
-                    .filter(Objects::nonNull).collect(Collectors.toList());
+                    final List<Action> targetAssignments = rolloutGroupActions.getContent().stream()
+                            .map(action -> (JpaAction) action).map(this::closeActionIfSetWasAlreadyAssigned)
+                            .filter(Objects::nonNull).map(this::startScheduledActionIfNoCancelationHasToBeHandledFirst)
+                            .filter(Objects::nonNull).collect(Collectors.toList());
 
-            if (!targetAssignments.isEmpty()) {
-                onlineDsAssignmentStrategy.sendDeploymentEvents(distributionSetId, targetAssignments);
-            }
+                    if (!targetAssignments.isEmpty()) {
+                        onlineDsAssignmentStrategy.sendDeploymentEvents(distributionSetId, targetAssignments);
+                    }
 
-            return rolloutGroupActions.getTotalElements();
-        });
+                    return rolloutGroupActions.getTotalElements();
+                }));
     }
 
     private Page<Action> findActionsByRolloutAndRolloutGroupParent(final Long rolloutId,
@@ -641,6 +659,10 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
     @Override
     public Slice<Action> findActionsByTarget(final String controllerId, final Pageable pageable) {
         throwExceptionIfTargetDoesNotExist(controllerId);
+        if (pageable instanceof KeysetPageRequest) {
+            return convertAcSlice(criteriaNoCountDao.findAll(ActionSpecifications.byTargetControllerId(controllerId),
+                    pageable, JpaAction.class), pageable);
+        }
         return actionRepository.findByTargetControllerId(pageable, controllerId);
     }
 
@@ -656,15 +678,41 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
 
     private Specification<JpaAction> createSpecificationFor(final String controllerId, final String rsqlParam) {
         final Specification<JpaAction> spec = RSQLUtility.parse(rsqlParam, ActionFields.class, virtualPropertyReplacer,
-                database);
+                database, parsedRsqlCache);
         return (root, query, cb) -> cb.and(spec.toPredicate(root, query, cb),
                 cb.equal(root.get(JpaAction_.target).get(JpaTarget_.controllerId), controllerId));
     }
 
+    @Override
+    public long exportActions(final String rsqlParam, final List<ActionExportFields> fields,
+            final Consumer<Object[]> rowConsumer) {
+        final Specification<JpaAction> spec = StringUtils.hasText(rsqlParam)
+                ? RSQLUtility.parse(rsqlParam, ActionFields.class, virtualPropertyReplacer, database, parsedRsqlCache)
+                : null;
+        return ExportHelper.export(entityManager, JpaAction.class, spec, fields, rowConsumer);
+    }
+
+    @Override
+    public long exportActionStatus(final String rsqlParam, final List<ActionStatusExportFields> fields,
+            final Consumer<Object[]> rowConsumer) {
+        final Specification<JpaActionStatus> spec = StringUtils.hasText(rsqlParam)
+                ? RSQLUtility.parse(rsqlParam, ActionStatusFields.class, virtualPropertyReplacer, database,
+                        parsedRsqlCache)
+                : null;
+        return ExportHelper.export(entityManager, JpaActionStatus.class, spec, fields, rowConsumer);
+    }
+
     private static Page<Action> convertAcPage(final Page<JpaAction> findAll, final Pageable pageable) {
         return new PageImpl<>(new ArrayList<>(findAll.getContent()), pageable, findAll.getTotalElements());
     }
 
+    private static Slice<Action> convertAcSlice(final Slice<JpaAction> findAll, final Pageable pageable) {
+        // a full slice might be followed by further actions, as it is the
+        // case for the cursor of the next page
+        final boolean hasNext = findAll.getNumberOfElements() >= pageable.getPageSize();
+        return new SliceImpl<>(new ArrayList<>(findAll.getContent()), pageable, hasNext);
+    }
+
     @Override
     public Page<Action> findActiveActionsByTarget(final Pageable pageable, final String controllerId) {
         throwExceptionIfTargetDoesNotExist(controllerId);
@@ -786,7 +834,7 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
 
     @Override
     public Slice<Action> findActionsAll(final Pageable pageable) {
-        return convertAcPage(actionRepository.findAll(pageable), pageable);
+        return convertAcPage(criteriaNoCountDao.findPage(null, pageable, JpaAction.class), pageable);
     }
 
     @Override
@@ -808,39 +856,26 @@ public class JpaDeploymentManagement extends JpaActionManagement implements Depl
             return 0;
         }
         /*
-         * We use a native query here because Spring JPA does not support to
-         * specify a LIMIT clause on a DELETE statement. However, for this
-         * specific use case (action cleanup), we must specify a row limit to
-         * reduce the overall load on the database.
+         * The IDs are selected first with a row limit to reduce the overall
+         * load on the database by the action cleanup, and to remove the
+         * deleted actions from the rollout group status counters as the bulk
+         * delete bypasses the entity listeners.
          */
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<JpaAction> root = query.from(JpaAction.class);
+        query.select(root.get(AbstractJpaBaseEntity_.id)).where(root.get(JpaAction_.status).in(status),
+                cb.lessThan(root.get(AbstractJpaBaseEntity_.lastModifiedAt), lastModified));
+        final List<Long> actionIds = entityManager.createQuery(query).setMaxResults(ACTION_PAGE_LIMIT)
+                .getResultList();
+        if (actionIds.isEmpty()) {
+            return 0;
+        }
 
-        final int statusCount = status.size();
-        final Status[] statusArr = status.toArray(new Status[statusCount]);
-
-        final String queryStr = String.format(getQueryForDeleteActionsByStatusAndLastModifiedBeforeString(database),
-                formatInClauseWithNumberKeys(statusCount));
-        final Query deleteQuery = entityManager.createNativeQuery(queryStr);
-
-        IntStream.range(0, statusCount)
-                .forEach(i -> deleteQuery.setParameter(String.valueOf(i), statusArr[i].ordinal()));
-        deleteQuery.setParameter("tenant", tenantAware.getCurrentTenant().toUpperCase());
-        deleteQuery.setParameter("last_modified_at", lastModified);
-
-        LOG.debug("Action cleanup: Executing the following (native) query: {}", deleteQuery);
-        return deleteQuery.executeUpdate();
-    }
-
-    private static String getQueryForDeleteActionsByStatusAndLastModifiedBeforeString(final Database database) {
-        return QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED.getOrDefault(database,
-                QUERY_DELETE_ACTIONS_BY_STATE_AND_LAST_MODIFIED_DEFAULT);
-    }
-
-    private static String formatInClauseWithNumberKeys(final int count) {
-        return formatInClause(IntStream.range(0, count).mapToObj(String::valueOf).collect(Collectors.toList()));
-    }
-
-    private static String formatInClause(final Collection<String> elements) {
-        return "#" + String.join(",#", elements);
+        LOG.debug("Action cleanup: Deleting {} actions", actionIds.size());
+        rolloutGroupStatusCounter.subtractActions(actionIds);
+        actionRepository.deleteByIdIn(actionIds);
+        return actionIds.size();
     }
 
     protected ActionRepository getActionRepository() {
@@ -41,6 +41,7 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSetMetadata;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSetMetadata_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSet_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModule;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.DistributionSetSpecification;
 import org.eclipse.hawkbit.repository.jpa.specifications.SpecificationsBuilder;
@@ -116,6 +117,8 @@ public class JpaDistributionSetManagement implements DistributionSetManagement {
 
     private final Database database;
 
+    private final ParsedRsqlCache parsedRsqlCache;
+
     JpaDistributionSetManagement(final EntityManager entityManager,
             final DistributionSetRepository distributionSetRepository,
             final DistributionSetTagManagement distributionSetTagManagement, final SystemManagement systemManagement,
@@ -126,7 +129,8 @@ public class JpaDistributionSetManagement implements DistributionSetManagement {
             final TenantAware tenantAware, final VirtualPropertyReplacer virtualPropertyReplacer,
             final SoftwareModuleRepository softwareModuleRepository,
             final DistributionSetTagRepository distributionSetTagRepository,
-            final AfterTransactionCommitExecutor afterCommit, final Database database) {
+            final AfterTransactionCommitExecutor afterCommit, final Database database,
+            final ParsedRsqlCache parsedRsqlCache) {
         this.entityManager = entityManager;
         this.distributionSetRepository = distributionSetRepository;
         this.distributionSetTagManagement = distributionSetTagManagement;
@@ -144,6 +148,7 @@ public class JpaDistributionSetManagement implements DistributionSetManagement {
         this.distributionSetTagRepository = distributionSetTagRepository;
         this.afterCommit = afterCommit;
         this.database = database;
+        this.parsedRsqlCache = parsedRsqlCache;
     }
 
     @Override
@@ -556,7 +561,7 @@ public class JpaDistributionSetManagement implements DistributionSetManagement {
         throwExceptionIfDistributionSetDoesNotExist(distributionSetId);
 
         final Specification<JpaDistributionSetMetadata> spec = RSQLUtility.parse(rsqlParam,
-                DistributionSetMetadataFields.class, virtualPropertyReplacer, database);
+                DistributionSetMetadataFields.class, virtualPropertyReplacer, database, parsedRsqlCache);
 
         return convertMdPage(
                 distributionSetMetadataRepository
@@ -785,7 +790,7 @@ public class JpaDistributionSetManagement implements DistributionSetManagement {
         throwEntityNotFoundExceptionIfDsTagDoesNotExist(tagId);
 
         final Specification<JpaDistributionSet> spec = RSQLUtility.parse(rsqlParam, DistributionSetFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
 
         return convertDsPage(findByCriteriaAPI(pageable, Arrays.asList(spec, DistributionSetSpecification.hasTag(tagId),
                 DistributionSetSpecification.isDeleted(false))), pageable);
@@ -800,7 +805,7 @@ public class JpaDistributionSetManagement implements DistributionSetManagement {
     @Override
     public Page<DistributionSet> findByRsql(final Pageable pageable, final String rsqlParam) {
         final Specification<JpaDistributionSet> spec = RSQLUtility.parse(rsqlParam, DistributionSetFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
 
         return convertDsPage(
                 findByCriteriaAPI(pageable, Arrays.asList(spec, DistributionSetSpecification.isDeleted(false))),
@@ -24,6 +24,7 @@ import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTagCreate;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSetTag;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.TagSpecification;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
@@ -59,15 +60,18 @@ public class JpaDistributionSetTagManagement implements DistributionSetTagManage
 
     private final Database database;
 
+    private final ParsedRsqlCache parsedRsqlCache;
+
     JpaDistributionSetTagManagement(final DistributionSetTagRepository distributionSetTagRepository,
             final DistributionSetRepository distributionSetRepository,
             final VirtualPropertyReplacer virtualPropertyReplacer, final NoCountPagingRepository criteriaNoCountDao,
-            final Database database) {
+            final Database database, final ParsedRsqlCache parsedRsqlCache) {
         this.distributionSetTagRepository = distributionSetTagRepository;
         this.distributionSetRepository = distributionSetRepository;
         this.virtualPropertyReplacer = virtualPropertyReplacer;
         this.criteriaNoCountDao = criteriaNoCountDao;
         this.database = database;
+        this.parsedRsqlCache = parsedRsqlCache;
     }
 
     @Override
@@ -135,7 +139,7 @@ public class JpaDistributionSetTagManagement implements DistributionSetTagManage
     @Override
     public Page<DistributionSetTag> findByRsql(final Pageable pageable, final String rsqlParam) {
         final Specification<JpaDistributionSetTag> spec = RSQLUtility.parse(rsqlParam, TagFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
 
         return convertDsPage(distributionSetTagRepository.findAll(spec, pageable), pageable);
     }
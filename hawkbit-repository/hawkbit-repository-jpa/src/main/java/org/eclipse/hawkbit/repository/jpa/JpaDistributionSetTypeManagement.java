@@ -32,6 +32,7 @@ import org.eclipse.hawkbit.repository.jpa.builder.JpaDistributionSetTypeCreate;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.JpaDistributionSetType;
 import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModuleType;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.DistributionSetTypeSpecification;
 import org.eclipse.hawkbit.repository.jpa.specifications.SpecificationsBuilder;
@@ -71,19 +72,22 @@ public class JpaDistributionSetTypeManagement implements DistributionSetTypeMana
     private final NoCountPagingRepository criteriaNoCountDao;
     private final Database database;
 
+    private final ParsedRsqlCache parsedRsqlCache;
+
     private final QuotaManagement quotaManagement;
 
     JpaDistributionSetTypeManagement(final DistributionSetTypeRepository distributionSetTypeRepository,
             final SoftwareModuleTypeRepository softwareModuleTypeRepository,
             final DistributionSetRepository distributionSetRepository,
             final VirtualPropertyReplacer virtualPropertyReplacer, final NoCountPagingRepository criteriaNoCountDao,
-            final Database database, final QuotaManagement quotaManagement) {
+            final Database database, final ParsedRsqlCache parsedRsqlCache, final QuotaManagement quotaManagement) {
         this.distributionSetTypeRepository = distributionSetTypeRepository;
         this.softwareModuleTypeRepository = softwareModuleTypeRepository;
         this.distributionSetRepository = distributionSetRepository;
         this.virtualPropertyReplacer = virtualPropertyReplacer;
         this.criteriaNoCountDao = criteriaNoCountDao;
         this.database = database;
+        this.parsedRsqlCache = parsedRsqlCache;
         this.quotaManagement = quotaManagement;
     }
 
@@ -227,8 +231,10 @@ public class JpaDistributionSetTypeManagement implements DistributionSetTypeMana
     public Page<DistributionSetType> findByRsql(final Pageable pageable, final String rsqlParam) {
         return convertPage(
                 findByCriteriaAPI(pageable,
-                        Arrays.asList(RSQLUtility.parse(rsqlParam, DistributionSetTypeFields.class,
-                                virtualPropertyReplacer, database), DistributionSetTypeSpecification.isDeleted(false))),
+                        Arrays.asList(
+                                RSQLUtility.parse(rsqlParam, DistributionSetTypeFields.class,
+                                        virtualPropertyReplacer, database, parsedRsqlCache),
+                                DistributionSetTypeSpecification.isDeleted(false))),
                 pageable);
     }
 
@@ -8,39 +8,57 @@
  */
 package org.eclipse.hawkbit.repository.jpa;
 
+import java.sql.Types;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import javax.persistence.EntityManager;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.Root;
 
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.QuotaManagement;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.RolloutApprovalStrategy;
 import org.eclipse.hawkbit.repository.RolloutExecutor;
 import org.eclipse.hawkbit.repository.RolloutGroupManagement;
 import org.eclipse.hawkbit.repository.RolloutHelper;
 import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
 import org.eclipse.hawkbit.repository.event.remote.RolloutGroupDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.RolloutUpdatedEvent;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.RolloutIllegalStateException;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
+import org.eclipse.hawkbit.repository.jpa.model.ActionDbValues;
 import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
 import org.eclipse.hawkbit.repository.jpa.model.RolloutTargetGroup;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupActionEvaluator;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.RolloutGroupConditionEvaluator;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
+import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
+import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
 import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
 import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Action.ActionType;
 import org.eclipse.hawkbit.repository.model.Action.Status;
-import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.Rollout;
 import org.eclipse.hawkbit.repository.model.Rollout.RolloutStatus;
 import org.eclipse.hawkbit.repository.model.RolloutGroup;
@@ -48,21 +66,28 @@ import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupErrorCondit
 import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupStatus;
 import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupSuccessCondition;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
 import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.BeansException;
 import org.springframework.context.ApplicationContext;
-import org.springframework.data.domain.Page;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionException;
 import org.springframework.util.StringUtils;
 
+import com.google.common.collect.Lists;
+
 /**
  * A Jpa implementation of {@link RolloutExecutor}
  */
@@ -80,6 +105,10 @@ public class JpaRolloutExecutor implements RolloutExecutor {
      */
     private static final int TRANSACTION_ACTIONS = 5_000;
 
+    private static final String INSERT_ROLLOUT_TARGET_GROUP = "INSERT INTO sp_rollouttargetgroup (rolloutGroup_Id, target_id) VALUES (?, ?)";
+
+    private static final String INSERT_SCHEDULED_ACTION = "INSERT INTO sp_action (tenant, created_at, created_by, last_modified_at, last_modified_by, optlock_revision, distribution_set, target, active, action_type, forced_time, weight, status, rolloutgroup, rollout, initiated_by) VALUES (?, ?, ?, ?, ?, 1, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
     /**
      * Action statuses that result in a terminated action
      */
@@ -106,6 +135,13 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     private final PlatformTransactionManager txManager;
     private final RolloutApprovalStrategy rolloutApprovalStrategy;
     private final ApplicationContext context;
+    private final VirtualPropertyReplacer virtualPropertyReplacer;
+    private final Database database;
+    private final ParsedRsqlCache parsedRsqlCache;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorProvider;
+    private final RolloutGroupStatusCounter rolloutGroupStatusCounter;
+    private final RepositoryProperties repositoryProperties;
 
     /**
      * Constructor
@@ -117,7 +153,12 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             final RolloutGroupManagement rolloutGroupManagement, final QuotaManagement quotaManagement,
             final DeploymentManagement deploymentManagement, final TargetManagement targetManagement,
             final EventPublisherHolder eventPublisherHolder, final PlatformTransactionManager txManager,
-            final RolloutApprovalStrategy rolloutApprovalStrategy, final ApplicationContext context) {
+            final RolloutApprovalStrategy rolloutApprovalStrategy, final ApplicationContext context,
+            final VirtualPropertyReplacer virtualPropertyReplacer, final Database database,
+            final ParsedRsqlCache parsedRsqlCache,
+            final JdbcTemplate jdbcTemplate, final AuditorAware<String> auditorProvider,
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter,
+            final RepositoryProperties repositoryProperties) {
         this.rolloutTargetGroupRepository = rolloutTargetGroupRepository;
         this.entityManager = entityManager;
         this.rolloutRepository = rolloutRepository;
@@ -133,6 +174,13 @@ public class JpaRolloutExecutor implements RolloutExecutor {
         this.txManager = txManager;
         this.rolloutApprovalStrategy = rolloutApprovalStrategy;
         this.context = context;
+        this.virtualPropertyReplacer = virtualPropertyReplacer;
+        this.database = database;
+        this.parsedRsqlCache = parsedRsqlCache;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorProvider = auditorProvider;
+        this.rolloutGroupStatusCounter = rolloutGroupStatusCounter;
+        this.repositoryProperties = repositoryProperties;
     }
 
     @Override
@@ -299,6 +347,13 @@ public class JpaRolloutExecutor implements RolloutExecutor {
                 final List<Long> actionIds = StreamSupport.stream(iterable.spliterator(), false).map(Action::getId)
                         .collect(Collectors.toList());
                 actionRepository.deleteByIdIn(actionIds);
+                rolloutGroupStatusCounter.subtract(StreamSupport.stream(iterable.spliterator(), false)
+                        .collect(Collectors.groupingBy(action -> action.getRolloutGroup().getId(),
+                                Collectors.counting()))
+                        .entrySet().stream()
+                        .map(count -> new TotalTargetCountActionStatus(count.getKey(), Status.SCHEDULED,
+                                count.getValue()))
+                        .collect(Collectors.toList()));
                 afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
                         .publishEvent(new RolloutUpdatedEvent(rollout, eventPublisherHolder.getApplicationId())));
             } catch (final RuntimeException e) {
@@ -390,11 +445,9 @@ public class JpaRolloutExecutor implements RolloutExecutor {
     }
 
     private boolean isRolloutGroupComplete(final JpaRollout rollout, final JpaRolloutGroup rolloutGroup) {
-        final Long actionsLeftForRollout = ActionType.DOWNLOAD_ONLY == rollout.getActionType()
-                ? actionRepository.countByRolloutAndRolloutGroupAndStatusNotIn(rollout, rolloutGroup,
-                        DOWNLOAD_ONLY_ACTION_TERMINATION_STATUSES)
-                : actionRepository.countByRolloutAndRolloutGroupAndStatusNotIn(rollout, rolloutGroup,
-                        DEFAULT_ACTION_TERMINATION_STATUSES);
+        final long actionsLeftForRollout = rolloutGroupStatusCounter.countNotIn(rolloutGroup.getId(),
+                ActionType.DOWNLOAD_ONLY == rollout.getActionType() ? DOWNLOAD_ONLY_ACTION_TERMINATION_STATUSES
+                        : DEFAULT_ACTION_TERMINATION_STATUSES);
         return actionsLeftForRollout == 0;
     }
 
@@ -534,18 +587,36 @@ public class JpaRolloutExecutor implements RolloutExecutor {
             final String targetFilter, final long limit) {
 
         return DeploymentHelper.runInNewTransaction(txManager, "assignTargetsToRolloutGroup", status -> {
-            final PageRequest pageRequest = PageRequest.of(0, Math.toIntExact(limit));
             final List<Long> readyGroups = RolloutHelper.getGroupsByStatusIncludingGroup(rollout.getRolloutGroups(),
                     RolloutGroupStatus.READY, group);
-            final Page<Target> targets = targetManagement.findByTargetFilterQueryAndNotInRolloutGroups(pageRequest,
-                    readyGroups, targetFilter);
+            final List<Long> targetIds = findTargetIdsByTargetFilterQueryAndNotInRolloutGroups(readyGroups,
+                    targetFilter, Math.toIntExact(limit));
 
-            createAssignmentOfTargetsToGroup(targets, group);
+            createAssignmentOfTargetsToGroup(targetIds, group);
 
-            return Long.valueOf(targets.getNumberOfElements());
+            return Long.valueOf(targetIds.size());
         });
     }
 
+    /**
+     * Retrieves only the IDs of the targets that match the filter and are not
+     * in one of the given groups, i.e. without loading the {@link Target}
+     * entities.
+     */
+    private List<Long> findTargetIdsByTargetFilterQueryAndNotInRolloutGroups(final Collection<Long> groups,
+            final String targetFilterQuery, final int limit) {
+        final Specification<JpaTarget> spec = RSQLUtility.parse(targetFilterQuery, TargetFields.class,
+                virtualPropertyReplacer, database, parsedRsqlCache);
+
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<JpaTarget> root = query.from(JpaTarget.class);
+        query.select(root.get(JpaTarget_.id)).where(spec.toPredicate(root, query, cb),
+                TargetSpecifications.isNotInRolloutGroups(groups).toPredicate(root, query, cb));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
     /**
      * Schedules a group of the rollout. Scheduled Actions are created to
      * achieve this. The creation of those Actions is allowed to fail.
@@ -586,74 +657,147 @@ public class JpaRolloutExecutor implements RolloutExecutor {
 
     private Long createActionsForTargetsInNewTransaction(final long rolloutId, final long groupId, final int limit) {
         return DeploymentHelper.runInNewTransaction(txManager, "createActionsForTargets", status -> {
-            final PageRequest pageRequest = PageRequest.of(0, limit);
             final Rollout rollout = rolloutRepository.findById(rolloutId)
                     .orElseThrow(() -> new EntityNotFoundException(Rollout.class, rolloutId));
             final RolloutGroup group = rolloutGroupRepository.findById(groupId)
                     .orElseThrow(() -> new EntityNotFoundException(RolloutGroup.class, groupId));
 
-            final DistributionSet distributionSet = rollout.getDistributionSet();
-            final ActionType actionType = rollout.getActionType();
-            final long forceTime = rollout.getForcedTime();
-
-            final Page<Target> targets = targetManagement.findByInRolloutGroupWithoutAction(pageRequest, groupId);
-            if (targets.getTotalElements() > 0) {
-                createScheduledAction(targets.getContent(), distributionSet, actionType, forceTime, rollout, group);
+            final List<Long> targetIds = findTargetIdsInRolloutGroupWithoutAction(groupId, limit);
+            if (!targetIds.isEmpty()) {
+                createScheduledActions(targetIds, rollout, group);
             }
 
-            return Long.valueOf(targets.getNumberOfElements());
+            return Long.valueOf(targetIds.size());
         });
     }
 
-    private void createAssignmentOfTargetsToGroup(final Page<Target> targets, final RolloutGroup group) {
-        targets.forEach(target -> rolloutTargetGroupRepository.save(new RolloutTargetGroup(group, target)));
+    /**
+     * Retrieves only the IDs of the targets of the group that have no action
+     * of the group yet, i.e. without loading the {@link Target} entities.
+     */
+    private List<Long> findTargetIdsInRolloutGroupWithoutAction(final long groupId, final int limit) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        final Root<JpaTarget> root = query.from(JpaTarget.class);
+        query.select(root.get(JpaTarget_.id))
+                .where(TargetSpecifications.hasNoActionInRolloutGroup(groupId).toPredicate(root, query, cb));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    /**
+     * Assigns the targets to the group by native SQL batch inserts as
+     * {@link RolloutTargetGroup} has no state besides the IDs.
+     */
+    private void createAssignmentOfTargetsToGroup(final List<Long> targetIds, final RolloutGroup group) {
+        jdbcTemplate.batchUpdate(INSERT_ROLLOUT_TARGET_GROUP, targetIds, Constants.MAX_ENTRIES_IN_STATEMENT,
+                (ps, targetId) -> {
+                    ps.setLong(1, group.getId());
+                    ps.setLong(2, targetId);
+                });
     }
 
     /**
      * Creates an action entry into the action repository. In case of existing
      * scheduled actions the scheduled actions gets canceled. A scheduled action
      * is created in-active.
+     *
+     * The actions are inserted by native SQL batch inserts, i.e. without the
+     * entity listeners. Their creation is published afterwards by
+     * {@link #publishScheduledActionsCreated(List, Rollout, RolloutGroup)}.
      */
-    private void createScheduledAction(final Collection<Target> targets, final DistributionSet distributionSet,
-            final ActionType actionType, final Long forcedTime, final Rollout rollout,
+    private void createScheduledActions(final List<Long> targetIds, final Rollout rollout,
             final RolloutGroup rolloutGroup) {
+        final List<List<Long>> targetIdsChunks = Lists.partition(targetIds, Constants.MAX_ENTRIES_IN_STATEMENT);
+
         // cancel all current scheduled actions for this target. E.g. an action
         // is already scheduled and a next action is created then cancel the
         // current scheduled action to cancel. E.g. a new scheduled action is
         // created.
-        final List<Long> targetIds = targets.stream().map(Target::getId).collect(Collectors.toList());
-        deploymentManagement.cancelInactiveScheduledActionsForTargets(targetIds);
-        targets.forEach(target -> {
-
-            assertActionsPerTargetQuota(target, 1);
-
-            final JpaAction action = new JpaAction();
-            action.setTarget(target);
-            action.setActive(false);
-            action.setDistributionSet(distributionSet);
-            action.setActionType(actionType);
-            action.setForcedTime(forcedTime);
-            action.setStatus(Status.SCHEDULED);
-            action.setRollout(rollout);
-            action.setRolloutGroup(rolloutGroup);
-            action.setInitiatedBy(rollout.getCreatedBy());
-            rollout.getWeight().ifPresent(action::setWeight);
-            actionRepository.save(action);
+        targetIdsChunks.forEach(deploymentManagement::cancelInactiveScheduledActionsForTargets);
+        assertActionsPerTargetQuota(targetIds);
+
+        final String tenant = tenantAware.getCurrentTenant().toUpperCase();
+        final String currentUser = auditorProvider.getCurrentAuditor().orElse(null);
+        final long now = System.currentTimeMillis();
+        final Integer weight = rollout.getWeight().orElse(null);
+
+        jdbcTemplate.batchUpdate(INSERT_SCHEDULED_ACTION, targetIds, Constants.MAX_ENTRIES_IN_STATEMENT,
+                (ps, targetId) -> {
+                    ps.setString(1, tenant);
+                    ps.setLong(2, now);
+                    ps.setString(3, currentUser);
+                    ps.setLong(4, now);
+                    ps.setString(5, currentUser);
+                    ps.setLong(6, rollout.getDistributionSet().getId());
+                    ps.setLong(7, targetId);
+                    ps.setBoolean(8, false);
+                    ps.setInt(9, ActionDbValues.valueOf(rollout.getActionType()));
+                    ps.setLong(10, rollout.getForcedTime());
+                    ps.setObject(11, weight, Types.INTEGER);
+                    ps.setInt(12, ActionDbValues.valueOf(Status.SCHEDULED));
+                    ps.setLong(13, rolloutGroup.getId());
+                    ps.setLong(14, rollout.getId());
+                    ps.setString(15, rollout.getCreatedBy());
+                });
+        rolloutGroupStatusCounter.add(rolloutGroup.getId(), Status.SCHEDULED, targetIds.size());
+
+        publishScheduledActionsCreated(targetIds, rollout, rolloutGroup);
+    }
+
+    /**
+     * Publishes an {@link ActionCreatedEvent} per created action or, if their
+     * number reaches {@link RepositoryProperties#getBulkEventThreshold()}, one
+     * {@link BulkEntityEvent} for all of them, as the entity listeners would
+     * within a bulk scope.
+     */
+    private void publishScheduledActionsCreated(final List<Long> targetIds, final Rollout rollout,
+            final RolloutGroup rolloutGroup) {
+        final List<Long> actionIds = new ArrayList<>(targetIds.size());
+        final List<Long> actionTargetIds = new ArrayList<>(targetIds.size());
+        Lists.partition(targetIds, Constants.MAX_ENTRIES_IN_STATEMENT)
+                .forEach(chunk -> actionRepository
+                        .findIdAndTargetIdByRolloutGroupIdAndTargetIdIn(rolloutGroup.getId(), chunk).forEach(row -> {
+                            actionIds.add((Long) row[0]);
+                            actionTargetIds.add((Long) row[1]);
+                        }));
+
+        final String tenant = tenantAware.getCurrentTenant().toUpperCase();
+        final String applicationId = eventPublisherHolder.getApplicationId();
+        final int threshold = repositoryProperties.getBulkEventThreshold();
+        if (threshold > 0 && actionIds.size() >= threshold) {
+            afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher()
+                    .publishEvent(new BulkEntityEvent(tenant, applicationId, JpaAction.class.getName(),
+                            Kind.CREATED, actionIds, actionTargetIds, Collections.emptyList(),
+                            Collections.singletonList(rollout.getId()),
+                            Collections.singletonList(rolloutGroup.getId()))));
+            return;
+        }
+
+        // the events are created from the IDs, the actions are loaded only
+        // by listeners that need them
+        afterCommit.afterCommit(() -> {
+            for (int i = 0; i < actionIds.size(); i++) {
+                eventPublisherHolder.getEventPublisher()
+                        .publishEvent(new ActionCreatedEvent(tenant, actionIds.get(i), JpaAction.class.getName(),
+                                actionTargetIds.get(i), rollout.getId(), rolloutGroup.getId(), applicationId));
+            }
         });
     }
 
     /**
      * Enforces the quota defining the maximum number of {@link Action}s per
-     * {@link Target}.
+     * {@link Target} for one new action per target, with one grouped count
+     * query for all targets.
      *
-     * @param target
-     *            The target
-     * @param requested
-     *            number of actions to check
+     * @param targetIds
+     *            of the targets
      */
-    private void assertActionsPerTargetQuota(final Target target, final int requested) {
+    private void assertActionsPerTargetQuota(final List<Long> targetIds) {
         final int quota = quotaManagement.getMaxActionsPerTarget();
-        QuotaHelper.assertAssignmentQuota(target.getId(), requested, quota, Action.class, Target.class,
-                actionRepository::countByTargetId);
+        QuotaHelper.assertAssignmentQuota(
+                targetIds.stream().collect(Collectors.toMap(Function.identity(), id -> 1L, Long::sum)), quota,
+                Action.class, Target.class,
+                ids -> QuotaHelper.toCountMap(actionRepository.countByTargetIdInGroupByTargetId(ids)));
     }
 }
@@ -10,11 +10,16 @@ package org.eclipse.hawkbit.repository.jpa;
 
 import static org.eclipse.hawkbit.repository.jpa.builder.JpaRolloutGroupCreate.addSuccessAndErrorConditionsAndActions;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.locks.Lock;
 import java.util.stream.Collectors;
 
@@ -46,6 +51,8 @@ import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
 import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutWorkerPool;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.RolloutSpecification;
 import org.eclipse.hawkbit.repository.jpa.specifications.SpecificationsBuilder;
@@ -120,6 +127,18 @@ public class JpaRolloutManagement extends AbstractRolloutManagement {
     @Autowired
     private RolloutStatusCache rolloutStatusCache;
 
+    @Autowired
+    private RolloutWorkerPool rolloutWorkerPool;
+
+    @Autowired
+    private RolloutGroupStatusCounter rolloutGroupStatusCounter;
+
+    @Autowired
+    private NoCountPagingRepository criteriaNoCountDao;
+
+    @Autowired
+    private ParsedRsqlCache parsedRsqlCache;
+
     private final RolloutExecutor rolloutExecutor;
 
     private final EventPublisherHolder eventPublisherHolder;
@@ -145,13 +164,15 @@ public class JpaRolloutManagement extends AbstractRolloutManagement {
     @Override
     public Page<Rollout> findAll(final Pageable pageable, final boolean deleted) {
         final Specification<JpaRollout> spec = RolloutSpecification.isDeletedWithDistributionSet(deleted);
-        return JpaRolloutHelper.convertPage(rolloutRepository.findAll(spec, pageable), pageable);
+        return JpaRolloutHelper.convertPage(criteriaNoCountDao.findPage(spec, pageable, JpaRollout.class),
+                pageable);
     }
 
     @Override
     public Page<Rollout> findByRsql(final Pageable pageable, final String rsqlParam, final boolean deleted) {
         final List<Specification<JpaRollout>> specList = Lists.newArrayListWithExpectedSize(2);
-        specList.add(RSQLUtility.parse(rsqlParam, RolloutFields.class, virtualPropertyReplacer, database));
+        specList.add(
+                RSQLUtility.parse(rsqlParam, RolloutFields.class, virtualPropertyReplacer, database, parsedRsqlCache));
         specList.add(RolloutSpecification.isDeletedWithDistributionSet(deleted));
 
         return JpaRolloutHelper.convertPage(findByCriteriaAPI(pageable, specList), pageable);
@@ -163,10 +184,11 @@ public class JpaRolloutManagement extends AbstractRolloutManagement {
     private Page<JpaRollout> findByCriteriaAPI(final Pageable pageable,
             final List<Specification<JpaRollout>> specList) {
         if (CollectionUtils.isEmpty(specList)) {
-            return rolloutRepository.findAll(pageable);
+            return criteriaNoCountDao.findPage(null, pageable, JpaRollout.class);
         }
 
-        return rolloutRepository.findAll(SpecificationsBuilder.combineWithAnd(specList), pageable);
+        return criteriaNoCountDao.findPage(SpecificationsBuilder.combineWithAnd(specList), pageable,
+                JpaRollout.class);
     }
 
     @Override
@@ -392,23 +414,61 @@ public class JpaRolloutManagement extends AbstractRolloutManagement {
     // No transaction, will be created per handled rollout
     @Transactional(propagation = Propagation.NEVER)
     public void handleRollouts() {
-        final List<Long> rollouts = rolloutRepository.findByStatusIn(ACTIVE_ROLLOUTS);
+        handleRolloutsWithLock(rolloutRepository.findByStatusIn(ACTIVE_ROLLOUTS));
+    }
 
+    @Override
+    // No transaction, will be created per handled rollout
+    @Transactional(propagation = Propagation.NEVER)
+    public void handleRollouts(final Collection<Long> rolloutIds) {
+        if (rolloutIds.isEmpty()) {
+            return;
+        }
+
+        handleRolloutsWithLock(Lists.partition(new ArrayList<>(rolloutIds), Constants.MAX_ENTRIES_IN_STATEMENT)
+                .stream().flatMap(ids -> rolloutRepository.findByIdInAndStatusIn(ids, ACTIVE_ROLLOUTS).stream())
+                .collect(Collectors.toList()));
+    }
+
+    private void handleRolloutsWithLock(final List<Long> rollouts) {
         if (rollouts.isEmpty()) {
             return;
         }
 
         final String tenant = tenantAware.getCurrentTenant();
 
-        final String handlerId = tenant + "-rollout";
+        // independent rollouts are handled concurrently, each under its own
+        // lock
+        final List<CompletableFuture<Void>> handlings = rollouts.stream()
+                .map(rolloutId -> rolloutWorkerPool.submit(tenant, () -> handleRolloutWithLock(tenant, rolloutId)))
+                .collect(Collectors.toList());
+
+        RuntimeException failure = null;
+        for (final CompletableFuture<Void> handling : handlings) {
+            try {
+                handling.join();
+            } catch (final CompletionException e) {
+                if (failure == null) {
+                    failure = e.getCause() instanceof RuntimeException ? (RuntimeException) e.getCause() : e;
+                }
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private void handleRolloutWithLock(final String tenant, final long rolloutId) {
+        // tenants are case insensitive, the handlers may be called with either
+        final String handlerId = tenant.toUpperCase() + "-rollout-" + rolloutId;
         final Lock lock = lockRegistry.obtain(handlerId);
         if (!lock.tryLock()) {
             return;
         }
 
         try {
-            rollouts.forEach(rolloutId -> DeploymentHelper.runInNewTransaction(txManager, handlerId + "-" + rolloutId,
-                    status -> handleRollout(rolloutId)));
+            DeploymentHelper.runInNewTransaction(txManager, handlerId, status -> handleRollout(rolloutId));
         } finally {
             lock.unlock();
         }
@@ -417,7 +477,8 @@ public class JpaRolloutManagement extends AbstractRolloutManagement {
     private long handleRollout(final long rolloutId) {
         final JpaRollout rollout = rolloutRepository.findById(rolloutId)
                 .orElseThrow(() -> new EntityNotFoundException(Rollout.class, rolloutId));
-        runInUserContext(rollout, () -> rolloutExecutor.execute(rollout));
+        rolloutWorkerPool.record(rollout.getStatus(),
+                () -> runInUserContext(rollout, () -> rolloutExecutor.execute(rollout)));
         return 0;
     }
 
@@ -512,7 +573,7 @@ public class JpaRolloutManagement extends AbstractRolloutManagement {
     public Page<Rollout> findAllWithDetailedStatus(final Pageable pageable, final boolean deleted) {
         Page<JpaRollout> rollouts;
         final Specification<JpaRollout> spec = RolloutSpecification.isDeletedWithDistributionSet(deleted);
-        rollouts = rolloutRepository.findAll(spec, pageable);
+        rollouts = criteriaNoCountDao.findPage(spec, pageable, JpaRollout.class);
         setRolloutStatusDetails(rollouts);
         return JpaRolloutHelper.convertPage(rollouts, pageable);
     }
@@ -528,7 +589,8 @@ public class JpaRolloutManagement extends AbstractRolloutManagement {
         List<TotalTargetCountActionStatus> rolloutStatusCountItems = rolloutStatusCache.getRolloutStatus(rolloutId);
 
         if (CollectionUtils.isEmpty(rolloutStatusCountItems)) {
-            rolloutStatusCountItems = actionRepository.getStatusCountByRolloutId(rolloutId);
+            rolloutStatusCountItems = rolloutGroupStatusCounter
+                    .getStatusCountByRolloutId(Collections.singletonList(rolloutId));
             rolloutStatusCache.putRolloutStatus(rolloutId, rolloutStatusCountItems);
         }
 
@@ -554,7 +616,7 @@ public class JpaRolloutManagement extends AbstractRolloutManagement {
                 .collect(Collectors.toList());
 
         if (!rolloutIds.isEmpty()) {
-            final List<TotalTargetCountActionStatus> resultList = actionRepository
+            final List<TotalTargetCountActionStatus> resultList = rolloutGroupStatusCounter
                     .getStatusCountByRolloutId(rolloutIds);
             final Map<Long, List<TotalTargetCountActionStatus>> fromDb = resultList.stream()
                     .collect(Collectors.groupingBy(TotalTargetCountActionStatus::getId));
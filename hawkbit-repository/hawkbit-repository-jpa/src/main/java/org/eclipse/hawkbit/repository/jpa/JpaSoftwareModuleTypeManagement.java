@@ -24,6 +24,7 @@ import org.eclipse.hawkbit.repository.jpa.builder.JpaSoftwareModuleTypeCreate;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModuleType;
 import org.eclipse.hawkbit.repository.jpa.model.JpaSoftwareModuleType_;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.model.SoftwareModuleType;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
@@ -58,17 +59,20 @@ public class JpaSoftwareModuleTypeManagement implements SoftwareModuleTypeManage
     private final NoCountPagingRepository criteriaNoCountDao;
     private final Database database;
 
+    private final ParsedRsqlCache parsedRsqlCache;
+
     public JpaSoftwareModuleTypeManagement(final DistributionSetTypeRepository distributionSetTypeRepository,
             final SoftwareModuleTypeRepository softwareModuleTypeRepository,
             final VirtualPropertyReplacer virtualPropertyReplacer,
             final SoftwareModuleRepository softwareModuleRepository, final NoCountPagingRepository criteriaNoCountDao,
-            final Database database) {
+            final Database database, final ParsedRsqlCache parsedRsqlCache) {
         this.distributionSetTypeRepository = distributionSetTypeRepository;
         this.softwareModuleTypeRepository = softwareModuleTypeRepository;
         this.virtualPropertyReplacer = virtualPropertyReplacer;
         this.softwareModuleRepository = softwareModuleRepository;
         this.criteriaNoCountDao = criteriaNoCountDao;
         this.database = database;
+        this.parsedRsqlCache = parsedRsqlCache;
     }
 
     @Override
@@ -91,7 +95,7 @@ public class JpaSoftwareModuleTypeManagement implements SoftwareModuleTypeManage
     public Page<SoftwareModuleType> findByRsql(final Pageable pageable, final String rsqlParam) {
 
         final Specification<JpaSoftwareModuleType> spec = RSQLUtility.parse(rsqlParam, SoftwareModuleTypeFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
 
         return convertPage(softwareModuleTypeRepository.findAll(spec, pageable), pageable);
     }
@@ -17,8 +17,11 @@ import javax.persistence.EntityManager;
 
 import org.eclipse.hawkbit.artifact.repository.ArtifactRepository;
 import org.eclipse.hawkbit.cache.TenancyCacheManager;
+import org.eclipse.hawkbit.repository.ControllerStateCache;
 import org.eclipse.hawkbit.repository.RolloutStatusCache;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.repository.TenantStatsManagement;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
@@ -123,6 +126,18 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
     @Autowired
     private RolloutStatusCache rolloutStatusCache;
 
+    @Autowired
+    private ControllerStateCache controllerStateCache;
+
+    @Autowired
+    private TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache;
+
+    @Autowired
+    private TargetAuthenticationCache targetAuthenticationCache;
+
+    @Autowired
+    private TargetPollTracker targetPollTracker;
+
     @Autowired
     private ArtifactRepository artifactRepository;
 
@@ -248,6 +263,10 @@ public class JpaSystemManagement implements CurrentTenantCacheKeyGenerator, Syst
         final String tenant = t.toUpperCase();
         cacheManager.evictCaches(tenant);
         rolloutStatusCache.evictCaches(tenant);
+        controllerStateCache.evictCaches(tenant);
+        tenantConfigurationSnapshotCache.evictCaches(tenant);
+        targetAuthenticationCache.evictCaches(tenant);
+        targetPollTracker.discardPendingPolls(tenant);
         tenantAware.runAsTenant(tenant, () -> {
             entityManager.setProperty(PersistenceUnitProperties.MULTITENANT_PROPERTY_DEFAULT, tenant);
             tenantMetaDataRepository.deleteByTenantIgnoreCase(tenant);
@@ -9,14 +9,21 @@
 package org.eclipse.hawkbit.repository.jpa;
 
 import java.net.URI;
+import java.sql.Types;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.persistence.EntityManager;
@@ -26,15 +33,21 @@ import javax.persistence.criteria.Expression;
 import javax.persistence.criteria.MapJoin;
 import javax.persistence.criteria.Predicate;
 import javax.persistence.criteria.Root;
+import javax.validation.ConstraintViolation;
+import javax.validation.Validator;
 
+import org.eclipse.hawkbit.exception.AbstractServerRtException;
+import org.eclipse.hawkbit.exception.SpServerError;
 import org.eclipse.hawkbit.repository.FilterParams;
 import org.eclipse.hawkbit.repository.QuotaManagement;
+import org.eclipse.hawkbit.repository.TargetExportFields;
 import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.TargetMetadataFields;
 import org.eclipse.hawkbit.repository.TimestampCalculator;
 import org.eclipse.hawkbit.repository.builder.TargetCreate;
 import org.eclipse.hawkbit.repository.builder.TargetUpdate;
+import org.eclipse.hawkbit.repository.event.remote.MultiTargetCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
@@ -50,16 +63,22 @@ import org.eclipse.hawkbit.repository.jpa.model.JpaTargetMetadata;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTargetMetadata_;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTargetTag;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget_;
+import org.eclipse.hawkbit.repository.jpa.model.TargetDbValues;
 import org.eclipse.hawkbit.repository.jpa.model.TargetMetadataCompositeKey;
+import org.eclipse.hawkbit.repository.jpa.model.helper.SecurityTokenGeneratorHolder;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.SpecificationsBuilder;
 import org.eclipse.hawkbit.repository.jpa.specifications.TargetSpecifications;
+import org.eclipse.hawkbit.repository.jpa.utils.ExportHelper;
 import org.eclipse.hawkbit.repository.jpa.utils.QuotaHelper;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.MetaData;
 import org.eclipse.hawkbit.repository.model.RolloutGroup;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetFilterQuery;
+import org.eclipse.hawkbit.repository.model.TargetImport;
+import org.eclipse.hawkbit.repository.model.TargetImportResult;
 import org.eclipse.hawkbit.repository.model.TargetMetadata;
 import org.eclipse.hawkbit.repository.model.TargetTag;
 import org.eclipse.hawkbit.repository.model.TargetTagAssignmentResult;
@@ -68,12 +87,14 @@ import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
@@ -92,6 +113,18 @@ import com.google.common.collect.Lists;
 @Validated
 public class JpaTargetManagement implements TargetManagement {
 
+    private static final int IN_CLAUSE_PARTITION_SIZE = 1000;
+
+    private static final String TENANT_PROPERTY = "tenant";
+
+    private static final String INSERT_TARGET = "INSERT INTO sp_target (tenant, created_at, created_by, last_modified_at, last_modified_by, optlock_revision, name, description, controller_id, sec_token, address, last_target_query, update_status, request_controller_attributes) VALUES (?, ?, ?, ?, ?, 1, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String INSERT_TARGET_ATTRIBUTE = "INSERT INTO sp_target_attributes (target_id, attribute_key, attribute_value) VALUES (?, ?, ?)";
+
+    private static final String INSERT_TARGET_TAG = "INSERT INTO sp_target_target_tag (target, tag) VALUES (?, ?)";
+
+    private static final String INSERT_TARGET_METADATA = "INSERT INTO sp_target_metadata (target_id, meta_key, meta_value) VALUES (?, ?, ?)";
+
     private final EntityManager entityManager;
 
     private final QuotaManagement quotaManagement;
@@ -118,8 +151,18 @@ public class JpaTargetManagement implements TargetManagement {
 
     private final VirtualPropertyReplacer virtualPropertyReplacer;
 
+    private final RolloutGroupStatusCounter rolloutGroupStatusCounter;
+
     private final Database database;
 
+    private final ParsedRsqlCache parsedRsqlCache;
+
+    private final Validator validator;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final AuditorAware<String> auditorProvider;
+
     public JpaTargetManagement(final EntityManager entityManager, final QuotaManagement quotaManagement,
             final TargetRepository targetRepository, final TargetMetadataRepository targetMetadataRepository,
             final RolloutGroupRepository rolloutGroupRepository,
@@ -128,8 +171,11 @@ public class JpaTargetManagement implements TargetManagement {
             final TargetTagRepository targetTagRepository, final NoCountPagingRepository criteriaNoCountDao,
             final EventPublisherHolder eventPublisherHolder, final TenantAware tenantAware,
             final AfterTransactionCommitExecutor afterCommit, final VirtualPropertyReplacer virtualPropertyReplacer,
-            final Database database) {
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter, final Database database,
+            final ParsedRsqlCache parsedRsqlCache, final Validator validator, final JdbcTemplate jdbcTemplate,
+            final AuditorAware<String> auditorProvider) {
         this.entityManager = entityManager;
+        this.rolloutGroupStatusCounter = rolloutGroupStatusCounter;
         this.quotaManagement = quotaManagement;
         this.targetRepository = targetRepository;
         this.targetMetadataRepository = targetMetadataRepository;
@@ -143,6 +189,10 @@ public class JpaTargetManagement implements TargetManagement {
         this.afterCommit = afterCommit;
         this.virtualPropertyReplacer = virtualPropertyReplacer;
         this.database = database;
+        this.parsedRsqlCache = parsedRsqlCache;
+        this.validator = validator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorProvider = auditorProvider;
     }
 
     @Override
@@ -283,7 +333,7 @@ public class JpaTargetManagement implements TargetManagement {
         final Long targetId = getByControllerIdAndThrowIfNotFound(controllerId).getId();
 
         final Specification<JpaTargetMetadata> spec = RSQLUtility.parse(rsqlParam, TargetMetadataFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
 
         return convertMdPage(targetMetadataRepository.findAll((Specification<JpaTargetMetadata>) (root, query, cb) -> cb
                 .and(cb.equal(root.get(JpaTargetMetadata_.target).get(JpaTarget_.id), targetId),
@@ -309,18 +359,30 @@ public class JpaTargetManagement implements TargetManagement {
                 .orElseThrow(() -> new EntityNotFoundException(TargetFilterQuery.class, targetFilterQueryId));
 
         return findTargetsBySpec(
-                RSQLUtility.parse(targetFilterQuery.getQuery(), TargetFields.class, virtualPropertyReplacer, database),
+                RSQLUtility.parse(targetFilterQuery.getQuery(), TargetFields.class, virtualPropertyReplacer, database,
+                        parsedRsqlCache),
                 pageable);
     }
 
     @Override
     public Page<Target> findByRsql(final Pageable pageable, final String targetFilterQuery) {
         return findTargetsBySpec(
-                RSQLUtility.parse(targetFilterQuery, TargetFields.class, virtualPropertyReplacer, database), pageable);
+                RSQLUtility.parse(targetFilterQuery, TargetFields.class, virtualPropertyReplacer, database,
+                        parsedRsqlCache),
+                pageable);
     }
 
     private Page<Target> findTargetsBySpec(final Specification<JpaTarget> spec, final Pageable pageable) {
-        return convertPage(targetRepository.findAll(spec, pageable), pageable);
+        return convertPage(criteriaNoCountDao.findPage(spec, pageable, JpaTarget.class), pageable);
+    }
+
+    @Override
+    public long export(final String rsqlParam, final List<TargetExportFields> fields,
+            final Consumer<Object[]> rowConsumer) {
+        final Specification<JpaTarget> spec = StringUtils.hasText(rsqlParam)
+                ? RSQLUtility.parse(rsqlParam, TargetFields.class, virtualPropertyReplacer, database, parsedRsqlCache)
+                : null;
+        return ExportHelper.export(entityManager, JpaTarget.class, spec, fields, rowConsumer);
     }
 
     @Override
@@ -352,6 +414,8 @@ public class JpaTargetManagement implements TargetManagement {
                     targets.stream().map(Target::getId).collect(Collectors.toList()));
         }
 
+        // the actions of the targets are deleted by the database
+        rolloutGroupStatusCounter.subtractActionsOfTargets(targetIDs);
         targetRepository.deleteByIdIn(targetIDs);
 
         afterCommit
@@ -385,7 +449,7 @@ public class JpaTargetManagement implements TargetManagement {
         throwEntityNotFoundIfDsDoesNotExist(distributionSetID);
 
         final Specification<JpaTarget> spec = RSQLUtility.parse(rsqlParam, TargetFields.class, virtualPropertyReplacer,
-                database);
+                database, parsedRsqlCache);
 
         return convertPage(
                 targetRepository
@@ -422,7 +486,7 @@ public class JpaTargetManagement implements TargetManagement {
         throwEntityNotFoundIfDsDoesNotExist(distributionSetId);
 
         final Specification<JpaTarget> spec = RSQLUtility.parse(rsqlParam, TargetFields.class, virtualPropertyReplacer,
-                database);
+                database, parsedRsqlCache);
 
         return convertPage(
                 targetRepository
@@ -659,7 +723,7 @@ public class JpaTargetManagement implements TargetManagement {
         throwEntityNotFoundIfDsDoesNotExist(distributionSetId);
 
         final Specification<JpaTarget> spec = RSQLUtility.parse(targetFilterQuery, TargetFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
 
         return findTargetsBySpec(
                 (root, cq,
@@ -669,12 +733,27 @@ public class JpaTargetManagement implements TargetManagement {
 
     }
 
+    @Override
+    public Page<Target> findByIdInAndTargetFilterQueryAndNonDS(final Pageable pageRequest,
+            final Collection<Long> targetIds, final long distributionSetId, final String targetFilterQuery) {
+        throwEntityNotFoundIfDsDoesNotExist(distributionSetId);
+
+        final Specification<JpaTarget> spec = RSQLUtility.parse(targetFilterQuery, TargetFields.class,
+                virtualPropertyReplacer, database, parsedRsqlCache);
+
+        return findTargetsBySpec(
+                (root, cq, cb) -> cb.and(TargetSpecifications.hasIdIn(targetIds).toPredicate(root, cq, cb),
+                        spec.toPredicate(root, cq, cb), TargetSpecifications
+                                .hasNotDistributionSetInActions(distributionSetId).toPredicate(root, cq, cb)),
+                pageRequest);
+    }
+
     @Override
     public Page<Target> findByTargetFilterQueryAndNotInRolloutGroups(final Pageable pageRequest,
             final Collection<Long> groups, final String targetFilterQuery) {
 
         final Specification<JpaTarget> spec = RSQLUtility.parse(targetFilterQuery, TargetFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
 
         return findTargetsBySpec((root, cq, cb) -> cb.and(spec.toPredicate(root, cq, cb),
                 TargetSpecifications.isNotInRolloutGroups(groups).toPredicate(root, cq, cb)), pageRequest);
@@ -695,7 +774,7 @@ public class JpaTargetManagement implements TargetManagement {
     @Override
     public long countByRsqlAndNotInRolloutGroups(final Collection<Long> groups, final String targetFilterQuery) {
         final Specification<JpaTarget> spec = RSQLUtility.parse(targetFilterQuery, TargetFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
         final List<Specification<JpaTarget>> specList = Arrays.asList(spec,
                 TargetSpecifications.isNotInRolloutGroups(groups));
 
@@ -707,7 +786,7 @@ public class JpaTargetManagement implements TargetManagement {
         throwEntityNotFoundIfDsDoesNotExist(distributionSetId);
 
         final Specification<JpaTarget> spec = RSQLUtility.parse(targetFilterQuery, TargetFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
         final List<Specification<JpaTarget>> specList = Lists.newArrayListWithExpectedSize(2);
         specList.add(spec);
         specList.add(TargetSpecifications.hasNotDistributionSetInActions(distributionSetId));
@@ -732,6 +811,186 @@ public class JpaTargetManagement implements TargetManagement {
         return targets.stream().map(this::create).collect(Collectors.toList());
     }
 
+    @Override
+    @Transactional
+    @Retryable(include = {
+            ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
+    public TargetImportResult importTargets(final Collection<TargetImport> targets) {
+        final List<TargetImportResult.Error> errors = new ArrayList<>();
+        final String tenant = tenantAware.getCurrentTenant();
+        final Map<TargetImport, JpaTarget> builds = new LinkedHashMap<>();
+        final Map<TargetImport, String> securityTokens = new HashMap<>();
+        targets.forEach(targetImport -> {
+            final JpaTargetCreate create = (JpaTargetCreate) targetImport.getCreate();
+            final JpaTarget target = create.build();
+            // the token is kept as the target only exposes it with permission
+            final String securityToken = create.getSecurityToken().filter(StringUtils::hasText)
+                    .orElseGet(() -> SecurityTokenGeneratorHolder.getInstance().generateToken());
+            target.setSecurityToken(securityToken);
+            builds.put(targetImport, target);
+            securityTokens.put(targetImport, securityToken);
+        });
+
+        // existing targets and the tags are resolved for the whole chunk
+        // instead of per target
+        final Set<String> existing = Lists
+                .partition(builds.values().stream().map(JpaTarget::getControllerId).filter(Objects::nonNull)
+                        .distinct().collect(Collectors.toList()), IN_CLAUSE_PARTITION_SIZE)
+                .stream().flatMap(ids -> targetRepository.filterNonExistingControllerIds(ids).stream())
+                .collect(Collectors.toSet());
+        final Set<String> tagNames = targets.stream().flatMap(target -> target.getTags().stream())
+                .collect(Collectors.toSet());
+        final Map<String, JpaTargetTag> tags = tagNames.isEmpty() ? Collections.emptyMap()
+                : targetTagRepository.findByNameIn(tagNames).stream()
+                        .collect(Collectors.toMap(JpaTargetTag::getName, Function.identity()));
+
+        final Set<String> imported = new HashSet<>();
+        final Map<TargetImport, JpaTarget> accepted = new LinkedHashMap<>();
+        for (final Map.Entry<TargetImport, JpaTarget> build : builds.entrySet()) {
+            final TargetImportResult.Error error = validateImport(build.getKey(), build.getValue(), existing,
+                    imported, tags);
+            if (error != null) {
+                errors.add(error);
+                continue;
+            }
+            imported.add(build.getValue().getControllerId());
+            accepted.put(build.getKey(), build.getValue());
+        }
+
+        if (!accepted.isEmpty()) {
+            insertImportedTargets(accepted, securityTokens, tags);
+            final List<JpaTarget> created = new ArrayList<>(accepted.values());
+            afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher().publishEvent(
+                    new MultiTargetCreatedEvent(tenant, eventPublisherHolder.getApplicationId(), created)));
+        }
+
+        return new TargetImportResult(accepted.size(), errors);
+    }
+
+    /**
+     * Inserts the accepted targets of an import together with their
+     * attributes, tags and metadata by native SQL batch inserts, i.e. without
+     * the entity listeners. The generated IDs of the targets are read back by
+     * their controllerIds and set on the given targets.
+     */
+    private void insertImportedTargets(final Map<TargetImport, JpaTarget> accepted,
+            final Map<TargetImport, String> securityTokens, final Map<String, JpaTargetTag> tags) {
+        final String tenant = tenantAware.getCurrentTenant().toUpperCase();
+        final String currentUser = auditorProvider.getCurrentAuditor().orElse(null);
+        final long now = System.currentTimeMillis();
+
+        jdbcTemplate.batchUpdate(INSERT_TARGET, new ArrayList<>(accepted.entrySet()),
+                Constants.MAX_ENTRIES_IN_STATEMENT, (ps, entry) -> {
+                    final JpaTarget target = entry.getValue();
+                    ps.setString(1, tenant);
+                    ps.setLong(2, now);
+                    ps.setString(3, currentUser);
+                    ps.setLong(4, now);
+                    ps.setString(5, currentUser);
+                    ps.setString(6, target.getName());
+                    ps.setString(7, target.getDescription());
+                    ps.setString(8, target.getControllerId());
+                    ps.setString(9, securityTokens.get(entry.getKey()));
+                    ps.setString(10, Objects.toString(target.getAddress(), null));
+                    ps.setObject(11, target.getLastTargetQuery(), Types.BIGINT);
+                    ps.setInt(12, TargetDbValues.valueOf(target.getUpdateStatus()));
+                    ps.setBoolean(13, target.isRequestControllerAttributes());
+                });
+
+        final Map<String, JpaTarget> byControllerId = accepted.values().stream()
+                .collect(Collectors.toMap(JpaTarget::getControllerId, Function.identity()));
+        Lists.partition(new ArrayList<>(byControllerId.keySet()), IN_CLAUSE_PARTITION_SIZE)
+                .forEach(chunk -> targetRepository.findIdAndControllerIdByControllerIdIn(chunk)
+                        .forEach(row -> byControllerId.get((String) row[1]).setId((Long) row[0])));
+
+        final List<Object[]> attributes = new ArrayList<>();
+        final List<Object[]> targetTags = new ArrayList<>();
+        final List<Object[]> metadata = new ArrayList<>();
+        accepted.forEach((targetImport, target) -> {
+            targetImport.getAttributes()
+                    .forEach((key, value) -> attributes.add(new Object[] { target.getId(), key, value }));
+            targetImport.getTags()
+                    .forEach(name -> targetTags.add(new Object[] { target.getId(), tags.get(name).getId() }));
+            targetImport.getMetadata()
+                    .forEach((key, value) -> metadata.add(new Object[] { target.getId(), key, value }));
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_TARGET_ATTRIBUTE, attributes, Constants.MAX_ENTRIES_IN_STATEMENT,
+                (ps, attribute) -> {
+                    ps.setLong(1, (Long) attribute[0]);
+                    ps.setString(2, (String) attribute[1]);
+                    ps.setString(3, (String) attribute[2]);
+                });
+        jdbcTemplate.batchUpdate(INSERT_TARGET_TAG, targetTags, Constants.MAX_ENTRIES_IN_STATEMENT,
+                (ps, targetTag) -> {
+                    ps.setLong(1, (Long) targetTag[0]);
+                    ps.setLong(2, (Long) targetTag[1]);
+                });
+        jdbcTemplate.batchUpdate(INSERT_TARGET_METADATA, metadata, Constants.MAX_ENTRIES_IN_STATEMENT,
+                (ps, entry) -> {
+                    ps.setLong(1, (Long) entry[0]);
+                    ps.setString(2, (String) entry[1]);
+                    ps.setString(3, (String) entry[2]);
+                });
+    }
+
+    private TargetImportResult.Error validateImport(final TargetImport targetImport, final JpaTarget target,
+            final Set<String> existing, final Set<String> imported, final Map<String, JpaTargetTag> tags) {
+        final long line = targetImport.getLine();
+        final String controllerId = target.getControllerId();
+
+        // the tenant is not validated as it is set on persist
+        final Set<ConstraintViolation<JpaTarget>> violations = validator.validate(target).stream()
+                .filter(violation -> !TENANT_PROPERTY.equals(violation.getPropertyPath().toString()))
+                .collect(Collectors.toSet());
+        if (!violations.isEmpty()) {
+            return new TargetImportResult.Error(line, controllerId, SpServerError.SP_REPO_CONSTRAINT_VIOLATION,
+                    violations.stream().map(violation -> violation.getPropertyPath() + " " + violation.getMessage())
+                            .collect(Collectors.joining(", ")));
+        }
+        if (existing.contains(controllerId) || imported.contains(controllerId)) {
+            return new TargetImportResult.Error(line, controllerId, SpServerError.SP_REPO_ENTITY_ALREADY_EXISTS,
+                    "Target with controller ID '" + controllerId + "' already exists");
+        }
+
+        final Optional<String> unknownTag = targetImport.getTags().stream().filter(name -> !tags.containsKey(name))
+                .findAny();
+        if (unknownTag.isPresent()) {
+            return new TargetImportResult.Error(line, controllerId, SpServerError.SP_REPO_ENTITY_NOT_EXISTS,
+                    "Target tag '" + unknownTag.get() + "' does not exist");
+        }
+
+        if (targetImport.getAttributes().entrySet().stream()
+                .anyMatch(entry -> entry.getKey() == null || entry.getKey().length() > Target.CONTROLLER_ATTRIBUTE_KEY_SIZE
+                        || (entry.getValue() != null
+                                && entry.getValue().length() > Target.CONTROLLER_ATTRIBUTE_VALUE_SIZE))) {
+            return new TargetImportResult.Error(line, controllerId, SpServerError.SP_TARGET_ATTRIBUTES_INVALID,
+                    SpServerError.SP_TARGET_ATTRIBUTES_INVALID.getMessage());
+        }
+
+        final Optional<String> invalidMetadata = targetImport.getMetadata().entrySet().stream()
+                .flatMap(entry -> validator.validate(new JpaTargetMetadata(entry.getKey(), entry.getValue()))
+                        .stream())
+                .map(violation -> "metadata " + violation.getPropertyPath() + " " + violation.getMessage())
+                .findAny();
+        if (invalidMetadata.isPresent()) {
+            return new TargetImportResult.Error(line, controllerId, SpServerError.SP_REPO_CONSTRAINT_VIOLATION,
+                    invalidMetadata.get());
+        }
+
+        try {
+            QuotaHelper.assertAssignmentQuota(null, targetImport.getAttributes().size(),
+                    quotaManagement.getMaxAttributeEntriesPerTarget(), "Attribute", Target.class.getSimpleName(),
+                    null);
+            QuotaHelper.assertAssignmentQuota(null, targetImport.getMetadata().size(),
+                    quotaManagement.getMaxMetaDataEntriesPerTarget(), TargetMetadata.class, Target.class, null);
+        } catch (final AbstractServerRtException e) {
+            return new TargetImportResult.Error(line, controllerId, e.getError(), e.getMessage());
+        }
+
+        return null;
+    }
+
     @Override
     public Page<Target> findByTag(final Pageable pageable, final long tagId) {
         throwEntityNotFoundExceptionIfTagDoesNotExist(tagId);
@@ -751,7 +1010,7 @@ public class JpaTargetManagement implements TargetManagement {
         throwEntityNotFoundExceptionIfTagDoesNotExist(tagId);
 
         final Specification<JpaTarget> spec = RSQLUtility.parse(rsqlParam, TargetFields.class, virtualPropertyReplacer,
-                database);
+                database, parsedRsqlCache);
 
         return convertPage(targetRepository.findAll((Specification<JpaTarget>) (root, query, cb) -> cb.and(
                 TargetSpecifications.hasTag(tagId).toPredicate(root, query, cb), spec.toPredicate(root, query, cb)),
@@ -764,14 +1023,14 @@ public class JpaTargetManagement implements TargetManagement {
                 .orElseThrow(() -> new EntityNotFoundException(TargetFilterQuery.class, targetFilterQueryId));
 
         final Specification<JpaTarget> specs = RSQLUtility.parse(targetFilterQuery.getQuery(), TargetFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
         return targetRepository.count(specs);
     }
 
     @Override
     public long countByRsql(final String targetFilterQuery) {
         final Specification<JpaTarget> specs = RSQLUtility.parse(targetFilterQuery, TargetFields.class,
-                virtualPropertyReplacer, database);
+                virtualPropertyReplacer, database, parsedRsqlCache);
         return targetRepository.count((root, query, cb) -> {
             query.distinct(true);
             return specs.toPredicate(root, query, cb);
@@ -23,6 +23,7 @@ import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTagCreate;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTargetTag;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
 import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.specifications.TagSpecification;
 import org.eclipse.hawkbit.repository.model.Target;
@@ -54,13 +55,16 @@ public class JpaTargetTagManagement implements TargetTagManagement {
     private final VirtualPropertyReplacer virtualPropertyReplacer;
     private final Database database;
 
+    private final ParsedRsqlCache parsedRsqlCache;
+
     public JpaTargetTagManagement(final TargetTagRepository targetTagRepository,
             final TargetRepository targetRepository, final VirtualPropertyReplacer virtualPropertyReplacer,
-            final Database database) {
+            final Database database, final ParsedRsqlCache parsedRsqlCache) {
         this.targetTagRepository = targetTagRepository;
         this.targetRepository = targetRepository;
         this.virtualPropertyReplacer = virtualPropertyReplacer;
         this.database = database;
+        this.parsedRsqlCache = parsedRsqlCache;
     }
 
     @Override
@@ -107,7 +111,7 @@ public class JpaTargetTagManagement implements TargetTagManagement {
     public Page<TargetTag> findByRsql(final Pageable pageable, final String rsqlParam) {
 
         final Specification<JpaTargetTag> spec = RSQLUtility.parse(rsqlParam, TagFields.class, virtualPropertyReplacer,
-                database);
+                database, parsedRsqlCache);
         return convertTPage(targetTagRepository.findAll(spec, pageable), pageable);
     }
 
@@ -14,11 +14,13 @@ import static org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationPrope
 import java.io.Serializable;
 
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.repository.exception.TenantConfigurationValueChangeNotAllowedException;
 import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTenantConfiguration;
 import org.eclipse.hawkbit.repository.model.TenantConfiguration;
 import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
+import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.eclipse.hawkbit.tenancy.configuration.validator.TenantConfigurationValidatorException;
@@ -34,6 +36,8 @@ import org.springframework.dao.ConcurrencyFailureException;
 import org.springframework.retry.annotation.Backoff;
 import org.springframework.retry.annotation.Retryable;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.validation.annotation.Validated;
 
 /**
@@ -54,6 +58,12 @@ public class JpaTenantConfigurationManagement implements TenantConfigurationMana
     @Autowired
     private ApplicationContext applicationContext;
 
+    @Autowired
+    private TenantConfigurationSnapshotCache snapshotCache;
+
+    @Autowired
+    private TenantAware tenantAware;
+
     private static final ConfigurableConversionService conversionService = new DefaultConversionService();
 
     @Override
@@ -162,6 +172,7 @@ public class JpaTenantConfigurationManagement implements TenantConfigurationMana
 
         final JpaTenantConfiguration updatedTenantConfiguration = tenantConfigurationRepository
                 .save(tenantConfiguration);
+        evictSnapshot();
 
         @SuppressWarnings("unchecked")
         final Class<T> clazzT = (Class<T>) value.getClass();
@@ -215,5 +226,26 @@ public class JpaTenantConfigurationManagement implements TenantConfigurationMana
             ConcurrencyFailureException.class }, maxAttempts = Constants.TX_RT_MAX, backoff = @Backoff(delay = Constants.TX_RT_DELAY))
     public void deleteConfiguration(final String configurationKeyName) {
         tenantConfigurationRepository.deleteByKey(configurationKeyName);
+        evictSnapshot();
+    }
+
+    /**
+     * Evicts the snapshot of the current tenant right away and again on
+     * completion of the transaction, i.e. a snapshot that has been loaded
+     * concurrently or in this transaction is not kept after commit or
+     * rollback. Other nodes evict on the change event.
+     */
+    private void evictSnapshot() {
+        final String tenant = tenantAware.getCurrentTenant();
+        snapshotCache.evictCaches(tenant);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronizationAdapter() {
+                @Override
+                public void afterCompletion(final int status) {
+                    snapshotCache.evictCaches(tenant);
+                }
+            });
+        }
     }
 }
@@ -0,0 +1,59 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
+import org.eclipse.hawkbit.repository.model.TenantConfigurationSnapshot;
+import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties;
+import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.core.convert.support.DefaultConversionService;
+
+/**
+ * Loads the {@link TenantConfigurationSnapshot} of the current tenant for the
+ * {@link TenantConfigurationSnapshotCache}, i.e. the stored values of the
+ * tenant and the defaults of the other keys.
+ */
+class JpaTenantConfigurationSnapshotLoader implements Supplier<TenantConfigurationSnapshot> {
+
+    private static final ConversionService CONVERSION_SERVICE = new DefaultConversionService();
+
+    private final TenantConfigurationRepository tenantConfigurationRepository;
+    private final TenantConfigurationProperties tenantConfigurationProperties;
+
+    JpaTenantConfigurationSnapshotLoader(final TenantConfigurationRepository tenantConfigurationRepository,
+            final TenantConfigurationProperties tenantConfigurationProperties) {
+        this.tenantConfigurationRepository = tenantConfigurationRepository;
+        this.tenantConfigurationProperties = tenantConfigurationProperties;
+    }
+
+    @Override
+    public TenantConfigurationSnapshot get() {
+        final Map<String, String> stored = new HashMap<>();
+        tenantConfigurationRepository.findAll().forEach(config -> stored.put(config.getKey(), config.getValue()));
+
+        final Map<String, Object> values = new HashMap<>();
+        for (final TenantConfigurationKey key : tenantConfigurationProperties.getConfigurationKeys()) {
+            final String value = stored.containsKey(key.getKeyName()) ? stored.get(key.getKeyName())
+                    : key.getDefaultValue();
+            if (value != null) {
+                final Object converted = CONVERSION_SERVICE.convert(value, key.getDataType());
+                if (converted != null) {
+                    values.put(key.getKeyName(), converted);
+                }
+            }
+        }
+
+        return new TenantConfigurationSnapshot(values);
+    }
+}
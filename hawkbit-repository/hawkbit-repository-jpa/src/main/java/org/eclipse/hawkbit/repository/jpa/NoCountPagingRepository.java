@@ -15,6 +15,9 @@ import javax.persistence.Entity;
 import javax.persistence.EntityManager;
 import javax.persistence.TypedQuery;
 
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
+import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
+import org.eclipse.hawkbit.repository.jpa.specifications.KeysetSpecification;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -23,6 +26,7 @@ import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.repository.support.PageableExecutionUtils;
 import org.springframework.lang.Nullable;
 import org.springframework.stereotype.Repository;
 
@@ -53,12 +57,37 @@ public class NoCountPagingRepository {
      *      .data.jpa.domain.Specification,
      *      org.springframework.data.domain.Pageable)
      */
-    public <T, I extends Serializable> Slice<T> findAll(final Specification<T> spec, final Pageable pageable,
-            final Class<T> domainClass) {
+    public <T, I extends Serializable> Slice<T> findAll(@Nullable final Specification<T> spec,
+            final Pageable pageable, final Class<T> domainClass) {
         final SimpleJpaNoCountRepository<T, I> noCountDao = new SimpleJpaNoCountRepository<>(domainClass, em);
+        if (pageable instanceof KeysetPageRequest) {
+            return findAfterKeys(noCountDao, spec, (KeysetPageRequest) pageable, domainClass);
+        }
         return noCountDao.findAll(spec, pageable);
     }
 
+    /**
+     * Searches with a count query, i.e. as
+     * {@link org.springframework.data.jpa.repository.JpaSpecificationExecutor#findAll(Specification, Pageable)}
+     * but with support for a {@link KeysetPageRequest}. The count query is
+     * skipped if the total can be derived from the content.
+     *
+     * @param spec
+     *            to search for
+     * @param pageable
+     *            information
+     * @param domainClass
+     *            of the {@link Entity}
+     *
+     * @return {@link Page} of data
+     */
+    public <T, I extends Serializable> Page<T> findPage(@Nullable final Specification<T> spec,
+            final Pageable pageable, final Class<T> domainClass) {
+        final SimpleJpaNoCountRepository<T, I> noCountDao = new SimpleJpaNoCountRepository<>(domainClass, em);
+        final List<T> content = findAll(spec, pageable, domainClass).getContent();
+        return PageableExecutionUtils.getPage(content, pageable, () -> noCountDao.count(spec));
+    }
+
     /**
      * Searches without the need for an extra count query.
      *
@@ -74,8 +103,23 @@ public class NoCountPagingRepository {
      *      org.springframework.data.domain.Pageable)
      */
     public <T, I extends Serializable> Slice<T> findAll(final Pageable pageable, final Class<T> domainClass) {
-        final SimpleJpaNoCountRepository<T, I> noCountDao = new SimpleJpaNoCountRepository<>(domainClass, em);
-        return noCountDao.findAll(pageable);
+        return findAll(null, pageable, domainClass);
+    }
+
+    /**
+     * Continues after the keys of the page request if given and if the sort
+     * is supported by {@link KeysetSpecification}. Falls back to the absolute
+     * offset of the page request otherwise.
+     */
+    private <T, I extends Serializable> Slice<T> findAfterKeys(final SimpleJpaNoCountRepository<T, I> noCountDao,
+            @Nullable final Specification<T> spec, final KeysetPageRequest pageRequest, final Class<T> domainClass) {
+        if (pageRequest.hasKeys() && KeysetSpecification.isSeekable(em.getMetamodel(), domainClass,
+                pageRequest.getSort())) {
+            return noCountDao.findAll(Specification.where(spec).and(KeysetSpecification.isAfterKeys(pageRequest)),
+                    pageRequest.getSeekPageRequest());
+        }
+        return noCountDao.findAll(spec,
+                new OffsetBasedPageRequest(pageRequest.getOffset(), pageRequest.getPageSize(), pageRequest.getSort()));
     }
 
     /**
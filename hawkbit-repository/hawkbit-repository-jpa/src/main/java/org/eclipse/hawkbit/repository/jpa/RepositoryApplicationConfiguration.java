@@ -14,12 +14,14 @@ import java.util.concurrent.ScheduledExecutorService;
 
 import javax.persistence.EntityManager;
 import javax.sql.DataSource;
+import javax.validation.Validator;
 
 import com.google.common.collect.Maps;
 
 import org.eclipse.hawkbit.artifact.repository.ArtifactRepository;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.ControllerStateCache;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
 import org.eclipse.hawkbit.repository.DistributionSetManagement;
 import org.eclipse.hawkbit.repository.DistributionSetTagManagement;
@@ -37,10 +39,12 @@ import org.eclipse.hawkbit.repository.RolloutStatusCache;
 import org.eclipse.hawkbit.repository.SoftwareModuleManagement;
 import org.eclipse.hawkbit.repository.SoftwareModuleTypeManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
 import org.eclipse.hawkbit.repository.TargetFilterQueryManagement;
 import org.eclipse.hawkbit.repository.TargetManagement;
 import org.eclipse.hawkbit.repository.TargetTagManagement;
 import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.repository.TenantStatsManagement;
 import org.eclipse.hawkbit.repository.autoassign.AutoAssignExecutor;
 import org.eclipse.hawkbit.repository.builder.DistributionSetBuilder;
@@ -52,10 +56,13 @@ import org.eclipse.hawkbit.repository.builder.TargetFilterQueryBuilder;
 import org.eclipse.hawkbit.repository.event.ApplicationEventFilter;
 import org.eclipse.hawkbit.repository.event.remote.EventEntityManager;
 import org.eclipse.hawkbit.repository.event.remote.EventEntityManagerHolder;
+import org.eclipse.hawkbit.repository.event.remote.EventSnapshotHolder;
+import org.eclipse.hawkbit.repository.event.remote.MultiTargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.jpa.aspects.ExceptionMappingAspectHandler;
 import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignChecker;
 import org.eclipse.hawkbit.repository.jpa.autoassign.AutoAssignScheduler;
+import org.eclipse.hawkbit.repository.jpa.autoassign.IncrementalAutoAssignScheduler;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoActionCleanup;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.AutoCleanupScheduler;
 import org.eclipse.hawkbit.repository.jpa.autocleanup.CleanupTask;
@@ -65,6 +72,8 @@ import org.eclipse.hawkbit.repository.jpa.builder.JpaRolloutBuilder;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaSoftwareModuleBuilder;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaSoftwareModuleMetadataBuilder;
 import org.eclipse.hawkbit.repository.jpa.builder.JpaTargetFilterQueryBuilder;
+import org.eclipse.hawkbit.repository.jpa.cluster.DatabaseLockRegistry;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantPartitioning;
 import org.eclipse.hawkbit.repository.jpa.configuration.MultiTenantJpaTransactionManager;
 import org.eclipse.hawkbit.repository.jpa.event.JpaEventEntityManager;
 import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitDefaultServiceExecutor;
@@ -74,11 +83,15 @@ import org.eclipse.hawkbit.repository.jpa.model.helper.EntityInterceptorHolder;
 import org.eclipse.hawkbit.repository.jpa.model.helper.SecurityTokenGeneratorHolder;
 import org.eclipse.hawkbit.repository.jpa.model.helper.SystemSecurityContextHolder;
 import org.eclipse.hawkbit.repository.jpa.model.helper.TenantAwareHolder;
+import org.eclipse.hawkbit.repository.jpa.rollout.EventDrivenRolloutScheduler;
 import org.eclipse.hawkbit.repository.jpa.rollout.RolloutScheduler;
+import org.eclipse.hawkbit.repository.jpa.rollout.RolloutWorkerPool;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.PauseRolloutGroupAction;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.StartNextGroupRolloutGroupSuccessAction;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.ThresholdRolloutGroupErrorCondition;
 import org.eclipse.hawkbit.repository.jpa.rollout.condition.ThresholdRolloutGroupSuccessCondition;
+import org.eclipse.hawkbit.repository.jpa.rsql.ParsedRsqlCache;
+import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility;
 import org.eclipse.hawkbit.repository.jpa.rsql.RsqlParserValidationOracle;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.DistributionSetType;
@@ -95,6 +108,7 @@ import org.eclipse.hawkbit.security.HawkbitSecurityProperties;
 import org.eclipse.hawkbit.security.SecurityTokenGenerator;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties;
 import org.eclipse.persistence.config.PersistenceUnitProperties;
 import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.AutoConfigureAfter;
@@ -106,6 +120,7 @@ import org.springframework.boot.autoconfigure.orm.jpa.JpaBaseConfiguration;
 import org.springframework.boot.autoconfigure.orm.jpa.JpaProperties;
 import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
 import org.springframework.context.ApplicationContext;
+import org.springframework.context.ApplicationEvent;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.context.annotation.EnableAspectJAutoProxy;
@@ -116,6 +131,7 @@ import org.springframework.data.domain.AuditorAware;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
 import org.springframework.orm.jpa.vendor.AbstractJpaVendorAdapter;
 import org.springframework.orm.jpa.vendor.EclipseLinkJpaDialect;
 import org.springframework.orm.jpa.vendor.EclipseLinkJpaVendorAdapter;
@@ -127,6 +143,9 @@ import org.springframework.transaction.annotation.EnableTransactionManagement;
 import org.springframework.transaction.jta.JtaTransactionManager;
 import org.springframework.validation.beanvalidation.MethodValidationPostProcessor;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+
 /**
  * General configuration for hawkBit's Repository.
  *
@@ -168,15 +187,62 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
 
     @Bean
     @ConditionalOnMissingBean
-    ThresholdRolloutGroupErrorCondition thresholdRolloutGroupErrorCondition(final ActionRepository actionRepository) {
-        return new ThresholdRolloutGroupErrorCondition(actionRepository);
+    ThresholdRolloutGroupErrorCondition thresholdRolloutGroupErrorCondition(
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter) {
+        return new ThresholdRolloutGroupErrorCondition(rolloutGroupStatusCounter);
     }
 
     @Bean
     @ConditionalOnMissingBean
     ThresholdRolloutGroupSuccessCondition thresholdRolloutGroupSuccessCondition(
-            final ActionRepository actionRepository) {
-        return new ThresholdRolloutGroupSuccessCondition(actionRepository);
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter) {
+        return new ThresholdRolloutGroupSuccessCondition(rolloutGroupStatusCounter);
+    }
+
+    /**
+     * {@link RolloutGroupStatusCounter} bean which folds the logged counter
+     * changes in the configured interval.
+     *
+     * @return a new {@link RolloutGroupStatusCounter}
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    RolloutGroupStatusCounter rolloutGroupStatusCounter(final TenantAware tenantAware,
+            final LockRegistry lockRegistry, final PlatformTransactionManager txManager,
+            final ScheduledExecutorService executorService, final RepositoryProperties repositoryProperties) {
+        return new RolloutGroupStatusCounter(new JdbcTemplate(getDataSource()), tenantAware, lockRegistry, txManager,
+                executorService, repositoryProperties.getRolloutGroupStatusCountFoldInterval());
+    }
+
+    /**
+     * {@link TenantPartitioning} bean.
+     *
+     * @return a new {@link TenantPartitioning}
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    TenantPartitioning tenantPartitioning(final RepositoryProperties repositoryProperties,
+            final PlatformTransactionManager txManager, final ScheduledExecutorService executorService,
+            final JpaProperties properties) {
+        return new TenantPartitioning(repositoryProperties, new JdbcTemplate(getDataSource()), txManager,
+                executorService, properties.getDatabase());
+    }
+
+    /**
+     * {@link DatabaseLockRegistry} bean in
+     * {@link RepositoryProperties#isClusterMode()}, replaces the node local
+     * {@link LockRegistry}.
+     *
+     * @return a new {@link DatabaseLockRegistry}
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.server.repository", name = "cluster-mode", havingValue = "true")
+    LockRegistry lockRegistry(final RepositoryProperties repositoryProperties,
+            final TenantPartitioning tenantPartitioning, final PlatformTransactionManager txManager,
+            final ScheduledExecutorService executorService, final JpaProperties properties) {
+        return new DatabaseLockRegistry(new JdbcTemplate(getDataSource()), txManager, executorService,
+                tenantPartitioning.getNodeId(), repositoryProperties.getClusterLeaseTime(), properties.getDatabase());
     }
 
     @Bean
@@ -215,10 +281,45 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
         return new RolloutStatusCache(tenantAware);
     }
 
+    @Bean
+    @ConditionalOnMissingBean
+    ControllerStateCache controllerStateCache(final TenantAware tenantAware) {
+        return new ControllerStateCache(tenantAware);
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache(final TenantAware tenantAware,
+            final TenantConfigurationRepository tenantConfigurationRepository,
+            final TenantConfigurationProperties tenantConfigurationProperties) {
+        return new TenantConfigurationSnapshotCache(tenantAware,
+                new JpaTenantConfigurationSnapshotLoader(tenantConfigurationRepository, tenantConfigurationProperties));
+    }
+
+    @Bean
+    @ConditionalOnMissingBean
+    TargetAuthenticationCache targetAuthenticationCache() {
+        return new TargetAuthenticationCache();
+    }
+
     @Bean
     @ConditionalOnMissingBean
     ApplicationEventFilter applicationEventFilter(final RepositoryProperties repositoryProperties) {
-        return e -> e instanceof TargetPollEvent && !repositoryProperties.isPublishTargetPollEvent();
+        return new ApplicationEventFilter() {
+            @Override
+            public boolean filter(final ApplicationEvent event) {
+                return isTargetPollEvent(event) && !repositoryProperties.isPublishTargetPollEvent();
+            }
+
+            @Override
+            public boolean filterRemote(final ApplicationEvent event) {
+                return isTargetPollEvent(event) && !repositoryProperties.isRemoteTargetPollEvent();
+            }
+
+            private boolean isTargetPollEvent(final ApplicationEvent event) {
+                return event instanceof TargetPollEvent || event instanceof MultiTargetPollEvent;
+            }
+        };
     }
 
     /**
@@ -447,12 +548,13 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final TenantAware tenantAware, final VirtualPropertyReplacer virtualPropertyReplacer,
             final SoftwareModuleRepository softwareModuleRepository,
             final DistributionSetTagRepository distributionSetTagRepository,
-            final AfterTransactionCommitExecutor afterCommit, final JpaProperties properties) {
+            final AfterTransactionCommitExecutor afterCommit, final JpaProperties properties,
+            final ParsedRsqlCache parsedRsqlCache) {
         return new JpaDistributionSetManagement(entityManager, distributionSetRepository, distributionSetTagManagement,
                 systemManagement, distributionSetTypeManagement, quotaManagement, distributionSetMetadataRepository,
                 targetFilterQueryRepository, actionRepository, criteriaNoCountDao, eventPublisherHolder, tenantAware,
                 virtualPropertyReplacer, softwareModuleRepository, distributionSetTagRepository, afterCommit,
-                properties.getDatabase());
+                properties.getDatabase(), parsedRsqlCache);
 
     }
 
@@ -468,10 +570,11 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final SoftwareModuleTypeRepository softwareModuleTypeRepository,
             final DistributionSetRepository distributionSetRepository,
             final VirtualPropertyReplacer virtualPropertyReplacer, final NoCountPagingRepository criteriaNoCountDao,
-            final JpaProperties properties, final QuotaManagement quotaManagement) {
+            final JpaProperties properties, final ParsedRsqlCache parsedRsqlCache,
+            final QuotaManagement quotaManagement) {
         return new JpaDistributionSetTypeManagement(distributionSetTypeRepository, softwareModuleTypeRepository,
                 distributionSetRepository, virtualPropertyReplacer, criteriaNoCountDao, properties.getDatabase(),
-                quotaManagement);
+                parsedRsqlCache, quotaManagement);
     }
 
     /**
@@ -511,11 +614,14 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final TargetTagRepository targetTagRepository, final NoCountPagingRepository criteriaNoCountDao,
             final EventPublisherHolder eventPublisherHolder, final TenantAware tenantAware,
             final AfterTransactionCommitExecutor afterCommit, final VirtualPropertyReplacer virtualPropertyReplacer,
-            final JpaProperties properties) {
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter, final JpaProperties properties,
+            final ParsedRsqlCache parsedRsqlCache, final Validator validator,
+            final AuditorAware<String> auditorProvider) {
         return new JpaTargetManagement(entityManager, quotaManagement, targetRepository, targetMetadataRepository,
                 rolloutGroupRepository, distributionSetRepository, targetFilterQueryRepository, targetTagRepository,
                 criteriaNoCountDao, eventPublisherHolder, tenantAware, afterCommit, virtualPropertyReplacer,
-                properties.getDatabase());
+                rolloutGroupStatusCounter, properties.getDatabase(), parsedRsqlCache, validator,
+                new JdbcTemplate(getDataSource()), auditorProvider);
     }
 
     /**
@@ -544,11 +650,12 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final TargetFilterQueryRepository targetFilterQueryRepository, final TargetManagement targetManagement,
             final VirtualPropertyReplacer virtualPropertyReplacer,
             final DistributionSetManagement distributionSetManagement, final QuotaManagement quotaManagement,
-            final JpaProperties properties, final TenantConfigurationManagement tenantConfigurationManagement,
+            final JpaProperties properties, final ParsedRsqlCache parsedRsqlCache,
+            final TenantConfigurationManagement tenantConfigurationManagement,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware) {
         return new JpaTargetFilterQueryManagement(targetFilterQueryRepository, targetManagement,
                 virtualPropertyReplacer, distributionSetManagement, quotaManagement, properties.getDatabase(),
-                tenantConfigurationManagement, systemSecurityContext, tenantAware);
+                parsedRsqlCache, tenantConfigurationManagement, systemSecurityContext, tenantAware);
     }
 
     /**
@@ -560,9 +667,9 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
     @ConditionalOnMissingBean
     TargetTagManagement targetTagManagement(final TargetTagRepository targetTagRepository,
             final TargetRepository targetRepository, final VirtualPropertyReplacer virtualPropertyReplacer,
-            final JpaProperties properties) {
+            final JpaProperties properties, final ParsedRsqlCache parsedRsqlCache) {
         return new JpaTargetTagManagement(targetTagRepository, targetRepository, virtualPropertyReplacer,
-                properties.getDatabase());
+                properties.getDatabase(), parsedRsqlCache);
     }
 
     /**
@@ -576,9 +683,9 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final DistributionSetTagRepository distributionSetTagRepository,
             final DistributionSetRepository distributionSetRepository,
             final VirtualPropertyReplacer virtualPropertyReplacer, final NoCountPagingRepository criteriaNoCountDao,
-            final JpaProperties properties) {
+            final JpaProperties properties, final ParsedRsqlCache parsedRsqlCache) {
         return new JpaDistributionSetTagManagement(distributionSetTagRepository, distributionSetRepository,
-                virtualPropertyReplacer, criteriaNoCountDao, properties.getDatabase());
+                virtualPropertyReplacer, criteriaNoCountDao, properties.getDatabase(), parsedRsqlCache);
     }
 
     /**
@@ -595,10 +702,12 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final SoftwareModuleTypeRepository softwareModuleTypeRepository,
             final NoCountPagingRepository criteriaNoCountDao, final AuditorAware<String> auditorProvider,
             final ArtifactManagement artifactManagement, final QuotaManagement quotaManagement,
-            final VirtualPropertyReplacer virtualPropertyReplacer, final JpaProperties properties) {
+            final VirtualPropertyReplacer virtualPropertyReplacer, final JpaProperties properties,
+            final ParsedRsqlCache parsedRsqlCache) {
         return new JpaSoftwareModuleManagement(entityManager, distributionSetRepository, softwareModuleRepository,
                 softwareModuleMetadataRepository, softwareModuleTypeRepository, criteriaNoCountDao, auditorProvider,
-                artifactManagement, quotaManagement, virtualPropertyReplacer, properties.getDatabase());
+                artifactManagement, quotaManagement, virtualPropertyReplacer, properties.getDatabase(),
+                parsedRsqlCache);
     }
 
     /**
@@ -613,9 +722,10 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final SoftwareModuleTypeRepository softwareModuleTypeRepository,
             final VirtualPropertyReplacer virtualPropertyReplacer,
             final SoftwareModuleRepository softwareModuleRepository, final NoCountPagingRepository criteriaNoCountDao,
-            final JpaProperties properties) {
+            final JpaProperties properties, final ParsedRsqlCache parsedRsqlCache) {
         return new JpaSoftwareModuleTypeManagement(distributionSetTypeRepository, softwareModuleTypeRepository,
-                virtualPropertyReplacer, softwareModuleRepository, criteriaNoCountDao, properties.getDatabase());
+                virtualPropertyReplacer, softwareModuleRepository, criteriaNoCountDao, properties.getDatabase(),
+                parsedRsqlCache);
     }
 
     @Bean
@@ -628,11 +738,15 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final QuotaManagement quotaManagement, final DeploymentManagement deploymentManagement,
             final TargetManagement targetManagement, final EventPublisherHolder eventPublisherHolder,
             final PlatformTransactionManager txManager, final RolloutApprovalStrategy rolloutApprovalStrategy,
-            final ApplicationContext context) {
+            final ApplicationContext context, final VirtualPropertyReplacer virtualPropertyReplacer,
+            final JpaProperties properties, final ParsedRsqlCache parsedRsqlCache,
+            final AuditorAware<String> auditorProvider, final RolloutGroupStatusCounter rolloutGroupStatusCounter,
+            final RepositoryProperties repositoryProperties) {
         return new JpaRolloutExecutor(rolloutTargetGroupRepository, entityManager, rolloutRepository, actionRepository,
                 rolloutGroupRepository, afterCommit, tenantAware, rolloutGroupManagement, quotaManagement,
                 deploymentManagement, targetManagement, eventPublisherHolder, txManager, rolloutApprovalStrategy,
-                context);
+                context, virtualPropertyReplacer, properties.getDatabase(), parsedRsqlCache,
+                new JdbcTemplate(getDataSource()), auditorProvider, rolloutGroupStatusCounter, repositoryProperties);
     }
 
     @Bean
@@ -651,6 +765,21 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
                 tenantConfigurationManagement, systemSecurityContext, rolloutExecutor);
     }
 
+    /**
+     * {@link RolloutWorkerPool} bean.
+     *
+     * @param meterRegistry
+     *            to register the metrics, falls back to the global
+     *            {@link MeterRegistry} if none is configured
+     * @return a new {@link RolloutWorkerPool}
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    RolloutWorkerPool rolloutWorkerPool(final RepositoryProperties repositoryProperties,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new RolloutWorkerPool(repositoryProperties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
     /**
      * {@link DefaultRolloutApprovalStrategy} bean.
      *
@@ -676,9 +805,11 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final RolloutRepository rolloutRepository, final ActionRepository actionRepository,
             final TargetRepository targetRepository, final EntityManager entityManager,
             final VirtualPropertyReplacer virtualPropertyReplacer, final RolloutStatusCache rolloutStatusCache,
-            final JpaProperties properties) {
+            final RolloutGroupStatusCounter rolloutGroupStatusCounter, final JpaProperties properties,
+            final ParsedRsqlCache parsedRsqlCache) {
         return new JpaRolloutGroupManagement(rolloutGroupRepository, rolloutRepository, actionRepository,
-                targetRepository, entityManager, virtualPropertyReplacer, rolloutStatusCache, properties.getDatabase());
+                targetRepository, entityManager, virtualPropertyReplacer, rolloutStatusCache,
+                rolloutGroupStatusCounter, properties.getDatabase(), parsedRsqlCache);
     }
 
     /**
@@ -696,11 +827,14 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
             final PlatformTransactionManager txManager,
             final TenantConfigurationManagement tenantConfigurationManagement, final QuotaManagement quotaManagement,
             final SystemSecurityContext systemSecurityContext, final TenantAware tenantAware,
-            final JpaProperties properties, final RepositoryProperties repositoryProperties) {
+            final JpaProperties properties, final ParsedRsqlCache parsedRsqlCache,
+            final RepositoryProperties repositoryProperties, final RolloutGroupStatusCounter rolloutGroupStatusCounter,
+            final NoCountPagingRepository criteriaNoCountDao) {
         return new JpaDeploymentManagement(entityManager, actionRepository, distributionSetRepository, targetRepository,
                 actionStatusRepository, auditorProvider, eventPublisherHolder, afterCommit, virtualPropertyReplacer,
                 txManager, tenantConfigurationManagement, quotaManagement, systemSecurityContext, tenantAware,
-                properties.getDatabase(), repositoryProperties);
+                properties.getDatabase(), parsedRsqlCache, repositoryProperties, rolloutGroupStatusCounter,
+                criteriaNoCountDao);
     }
 
     /**
@@ -710,9 +844,64 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
      */
     @Bean
     @ConditionalOnMissingBean
-    ControllerManagement controllerManagement(final ScheduledExecutorService executorService,
-            final RepositoryProperties repositoryProperties, final ActionRepository actionRepository) {
-        return new JpaControllerManagement(executorService, repositoryProperties, actionRepository);
+    ControllerManagement controllerManagement(final RepositoryProperties repositoryProperties,
+            final ActionRepository actionRepository, final TargetPollTracker targetPollTracker,
+            final ActionStatusFeedbackPipeline actionStatusFeedbackPipeline) {
+        return new JpaControllerManagement(repositoryProperties, actionRepository, targetPollTracker,
+                actionStatusFeedbackPipeline);
+    }
+
+    /**
+     * {@link ActionStatusFeedbackPipeline} bean.
+     *
+     * @param meterRegistry
+     *            to register the metrics, falls back to the global
+     *            {@link MeterRegistry} if none is configured
+     * @return a new {@link ActionStatusFeedbackPipeline}
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    ActionStatusFeedbackPipeline actionStatusFeedbackPipeline(final RepositoryProperties repositoryProperties,
+            final PlatformTransactionManager txManager, final TenantAware tenantAware,
+            final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new ActionStatusFeedbackPipeline(repositoryProperties, txManager, tenantAware,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * {@link TargetPollTracker} bean.
+     *
+     * @param meterRegistry
+     *            to register the metrics, falls back to the global
+     *            {@link MeterRegistry} if none is configured
+     * @return a new {@link TargetPollTracker}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    TargetPollTracker targetPollTracker(final ScheduledExecutorService executorService,
+            final RepositoryProperties repositoryProperties, final PlatformTransactionManager txManager,
+            final TenantAware tenantAware, final AfterTransactionCommitExecutor afterCommit,
+            final EventPublisherHolder eventPublisherHolder, final ObjectProvider<MeterRegistry> meterRegistry) {
+        return new TargetPollTracker(executorService, repositoryProperties, new JdbcTemplate(getDataSource()),
+                txManager, tenantAware, afterCommit, eventPublisherHolder,
+                meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+    }
+
+    /**
+     * {@link ParsedRsqlCache} bean of the RSQL filters parsed by the
+     * {@link RSQLUtility}.
+     *
+     * @param meterRegistry
+     *            to register the metrics, falls back to the global
+     *            {@link MeterRegistry} if none is configured
+     * @return a new {@link ParsedRsqlCache}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    ParsedRsqlCache parsedRsqlCache(final ObjectProvider<MeterRegistry> meterRegistry) {
+        final ParsedRsqlCache parsedRsqlCache = new ParsedRsqlCache();
+        parsedRsqlCache.monitor(meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
+        return parsedRsqlCache;
     }
 
     @Bean
@@ -746,6 +935,17 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
         return EventEntityManagerHolder.getInstance();
     }
 
+    /**
+     * {@link EventSnapshotHolder} bean.
+     *
+     * @return a new {@link EventSnapshotHolder}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    EventSnapshotHolder eventSnapshotHolder() {
+        return EventSnapshotHolder.getInstance();
+    }
+
     /**
      * {@link EventEntityManager} bean.
      *
@@ -799,6 +999,10 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
      *            to run a check as tenant
      * @param lockRegistry
      *            to lock the tenant for auto assignment
+     * @param tenantPartitioning
+     *            to skip the tenants of other nodes
+     * @param repositoryProperties
+     *            for the reconciliation in incremental mode
      * @return a new {@link AutoAssignChecker}
      */
     @Bean
@@ -809,8 +1013,42 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
     @ConditionalOnProperty(prefix = "hawkbit.autoassign.scheduler", name = "enabled", matchIfMissing = true)
     AutoAssignScheduler autoAssignScheduler(final SystemManagement systemManagement,
             final SystemSecurityContext systemSecurityContext, final AutoAssignExecutor autoAssignExecutor,
-            final LockRegistry lockRegistry) {
-        return new AutoAssignScheduler(systemManagement, systemSecurityContext, autoAssignExecutor, lockRegistry);
+            final LockRegistry lockRegistry, final TenantPartitioning tenantPartitioning,
+            final RepositoryProperties repositoryProperties) {
+        return new AutoAssignScheduler(systemManagement, systemSecurityContext, autoAssignExecutor, lockRegistry,
+                tenantPartitioning, repositoryProperties);
+    }
+
+    /**
+     * {@link IncrementalAutoAssignScheduler} bean.
+     * 
+     * Note: does not activate in test profile, otherwise it is hard to test the
+     * auto assign functionality.
+     *
+     * @param executorService
+     *            to run the check of changed targets
+     * @param repositoryProperties
+     *            to enable the incremental mode
+     * @param autoAssignExecutor
+     *            to run a check as tenant
+     * @param systemSecurityContext
+     *            to run as system
+     * @param lockRegistry
+     *            to lock the tenant for auto assignment
+     * @param tenantPartitioning
+     *            to ignore the tenants of other nodes
+     * @return a new {@link IncrementalAutoAssignScheduler}
+     */
+    @Bean
+    @ConditionalOnMissingBean
+    @Profile("!test")
+    @ConditionalOnProperty(prefix = "hawkbit.autoassign.scheduler", name = "enabled", matchIfMissing = true)
+    IncrementalAutoAssignScheduler incrementalAutoAssignScheduler(final ScheduledExecutorService executorService,
+            final RepositoryProperties repositoryProperties, final AutoAssignExecutor autoAssignExecutor,
+            final SystemSecurityContext systemSecurityContext, final LockRegistry lockRegistry,
+            final TenantPartitioning tenantPartitioning) {
+        return new IncrementalAutoAssignScheduler(executorService, repositoryProperties, autoAssignExecutor,
+                systemSecurityContext, lockRegistry, tenantPartitioning);
     }
 
     /**
@@ -840,6 +1078,8 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
      *            to lock the tenant for auto assignment
      * @param cleanupTasks
      *            a list of cleanup tasks
+     * @param tenantPartitioning
+     *            to skip the tenants of other nodes
      * 
      * @return a new {@link AutoCleanupScheduler} bean
      */
@@ -849,8 +1089,9 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
     @ConditionalOnProperty(prefix = "hawkbit.autocleanup.scheduler", name = "enabled", matchIfMissing = true)
     AutoCleanupScheduler autoCleanupScheduler(final SystemManagement systemManagement,
             final SystemSecurityContext systemSecurityContext, final LockRegistry lockRegistry,
-            final List<CleanupTask> cleanupTasks) {
-        return new AutoCleanupScheduler(systemManagement, systemSecurityContext, lockRegistry, cleanupTasks);
+            final List<CleanupTask> cleanupTasks, final TenantPartitioning tenantPartitioning) {
+        return new AutoCleanupScheduler(systemManagement, systemSecurityContext, lockRegistry, cleanupTasks,
+                tenantPartitioning);
     }
 
     /**
@@ -865,14 +1106,53 @@ public class RepositoryApplicationConfiguration extends JpaBaseConfiguration {
      *            to run the rollout handler
      * @param systemSecurityContext
      *            to run as system
+     * @param repositoryProperties
+     *            for the safety sweep in event driven mode and the number of
+     *            tenants handled concurrently
+     * @param tenantPartitioning
+     *            to skip the tenants of other nodes
      * @return a new {@link RolloutScheduler} bean.
      */
-    @Bean
+    @Bean(destroyMethod = "shutdown")
     @ConditionalOnMissingBean
     @Profile("!test")
     @ConditionalOnProperty(prefix = "hawkbit.rollout.scheduler", name = "enabled", matchIfMissing = true)
     RolloutScheduler rolloutScheduler(final TenantAware tenantAware, final SystemManagement systemManagement,
-            final RolloutManagement rolloutManagement, final SystemSecurityContext systemSecurityContext) {
-        return new RolloutScheduler(systemManagement, rolloutManagement, systemSecurityContext);
+            final RolloutManagement rolloutManagement, final SystemSecurityContext systemSecurityContext,
+            final RepositoryProperties repositoryProperties, final TenantPartitioning tenantPartitioning) {
+        return new RolloutScheduler(systemManagement, rolloutManagement, systemSecurityContext,
+                repositoryProperties, tenantPartitioning);
+    }
+
+    /**
+     * {@link EventDrivenRolloutScheduler} bean.
+     * 
+     * Note: only created if
+     * {@link RepositoryProperties#isEventDrivenRolloutHandling()} is set,
+     * otherwise the rollouts are handled by the {@link RolloutScheduler}.
+     * 
+     * @param executorService
+     *            to run the handling of changed rollouts
+     * @param repositoryProperties
+     *            for the debounce time
+     * @param rolloutManagement
+     *            to run the rollout handler
+     * @param systemSecurityContext
+     *            to run as system
+     * @param tenantPartitioning
+     *            to ignore the tenants of other nodes
+     * @param eventPublisherHolder
+     *            for the ID of this node
+     * @return a new {@link EventDrivenRolloutScheduler} bean.
+     */
+    @Bean(destroyMethod = "shutdown")
+    @ConditionalOnMissingBean
+    @ConditionalOnProperty(prefix = "hawkbit.server.repository", name = "event-driven-rollout-handling")
+    EventDrivenRolloutScheduler eventDrivenRolloutScheduler(final ScheduledExecutorService executorService,
+            final RepositoryProperties repositoryProperties, final RolloutManagement rolloutManagement,
+            final SystemSecurityContext systemSecurityContext, final TenantPartitioning tenantPartitioning,
+            final EventPublisherHolder eventPublisherHolder) {
+        return new EventDrivenRolloutScheduler(executorService, repositoryProperties, rolloutManagement,
+                systemSecurityContext, tenantPartitioning, eventPublisherHolder);
     }
 }
@@ -0,0 +1,356 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.model.ActionDbValues;
+import org.eclipse.hawkbit.repository.jpa.model.RolloutGroupStatusCountListener;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.collect.Lists;
+
+/**
+ * Access to the number of {@link Action}s per {@link RolloutGroup} and
+ * {@link Action.Status}.
+ *
+ * The counters are kept as an append-only log of changes in the table
+ * sp_rolloutgroup_status_delta, i.e. concurrent changes of the actions of a
+ * group do not contend for the same rows. The logged changes are folded into
+ * the table sp_rolloutgroup_status_count in the background, the counts are the
+ * sum of both.
+ *
+ * The changes are logged by the {@link RolloutGroupStatusCountListener} for
+ * actions that are changed as entities. Changes by bulk statements have to be
+ * logged by means of this class within the same transaction.
+ */
+public class RolloutGroupStatusCounter {
+    private static final Logger LOG = LoggerFactory.getLogger(RolloutGroupStatusCounter.class);
+
+    private static final String FOLD_LOCK = "rolloutgroup-status-count-fold";
+    private static final int FOLD_BATCH = 1000;
+
+    private static final String COUNTS = "(SELECT rolloutgroup_id, status, action_count FROM sp_rolloutgroup_status_count "
+            + "UNION ALL SELECT rolloutgroup_id, status, delta FROM sp_rolloutgroup_status_delta)";
+
+    private static final String INSERT_DELTA = "INSERT INTO sp_rolloutgroup_status_delta (rolloutgroup_id, status, delta) VALUES (?, ?, ?)";
+
+    private static final String SELECT_DELTAS = "SELECT id, rolloutgroup_id, status, delta FROM sp_rolloutgroup_status_delta ORDER BY id";
+
+    private static final String DELETE_DELTAS = "DELETE FROM sp_rolloutgroup_status_delta WHERE id IN (%s)";
+
+    private static final String UPDATE_COUNT = "UPDATE sp_rolloutgroup_status_count SET action_count = action_count + ? WHERE rolloutgroup_id = ? AND status = ?";
+
+    private static final String SELECT_COUNT = "SELECT SUM(c.action_count) FROM " + COUNTS
+            + " c WHERE c.rolloutgroup_id = ? AND c.status = ?";
+
+    private static final String SELECT_COUNTS_BY_GROUP = "SELECT c.rolloutgroup_id, c.status, SUM(c.action_count) FROM "
+            + COUNTS + " c INNER JOIN sp_rolloutgroup g ON g.id = c.rolloutgroup_id "
+            + "WHERE g.tenant = ? AND c.rolloutgroup_id IN (%s) "
+            + "GROUP BY c.rolloutgroup_id, c.status HAVING SUM(c.action_count) > 0";
+
+    private static final String SELECT_COUNTS_BY_ROLLOUT = "SELECT g.rollout, c.status, SUM(c.action_count) FROM "
+            + COUNTS + " c INNER JOIN sp_rolloutgroup g ON g.id = c.rolloutgroup_id "
+            + "WHERE g.tenant = ? AND g.rollout IN (%s) GROUP BY g.rollout, c.status HAVING SUM(c.action_count) > 0";
+
+    private static final String SELECT_COUNTS_BY_TARGET = "SELECT rolloutgroup, status, COUNT(id) FROM sp_action "
+            + "WHERE tenant = ? AND rolloutgroup IS NOT NULL AND target IN (%s) GROUP BY rolloutgroup, status";
+
+    private static final String SELECT_COUNTS_BY_ACTION = "SELECT rolloutgroup, status, COUNT(id) FROM sp_action "
+            + "WHERE tenant = ? AND rolloutgroup IS NOT NULL AND id IN (%s) GROUP BY rolloutgroup, status";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TenantAware tenantAware;
+    private final LockRegistry lockRegistry;
+    private final TransactionTemplate txTemplate;
+    private final ScheduledFuture<?> folder;
+
+    /**
+     * Constructor. Schedules the folding of the logged changes into the
+     * counters.
+     *
+     * @param jdbcTemplate
+     *            to access the counters
+     * @param tenantAware
+     *            to restrict the queries to the current tenant
+     * @param lockRegistry
+     *            to fold the logged changes on one node at a time
+     * @param txManager
+     *            to fold the logged changes in a transaction of its own
+     * @param executorService
+     *            to run the folding
+     * @param foldInterval
+     *            in {@link TimeUnit#MILLISECONDS} between two runs of the
+     *            folding
+     */
+    public RolloutGroupStatusCounter(final JdbcTemplate jdbcTemplate, final TenantAware tenantAware,
+            final LockRegistry lockRegistry, final PlatformTransactionManager txManager,
+            final ScheduledExecutorService executorService, final long foldInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.tenantAware = tenantAware;
+        this.lockRegistry = lockRegistry;
+        this.txTemplate = new TransactionTemplate(txManager);
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+
+        folder = executorService.scheduleWithFixedDelay(this::foldAll, foldInterval, foldInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the folding of the logged changes.
+     */
+    public void shutdown() {
+        folder.cancel(false);
+    }
+
+    /**
+     * @param rolloutGroupId
+     *            of the {@link RolloutGroup}
+     * @return the number of actions of the group
+     */
+    public long count(final long rolloutGroupId) {
+        return countNotIn(rolloutGroupId, Collections.emptyList());
+    }
+
+    /**
+     * @param rolloutGroupId
+     *            of the {@link RolloutGroup}
+     * @param status
+     *            of the {@link Action}s
+     * @return the number of actions of the group with the given status
+     */
+    public long count(final long rolloutGroupId, final Action.Status status) {
+        final Long count = jdbcTemplate.queryForObject(SELECT_COUNT, Long.class, rolloutGroupId,
+                ActionDbValues.valueOf(status));
+        return count == null ? 0 : count;
+    }
+
+    /**
+     * @param rolloutGroupId
+     *            of the {@link RolloutGroup}
+     * @param status
+     *            of the {@link Action}s not to count
+     * @return the number of actions of the group that are not in one of the
+     *         given states
+     */
+    public long countNotIn(final long rolloutGroupId, final Collection<Action.Status> status) {
+        return getStatusCountByRolloutGroupId(Collections.singletonList(rolloutGroupId)).stream()
+                .filter(count -> !status.contains(count.getStatus()))
+                .mapToLong(TotalTargetCountActionStatus::getCount).sum();
+    }
+
+    /**
+     * @param rolloutGroupIds
+     *            of the {@link RolloutGroup}s
+     * @return the number of actions per group and status, only status with at
+     *         least one action are contained
+     */
+    public List<TotalTargetCountActionStatus> getStatusCountByRolloutGroupId(final Collection<Long> rolloutGroupIds) {
+        return query(SELECT_COUNTS_BY_GROUP, rolloutGroupIds);
+    }
+
+    /**
+     * @param rolloutIds
+     *            of the {@link Rollout}s
+     * @return the number of actions per rollout and status, only status with
+     *         at least one action are contained
+     */
+    public List<TotalTargetCountActionStatus> getStatusCountByRolloutId(final Collection<Long> rolloutIds) {
+        return query(SELECT_COUNTS_BY_ROLLOUT, rolloutIds);
+    }
+
+    private List<TotalTargetCountActionStatus> query(final String sql, final Collection<Long> ids) {
+        final List<TotalTargetCountActionStatus> result = new ArrayList<>();
+        final String tenant = tenantAware.getCurrentTenant().toUpperCase();
+        Lists.partition(new ArrayList<>(ids), Constants.MAX_ENTRIES_IN_STATEMENT).forEach(partition -> {
+            final List<Object> args = new ArrayList<>(partition.size() + 1);
+            args.add(tenant);
+            args.addAll(partition);
+            result.addAll(jdbcTemplate.query(String.format(sql, placeholders(partition.size())),
+                    RolloutGroupStatusCounter::mapCount, args.toArray()));
+        });
+        return result;
+    }
+
+    private static String placeholders(final int count) {
+        return String.join(",", Collections.nCopies(count, "?"));
+    }
+
+    private static TotalTargetCountActionStatus mapCount(final ResultSet rs, final int rowNum) throws SQLException {
+        return new TotalTargetCountActionStatus(rs.getLong(1), ActionDbValues.toStatus(rs.getInt(2)),
+                rs.getLong(3));
+    }
+
+    /**
+     * Adds the given number of actions to the counter of a group.
+     *
+     * @param rolloutGroupId
+     *            of the {@link RolloutGroup}
+     * @param status
+     *            of the added {@link Action}s
+     * @param count
+     *            of the added {@link Action}s
+     */
+    public void add(final long rolloutGroupId, final Action.Status status, final long count) {
+        if (count != 0) {
+            jdbcTemplate.update(INSERT_DELTA, rolloutGroupId, ActionDbValues.valueOf(status), count);
+        }
+    }
+
+    /**
+     * Removes deleted actions from the counters.
+     *
+     * @param counts
+     *            the number of deleted {@link Action}s per group and status
+     */
+    public void subtract(final Collection<TotalTargetCountActionStatus> counts) {
+        log(counts.stream().map(count -> delta(count.getId(), count.getStatus(), -count.getCount()))
+                .collect(Collectors.toList()));
+    }
+
+    /**
+     * Removes the actions of the given targets from the counters. Has to be
+     * called before the targets and with them their actions are deleted.
+     *
+     * @param targetIds
+     *            of the targets to be deleted
+     */
+    public void subtractActionsOfTargets(final Collection<Long> targetIds) {
+        subtract(query(SELECT_COUNTS_BY_TARGET, targetIds));
+    }
+
+    /**
+     * Removes the given actions from the counters. Has to be called before the
+     * actions are deleted by a bulk statement.
+     *
+     * @param actionIds
+     *            of the actions to be deleted
+     */
+    public void subtractActions(final Collection<Long> actionIds) {
+        subtract(query(SELECT_COUNTS_BY_ACTION, actionIds));
+    }
+
+    /**
+     * Moves actions from their current status to another status.
+     *
+     * @param counts
+     *            the number of changed {@link Action}s per group and their
+     *            current status
+     * @param newStatus
+     *            the new status of the {@link Action}s
+     */
+    public void move(final Collection<TotalTargetCountActionStatus> counts, final Action.Status newStatus) {
+        final List<Object[]> deltas = new ArrayList<>(counts.size() * 2);
+        counts.stream().filter(count -> count.getStatus() != newStatus).forEach(count -> {
+            deltas.add(delta(count.getId(), count.getStatus(), -count.getCount()));
+            deltas.add(delta(count.getId(), newStatus, count.getCount()));
+        });
+        log(deltas);
+    }
+
+    private static Object[] delta(final long rolloutGroupId, final Action.Status status, final long delta) {
+        return new Object[] { rolloutGroupId, ActionDbValues.valueOf(status), delta };
+    }
+
+    private void log(final List<Object[]> deltas) {
+        if (!deltas.isEmpty()) {
+            jdbcTemplate.batchUpdate(INSERT_DELTA, deltas);
+        }
+    }
+
+    /**
+     * Folds the logged changes into the counters until no changes are left.
+     * Skipped if another node is folding at the moment.
+     */
+    void foldAll() {
+        final Lock lock = lockRegistry.obtain(FOLD_LOCK);
+        try {
+            if (!lock.tryLock()) {
+                return;
+            }
+        } catch (final DataAccessException e) {
+            LOG.error("Failed to obtain the lock to fold the rollout group status count changes.", e);
+            return;
+        }
+
+        try {
+            int folded;
+            do {
+                folded = txTemplate.execute(status -> fold());
+            } while (folded == FOLD_BATCH);
+        } catch (final DataAccessException e) {
+            LOG.error("Failed to fold the rollout group status count changes.", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Folds the next batch of the logged changes into the counters. Only the
+     * folded changes are deleted, i.e. changes committed meanwhile are left
+     * for the next batch.
+     */
+    private int fold() {
+        final List<Long> ids = new ArrayList<>(FOLD_BATCH);
+        // sorted by group and status to update the counters in a stable order
+        final Map<Long, Map<Integer, Long>> sums = new TreeMap<>();
+        jdbcTemplate.query(con -> {
+            final PreparedStatement ps = con.prepareStatement(SELECT_DELTAS);
+            ps.setMaxRows(FOLD_BATCH);
+            return ps;
+        }, rs -> {
+            ids.add(rs.getLong(1));
+            sums.computeIfAbsent(rs.getLong(2), group -> new TreeMap<>()).merge(rs.getInt(3), rs.getLong(4),
+                    Long::sum);
+        });
+        if (ids.isEmpty()) {
+            return 0;
+        }
+
+        Lists.partition(ids, Constants.MAX_ENTRIES_IN_STATEMENT)
+                .forEach(partition -> jdbcTemplate.update(String.format(DELETE_DELTAS, placeholders(partition.size())),
+                        partition.toArray()));
+        final List<Object[]> updates = new ArrayList<>();
+        sums.forEach((group, byStatus) -> byStatus.forEach((status, sum) -> {
+            if (sum != 0) {
+                updates.add(new Object[] { sum, group, status });
+            }
+        }));
+        if (!updates.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_COUNT, updates);
+        }
+        return ids.size();
+    }
+}
@@ -42,6 +42,19 @@ public interface RolloutRepository
     @Query("SELECT sm.id FROM JpaRollout sm WHERE sm.status IN ?1")
     List<Long> findByStatusIn(Collection<RolloutStatus> status);
 
+    /**
+     * Retrieves the IDs of the given {@link Rollout}s that are in one of the
+     * given status.
+     * 
+     * @param ids
+     *            the IDs of the rollouts to filter
+     * @param status
+     *            the status of the rollouts to find
+     * @return the IDs of the rollouts in one of the status
+     */
+    @Query("SELECT sm.id FROM JpaRollout sm WHERE sm.id IN ?1 AND sm.status IN ?2")
+    List<Long> findByIdInAndStatusIn(Collection<Long> ids, Collection<RolloutStatus> status);
+
     /**
      * Retrieves all {@link Rollout} for a specific {@code name}
      * 
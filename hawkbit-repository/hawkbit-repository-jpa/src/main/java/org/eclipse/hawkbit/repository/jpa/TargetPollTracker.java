@@ -0,0 +1,269 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import java.util.AbstractMap.SimpleImmutableEntry;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.event.remote.MultiTargetPollEvent;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
+import org.eclipse.hawkbit.repository.jpa.executor.AfterTransactionCommitExecutor;
+import org.eclipse.hawkbit.repository.jpa.utils.DeploymentHelper;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Write-behind store for {@link Target#getLastTargetQuery()}.
+ *
+ * Polls are kept per tenant and controller ID, i.e. repeated polls of the same
+ * target coalesce into one pending entry that holds the time of the last poll.
+ * The pending entries are flushed in the interval configured by
+ * {@link RepositoryProperties#getPollPersistenceFlushTime()} by means of JDBC
+ * batch updates. If the number of pending entries reaches
+ * {@link RepositoryProperties#getPollPersistenceQueueSize()} a flush is
+ * triggered early. The polls of a tenant that are flushed together are
+ * published as one {@link MultiTargetPollEvent}.
+ */
+public class TargetPollTracker {
+    private static final Logger LOG = LoggerFactory.getLogger(TargetPollTracker.class);
+
+    private static final String METRIC_PREFIX = "hawkbit.repository.target.poll.";
+
+    private static final String UPDATE_LAST_TARGET_QUERY = "UPDATE sp_target SET last_target_query = ? WHERE controller_id = ? AND tenant = ?";
+
+    private final Map<String, Map<String, Long>> pendingPolls = new ConcurrentHashMap<>();
+    private final AtomicInteger pendingCount = new AtomicInteger();
+    private final AtomicBoolean earlyFlushRequested = new AtomicBoolean();
+
+    private final ScheduledExecutorService executorService;
+    private final RepositoryProperties repositoryProperties;
+    private final JdbcTemplate jdbcTemplate;
+    private final PlatformTransactionManager txManager;
+    private final TenantAware tenantAware;
+    private final AfterTransactionCommitExecutor afterCommit;
+    private final EventPublisherHolder eventPublisherHolder;
+
+    private final AtomicLong recordedPolls = new AtomicLong();
+    private final AtomicLong coalescedPolls = new AtomicLong();
+    private final AtomicLong flushedPolls = new AtomicLong();
+    private final Timer flushTimer;
+
+    /**
+     * Constructor. Schedules the flush in case the polls are not persisted
+     * eagerly (see {@link RepositoryProperties#isEagerPollPersistence()}).
+     *
+     * @param executorService
+     *            to run the flush
+     * @param repositoryProperties
+     *            for the flush interval and the early flush threshold
+     * @param jdbcTemplate
+     *            to persist the polls in batches
+     * @param txManager
+     *            transaction manager
+     * @param tenantAware
+     *            to run the flush as tenant
+     * @param afterCommit
+     *            to publish the {@link MultiTargetPollEvent} of a flush
+     * @param eventPublisherHolder
+     *            to publish the {@link MultiTargetPollEvent} of a flush
+     * @param meterRegistry
+     *            to register the metrics of the tracker
+     */
+    public TargetPollTracker(final ScheduledExecutorService executorService,
+            final RepositoryProperties repositoryProperties, final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager txManager, final TenantAware tenantAware,
+            final AfterTransactionCommitExecutor afterCommit, final EventPublisherHolder eventPublisherHolder,
+            final MeterRegistry meterRegistry) {
+        this.executorService = executorService;
+        this.repositoryProperties = repositoryProperties;
+        this.jdbcTemplate = jdbcTemplate;
+        this.txManager = txManager;
+        this.tenantAware = tenantAware;
+        this.afterCommit = afterCommit;
+        this.eventPublisherHolder = eventPublisherHolder;
+
+        FunctionCounter.builder(METRIC_PREFIX + "recorded", recordedPolls, AtomicLong::get)
+                .description("Target polls recorded for write-behind").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + "coalesced", coalescedPolls, AtomicLong::get)
+                .description("Target polls coalesced with a pending poll of the same target").register(meterRegistry);
+        FunctionCounter.builder(METRIC_PREFIX + "flushed", flushedPolls, AtomicLong::get)
+                .description("Target polls persisted by a flush").register(meterRegistry);
+        flushTimer = Timer.builder(METRIC_PREFIX + "flush").description("Duration of a target poll flush")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "pending", pendingCount, AtomicInteger::get)
+                .description("Target polls waiting for the next flush").register(meterRegistry);
+        Gauge.builder(METRIC_PREFIX + "coalescing.ratio", this, TargetPollTracker::getCoalescingRatio)
+                .description("Share of recorded target polls that were coalesced").register(meterRegistry);
+
+        if (!repositoryProperties.isEagerPollPersistence()) {
+            executorService.scheduleWithFixedDelay(this::flush, repositoryProperties.getPollPersistenceFlushTime(),
+                    repositoryProperties.getPollPersistenceFlushTime(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Records a poll of the given target. The poll replaces a pending poll of
+     * the same target.
+     *
+     * @param target
+     *            that polled
+     */
+    public void record(final Target target) {
+        record(target.getTenant(), target.getControllerId());
+    }
+
+    /**
+     * Records a poll of the target with the given controller ID. The poll
+     * replaces a pending poll of the same target.
+     *
+     * @param tenant
+     *            of the target
+     * @param controllerId
+     *            of the target that polled
+     */
+    public void record(final String tenant, final String controllerId) {
+        final Long previous = pendingPolls.computeIfAbsent(tenant, key -> new ConcurrentHashMap<>())
+                .put(controllerId, System.currentTimeMillis());
+
+        recordedPolls.incrementAndGet();
+        if (previous != null) {
+            coalescedPolls.incrementAndGet();
+            return;
+        }
+
+        if (pendingCount.incrementAndGet() >= repositoryProperties.getPollPersistenceQueueSize()
+                && earlyFlushRequested.compareAndSet(false, true)) {
+            executorService.execute(this::flush);
+        }
+    }
+
+    /**
+     * Flushes the pending polls of all tenants. Polls that are recorded during
+     * the flush are kept for the next flush.
+     */
+    public synchronized void flush() {
+        earlyFlushRequested.set(false);
+        if (pendingCount.get() <= 0) {
+            return;
+        }
+
+        LOG.debug("{} target polls in flush.", pendingCount.get());
+        flushTimer.record(() -> pendingPolls.forEach(this::flush));
+    }
+
+    private void flush(final String tenant, final Map<String, Long> polls) {
+        final List<Map.Entry<String, Long>> drained = new ArrayList<>(polls.size());
+        for (final String controllerId : polls.keySet()) {
+            final Long lastPoll = polls.remove(controllerId);
+            if (lastPoll != null) {
+                pendingCount.decrementAndGet();
+                drained.add(new SimpleImmutableEntry<>(controllerId, lastPoll));
+            }
+        }
+
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        try {
+            tenantAware.runAsTenant(tenant, () -> DeploymentHelper.runInNewTransaction(txManager, "flushTargetPolls",
+                    status -> updateLastTargetQueries(tenant, drained)));
+            flushedPolls.addAndGet(drained.size());
+        } catch (final RuntimeException ex) {
+            LOG.error("Failed to persist {} target polls of tenant {}.", drained.size(), tenant, ex);
+            // keep the polls for the next flush unless a newer one arrived
+            drained.forEach(poll -> {
+                if (polls.putIfAbsent(poll.getKey(), poll.getValue()) == null) {
+                    pendingCount.incrementAndGet();
+                }
+            });
+        }
+    }
+
+    /**
+     * Discards the pending polls of the given tenant, e.g. as the tenant is
+     * deleted. Synchronized with {@link #flush()} so that the discarded polls
+     * are not counted twice.
+     *
+     * @param tenant
+     *            the tenant to discard the polls of
+     */
+    public synchronized void discardPendingPolls(final String tenant) {
+        // the polls are recorded with the tenant in the notation of the caller
+        pendingPolls.keySet().stream().filter(tenant::equalsIgnoreCase).forEach(key -> {
+            final Map<String, Long> polls = pendingPolls.remove(key);
+            if (polls != null) {
+                pendingCount.addAndGet(-polls.size());
+            }
+        });
+    }
+
+    /**
+     * Sets {@link Target#getLastTargetQuery()} by native SQL in order to avoid
+     * raising opt lock revision as this update is not mission critical and in
+     * fact only written by the target itself.
+     */
+    private Void updateLastTargetQueries(final String tenant, final List<Map.Entry<String, Long>> polls) {
+        LOG.debug("Persist {} target polls of tenant {}.", polls.size(), tenant);
+
+        jdbcTemplate.batchUpdate(UPDATE_LAST_TARGET_QUERY, polls, Constants.MAX_ENTRIES_IN_STATEMENT,
+                (ps, poll) -> {
+                    ps.setLong(1, poll.getValue());
+                    ps.setString(2, poll.getKey());
+                    ps.setString(3, tenant);
+                });
+
+        final List<String> controllerIds = new ArrayList<>(polls.size());
+        final List<Long> lastTargetQueries = new ArrayList<>(polls.size());
+        polls.forEach(poll -> {
+            controllerIds.add(poll.getKey());
+            lastTargetQueries.add(poll.getValue());
+        });
+        afterCommit.afterCommit(() -> eventPublisherHolder.getEventPublisher().publishEvent(new MultiTargetPollEvent(
+                tenant, eventPublisherHolder.getApplicationId(), controllerIds, lastTargetQueries)));
+
+        return null;
+    }
+
+    int getPendingCount() {
+        return pendingCount.get();
+    }
+
+    long getCoalescedCount() {
+        return coalescedPolls.get();
+    }
+
+    long getFlushedCount() {
+        return flushedPolls.get();
+    }
+
+    private double getCoalescingRatio() {
+        final double recorded = recordedPolls.get();
+        return recorded > 0 ? coalescedPolls.get() / recorded : 0;
+    }
+}
@@ -291,4 +291,14 @@ public interface TargetRepository extends BaseEntityRepository<JpaTarget, Long>,
      */
     @Query("SELECT t.controllerId FROM JpaTarget t WHERE t.controllerId IN ?1")
     List<String> filterNonExistingControllerIds(Iterable<String> controllerIds);
+
+    /**
+     * Retrieves the IDs of the {@link Target}s with the given controllerIds.
+     *
+     * @param controllerIds
+     *            of the targets
+     * @return the ID and the controllerId for every found target
+     */
+    @Query("SELECT t.id, t.controllerId FROM JpaTarget t WHERE t.controllerId IN ?1")
+    List<Object[]> findIdAndControllerIdByControllerIdIn(Collection<String> controllerIds);
 }
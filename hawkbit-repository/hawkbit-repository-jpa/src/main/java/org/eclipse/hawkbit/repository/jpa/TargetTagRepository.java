@@ -8,6 +8,7 @@
  */
 package org.eclipse.hawkbit.repository.jpa;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -50,6 +51,16 @@ public interface TargetTagRepository
      */
     Optional<TargetTag> findByNameEquals(String tagName);
 
+    /**
+     * find {@link TargetTag}s by their names.
+     *
+     * @param tagNames
+     *            to filter on
+     * @return the found {@link TargetTag}s
+     */
+    @Query("SELECT t FROM JpaTargetTag t WHERE t.name IN ?1")
+    List<JpaTargetTag> findByNameIn(Collection<String> tagNames);
+
     /**
      * Checks if tag with given name exists.
      * 
@@ -8,6 +8,8 @@
  */
 package org.eclipse.hawkbit.repository.jpa.autoassign;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -28,12 +30,18 @@ import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import com.google.common.collect.Lists;
+
 /**
  * Checks if targets need a new distribution set (DS) based on the target filter
  * queries and assigns the new DS when necessary. First all target filter
  * queries are listed. For every target filter query (TFQ) the auto assign DS is
  * retrieved. All targets get listed per target filter query, that match the TFQ
  * and that don't have the auto assign DS in their action history.
+ *
+ * The incremental {@link #check(Collection)} lists only the given targets per
+ * TFQ, i.e. its costs depend on the number of changed targets instead of the
+ * number of all targets.
  */
 public class AutoAssignChecker extends AbstractAutoAssignExecutor {
 
@@ -70,6 +78,30 @@ public class AutoAssignChecker extends AbstractAutoAssignExecutor {
         forEachFilterWithAutoAssignDS(this::checkByTargetFilterQueryAndAssignDS);
     }
 
+    @Override
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void check(final Collection<Long> targetIds) {
+        LOGGER.debug("Auto assigned check call for {} targets", targetIds.size());
+
+        final List<List<Long>> partitions = Lists.partition(new ArrayList<>(targetIds),
+                Constants.MAX_ENTRIES_IN_STATEMENT);
+        forEachFilterWithAutoAssignDS(
+                filterQuery -> partitions.forEach(partition -> checkTargetsAndAssignDS(filterQuery, partition)));
+    }
+
+    private void checkTargetsAndAssignDS(final TargetFilterQuery targetFilterQuery, final List<Long> targetIds) {
+        try {
+            final List<String> controllerIds = targetManagement
+                    .findByIdInAndTargetFilterQueryAndNonDS(PageRequest.of(0, Constants.MAX_ENTRIES_IN_STATEMENT),
+                            targetIds, targetFilterQuery.getAutoAssignDistributionSet().getId(),
+                            targetFilterQuery.getQuery())
+                    .getContent().stream().map(Target::getControllerId).collect(Collectors.toList());
+            runTransactionalAssignment(targetFilterQuery, controllerIds);
+        } catch (PersistenceException | AbstractServerRtException e) {
+            LOGGER.error("Error during auto assign check of target filter query " + targetFilterQuery.getId(), e);
+        }
+    }
+
     /**
      * Fetches the distribution set, gets all controllerIds and assigns the DS to
      * them. Catches PersistenceException and own exceptions derived from
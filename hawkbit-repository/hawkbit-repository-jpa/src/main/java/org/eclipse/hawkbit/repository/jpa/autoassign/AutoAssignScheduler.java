@@ -10,8 +10,10 @@ package org.eclipse.hawkbit.repository.jpa.autoassign;
 
 import java.util.concurrent.locks.Lock;
 
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.SystemManagement;
 import org.eclipse.hawkbit.repository.autoassign.AutoAssignExecutor;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantPartitioning;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -19,11 +21,21 @@ import org.springframework.integration.support.locks.LockRegistry;
 import org.springframework.scheduling.annotation.Scheduled;
 
 /**
- * Scheduler to check target filters for auto assignment of distribution sets
+ * Scheduler to check target filters for auto assignment of distribution sets.
+ * Only the tenants owned by this node according to the
+ * {@link TenantPartitioning} are checked, each under a lock of its own.
+ *
+ * In case of {@link RepositoryProperties#isIncrementalAutoAssignment()} the
+ * changed targets are checked by the {@link IncrementalAutoAssignScheduler}
+ * and this scheduler only runs as reconciliation every
+ * {@link RepositoryProperties#getAutoAssignReconciliationInterval()}.
  */
 public class AutoAssignScheduler {
     private static final Logger LOGGER = LoggerFactory.getLogger(AutoAssignScheduler.class);
 
+    private static final String AUTO_ASSIGN = "autoassign";
+    private static final String SEP = ".";
+
     private static final String PROP_SCHEDULER_DELAY_PLACEHOLDER = "${hawkbit.autoassign.scheduler.fixedDelay:2000}";
 
     private final SystemManagement systemManagement;
@@ -34,6 +46,12 @@ public class AutoAssignScheduler {
 
     private final LockRegistry lockRegistry;
 
+    private final TenantPartitioning tenantPartitioning;
+
+    private final RepositoryProperties repositoryProperties;
+
+    private long lastReconciliation;
+
     /**
      * Instantiates a new AutoAssignScheduler
      * 
@@ -45,14 +63,21 @@ public class AutoAssignScheduler {
      *            to run a check as tenant
      * @param lockRegistry
      *            to acquire a lock per tenant
+     * @param tenantPartitioning
+     *            to skip the tenants of other nodes
+     * @param repositoryProperties
+     *            for the interval of the reconciliation in incremental mode
      */
     public AutoAssignScheduler(final SystemManagement systemManagement,
             final SystemSecurityContext systemSecurityContext, final AutoAssignExecutor autoAssignExecutor,
-            final LockRegistry lockRegistry) {
+            final LockRegistry lockRegistry, final TenantPartitioning tenantPartitioning,
+            final RepositoryProperties repositoryProperties) {
         this.systemManagement = systemManagement;
         this.systemSecurityContext = systemSecurityContext;
         this.autoAssignExecutor = autoAssignExecutor;
         this.lockRegistry = lockRegistry;
+        this.tenantPartitioning = tenantPartitioning;
+        this.repositoryProperties = repositoryProperties;
     }
 
     /**
@@ -63,6 +88,12 @@ public class AutoAssignScheduler {
      */
     @Scheduled(initialDelayString = PROP_SCHEDULER_DELAY_PLACEHOLDER, fixedDelayString = PROP_SCHEDULER_DELAY_PLACEHOLDER)
     public void autoAssignScheduler() {
+        if (repositoryProperties.isIncrementalAutoAssignment() && System.currentTimeMillis()
+                - lastReconciliation < repositoryProperties.getAutoAssignReconciliationInterval()) {
+            return;
+        }
+        lastReconciliation = System.currentTimeMillis();
+
         LOGGER.debug("auto assign schedule checker has been triggered.");
         // run this code in system code privileged to have the necessary
         // permission to query and create entities.
@@ -77,17 +108,27 @@ public class AutoAssignScheduler {
         // https://bugs.eclipse.org/bugs/show_bug.cgi?id=355458. So
         // iterate through all tenants and execute the rollout check for
         // each tenant separately.
-        final Lock lock = lockRegistry.obtain("autoassign");
-        if (!lock.tryLock()) {
-            return null;
-        }
+        systemManagement.forEachTenant(tenant -> {
+            if (!tenantPartitioning.isOwner(tenant)) {
+                return;
+            }
 
-        try {
-            systemManagement.forEachTenant(tenant -> autoAssignExecutor.check());
-        } finally {
-            lock.unlock();
-        }
+            final Lock lock = lockRegistry.obtain(lockKey(tenant));
+            if (!lock.tryLock()) {
+                return;
+            }
+
+            try {
+                autoAssignExecutor.check();
+            } finally {
+                lock.unlock();
+            }
+        });
 
         return null;
     }
+
+    static String lockKey(final String tenant) {
+        return AUTO_ASSIGN + SEP + tenant.toUpperCase();
+    }
 }
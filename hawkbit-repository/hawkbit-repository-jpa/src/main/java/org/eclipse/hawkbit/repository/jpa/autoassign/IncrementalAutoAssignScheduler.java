@@ -0,0 +1,192 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.autoassign;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.autoassign.AutoAssignExecutor;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
+import org.eclipse.hawkbit.repository.event.remote.MultiTargetCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RemoteEntityEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetFilterQueryCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetFilterQueryUpdatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantPartitioning;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.integration.support.locks.LockRegistry;
+
+/**
+ * Incremental auto assignment as an alternative to the periodic check of all
+ * targets by the {@link AutoAssignScheduler}.
+ *
+ * Created and updated targets, e.g. by changed attributes, tags or metadata,
+ * also if notified by one {@link BulkEntityEvent} of a bulk assignment, are
+ * collected for {@link RepositoryProperties#getAutoAssignDebounce()} and
+ * checked by {@link AutoAssignExecutor#check(java.util.Collection)} per tenant
+ * afterwards. A created or updated target filter query triggers a check of all
+ * targets of its tenant, as the query might have got an auto assign
+ * distribution set.
+ *
+ * Active only if {@link RepositoryProperties#isIncrementalAutoAssignment()} is
+ * set. The {@link AutoAssignScheduler} keeps running as reconciliation in that
+ * case.
+ */
+public class IncrementalAutoAssignScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(IncrementalAutoAssignScheduler.class);
+
+    private static final Set<Kind> BULK_TARGET_CHANGES = EnumSet.of(Kind.CREATED, Kind.UPDATED);
+
+    private final Map<String, Set<Long>> changedTargets = new ConcurrentHashMap<>();
+    private final Set<String> changedFilters = ConcurrentHashMap.newKeySet();
+
+    private final RepositoryProperties repositoryProperties;
+    private final AutoAssignExecutor autoAssignExecutor;
+    private final SystemSecurityContext systemSecurityContext;
+    private final LockRegistry lockRegistry;
+    private final TenantPartitioning tenantPartitioning;
+
+    /**
+     * Constructor. Schedules the check of the changed targets in case the
+     * incremental mode is enabled.
+     *
+     * @param executorService
+     *            to run the check of the changed targets
+     * @param repositoryProperties
+     *            for the mode and the debounce time
+     * @param autoAssignExecutor
+     *            to run a check as tenant
+     * @param systemSecurityContext
+     *            to run as system
+     * @param lockRegistry
+     *            to acquire the lock of the auto assignment of a tenant
+     * @param tenantPartitioning
+     *            to ignore the tenants of other nodes
+     */
+    public IncrementalAutoAssignScheduler(final ScheduledExecutorService executorService,
+            final RepositoryProperties repositoryProperties, final AutoAssignExecutor autoAssignExecutor,
+            final SystemSecurityContext systemSecurityContext, final LockRegistry lockRegistry,
+            final TenantPartitioning tenantPartitioning) {
+        this.repositoryProperties = repositoryProperties;
+        this.autoAssignExecutor = autoAssignExecutor;
+        this.systemSecurityContext = systemSecurityContext;
+        this.lockRegistry = lockRegistry;
+        this.tenantPartitioning = tenantPartitioning;
+
+        if (repositoryProperties.isIncrementalAutoAssignment()) {
+            executorService.scheduleWithFixedDelay(this::checkChanges, repositoryProperties.getAutoAssignDebounce(),
+                    repositoryProperties.getAutoAssignDebounce(), TimeUnit.MILLISECONDS);
+        }
+    }
+
+    @EventListener(classes = { TargetCreatedEvent.class, TargetUpdatedEvent.class })
+    void onTargetChange(final RemoteEntityEvent<?> event) {
+        if (isResponsible(event.getTenant())) {
+            changedTargets.computeIfAbsent(event.getTenant().toUpperCase(), key -> ConcurrentHashMap.newKeySet())
+                    .add(event.getEntityId());
+        }
+    }
+
+    @EventListener
+    void onTargetsCreated(final MultiTargetCreatedEvent event) {
+        if (isResponsible(event.getTenant())) {
+            changedTargets.computeIfAbsent(event.getTenant().toUpperCase(), key -> ConcurrentHashMap.newKeySet())
+                    .addAll(event.getTargetIds());
+        }
+    }
+
+    @EventListener(classes = BulkEntityEvent.class)
+    void onBulkTargetChange(final BulkEntityEvent event) {
+        if (event.isEntityOfType(Target.class) && BULK_TARGET_CHANGES.contains(event.getKind())
+                && isResponsible(event.getTenant())) {
+            changedTargets.computeIfAbsent(event.getTenant().toUpperCase(), key -> ConcurrentHashMap.newKeySet())
+                    .addAll(event.getEntityIds());
+        }
+    }
+
+    @EventListener(classes = { TargetFilterQueryCreatedEvent.class, TargetFilterQueryUpdatedEvent.class })
+    void onTargetFilterQueryChange(final RemoteEntityEvent<?> event) {
+        if (isResponsible(event.getTenant())) {
+            changedFilters.add(event.getTenant().toUpperCase());
+        }
+    }
+
+    private boolean isResponsible(final String tenant) {
+        return repositoryProperties.isIncrementalAutoAssignment() && tenantPartitioning.isOwner(tenant);
+    }
+
+    /**
+     * Checks the targets that have been changed since the last run.
+     */
+    void checkChanges() {
+        final Set<String> tenants = new HashSet<>(changedFilters);
+        tenants.addAll(changedTargets.keySet());
+        tenants.forEach(this::checkChanges);
+    }
+
+    private void checkChanges(final String tenant) {
+        final Lock lock = lockRegistry.obtain(AutoAssignScheduler.lockKey(tenant));
+        if (!lock.tryLock()) {
+            // checked by the next run
+            return;
+        }
+
+        try {
+            if (changedFilters.remove(tenant)) {
+                // the full check covers the changed targets as well
+                changedTargets.remove(tenant);
+                LOGGER.debug("Checking all targets of tenant {} due to changed target filter queries.", tenant);
+                runAsTenant(tenant, autoAssignExecutor::check);
+                return;
+            }
+
+            final Set<Long> targetIds = changedTargets.getOrDefault(tenant, ConcurrentHashMap.newKeySet());
+            // remove one by one as further targets might be marked meanwhile
+            final List<Long> check = new ArrayList<>(targetIds.size());
+            targetIds.forEach(targetId -> {
+                if (targetIds.remove(targetId)) {
+                    check.add(targetId);
+                }
+            });
+
+            if (!check.isEmpty()) {
+                LOGGER.debug("Checking {} changed targets of tenant {}.", check.size(), tenant);
+                runAsTenant(tenant, () -> autoAssignExecutor.check(check));
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void runAsTenant(final String tenant, final Runnable check) {
+        try {
+            systemSecurityContext.runAsSystemAsTenant(() -> {
+                check.run();
+                return null;
+            }, tenant);
+        } catch (final RuntimeException e) {
+            LOGGER.error("Failed to check changed targets of tenant {}.", tenant, e);
+        }
+    }
+}
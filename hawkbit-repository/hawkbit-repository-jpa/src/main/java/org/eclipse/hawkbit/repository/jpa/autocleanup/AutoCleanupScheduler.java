@@ -12,6 +12,7 @@ import java.util.List;
 import java.util.concurrent.locks.Lock;
 
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantPartitioning;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -33,6 +34,7 @@ public class AutoCleanupScheduler {
     private final SystemSecurityContext systemSecurityContext;
     private final LockRegistry lockRegistry;
     private final List<CleanupTask> cleanupTasks;
+    private final TenantPartitioning tenantPartitioning;
 
     /**
      * Constructs the cleanup schedulers and initializes it with a set of
@@ -46,14 +48,17 @@ public class AutoCleanupScheduler {
      *            A registry for shared locks.
      * @param cleanupTasks
      *            A list of cleanup tasks.
+     * @param tenantPartitioning
+     *            To skip the tenants of other nodes.
      */
     public AutoCleanupScheduler(final SystemManagement systemManagement,
             final SystemSecurityContext systemSecurityContext, final LockRegistry lockRegistry,
-            final List<CleanupTask> cleanupTasks) {
+            final List<CleanupTask> cleanupTasks, final TenantPartitioning tenantPartitioning) {
         this.systemManagement = systemManagement;
         this.systemSecurityContext = systemSecurityContext;
         this.lockRegistry = lockRegistry;
         this.cleanupTasks = cleanupTasks;
+        this.tenantPartitioning = tenantPartitioning;
     }
 
     /**
@@ -70,23 +75,30 @@ public class AutoCleanupScheduler {
     }
 
     /**
-     * Method which executes each registered cleanup task for each tenant.
+     * Method which executes each registered cleanup task for each tenant owned
+     * by this node.
      */
     @SuppressWarnings("squid:S3516")
     private Void executeAutoCleanup() {
-        systemManagement.forEachTenant(tenant -> cleanupTasks.forEach(task -> {
-            final Lock lock = obtainLock(task, tenant);
-            if (!lock.tryLock()) {
+        systemManagement.forEachTenant(tenant -> {
+            if (!tenantPartitioning.isOwner(tenant)) {
                 return;
             }
-            try {
-                task.run();
-            } catch (final RuntimeException e) {
-                LOGGER.error("Cleanup task failed.", e);
-            } finally {
-                lock.unlock();
-            }
-        }));
+
+            cleanupTasks.forEach(task -> {
+                final Lock lock = obtainLock(task, tenant);
+                if (!lock.tryLock()) {
+                    return;
+                }
+                try {
+                    task.run();
+                } catch (final RuntimeException e) {
+                    LOGGER.error("Cleanup task failed.", e);
+                } finally {
+                    lock.unlock();
+                }
+            });
+        });
         return null;
     }
 
@@ -0,0 +1,65 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.cluster;
+
+import java.util.EnumMap;
+
+import org.springframework.orm.jpa.vendor.Database;
+
+/**
+ * SQL expressions of the current time of the database. The leases of the
+ * cluster are written and compared by the clock of the database, so that they
+ * do not depend on the clocks of the nodes being in sync.
+ */
+final class DatabaseClock {
+
+    private static final String NOW_DEFAULT = "LOCALTIMESTAMP";
+    private static final String NOW_PLUS_MILLIS_DEFAULT = "DATEADD('MILLISECOND', ?, LOCALTIMESTAMP)";
+
+    private static final EnumMap<Database, String> NOW;
+    private static final EnumMap<Database, String> NOW_PLUS_MILLIS;
+
+    static {
+        NOW = new EnumMap<>(Database.class);
+        NOW.put(Database.MYSQL, "UTC_TIMESTAMP(3)");
+        NOW.put(Database.SQL_SERVER, "SYSUTCDATETIME()");
+        NOW.put(Database.POSTGRESQL, "CURRENT_TIMESTAMP");
+        NOW.put(Database.DB2, "(CURRENT_TIMESTAMP - CURRENT_TIMEZONE)");
+
+        NOW_PLUS_MILLIS = new EnumMap<>(Database.class);
+        NOW_PLUS_MILLIS.put(Database.MYSQL, "TIMESTAMPADD(MICROSECOND, ? * 1000, UTC_TIMESTAMP(3))");
+        NOW_PLUS_MILLIS.put(Database.SQL_SERVER, "DATEADD(MILLISECOND, ?, SYSUTCDATETIME())");
+        NOW_PLUS_MILLIS.put(Database.POSTGRESQL, "(CURRENT_TIMESTAMP + ? * INTERVAL '1 millisecond')");
+        NOW_PLUS_MILLIS.put(Database.DB2,
+                "(CURRENT_TIMESTAMP - CURRENT_TIMEZONE + (CAST(? AS BIGINT) * 1000) MICROSECONDS)");
+    }
+
+    private DatabaseClock() {
+        // utility class
+    }
+
+    /**
+     * @param database
+     *            the database in use
+     * @return expression of the current time of the database
+     */
+    static String now(final Database database) {
+        return NOW.getOrDefault(database, NOW_DEFAULT);
+    }
+
+    /**
+     * @param database
+     *            the database in use
+     * @return expression of the current time of the database plus the
+     *         milliseconds of a parameter
+     */
+    static String nowPlusMillis(final Database database) {
+        return NOW_PLUS_MILLIS.getOrDefault(database, NOW_PLUS_MILLIS_DEFAULT);
+    }
+}
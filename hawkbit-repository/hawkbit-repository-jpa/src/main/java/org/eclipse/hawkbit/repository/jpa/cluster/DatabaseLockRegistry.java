@@ -0,0 +1,227 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.cluster;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * {@link LockRegistry} with locks that are shared by all nodes of a cluster by
+ * means of the table sp_lock.
+ *
+ * A lock is a lease that expires after
+ * {@link RepositoryProperties#getClusterLeaseTime()} by the clock of the
+ * database. The leases of the locks held by this node are renewed in the
+ * background until {@link #shutdown()}, i.e. a lock is only taken over by
+ * another node if the holding node died. The lock rows are written in
+ * transactions of their own, independent of the transaction of the caller.
+ *
+ * Unlike the locks of a DefaultLockRegistry, the locks are not reentrant and
+ * are held by the node, not by the thread.
+ */
+public class DatabaseLockRegistry implements LockRegistry {
+    private static final Logger LOG = LoggerFactory.getLogger(DatabaseLockRegistry.class);
+
+    private static final String UPDATE_LOCK = "UPDATE sp_lock SET owner_id = ?, expires_at = %s WHERE lock_key = ? AND (owner_id = ? OR expires_at < %s)";
+    private static final String INSERT_LOCK = "INSERT INTO sp_lock (lock_key, owner_id, expires_at) VALUES (?, ?, %s)";
+    private static final String RENEW_LOCK = "UPDATE sp_lock SET expires_at = %s WHERE lock_key = ? AND owner_id = ?";
+    private static final String DELETE_LOCK = "DELETE FROM sp_lock WHERE lock_key = ? AND owner_id = ?";
+
+    private static final long RETRY_INTERVAL = 100;
+
+    private final Map<String, DatabaseLock> heldLocks = new ConcurrentHashMap<>();
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate txTemplate;
+    private final String nodeId;
+    private final long leaseTime;
+    private final String updateLock;
+    private final String insertLock;
+    private final String renewLock;
+    private final ScheduledFuture<?> renewal;
+
+    /**
+     * Constructor. Schedules the renewal of the held locks.
+     *
+     * @param jdbcTemplate
+     *            to access the locks
+     * @param txManager
+     *            to write the locks in transactions of their own
+     * @param executorService
+     *            to renew the held locks
+     * @param nodeId
+     *            the ID of this node
+     * @param leaseTime
+     *            in {@link TimeUnit#MILLISECONDS} after which a lock that is
+     *            not renewed expires
+     * @param database
+     *            the database in use to compute the lease expiry
+     */
+    public DatabaseLockRegistry(final JdbcTemplate jdbcTemplate, final PlatformTransactionManager txManager,
+            final ScheduledExecutorService executorService, final String nodeId, final long leaseTime,
+            final Database database) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.txTemplate = new TransactionTemplate(txManager);
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.nodeId = nodeId;
+        this.leaseTime = leaseTime;
+        this.updateLock = String.format(UPDATE_LOCK, DatabaseClock.nowPlusMillis(database),
+                DatabaseClock.now(database));
+        this.insertLock = String.format(INSERT_LOCK, DatabaseClock.nowPlusMillis(database));
+        this.renewLock = String.format(RENEW_LOCK, DatabaseClock.nowPlusMillis(database));
+
+        final long renewInterval = Math.max(1, leaseTime / 3);
+        renewal = executorService.scheduleWithFixedDelay(this::renewHeldLocks, renewInterval, renewInterval,
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the renewal of the held locks. Locks that are still held are
+     * released by their holders or expire after the lease time.
+     */
+    public void shutdown() {
+        renewal.cancel(false);
+    }
+
+    @Override
+    public Lock obtain(final Object lockKey) {
+        return new DatabaseLock(lockKey.toString());
+    }
+
+    private boolean acquire(final String key) {
+        final Integer updated = txTemplate
+                .execute(status -> jdbcTemplate.update(updateLock, nodeId, leaseTime, key, nodeId));
+        if (updated != null && updated > 0) {
+            return true;
+        }
+
+        try {
+            txTemplate.execute(status -> jdbcTemplate.update(insertLock, key, nodeId, leaseTime));
+            return true;
+        } catch (final DataIntegrityViolationException e) {
+            LOG.trace("Lock {} is held by another node.", key, e);
+            return false;
+        }
+    }
+
+    private void release(final String key) {
+        txTemplate.execute(status -> jdbcTemplate.update(DELETE_LOCK, key, nodeId));
+    }
+
+    private void renewHeldLocks() {
+        heldLocks.keySet().forEach(key -> {
+            try {
+                final Integer renewed = txTemplate
+                        .execute(status -> jdbcTemplate.update(renewLock, leaseTime, key, nodeId));
+                if (renewed == null || renewed == 0) {
+                    LOG.warn("Lease of lock {} has been lost.", key);
+                }
+            } catch (final DataAccessException e) {
+                LOG.error("Failed to renew the lease of lock {}.", key, e);
+            }
+        });
+    }
+
+    private final class DatabaseLock implements Lock {
+        private final String key;
+
+        private DatabaseLock(final String key) {
+            this.key = key;
+        }
+
+        @Override
+        public boolean tryLock() {
+            // only one lock instance of a key per node at a time
+            if (heldLocks.putIfAbsent(key, this) != null) {
+                return false;
+            }
+
+            try {
+                if (acquire(key)) {
+                    return true;
+                }
+            } catch (final RuntimeException e) {
+                heldLocks.remove(key, this);
+                throw e;
+            }
+
+            heldLocks.remove(key, this);
+            return false;
+        }
+
+        @Override
+        public boolean tryLock(final long time, final TimeUnit unit) throws InterruptedException {
+            final long deadline = System.currentTimeMillis() + unit.toMillis(time);
+            while (!tryLock()) {
+                if (System.currentTimeMillis() >= deadline) {
+                    return false;
+                }
+                Thread.sleep(RETRY_INTERVAL);
+            }
+            return true;
+        }
+
+        @Override
+        public void lock() {
+            boolean interrupted = false;
+            while (!tryLock()) {
+                try {
+                    Thread.sleep(RETRY_INTERVAL);
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @Override
+        public void lockInterruptibly() throws InterruptedException {
+            while (!tryLock()) {
+                Thread.sleep(RETRY_INTERVAL);
+            }
+        }
+
+        @Override
+        public void unlock() {
+            if (heldLocks.get(key) != this) {
+                throw new IllegalMonitorStateException("Lock " + key + " is not held by this lock instance.");
+            }
+
+            try {
+                release(key);
+            } finally {
+                heldLocks.remove(key, this);
+            }
+        }
+
+        @Override
+        public Condition newCondition() {
+            throw new UnsupportedOperationException("Conditions are not supported by database locks.");
+        }
+    }
+}
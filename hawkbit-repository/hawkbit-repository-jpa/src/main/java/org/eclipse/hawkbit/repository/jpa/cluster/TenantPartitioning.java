@@ -0,0 +1,186 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.cluster;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.google.common.hash.Hashing;
+
+/**
+ * Distributes the tenants over the live nodes of a cluster, so that the
+ * schedulers of a node only handle the tenants the node owns.
+ *
+ * Every node renews its lease in the table sp_cluster_node in an interval of a
+ * third of {@link RepositoryProperties#getClusterLeaseTime()}. Nodes whose
+ * lease expired by the clock of the database are no longer considered live. A tenant is owned by the live
+ * node with the highest hash of node and tenant (rendezvous hashing), i.e. if a
+ * node joins or leaves only the tenants of this node move.
+ *
+ * Ownership may overlap while the nodes learn about a change of the cluster.
+ * The schedulers keep their locks to stay correct in that case.
+ *
+ * Outside of {@link RepositoryProperties#isClusterMode()} every tenant is
+ * owned by the node.
+ */
+public class TenantPartitioning {
+    private static final Logger LOG = LoggerFactory.getLogger(TenantPartitioning.class);
+
+    private static final String UPDATE_NODE = "UPDATE sp_cluster_node SET expires_at = %s WHERE node_id = ?";
+    private static final String INSERT_NODE = "INSERT INTO sp_cluster_node (node_id, expires_at) VALUES (?, %s)";
+    private static final String DELETE_NODE = "DELETE FROM sp_cluster_node WHERE node_id = ?";
+    private static final String SELECT_LIVE_NODES = "SELECT node_id FROM sp_cluster_node WHERE expires_at >= %s ORDER BY node_id";
+
+    private final boolean clusterMode;
+    private final String nodeId;
+    private final long leaseTime;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate txTemplate;
+    private final String updateNode;
+    private final String insertNode;
+    private final String selectLiveNodes;
+    private final ScheduledFuture<?> renewal;
+
+    private volatile List<String> liveNodes;
+
+    /**
+     * Constructor. Schedules the renewal of the lease of this node in
+     * {@link RepositoryProperties#isClusterMode()}.
+     *
+     * @param repositoryProperties
+     *            for the mode, the lease time and the ID of this node
+     * @param jdbcTemplate
+     *            to access the leases of the nodes
+     * @param txManager
+     *            to write the lease in a transaction of its own
+     * @param executorService
+     *            to renew the lease
+     * @param database
+     *            the database in use to compute the lease expiry
+     */
+    public TenantPartitioning(final RepositoryProperties repositoryProperties, final JdbcTemplate jdbcTemplate,
+            final PlatformTransactionManager txManager, final ScheduledExecutorService executorService,
+            final Database database) {
+        this.clusterMode = repositoryProperties.isClusterMode();
+        this.nodeId = repositoryProperties.getClusterNodeId() != null ? repositoryProperties.getClusterNodeId()
+                : UUID.randomUUID().toString();
+        this.leaseTime = repositoryProperties.getClusterLeaseTime();
+        this.jdbcTemplate = jdbcTemplate;
+        this.txTemplate = new TransactionTemplate(txManager);
+        this.txTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.liveNodes = Collections.singletonList(nodeId);
+        this.updateNode = String.format(UPDATE_NODE, DatabaseClock.nowPlusMillis(database));
+        this.insertNode = String.format(INSERT_NODE, DatabaseClock.nowPlusMillis(database));
+        this.selectLiveNodes = String.format(SELECT_LIVE_NODES, DatabaseClock.now(database));
+
+        if (clusterMode) {
+            final long renewInterval = Math.max(1, leaseTime / 3);
+            renewal = executorService.scheduleWithFixedDelay(this::renewLease, 0, renewInterval,
+                    TimeUnit.MILLISECONDS);
+        } else {
+            renewal = null;
+        }
+    }
+
+    /**
+     * @return the ID of this node, either configured by
+     *         {@link RepositoryProperties#getClusterNodeId()} or random
+     */
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    /**
+     * @return {@code true} if the tenants are distributed over the nodes of the
+     *         cluster, see {@link RepositoryProperties#isClusterMode()}
+     */
+    public boolean isClusterMode() {
+        return clusterMode;
+    }
+
+    /**
+     * @param tenant
+     *            to check
+     * @return {@code true} if the schedulers of this node are responsible for
+     *         the given tenant
+     */
+    public boolean isOwner(final String tenant) {
+        if (!clusterMode) {
+            return true;
+        }
+
+        final String key = tenant.toUpperCase();
+        String owner = nodeId;
+        long ownerHash = Long.MIN_VALUE;
+        for (final String node : liveNodes) {
+            final long hash = Hashing.murmur3_128().newHasher().putString(node, StandardCharsets.UTF_8)
+                    .putString(key, StandardCharsets.UTF_8).hash().asLong();
+            if (hash > ownerHash || (hash == ownerHash && node.compareTo(owner) < 0)) {
+                owner = node;
+                ownerHash = hash;
+            }
+        }
+        return nodeId.equals(owner);
+    }
+
+    void renewLease() {
+        try {
+            txTemplate.execute(status -> {
+                if (jdbcTemplate.update(updateNode, leaseTime, nodeId) == 0) {
+                    jdbcTemplate.update(insertNode, nodeId, leaseTime);
+                }
+                return null;
+            });
+
+            final List<String> nodes = jdbcTemplate.queryForList(selectLiveNodes, String.class);
+            if (!nodes.contains(nodeId)) {
+                nodes.add(nodeId);
+            }
+            if (!nodes.equals(liveNodes)) {
+                LOG.info("Live nodes of the cluster changed to {}.", nodes);
+            }
+            liveNodes = nodes;
+        } catch (final DataIntegrityViolationException e) {
+            LOG.debug("Lease of node {} has been created concurrently.", nodeId, e);
+        } catch (final DataAccessException e) {
+            LOG.error("Failed to renew the lease of node {}.", nodeId, e);
+        }
+    }
+
+    /**
+     * Gives up the lease of this node, its tenants are taken over by the other
+     * nodes right away.
+     */
+    public void shutdown() {
+        if (clusterMode) {
+            renewal.cancel(false);
+            try {
+                txTemplate.execute(status -> jdbcTemplate.update(DELETE_NODE, nodeId));
+            } catch (final DataAccessException e) {
+                LOG.warn("Failed to give up the lease of node {}.", nodeId, e);
+            }
+        }
+    }
+}
@@ -0,0 +1,206 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.event;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.BaseEntity;
+import org.eclipse.hawkbit.repository.model.TenantAwareBaseEntity;
+import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.transaction.support.TransactionSynchronizationAdapter;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Scope of a bulk operation, e.g. an assignment of a distribution set to many
+ * targets. The entity events of the entities that are created or updated
+ * within the scope are collected per transaction and published after the
+ * commit as one {@link BulkEntityEvent} per entity type and kind of change if
+ * their number reaches the threshold of the scope. Otherwise, the entity
+ * events are published as usual.
+ */
+public final class BulkEventScope {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BulkEventScope.class);
+
+    private static final ThreadLocal<Integer> THRESHOLD = new ThreadLocal<>();
+
+    private BulkEventScope() {
+        // utility class
+    }
+
+    /**
+     * Runs the given operation within a bulk scope. Nested scopes use the
+     * threshold of the innermost scope.
+     *
+     * @param threshold
+     *            minimum number of entities of a type and kind of change to
+     *            publish a {@link BulkEntityEvent}, <code>0</code> disables
+     *            the aggregation
+     * @param operation
+     *            to run
+     * @return the result of the operation
+     */
+    public static <T> T run(final int threshold, final Supplier<T> operation) {
+        final Integer outer = THRESHOLD.get();
+        THRESHOLD.set(threshold);
+        try {
+            return operation.get();
+        } finally {
+            if (outer == null) {
+                THRESHOLD.remove();
+            } else {
+                THRESHOLD.set(outer);
+            }
+        }
+    }
+
+    /**
+     * Collects the event of the given entity if a bulk scope with an active
+     * transaction is open.
+     *
+     * @param entity
+     *            that has been created or updated
+     * @param kind
+     *            of the change
+     * @param changedFields
+     *            the changed fields of the entity, empty if unknown
+     * @param fallback
+     *            that publishes the entity event if the threshold is not
+     *            reached
+     * @return <code>true</code> if the event has been collected,
+     *         <code>false</code> if the caller has to publish it
+     */
+    public static boolean collect(final TenantAwareBaseEntity entity, final Kind kind,
+            final Collection<String> changedFields, final Runnable fallback) {
+        final Integer threshold = THRESHOLD.get();
+        if (threshold == null || threshold <= 0 || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return false;
+        }
+
+        Collector collector = (Collector) TransactionSynchronizationManager.getResource(Collector.class);
+        if (collector == null) {
+            collector = new Collector(threshold);
+            TransactionSynchronizationManager.bindResource(Collector.class, collector);
+            TransactionSynchronizationManager.registerSynchronization(collector);
+        }
+        collector.add(entity, kind, changedFields, fallback);
+        return true;
+    }
+
+    /**
+     * Collects the events of a transaction and publishes them after the
+     * commit.
+     */
+    private static final class Collector extends TransactionSynchronizationAdapter {
+
+        private final int threshold;
+        private final Map<List<String>, Group> groups = new LinkedHashMap<>();
+
+        private Collector(final int threshold) {
+            this.threshold = threshold;
+        }
+
+        private void add(final TenantAwareBaseEntity entity, final Kind kind, final Collection<String> changedFields,
+                final Runnable fallback) {
+            final String entityClass = entity.getClass().getName();
+            groups.computeIfAbsent(Arrays.asList(entity.getTenant(), entityClass, kind.name()),
+                    key -> new Group(entity.getTenant(), entityClass, kind)).add(entity, changedFields, fallback);
+        }
+
+        @Override
+        public void afterCommit() {
+            groups.values().forEach(group -> {
+                try {
+                    group.publish(threshold);
+                } catch (final RuntimeException e) {
+                    LOG.error("Failed to publish the events of {} {} entities", group.kind, group.entityClass, e);
+                }
+            });
+        }
+
+        @Override
+        public void afterCompletion(final int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(Collector.class);
+        }
+    }
+
+    /**
+     * The collected events of an entity type and kind of change.
+     */
+    private static final class Group {
+
+        private final String tenant;
+        private final String entityClass;
+        private final Kind kind;
+        private final Map<Long, Long> parentIds = new LinkedHashMap<>();
+        private final Set<String> changedFields = new LinkedHashSet<>();
+        private final Set<List<Long>> rollouts = new LinkedHashSet<>();
+        private final List<Runnable> fallbacks = new ArrayList<>();
+
+        private Group(final String tenant, final String entityClass, final Kind kind) {
+            this.tenant = tenant;
+            this.entityClass = entityClass;
+            this.kind = kind;
+        }
+
+        private void add(final TenantAwareBaseEntity entity, final Collection<String> fields,
+                final Runnable fallback) {
+            Long parentId = null;
+            if (entity instanceof Action) {
+                final Action action = (Action) entity;
+                parentId = BaseEntity.getIdOrNull(action.getTarget());
+                if (action.getRollout() != null) {
+                    rollouts.add(Arrays.asList(action.getRollout().getId(),
+                            BaseEntity.getIdOrNull(action.getRolloutGroup())));
+                }
+            }
+            parentIds.put(entity.getId(), parentId);
+            changedFields.addAll(fields);
+            fallbacks.add(fallback);
+        }
+
+        private void publish(final int threshold) {
+            if (parentIds.size() < threshold) {
+                fallbacks.forEach(Runnable::run);
+                return;
+            }
+
+            final List<Long> parents = new ArrayList<>();
+            if (parentIds.values().stream().allMatch(Objects::nonNull)) {
+                parents.addAll(parentIds.values());
+            }
+            final List<Long> rolloutIds = new ArrayList<>(rollouts.size());
+            final List<Long> rolloutGroupIds = new ArrayList<>(rollouts.size());
+            rollouts.forEach(rollout -> {
+                rolloutIds.add(rollout.get(0));
+                rolloutGroupIds.add(rollout.get(1));
+            });
+
+            LOG.debug("Publishing one event for {} {} {} entities", parentIds.size(), kind, entityClass);
+            EventPublisherHolder.getInstance().getEventPublisher()
+                    .publishEvent(new BulkEntityEvent(tenant, EventPublisherHolder.getInstance().getApplicationId(),
+                            entityClass, kind, new ArrayList<>(parentIds.keySet()), parents, changedFields,
+                            rolloutIds, rolloutGroupIds));
+        }
+    }
+}
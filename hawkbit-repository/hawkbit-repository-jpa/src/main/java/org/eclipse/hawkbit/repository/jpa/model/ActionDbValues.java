@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.model;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.eclipse.hawkbit.repository.model.Action.ActionType;
+import org.eclipse.hawkbit.repository.model.Action.Status;
+import org.eclipse.persistence.annotations.ConversionValue;
+import org.eclipse.persistence.annotations.ObjectTypeConverter;
+
+/**
+ * Database values of the {@link Status} and the {@link ActionType} of a
+ * {@link JpaAction} for native SQL on the action table. The values are read
+ * from the {@link ObjectTypeConverter}s of the entity, i.e. they do not depend
+ * on the declaration order of the enums.
+ */
+public final class ActionDbValues {
+
+    private static final Map<Status, Integer> STATUS_VALUES = readConversionValues(JpaAction.class, "status",
+            Status.class);
+    private static final Map<Integer, Status> STATUS_BY_VALUE = invert(STATUS_VALUES);
+    private static final Map<ActionType, Integer> ACTION_TYPE_VALUES = readConversionValues(JpaAction.class,
+            "actionType", ActionType.class);
+
+    private ActionDbValues() {
+        // utility class
+    }
+
+    /**
+     * @param status
+     *            of an action
+     * @return the database value of the status
+     */
+    public static int valueOf(final Status status) {
+        return lookup(STATUS_VALUES, status);
+    }
+
+    /**
+     * @param actionType
+     *            of an action
+     * @return the database value of the action type
+     */
+    public static int valueOf(final ActionType actionType) {
+        return lookup(ACTION_TYPE_VALUES, actionType);
+    }
+
+    /**
+     * @param value
+     *            database value of an action status
+     * @return the status
+     */
+    public static Status toStatus(final int value) {
+        return lookup(STATUS_BY_VALUE, value);
+    }
+
+    static <K, V> V lookup(final Map<K, V> values, final K key) {
+        final V value = values.get(key);
+        if (value == null) {
+            throw new IllegalArgumentException("No database value mapped for " + key);
+        }
+        return value;
+    }
+
+    static <E extends Enum<E>> Map<E, Integer> readConversionValues(final Class<?> entityType,
+            final String field, final Class<E> enumType) {
+        final ObjectTypeConverter converter;
+        try {
+            converter = entityType.getDeclaredField(field).getAnnotation(ObjectTypeConverter.class);
+        } catch (final NoSuchFieldException e) {
+            throw new IllegalStateException(entityType.getSimpleName() + " has no field " + field, e);
+        }
+
+        final Map<E, Integer> values = new EnumMap<>(enumType);
+        for (final ConversionValue conversionValue : converter.conversionValues()) {
+            values.put(Enum.valueOf(enumType, conversionValue.objectValue()),
+                    Integer.valueOf(conversionValue.dataValue()));
+        }
+        return Collections.unmodifiableMap(values);
+    }
+
+    private static <K, V> Map<V, K> invert(final Map<K, V> map) {
+        final Map<V, K> inverted = new HashMap<>();
+        map.forEach((key, value) -> inverted.put(value, key));
+        return Collections.unmodifiableMap(inverted);
+    }
+}
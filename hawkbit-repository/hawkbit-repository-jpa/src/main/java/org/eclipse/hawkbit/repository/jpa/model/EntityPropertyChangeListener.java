@@ -8,6 +8,12 @@
  */
 package org.eclipse.hawkbit.repository.jpa.model;
 
+import java.util.Collection;
+import java.util.Collections;
+
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
+import org.eclipse.hawkbit.repository.jpa.event.BulkEventScope;
+import org.eclipse.hawkbit.repository.model.TenantAwareBaseEntity;
 import org.eclipse.hawkbit.repository.jpa.model.helper.AfterTransactionCommitExecutorHolder;
 import org.eclipse.persistence.descriptors.DescriptorEvent;
 import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
@@ -24,7 +30,8 @@ public class EntityPropertyChangeListener extends DescriptorEventAdapter {
     public void postInsert(final DescriptorEvent event) {
         final Object object = event.getObject();
         if (isEventAwareEntity(object)) {
-            doNotifiy(() -> ((EventAwareEntity) object).fireCreateEvent(event));
+            notify(object, Kind.CREATED, Collections.emptyList(),
+                    () -> ((EventAwareEntity) object).fireCreateEvent(event));
         }
     }
 
@@ -34,7 +41,9 @@ public class EntityPropertyChangeListener extends DescriptorEventAdapter {
         final Object object = event.getObject();
         if (isEventAwareEntity(object)
                 && isFireUpdate((EventAwareEntity) object, (UpdateObjectQuery) event.getQuery())) {
-            doNotifiy(() -> ((EventAwareEntity) object).fireUpdateEvent(event));
+            notify(object, Kind.UPDATED,
+                    ((UpdateObjectQuery) event.getQuery()).getObjectChangeSet().getChangedAttributeNames(),
+                    () -> ((EventAwareEntity) object).fireUpdateEvent(event));
         }
 
     }
@@ -51,6 +60,18 @@ public class EntityPropertyChangeListener extends DescriptorEventAdapter {
         return object instanceof EventAwareEntity;
     }
 
+    /**
+     * Collects the event if the entity is changed within a
+     * {@link BulkEventScope}, publishes it after the commit otherwise.
+     */
+    private static void notify(final Object object, final Kind kind, final Collection<String> changedFields,
+            final Runnable runnable) {
+        if (!(object instanceof TenantAwareBaseEntity)
+                || !BulkEventScope.collect((TenantAwareBaseEntity) object, kind, changedFields, runnable)) {
+            doNotifiy(runnable);
+        }
+    }
+
     private static void doNotifiy(final Runnable runnable) {
         AfterTransactionCommitExecutorHolder.getInstance().getAfterCommit().afterCommit(runnable);
     }
@@ -37,6 +37,7 @@ import javax.persistence.ManyToOne;
 import javax.persistence.MapKeyColumn;
 import javax.persistence.OneToMany;
 import javax.persistence.Table;
+import javax.persistence.Transient;
 import javax.persistence.UniqueConstraint;
 import javax.validation.constraints.NotNull;
 import javax.validation.constraints.Pattern;
@@ -56,10 +57,9 @@ import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetMetadata;
 import org.eclipse.hawkbit.repository.model.TargetTag;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+import org.eclipse.hawkbit.repository.model.TenantConfigurationSnapshot;
 import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
 import org.eclipse.hawkbit.repository.model.helper.TenantConfigurationManagementHolder;
-import org.eclipse.hawkbit.tenancy.configuration.DurationHelper;
-import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.eclipse.persistence.annotations.CascadeOnDelete;
 import org.eclipse.persistence.annotations.ConversionValue;
 import org.eclipse.persistence.annotations.Convert;
@@ -172,6 +172,13 @@ public class JpaTarget extends AbstractJpaNamedEntity implements Target, EventAw
     @OneToMany(mappedBy = "target", fetch = FetchType.LAZY, targetEntity = JpaTargetMetadata.class)
     private List<TargetMetadata> metadata;
 
+    /**
+     * Targets that are created in a batch, e.g. by an import, are published
+     * with a single aggregated event instead of an event per target.
+     */
+    @Transient
+    private transient boolean batchCreated;
+
     /**
      * Constructor.
      *
@@ -316,21 +323,16 @@ public class JpaTarget extends AbstractJpaNamedEntity implements Target, EventAw
         if (lastTargetQuery == null) {
             return null;
         }
-        return SystemSecurityContextHolder.getInstance().getSystemSecurityContext().runAsSystem(() -> {
-            final Duration pollTime = DurationHelper.formattedStringToDuration(TenantConfigurationManagementHolder
-                    .getInstance().getTenantConfigurationManagement()
-                    .getConfigurationValue(TenantConfigurationKey.POLLING_TIME_INTERVAL, String.class).getValue());
-            final Duration overdueTime = DurationHelper.formattedStringToDuration(
-                    TenantConfigurationManagementHolder.getInstance().getTenantConfigurationManagement()
-                            .getConfigurationValue(TenantConfigurationKey.POLLING_OVERDUE_TIME_INTERVAL, String.class)
-                            .getValue());
-            final LocalDateTime currentDate = LocalDateTime.now();
-            final LocalDateTime lastPollDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(lastTargetQuery),
-                    ZoneId.systemDefault());
-            final LocalDateTime nextPollDate = lastPollDate.plus(pollTime);
-            final LocalDateTime overdueDate = nextPollDate.plus(overdueTime);
-            return new PollStatus(lastPollDate, nextPollDate, overdueDate, currentDate);
-        });
+        final TenantConfigurationSnapshot configuration = TenantConfigurationManagementHolder.getInstance()
+                .getTenantConfigurationSnapshotCache().getSnapshot();
+        final Duration pollTime = configuration.getPollingTimeDuration();
+        final Duration overdueTime = configuration.getPollingOverdueTimeDuration();
+        final LocalDateTime currentDate = LocalDateTime.now();
+        final LocalDateTime lastPollDate = LocalDateTime.ofInstant(Instant.ofEpochMilli(lastTargetQuery),
+                ZoneId.systemDefault());
+        final LocalDateTime nextPollDate = lastPollDate.plus(pollTime);
+        final LocalDateTime overdueDate = nextPollDate.plus(overdueTime);
+        return new PollStatus(lastPollDate, nextPollDate, overdueDate, currentDate);
     }
 
     @Override
@@ -399,8 +401,19 @@ public class JpaTarget extends AbstractJpaNamedEntity implements Target, EventAw
         this.requestControllerAttributes = requestControllerAttributes;
     }
 
+    public void setControllerAttributes(final Map<String, String> controllerAttributes) {
+        this.controllerAttributes = controllerAttributes;
+    }
+
+    public void setBatchCreated(final boolean batchCreated) {
+        this.batchCreated = batchCreated;
+    }
+
     @Override
     public void fireCreateEvent(final DescriptorEvent descriptorEvent) {
+        if (batchCreated) {
+            return;
+        }
         EventPublisherHolder.getInstance().getEventPublisher()
                 .publishEvent(new TargetCreatedEvent(this, EventPublisherHolder.getInstance().getApplicationId()));
     }
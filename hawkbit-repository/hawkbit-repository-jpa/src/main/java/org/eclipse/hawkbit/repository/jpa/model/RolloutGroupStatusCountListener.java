@@ -0,0 +1,96 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.model;
+
+import java.util.Arrays;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.RolloutGroup;
+import org.eclipse.persistence.descriptors.DescriptorEvent;
+import org.eclipse.persistence.descriptors.DescriptorEventAdapter;
+import org.eclipse.persistence.internal.sessions.DirectToFieldChangeRecord;
+import org.eclipse.persistence.queries.DataModifyQuery;
+import org.eclipse.persistence.queries.SQLCall;
+import org.eclipse.persistence.queries.UpdateObjectQuery;
+import org.eclipse.persistence.sessions.changesets.ChangeRecord;
+
+/**
+ * Maintains the number of {@link Action}s per {@link RolloutGroup} and
+ * {@link Action.Status} within the transaction that changes the actions, see
+ * {@link org.eclipse.hawkbit.repository.jpa.RolloutGroupStatusCounter}.
+ *
+ * A counter row for every status is created together with the group. Inserted,
+ * deleted and status changed actions of a group append their changes to the
+ * log of the counters. Actions that are changed by bulk statements bypass this
+ * listener, their changes are logged explicitly.
+ */
+public class RolloutGroupStatusCountListener extends DescriptorEventAdapter {
+
+    private static final String INSERT_DELTA = "INSERT INTO sp_rolloutgroup_status_delta (rolloutgroup_id, status, delta) VALUES (#group, #status, #delta)";
+
+    private static final String INSERT_COUNTS = "INSERT INTO sp_rolloutgroup_status_count (rolloutgroup_id, status, action_count) VALUES "
+            + Arrays.stream(Action.Status.values()).map(status -> "(#group, " + ActionDbValues.valueOf(status) + ", 0)")
+                    .collect(Collectors.joining(", "));
+
+    @Override
+    public void postInsert(final DescriptorEvent event) {
+        final Object object = event.getObject();
+        if (object instanceof JpaRolloutGroup) {
+            final DataModifyQuery query = new DataModifyQuery(new SQLCall(INSERT_COUNTS));
+            query.addArgument("group");
+            event.getSession().executeQuery(query, Arrays.asList(((JpaRolloutGroup) object).getId()));
+        } else if (object instanceof JpaAction) {
+            final JpaAction action = (JpaAction) object;
+            if (action.getRolloutGroup() != null) {
+                updateCount(event, action.getRolloutGroup().getId(), action.getStatus(), 1);
+            }
+        }
+    }
+
+    @Override
+    public void postUpdate(final DescriptorEvent event) {
+        final Object object = event.getObject();
+        if (!(object instanceof JpaAction) || ((JpaAction) object).getRolloutGroup() == null) {
+            return;
+        }
+
+        final ChangeRecord statusChange = ((UpdateObjectQuery) event.getQuery()).getObjectChangeSet()
+                .getChangesForAttributeNamed("status");
+        if (statusChange == null) {
+            return;
+        }
+
+        final JpaAction action = (JpaAction) object;
+        final Action.Status oldStatus = (Action.Status) ((DirectToFieldChangeRecord) statusChange).getOldValue();
+        if (oldStatus == action.getStatus()) {
+            return;
+        }
+        updateCount(event, action.getRolloutGroup().getId(), oldStatus, -1);
+        updateCount(event, action.getRolloutGroup().getId(), action.getStatus(), 1);
+    }
+
+    @Override
+    public void postDelete(final DescriptorEvent event) {
+        final Object object = event.getObject();
+        if (object instanceof JpaAction && ((JpaAction) object).getRolloutGroup() != null) {
+            final JpaAction action = (JpaAction) object;
+            updateCount(event, action.getRolloutGroup().getId(), action.getStatus(), -1);
+        }
+    }
+
+    private static void updateCount(final DescriptorEvent event, final long groupId, final Action.Status status,
+            final long delta) {
+        final DataModifyQuery query = new DataModifyQuery(new SQLCall(INSERT_DELTA));
+        query.addArgument("group");
+        query.addArgument("status");
+        query.addArgument("delta");
+        event.getSession().executeQuery(query, Arrays.asList(groupId, ActionDbValues.valueOf(status), delta));
+    }
+}
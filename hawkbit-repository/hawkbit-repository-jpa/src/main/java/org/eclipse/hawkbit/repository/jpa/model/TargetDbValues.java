@@ -0,0 +1,38 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.model;
+
+import java.util.Map;
+
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+import org.eclipse.persistence.annotations.ObjectTypeConverter;
+
+/**
+ * Database values of the {@link TargetUpdateStatus} of a {@link JpaTarget}
+ * for native SQL on the target table, read from the
+ * {@link ObjectTypeConverter} of the entity like the {@link ActionDbValues}.
+ */
+public final class TargetDbValues {
+
+    private static final Map<TargetUpdateStatus, Integer> UPDATE_STATUS_VALUES = ActionDbValues
+            .readConversionValues(JpaTarget.class, "updateStatus", TargetUpdateStatus.class);
+
+    private TargetDbValues() {
+        // utility class
+    }
+
+    /**
+     * @param updateStatus
+     *            of a target
+     * @return the database value of the update status
+     */
+    public static int valueOf(final TargetUpdateStatus updateStatus) {
+        return ActionDbValues.lookup(UPDATE_STATUS_VALUES, updateStatus);
+    }
+}
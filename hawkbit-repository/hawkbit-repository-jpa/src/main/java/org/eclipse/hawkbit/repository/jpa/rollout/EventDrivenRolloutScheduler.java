@@ -0,0 +1,185 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
+import org.eclipse.hawkbit.repository.event.remote.RemoteTenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractActionEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.AbstractRolloutGroupEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RolloutCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.RolloutUpdatedEvent;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantPartitioning;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.event.EventListener;
+
+/**
+ * Event driven handling of {@link Rollout}s as an alternative to the periodic
+ * handling of all rollouts by the {@link RolloutScheduler}.
+ *
+ * Changes of actions and groups of a rollout as well as of the rollout itself
+ * mark the rollout as dirty, including the actions of a bulk operation that
+ * are notified by one {@link BulkEntityEvent}, e.g. on the start of a rollout
+ * group. The dirty rollouts are collected for
+ * {@link RepositoryProperties#getRolloutHandlingDebounce()} and handled by
+ * {@link RolloutManagement#handleRollouts(java.util.Collection)} per tenant
+ * afterwards, i.e. only tenants with changed rollouts are visited.
+ *
+ * As the changes are received from all nodes, a node only handles the changes
+ * it is responsible for: in {@link RepositoryProperties#isClusterMode()} the
+ * changes of the tenants it owns according to the {@link TenantPartitioning},
+ * otherwise the changes it caused itself.
+ *
+ * Created only if {@link RepositoryProperties#isEventDrivenRolloutHandling()}
+ * is set. The {@link RolloutScheduler} keeps running as safety sweep in that
+ * case.
+ */
+public class EventDrivenRolloutScheduler {
+    private static final Logger LOGGER = LoggerFactory.getLogger(EventDrivenRolloutScheduler.class);
+
+    private static final Set<Kind> BULK_ACTION_CHANGES = EnumSet.of(Kind.CREATED, Kind.UPDATED);
+
+    private final Map<String, Set<Long>> dirtyRollouts = new ConcurrentHashMap<>();
+
+    private final RolloutManagement rolloutManagement;
+    private final SystemSecurityContext systemSecurityContext;
+    private final TenantPartitioning tenantPartitioning;
+    private final EventPublisherHolder eventPublisherHolder;
+    private final ScheduledFuture<?> handler;
+
+    /**
+     * Constructor. Schedules the handling of the dirty rollouts.
+     *
+     * @param executorService
+     *            to run the handling of the dirty rollouts
+     * @param repositoryProperties
+     *            for the debounce time
+     * @param rolloutManagement
+     *            to run the rollout handler
+     * @param systemSecurityContext
+     *            to run as system
+     * @param tenantPartitioning
+     *            to ignore the tenants of other nodes
+     * @param eventPublisherHolder
+     *            for the ID of this node
+     */
+    public EventDrivenRolloutScheduler(final ScheduledExecutorService executorService,
+            final RepositoryProperties repositoryProperties, final RolloutManagement rolloutManagement,
+            final SystemSecurityContext systemSecurityContext, final TenantPartitioning tenantPartitioning,
+            final EventPublisherHolder eventPublisherHolder) {
+        this.rolloutManagement = rolloutManagement;
+        this.systemSecurityContext = systemSecurityContext;
+        this.tenantPartitioning = tenantPartitioning;
+        this.eventPublisherHolder = eventPublisherHolder;
+
+        handler = executorService.scheduleWithFixedDelay(this::handleDirtyRollouts,
+                repositoryProperties.getRolloutHandlingDebounce(), repositoryProperties.getRolloutHandlingDebounce(),
+                TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Stops the handling of the dirty rollouts.
+     */
+    public void shutdown() {
+        handler.cancel(false);
+    }
+
+    @EventListener(classes = AbstractActionEvent.class)
+    void onActionChange(final AbstractActionEvent event) {
+        markDirty(event, event.getRolloutId());
+    }
+
+    @EventListener(classes = BulkEntityEvent.class)
+    void onBulkActionChange(final BulkEntityEvent event) {
+        if (!event.isEntityOfType(Action.class) || !BULK_ACTION_CHANGES.contains(event.getKind())) {
+            return;
+        }
+        event.getRolloutIds().stream().filter(Objects::nonNull).distinct()
+                .forEach(rolloutId -> markDirty(event, rolloutId));
+    }
+
+    @EventListener(classes = AbstractRolloutGroupEvent.class)
+    void onRolloutGroupChange(final AbstractRolloutGroupEvent event) {
+        markDirty(event, event.getRolloutId());
+    }
+
+    @EventListener(classes = RolloutCreatedEvent.class)
+    void onRolloutCreation(final RolloutCreatedEvent event) {
+        markDirty(event, event.getEntityId());
+    }
+
+    @EventListener(classes = RolloutUpdatedEvent.class)
+    void onRolloutUpdate(final RolloutUpdatedEvent event) {
+        markDirty(event, event.getEntityId());
+    }
+
+    private void markDirty(final RemoteTenantAwareEvent event, final Long rolloutId) {
+        if (rolloutId == null || !isResponsible(event)) {
+            return;
+        }
+
+        dirtyRollouts.computeIfAbsent(event.getTenant().toUpperCase(), key -> ConcurrentHashMap.newKeySet())
+                .add(rolloutId);
+    }
+
+    private boolean isResponsible(final RemoteTenantAwareEvent event) {
+        if (tenantPartitioning.isClusterMode()) {
+            return tenantPartitioning.isOwner(event.getTenant());
+        }
+
+        return eventPublisherHolder.getApplicationId().equals(event.getOriginService());
+    }
+
+    /**
+     * Handles the rollouts that have been marked as dirty since the last run.
+     */
+    void handleDirtyRollouts() {
+        dirtyRollouts.forEach((tenant, rolloutIds) -> {
+            // remove one by one as further rollouts might be marked meanwhile
+            final List<Long> handle = new ArrayList<>(rolloutIds.size());
+            rolloutIds.forEach(rolloutId -> {
+                if (rolloutIds.remove(rolloutId)) {
+                    handle.add(rolloutId);
+                }
+            });
+
+            if (handle.isEmpty()) {
+                return;
+            }
+
+            LOGGER.debug("Handling {} changed rollouts of tenant {}.", handle.size(), tenant);
+            try {
+                systemSecurityContext.runAsSystemAsTenant(() -> {
+                    rolloutManagement.handleRollouts(handle);
+                    return null;
+                }, tenant);
+            } catch (final RuntimeException e) {
+                LOGGER.error("Failed to handle changed rollouts {} of tenant {}.", handle, tenant, e);
+            }
+        });
+    }
+}
@@ -8,17 +8,37 @@
  */
 package org.eclipse.hawkbit.repository.jpa.rollout;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.RolloutManagement;
 import org.eclipse.hawkbit.repository.SystemManagement;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantPartitioning;
 import org.eclipse.hawkbit.security.SystemSecurityContext;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.scheduling.annotation.Scheduled;
 
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
 /**
  * Scheduler to schedule the {@link RolloutManagement#handleRollouts()}. The
  * delay between the checks be be configured using the property from
  * {#PROP_SCHEDULER_DELAY_PLACEHOLDER}.
+ * 
+ * In case of {@link RepositoryProperties#isEventDrivenRolloutHandling()} the
+ * rollouts are handled by the {@link EventDrivenRolloutScheduler} and this
+ * scheduler only runs as safety sweep every
+ * {@link RepositoryProperties#getRolloutSafetySweepInterval()}.
+ * 
+ * Up to {@link RepositoryProperties#getRolloutWorkers()} tenants are handled
+ * concurrently, their rollouts are handled by the {@link RolloutWorkerPool}.
+ * Only the tenants owned by this node according to the
+ * {@link TenantPartitioning} are handled.
  */
 public class RolloutScheduler {
 
@@ -32,6 +52,14 @@ public class RolloutScheduler {
 
     private final SystemSecurityContext systemSecurityContext;
 
+    private final RepositoryProperties repositoryProperties;
+
+    private final TenantPartitioning tenantPartitioning;
+
+    private final ExecutorService tenantExecutor;
+
+    private long lastSweep;
+
     /**
      * Constructor.
      * 
@@ -41,12 +69,22 @@ public class RolloutScheduler {
      *            to run the rollout handler
      * @param systemSecurityContext
      *            to run as system
+     * @param repositoryProperties
+     *            for the interval of the safety sweep in event driven mode
+     *            and the number of tenants handled concurrently
+     * @param tenantPartitioning
+     *            to skip the tenants of other nodes
      */
     public RolloutScheduler(final SystemManagement systemManagement, final RolloutManagement rolloutManagement,
-            final SystemSecurityContext systemSecurityContext) {
+            final SystemSecurityContext systemSecurityContext, final RepositoryProperties repositoryProperties,
+            final TenantPartitioning tenantPartitioning) {
         this.systemManagement = systemManagement;
         this.rolloutManagement = rolloutManagement;
         this.systemSecurityContext = systemSecurityContext;
+        this.repositoryProperties = repositoryProperties;
+        this.tenantPartitioning = tenantPartitioning;
+        this.tenantExecutor = Executors.newFixedThreadPool(Math.max(1, repositoryProperties.getRolloutWorkers()),
+                new ThreadFactoryBuilder().setNameFormat("rollout-scheduler-%d").setDaemon(true).build());
     }
 
     /**
@@ -57,6 +95,12 @@ public class RolloutScheduler {
      */
     @Scheduled(initialDelayString = PROP_SCHEDULER_DELAY_PLACEHOLDER, fixedDelayString = PROP_SCHEDULER_DELAY_PLACEHOLDER)
     public void runningRolloutScheduler() {
+        if (repositoryProperties.isEventDrivenRolloutHandling() && System.currentTimeMillis()
+                - lastSweep < repositoryProperties.getRolloutSafetySweepInterval()) {
+            return;
+        }
+        lastSweep = System.currentTimeMillis();
+
         LOGGER.debug("rollout schedule checker has been triggered.");
 
         // run this code in system code privileged to have the necessary
@@ -69,10 +113,40 @@ public class RolloutScheduler {
             // iterate through all tenants and execute the rollout check for
             // each tenant seperately.
 
-            systemManagement.forEachTenant(tenant -> rolloutManagement.handleRollouts());
+            final List<CompletableFuture<Void>> tenants = new ArrayList<>();
+            systemManagement.forEachTenant(tenant -> {
+                if (tenantPartitioning.isOwner(tenant)) {
+                    tenants.add(CompletableFuture.runAsync(() -> handleRollouts(tenant), tenantExecutor));
+                }
+            });
+
+            // the next run starts after all tenants have been handled
+            allOf(tenants).join();
 
             return null;
         });
     }
 
+    private static CompletableFuture<Void> allOf(final List<CompletableFuture<Void>> futures) {
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+    }
+
+    private void handleRollouts(final String tenant) {
+        try {
+            systemSecurityContext.runAsSystemAsTenant(() -> {
+                rolloutManagement.handleRollouts();
+                return null;
+            }, tenant);
+        } catch (final RuntimeException e) {
+            LOGGER.error("Failed to handle rollouts of tenant {}.", tenant, e);
+        }
+    }
+
+    /**
+     * Stops the threads that handle the tenants.
+     */
+    public void shutdown() {
+        tenantExecutor.shutdownNow();
+    }
+
 }
@@ -0,0 +1,237 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.RolloutExecutor;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.Rollout.RolloutStatus;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+/**
+ * Bounded pool of {@link RepositoryProperties#getRolloutWorkers()} workers
+ * that handle {@link Rollout}s concurrently.
+ *
+ * The handlings are queued per tenant and the workers take them from the
+ * tenants in turn, i.e. a tenant with many rollouts does not delay the
+ * rollouts of other tenants. At most
+ * {@link RepositoryProperties#getRolloutWorkersPerTenant()} rollouts of a
+ * tenant are handled at the same time.
+ */
+public class RolloutWorkerPool {
+    private static final Logger LOG = LoggerFactory.getLogger(RolloutWorkerPool.class);
+
+    private static final String METRIC_PREFIX = "hawkbit.repository.rollout.worker.";
+
+    private final Map<String, Deque<Handling>> queued = new HashMap<>();
+    private final Map<String, Integer> running = new HashMap<>();
+    // tenants with queued handlings and a free slot, in the order of service
+    private final Deque<String> ready = new ArrayDeque<>();
+
+    private final int perTenant;
+    private final ExecutorService workers;
+    private boolean shutdown;
+
+    private final Timer queueWait;
+    private final Map<RolloutStatus, Timer> phaseTimers = new EnumMap<>(RolloutStatus.class);
+
+    /**
+     * Constructor. Starts the worker threads.
+     *
+     * @param repositoryProperties
+     *            for the number of workers and the share of a tenant
+     * @param meterRegistry
+     *            to register the metrics of the pool
+     */
+    public RolloutWorkerPool(final RepositoryProperties repositoryProperties, final MeterRegistry meterRegistry) {
+        this.perTenant = Math.max(1, repositoryProperties.getRolloutWorkersPerTenant());
+        final int workerCount = Math.max(1, repositoryProperties.getRolloutWorkers());
+
+        queueWait = Timer.builder(METRIC_PREFIX + "queue.wait")
+                .description("Time a rollout waits for a worker to be handled").register(meterRegistry);
+        for (final RolloutStatus phase : RolloutStatus.values()) {
+            phaseTimers.put(phase, Timer.builder(METRIC_PREFIX + "execute").tag("phase", phase.name())
+                    .description("Duration of the handling of a rollout by its status").register(meterRegistry));
+        }
+        Gauge.builder(METRIC_PREFIX + "queued", this, RolloutWorkerPool::countQueued)
+                .description("Rollouts waiting for a worker to be handled").register(meterRegistry);
+
+        workers = Executors.newFixedThreadPool(workerCount,
+                new ThreadFactoryBuilder().setNameFormat("rollout-worker-%d").setDaemon(true).build());
+        for (int i = 0; i < workerCount; i++) {
+            workers.execute(this::work);
+        }
+    }
+
+    /**
+     * Queues the handling of a rollout. The handling is executed in the
+     * security context of the caller.
+     *
+     * @param tenant
+     *            of the rollout
+     * @param handler
+     *            handles the rollout
+     * @return completes after the handling has finished, completes
+     *         exceptionally with a {@link RejectedExecutionException} if the
+     *         pool is shut down before
+     */
+    public CompletableFuture<Void> submit(final String tenant, final Runnable handler) {
+        final Handling handling = new Handling(tenant.toUpperCase(), handler, SecurityContextHolder.getContext());
+        synchronized (this) {
+            if (shutdown) {
+                handling.reject();
+                return handling.result;
+            }
+            queued.computeIfAbsent(handling.tenant, key -> new ArrayDeque<>()).add(handling);
+            markReadyIfPossible(handling.tenant);
+        }
+        return handling.result;
+    }
+
+    /**
+     * Runs the given {@link RolloutExecutor#execute(Rollout)} call and records
+     * its duration for the given phase.
+     *
+     * @param phase
+     *            the status of the rollout when the handling starts
+     * @param execution
+     *            the handling of the rollout
+     */
+    public void record(final RolloutStatus phase, final Runnable execution) {
+        phaseTimers.get(phase).record(execution);
+    }
+
+    private void work() {
+        while (!Thread.currentThread().isInterrupted()) {
+            final Handling handling;
+            try {
+                handling = next();
+            } catch (final InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+
+            queueWait.record(System.nanoTime() - handling.queuedAt, TimeUnit.NANOSECONDS);
+            try {
+                handling.execute();
+                handling.result.complete(null);
+            } catch (final RuntimeException | Error e) {
+                LOG.debug("Handling of rollout of tenant {} failed.", handling.tenant, e);
+                handling.result.completeExceptionally(e);
+            } finally {
+                finished(handling.tenant);
+            }
+        }
+    }
+
+    private synchronized Handling next() throws InterruptedException {
+        while (ready.isEmpty() && !shutdown) {
+            wait();
+        }
+        if (shutdown) {
+            throw new InterruptedException("Rollout worker pool has been shut down.");
+        }
+
+        final String tenant = ready.poll();
+        final Deque<Handling> tenantQueue = queued.get(tenant);
+        final Handling handling = tenantQueue.poll();
+        if (tenantQueue.isEmpty()) {
+            queued.remove(tenant);
+        }
+        running.merge(tenant, 1, Integer::sum);
+        // back of the line, other tenants are served first
+        markReadyIfPossible(tenant);
+        return handling;
+    }
+
+    private synchronized void finished(final String tenant) {
+        running.computeIfPresent(tenant, (key, count) -> count > 1 ? count - 1 : null);
+        markReadyIfPossible(tenant);
+    }
+
+    private void markReadyIfPossible(final String tenant) {
+        if (queued.containsKey(tenant) && running.getOrDefault(tenant, 0) < perTenant && !ready.contains(tenant)) {
+            ready.add(tenant);
+            notifyAll();
+        }
+    }
+
+    private synchronized int countQueued() {
+        return queued.values().stream().mapToInt(Deque::size).sum();
+    }
+
+    /**
+     * Stops the worker threads. Queued handlings are rejected, the rollouts are
+     * handled again by the next run of the scheduler.
+     */
+    public void shutdown() {
+        final List<Handling> rejected = new ArrayList<>();
+        synchronized (this) {
+            shutdown = true;
+            queued.values().forEach(rejected::addAll);
+            queued.clear();
+            ready.clear();
+            notifyAll();
+        }
+
+        workers.shutdownNow();
+        rejected.forEach(Handling::reject);
+    }
+
+    private static final class Handling {
+        private final String tenant;
+        private final Runnable handler;
+        private final SecurityContext securityContext;
+        private final long queuedAt = System.nanoTime();
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        private Handling(final String tenant, final Runnable handler, final SecurityContext securityContext) {
+            this.tenant = tenant;
+            this.handler = handler;
+            this.securityContext = securityContext;
+        }
+
+        private void reject() {
+            result.completeExceptionally(
+                    new RejectedExecutionException("Rollout worker pool of tenant " + tenant + " has been shut down."));
+        }
+
+        private void execute() {
+            final SecurityContext previous = SecurityContextHolder.getContext();
+            SecurityContextHolder.setContext(securityContext);
+            try {
+                handler.run();
+            } finally {
+                SecurityContextHolder.setContext(previous);
+            }
+        }
+    }
+}
@@ -8,9 +8,7 @@
  */
 package org.eclipse.hawkbit.repository.jpa.rollout.condition;
 
-import org.eclipse.hawkbit.repository.jpa.ActionRepository;
-import org.eclipse.hawkbit.repository.jpa.model.JpaRollout;
-import org.eclipse.hawkbit.repository.jpa.model.JpaRolloutGroup;
+import org.eclipse.hawkbit.repository.jpa.RolloutGroupStatusCounter;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Rollout;
 import org.eclipse.hawkbit.repository.model.RolloutGroup;
@@ -24,18 +22,16 @@ public class ThresholdRolloutGroupErrorCondition implements RolloutGroupConditio
 
     private static final Logger LOGGER = LoggerFactory.getLogger(ThresholdRolloutGroupErrorCondition.class);
 
-    private final ActionRepository actionRepository;
+    private final RolloutGroupStatusCounter rolloutGroupStatusCounter;
 
-    public ThresholdRolloutGroupErrorCondition(final ActionRepository actionRepository) {
-        this.actionRepository = actionRepository;
+    public ThresholdRolloutGroupErrorCondition(final RolloutGroupStatusCounter rolloutGroupStatusCounter) {
+        this.rolloutGroupStatusCounter = rolloutGroupStatusCounter;
     }
 
     @Override
     public boolean eval(final Rollout rollout, final RolloutGroup rolloutGroup, final String expression) {
-        final Long totalGroup = actionRepository.countByRolloutAndRolloutGroup((JpaRollout) rollout,
-                (JpaRolloutGroup) rolloutGroup);
-        final Long error = actionRepository.countByRolloutIdAndRolloutGroupIdAndStatus(rollout.getId(),
-                rolloutGroup.getId(), Action.Status.ERROR);
+        final long totalGroup = rolloutGroupStatusCounter.count(rolloutGroup.getId());
+        final long error = rolloutGroupStatusCounter.count(rolloutGroup.getId(), Action.Status.ERROR);
         try {
             final Integer threshold = Integer.valueOf(expression);
 
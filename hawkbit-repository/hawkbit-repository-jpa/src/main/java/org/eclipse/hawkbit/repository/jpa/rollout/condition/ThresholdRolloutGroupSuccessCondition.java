@@ -8,7 +8,7 @@
  */
 package org.eclipse.hawkbit.repository.jpa.rollout.condition;
 
-import org.eclipse.hawkbit.repository.jpa.ActionRepository;
+import org.eclipse.hawkbit.repository.jpa.RolloutGroupStatusCounter;
 import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.Rollout;
 import org.eclipse.hawkbit.repository.model.RolloutGroup;
@@ -22,10 +22,10 @@ import org.slf4j.LoggerFactory;
 public class ThresholdRolloutGroupSuccessCondition implements RolloutGroupConditionEvaluator {
     private static final Logger LOGGER = LoggerFactory.getLogger(ThresholdRolloutGroupSuccessCondition.class);
 
-    private final ActionRepository actionRepository;
+    private final RolloutGroupStatusCounter rolloutGroupStatusCounter;
 
-    public ThresholdRolloutGroupSuccessCondition(final ActionRepository actionRepository) {
-        this.actionRepository = actionRepository;
+    public ThresholdRolloutGroupSuccessCondition(final RolloutGroupStatusCounter rolloutGroupStatusCounter) {
+        this.rolloutGroupStatusCounter = rolloutGroupStatusCounter;
     }
 
     @Override
@@ -41,8 +41,7 @@ public class ThresholdRolloutGroupSuccessCondition implements RolloutGroupCondit
         final Action.Status completeActionStatus = (Action.ActionType.DOWNLOAD_ONLY == rollout.getActionType())
                 ? Action.Status.DOWNLOADED
                 : Action.Status.FINISHED;
-        final long finished = this.actionRepository.countByRolloutIdAndRolloutGroupIdAndStatus(rollout.getId(),
-                rolloutGroup.getId(), completeActionStatus);
+        final long finished = rolloutGroupStatusCounter.count(rolloutGroup.getId(), completeActionStatus);
         try {
             final Integer threshold = Integer.valueOf(expression);
             // calculate threshold
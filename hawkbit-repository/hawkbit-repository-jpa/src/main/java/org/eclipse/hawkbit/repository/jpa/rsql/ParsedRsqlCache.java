@@ -0,0 +1,102 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import java.util.Objects;
+import java.util.function.Supplier;
+
+import org.eclipse.hawkbit.repository.FieldNameProvider;
+import org.eclipse.hawkbit.repository.jpa.rsql.RSQLUtility.ParsedRsql;
+import org.springframework.orm.jpa.vendor.Database;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+/**
+ * Bounded cache of the RSQL strings parsed and validated by the
+ * {@link RSQLUtility}, keyed by RSQL string, field enum and database.
+ */
+public class ParsedRsqlCache {
+
+    private static final long DEFAULT_MAXIMUM_SIZE = 1_000;
+    private static final String CACHE_NAME = "rsql";
+    private static final String METRIC_PREFIX = "hawkbit.repository.rsql.cache.";
+
+    private final Cache<Key, ParsedRsql<?>> cache;
+
+    /**
+     * Constructor for a cache of at most 1000 RSQL strings.
+     */
+    public ParsedRsqlCache() {
+        this(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param maximumSize
+     *            the maximum number of cached RSQL strings
+     */
+    public ParsedRsqlCache(final long maximumSize) {
+        this.cache = Caffeine.newBuilder().maximumSize(maximumSize).recordStats().build();
+    }
+
+    /**
+     * Registers the metrics of the cache, i.e. hits, misses, evictions, size
+     * and the hit ratio.
+     *
+     * @param meterRegistry
+     *            to register the metrics
+     */
+    public void monitor(final MeterRegistry meterRegistry) {
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+        Gauge.builder(METRIC_PREFIX + "hit.ratio", cache, c -> c.stats().hitRate())
+                .description("Share of RSQL filters that were taken from the cache of parsed filters")
+                .register(meterRegistry);
+    }
+
+    @SuppressWarnings("unchecked")
+    <A extends Enum<A> & FieldNameProvider> ParsedRsql<A> get(final String rsql, final Class<A> enumType,
+            final Database database, final Supplier<ParsedRsql<A>> parser) {
+        return (ParsedRsql<A>) cache.get(new Key(rsql, enumType, database), key -> parser.get());
+    }
+
+    private static final class Key {
+        private final String rsql;
+        private final Class<?> enumType;
+        private final Database database;
+
+        private Key(final String rsql, final Class<?> enumType, final Database database) {
+            this.rsql = rsql;
+            this.enumType = enumType;
+            this.database = database;
+        }
+
+        @Override
+        public boolean equals(final Object obj) {
+            if (this == obj) {
+                return true;
+            }
+            if (obj == null || getClass() != obj.getClass()) {
+                return false;
+            }
+            final Key other = (Key) obj;
+            return rsql.equals(other.rsql) && enumType.equals(other.enumType) && database == other.database;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(rsql, enumType, database);
+        }
+    }
+}
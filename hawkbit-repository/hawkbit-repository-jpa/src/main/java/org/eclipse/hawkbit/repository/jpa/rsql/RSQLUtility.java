@@ -97,6 +97,13 @@ import cz.jirutka.rsql.parser.ast.RSQLVisitor;
  * <em>lastControllerRequestAt=le=${OVERDUE_TS}</em><br>
  * It is possible to escape a macro expression by using a second '$':
  * $${OVERDUE_TS} would prevent the ${OVERDUE_TS} token from being expanded.
+ * <p>
+ * The parsed and validated RSQL strings can be kept in a
+ * {@link ParsedRsqlCache}, so that the {@link Specification} of a filter that
+ * is used repeatedly, e.g. while filling the groups of a rollout, does not
+ * parse the filter again. The macros are not part of the cache, they are
+ * resolved whenever a {@link Specification} is applied as their values might
+ * depend on the time.
  *
  */
 public final class RSQLUtility {
@@ -136,7 +143,40 @@ public final class RSQLUtility {
     public static <A extends Enum<A> & FieldNameProvider, T> Specification<T> parse(final String rsql,
             final Class<A> fieldNameProvider, final VirtualPropertyReplacer virtualPropertyReplacer,
             final Database database) {
-        return new RSQLSpecification<>(rsql.toLowerCase(), fieldNameProvider, virtualPropertyReplacer, database);
+        return parse(rsql, fieldNameProvider, virtualPropertyReplacer, database, null);
+    }
+
+    /**
+     * parses an RSQL valid string into an JPA {@link Specification} which then
+     * can be used to filter for JPA entities with the given RSQL query. The
+     * parsed RSQL string is taken from the given cache.
+     *
+     * @param rsql
+     *            the rsql query
+     * @param fieldNameProvider
+     *            the enum class type which implements the
+     *            {@link FieldNameProvider}
+     * @param virtualPropertyReplacer
+     *            holds the logic how the known macros have to be resolved; may
+     *            be <code>null</code>
+     * @param database
+     *            in use
+     * @param parsedRsqlCache
+     *            keeps the parsed RSQL strings; may be <code>null</code>
+     *
+     * @return an specification which can be used with JPA
+     * @throws RSQLParameterUnsupportedFieldException
+     *             if a field in the RSQL string is used but not provided by the
+     *             given {@code fieldNameProvider}
+     * @throws RSQLParameterSyntaxException
+     *             if the RSQL syntax is wrong
+     *
+     */
+    public static <A extends Enum<A> & FieldNameProvider, T> Specification<T> parse(final String rsql,
+            final Class<A> fieldNameProvider, final VirtualPropertyReplacer virtualPropertyReplacer,
+            final Database database, final ParsedRsqlCache parsedRsqlCache) {
+        return new RSQLSpecification<>(rsql.toLowerCase(), fieldNameProvider, virtualPropertyReplacer, database,
+                parsedRsqlCache);
     }
 
     /**
@@ -150,6 +190,14 @@ public final class RSQLUtility {
         parseRsql(rsql);
     }
 
+    private static <A extends Enum<A> & FieldNameProvider> ParsedRsql<A> getParsedRsql(final String rsql,
+            final Class<A> enumType, final Database database, final ParsedRsqlCache parsedRsqlCache) {
+        if (parsedRsqlCache == null) {
+            return new ParsedRsql<>(parseRsql(rsql), enumType);
+        }
+        return parsedRsqlCache.get(rsql, enumType, database, () -> new ParsedRsql<>(parseRsql(rsql), enumType));
+    }
+
     private static Node parseRsql(final String rsql) {
         try {
             LOGGER.debug("parsing rsql string {}", rsql);
@@ -162,6 +210,60 @@ public final class RSQLUtility {
         }
     }
 
+    /**
+     * The parsed RSQL string with the validated fields of its comparisons.
+     * Immutable, i.e. shared by all {@link Specification}s of the RSQL string.
+     *
+     * @param <A>
+     *            the enum for providing the field name of the entity field to
+     *            filter on.
+     */
+    static final class ParsedRsql<A extends Enum<A> & FieldNameProvider> {
+        private final Node rootNode;
+        private final Map<ComparisonNode, ValidatedField<A>> fields = new HashMap<>();
+
+        private ParsedRsql(final Node rootNode, final Class<A> enumType) {
+            this.rootNode = rootNode;
+            validate(rootNode, enumType);
+        }
+
+        private void validate(final Node node, final Class<A> enumType) {
+            if (node instanceof LogicalNode) {
+                ((LogicalNode) node).getChildren().forEach(child -> validate(child, enumType));
+            } else if (node instanceof ComparisonNode) {
+                final ComparisonNode comparison = (ComparisonNode) node;
+                final A enumField = JpqQueryRSQLVisitor.getFieldEnumByName(comparison, enumType);
+                fields.put(comparison, new ValidatedField<>(enumField,
+                        JpqQueryRSQLVisitor.getAndValidatePropertyFieldName(enumField, comparison, enumType)));
+            }
+        }
+
+        private Node getRootNode() {
+            return rootNode;
+        }
+
+        private ValidatedField<A> getField(final ComparisonNode node) {
+            return fields.get(node);
+        }
+    }
+
+    /**
+     * The field of a comparison of an RSQL string.
+     *
+     * @param <A>
+     *            the enum for providing the field name of the entity field to
+     *            filter on.
+     */
+    private static final class ValidatedField<A extends Enum<A> & FieldNameProvider> {
+        private final A enumField;
+        private final String finalProperty;
+
+        private ValidatedField(final A enumField, final String finalProperty) {
+            this.enumField = enumField;
+            this.finalProperty = finalProperty;
+        }
+    }
+
     private static final class RSQLSpecification<A extends Enum<A> & FieldNameProvider, T> implements Specification<T> {
 
         private static final long serialVersionUID = 1L;
@@ -170,23 +272,27 @@ public final class RSQLUtility {
         private final Class<A> enumType;
         private final VirtualPropertyReplacer virtualPropertyReplacer;
         private final Database database;
+        private final ParsedRsqlCache parsedRsqlCache;
 
         private RSQLSpecification(final String rsql, final Class<A> enumType,
-                final VirtualPropertyReplacer virtualPropertyReplacer, final Database database) {
+                final VirtualPropertyReplacer virtualPropertyReplacer, final Database database,
+                final ParsedRsqlCache parsedRsqlCache) {
             this.rsql = rsql;
             this.enumType = enumType;
             this.virtualPropertyReplacer = virtualPropertyReplacer;
             this.database = database;
+            this.parsedRsqlCache = parsedRsqlCache;
         }
 
         @Override
         public Predicate toPredicate(final Root<T> root, final CriteriaQuery<?> query, final CriteriaBuilder cb) {
-            final Node rootNode = parseRsql(rsql);
+            final ParsedRsql<A> parsedRsql = getParsedRsql(rsql, enumType, database, parsedRsqlCache);
             query.distinct(true);
 
             final JpqQueryRSQLVisitor<A, T> jpqQueryRSQLVisitor = new JpqQueryRSQLVisitor<>(root, cb, enumType,
-                    virtualPropertyReplacer, database, query);
-            final List<Predicate> accept = rootNode.<List<Predicate>, String> accept(jpqQueryRSQLVisitor);
+                    virtualPropertyReplacer, database, query, parsedRsql);
+            final List<Predicate> accept = parsedRsql.getRootNode()
+                    .<List<Predicate>, String> accept(jpqQueryRSQLVisitor);
 
             if (!CollectionUtils.isEmpty(accept)) {
                 return cb.and(accept.toArray(new Predicate[accept.size()]));
@@ -220,6 +326,7 @@ public final class RSQLUtility {
         private final CriteriaQuery<?> query;
         private final Class<A> enumType;
         private final VirtualPropertyReplacer virtualPropertyReplacer;
+        private final ParsedRsql<A> parsedRsql;
         private int level;
         private boolean isOrLevel;
         private final Map<Integer, Set<Join<Object, Object>>> joinsInLevel = new HashMap<>(3);
@@ -231,7 +338,7 @@ public final class RSQLUtility {
 
         private JpqQueryRSQLVisitor(final Root<T> root, final CriteriaBuilder cb, final Class<A> enumType,
                 final VirtualPropertyReplacer virtualPropertyReplacer, final Database database,
-                final CriteriaQuery<?> query) {
+                final CriteriaQuery<?> query, final ParsedRsql<A> parsedRsql) {
             this.root = root;
             this.cb = cb;
             this.query = query;
@@ -239,6 +346,7 @@ public final class RSQLUtility {
             this.virtualPropertyReplacer = virtualPropertyReplacer;
             this.simpleTypeConverter = new SimpleTypeConverter();
             this.database = database;
+            this.parsedRsql = parsedRsql;
             this.joinsNeeded = false;
         }
 
@@ -297,7 +405,8 @@ public final class RSQLUtility {
             return Collections.singletonList(predicate);
         }
 
-        private String getAndValidatePropertyFieldName(final A propertyEnum, final ComparisonNode node) {
+        private static <F extends Enum<F> & FieldNameProvider> String getAndValidatePropertyFieldName(
+                final F propertyEnum, final ComparisonNode node, final Class<F> enumType) {
 
             final String[] graph = getSubAttributesFrom(node.getSelector());
 
@@ -305,7 +414,7 @@ public final class RSQLUtility {
 
             // sub entity need minium 1 dot
             if (!propertyEnum.getSubEntityAttributes().isEmpty() && graph.length < 2) {
-                throw createRSQLParameterUnsupportedException(node);
+                throw createRSQLParameterUnsupportedException(node, enumType);
             }
 
             final StringBuilder fieldNameBuilder = new StringBuilder(propertyEnum.getFieldName());
@@ -321,14 +430,15 @@ public final class RSQLUtility {
                 }
 
                 if (!propertyEnum.containsSubEntityAttribute(propertyField)) {
-                    throw createRSQLParameterUnsupportedException(node);
+                    throw createRSQLParameterUnsupportedException(node, enumType);
                 }
             }
 
             return fieldNameBuilder.toString();
         }
 
-        private void validateMapParameter(final A propertyEnum, final ComparisonNode node, final String[] graph) {
+        private static <F extends Enum<F> & FieldNameProvider> void validateMapParameter(final F propertyEnum,
+                final ComparisonNode node, final String[] graph) {
             if (!propertyEnum.isMap()) {
                 return;
 
@@ -347,12 +457,11 @@ public final class RSQLUtility {
             }
         }
 
-        private RSQLParameterUnsupportedFieldException createRSQLParameterUnsupportedException(
-                final ComparisonNode node) {
-            return new RSQLParameterUnsupportedFieldException(
-                    "The given search parameter field {" + node.getSelector()
-                            + "} does not exist, must be one of the following fields {" + getExpectedFieldList() + "}",
-                    new Exception());
+        private static <F extends Enum<F> & FieldNameProvider> RSQLParameterUnsupportedFieldException createRSQLParameterUnsupportedException(
+                final ComparisonNode node, final Class<F> enumType) {
+            return new RSQLParameterUnsupportedFieldException("The given search parameter field {"
+                    + node.getSelector() + "} does not exist, must be one of the following fields {"
+                    + getExpectedFieldList(enumType) + "}", new Exception());
         }
 
         /**
@@ -416,18 +525,9 @@ public final class RSQLUtility {
         // https://jira.sonarsource.com/browse/SONARJAVA-1478
         @SuppressWarnings({ "squid:S2095" })
         public List<Predicate> visit(final ComparisonNode node, final String param) {
-            A fieldName = null;
-            try {
-                fieldName = getFieldEnumByName(node);
-            } catch (final IllegalArgumentException e) {
-                throw new RSQLParameterUnsupportedFieldException("The given search parameter field {"
-                        + node.getSelector() + "} does not exist, must be one of the following fields {"
-                        + Arrays.stream(enumType.getEnumConstants()).map(v -> v.name().toLowerCase())
-                                .collect(Collectors.toList())
-                        + "}", e);
-
-            }
-            final String finalProperty = getAndValidatePropertyFieldName(fieldName, node);
+            final ValidatedField<A> validatedField = parsedRsql.getField(node);
+            final A fieldName = validatedField.enumField;
+            final String finalProperty = validatedField.finalProperty;
 
             final List<String> values = node.getArguments();
             final List<Object> transformedValues = new ArrayList<>();
@@ -449,7 +549,8 @@ public final class RSQLUtility {
         // Exception squid:S2095 - see
         // https://jira.sonarsource.com/browse/SONARJAVA-1478
         @SuppressWarnings({ "squid:S2095" })
-        private List<String> getExpectedFieldList() {
+        private static <F extends Enum<F> & FieldNameProvider> List<String> getExpectedFieldList(
+                final Class<F> enumType) {
             final List<String> expectedFieldList = Arrays.stream(enumType.getEnumConstants())
                     .filter(enumField -> enumField.getSubEntityAttributes().isEmpty()).map(enumField -> {
                         final String enumFieldName = enumField.name().toLowerCase();
@@ -474,14 +575,23 @@ public final class RSQLUtility {
             return expectedFieldList;
         }
 
-        private A getFieldEnumByName(final ComparisonNode node) {
+        private static <F extends Enum<F> & FieldNameProvider> F getFieldEnumByName(final ComparisonNode node,
+                final Class<F> enumType) {
             String enumName = node.getSelector();
             final String[] graph = getSubAttributesFrom(enumName);
             if (graph.length != 0) {
                 enumName = graph[0];
             }
             LOGGER.debug("get fieldidentifier by name {} of enum type {}", enumName, enumType);
-            return Enum.valueOf(enumType, enumName.toUpperCase());
+            try {
+                return Enum.valueOf(enumType, enumName.toUpperCase());
+            } catch (final IllegalArgumentException e) {
+                throw new RSQLParameterUnsupportedFieldException("The given search parameter field {"
+                        + node.getSelector() + "} does not exist, must be one of the following fields {"
+                        + Arrays.stream(enumType.getEnumConstants()).map(v -> v.name().toLowerCase())
+                                .collect(Collectors.toList())
+                        + "}", e);
+            }
         }
 
         private Object convertValueIfNecessary(final ComparisonNode node, final A fieldName, final String value,
@@ -0,0 +1,425 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+import org.apache.commons.lang3.math.NumberUtils;
+import org.eclipse.hawkbit.repository.FieldNameProvider;
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.exception.RSQLParameterSyntaxException;
+import org.eclipse.hawkbit.repository.exception.RSQLParameterUnsupportedFieldException;
+import org.eclipse.hawkbit.repository.jpa.rsql.TargetSnapshot.DistributionSetSnapshot;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
+
+import cz.jirutka.rsql.parser.RSQLParser;
+import cz.jirutka.rsql.parser.RSQLParserException;
+import cz.jirutka.rsql.parser.ast.AndNode;
+import cz.jirutka.rsql.parser.ast.ComparisonNode;
+import cz.jirutka.rsql.parser.ast.Node;
+import cz.jirutka.rsql.parser.ast.OrNode;
+import cz.jirutka.rsql.parser.ast.RSQLOperators;
+import cz.jirutka.rsql.parser.ast.RSQLVisitor;
+
+/**
+ * Compiles an RSQL target filter into a {@link Predicate} on a
+ * {@link TargetSnapshot}, i.e. decides if a single target matches a filter
+ * without a query against the database.
+ *
+ * The predicate matches the same targets as the {@link RSQLUtility}
+ * specification of the filter on {@link TargetFields}, including its
+ * semantics of joined entities:
+ * <ul>
+ * <li>a comparison on tags or on a key of the attributes or metadata matches
+ * if one of the values matches</li>
+ * <li>{@code !=} and {@code =out=} on tags and distribution sets match if none
+ * of the values matches</li>
+ * <li>a filter that refers to the assigned or installed distribution set by
+ * any other comparison matches only targets that have such a distribution
+ * set</li>
+ * </ul>
+ *
+ * Virtual properties of the comparisons {@code =gt=}, {@code =ge=},
+ * {@code =lt=} and {@code =le=} are replaced on every evaluation, so that a
+ * compiled predicate can be reused for time dependent filters, e.g.
+ * <em>lastControllerRequestAt=le=${OVERDUE_TS}</em>.
+ */
+public final class TargetPredicateCompiler {
+
+    private static final char LIKE_WILDCARD = '*';
+    private static final Set<TargetFields> NUMERIC_FIELDS = EnumSet.of(TargetFields.CREATEDAT,
+            TargetFields.LASTMODIFIEDAT, TargetFields.LASTCONTROLLERREQUESTAT);
+
+    /**
+     * private constructor due utility class.
+     */
+    private TargetPredicateCompiler() {
+
+    }
+
+    /**
+     * Compiles the given RSQL target filter.
+     *
+     * @param rsql
+     *            the rsql query
+     * @param virtualPropertyReplacer
+     *            holds the logic how the known macros have to be resolved; may
+     *            be <code>null</code>
+     * @return the predicate which is thread safe and can be reused
+     * @throws RSQLParameterUnsupportedFieldException
+     *             if a field in the RSQL string is not one of the
+     *             {@link TargetFields}
+     * @throws RSQLParameterSyntaxException
+     *             if the RSQL syntax is wrong
+     */
+    public static Predicate<TargetSnapshot> compile(final String rsql,
+            final VirtualPropertyReplacer virtualPropertyReplacer) {
+        final CompilingVisitor visitor = new CompilingVisitor(virtualPropertyReplacer);
+        final Predicate<TargetSnapshot> filter = parseRsql(rsql).accept(visitor);
+
+        final Set<TargetFields> requiredDistributionSets = visitor.requiredDistributionSets;
+        if (requiredDistributionSets.isEmpty()) {
+            return filter;
+        }
+        return target -> requiredDistributionSets.stream()
+                .allMatch(field -> getDistributionSet(target, field) != null) && filter.test(target);
+    }
+
+    private static Node parseRsql(final String rsql) {
+        try {
+            return new RSQLParser(RSQLOperators.defaultOperators()).parse(rsql == null ? null : rsql.toLowerCase());
+        } catch (final IllegalArgumentException e) {
+            throw new RSQLParameterSyntaxException("rsql filter must not be null", e);
+        } catch (final RSQLParserException e) {
+            throw new RSQLParameterSyntaxException(e);
+        }
+    }
+
+    private static DistributionSetSnapshot getDistributionSet(final TargetSnapshot target,
+            final TargetFields field) {
+        return field == TargetFields.ASSIGNEDDS ? target.getAssignedDistributionSet()
+                : target.getInstalledDistributionSet();
+    }
+
+    /**
+     * Builds the predicate of an RSQL node. The comparisons check the values
+     * of the targets that the joins of the {@link RSQLUtility} would return.
+     */
+    private static final class CompilingVisitor implements RSQLVisitor<Predicate<TargetSnapshot>, Void> {
+
+        private final VirtualPropertyReplacer virtualPropertyReplacer;
+        private final Set<TargetFields> requiredDistributionSets = EnumSet.noneOf(TargetFields.class);
+
+        private CompilingVisitor(final VirtualPropertyReplacer virtualPropertyReplacer) {
+            this.virtualPropertyReplacer = virtualPropertyReplacer;
+        }
+
+        @Override
+        public Predicate<TargetSnapshot> visit(final AndNode node, final Void param) {
+            final List<Predicate<TargetSnapshot>> children = acceptChildren(node.getChildren());
+            return target -> children.stream().allMatch(child -> child.test(target));
+        }
+
+        @Override
+        public Predicate<TargetSnapshot> visit(final OrNode node, final Void param) {
+            final List<Predicate<TargetSnapshot>> children = acceptChildren(node.getChildren());
+            return target -> children.stream().anyMatch(child -> child.test(target));
+        }
+
+        private List<Predicate<TargetSnapshot>> acceptChildren(final List<Node> children) {
+            return children.stream().map(child -> child.accept(this)).collect(Collectors.toList());
+        }
+
+        @Override
+        public Predicate<TargetSnapshot> visit(final ComparisonNode node, final Void param) {
+            final TargetFields field = getAndValidateField(node);
+            final String[] graph = getSubAttributesFrom(node.getSelector());
+            final String subAttribute = graph.length > 1 ? graph[1] : null;
+            final List<String> values = node.getArguments();
+            final String operator = node.getOperator().getSymbol();
+
+            final Function<TargetSnapshot, List<Object>> joined = getJoinedValues(field, subAttribute);
+            final List<TargetUpdateStatus> enumValues = field == TargetFields.UPDATESTATUS
+                    ? transformEnumValues(node, values)
+                    : null;
+            final String value = values.get(0);
+
+            if (!isSubQuery(operator, enumValues, value)) {
+                // comparisons without sub query join the distribution set
+                requireDistributionSet(field);
+            }
+
+            switch (operator) {
+            case "==":
+                return exists(joined, enumValues != null ? enumValues.get(0)::equals : toEqualTo(field, value));
+            case "!=":
+                return getNotEqualToPredicate(field, subAttribute, joined, enumValues, value);
+            case "=in=":
+                return exists(joined, toIn(values, enumValues));
+            case "=out=":
+                return getOutPredicate(field, subAttribute, joined, values, enumValues);
+            case "=gt=":
+                return compare(field, joined, value, result -> result > 0);
+            case "=ge=":
+                return compare(field, joined, value, result -> result >= 0);
+            case "=lt=":
+                return compare(field, joined, value, result -> result < 0);
+            case "=le=":
+                return compare(field, joined, value, result -> result <= 0);
+            default:
+                throw new RSQLParameterSyntaxException(
+                        "operator symbol {" + operator + "} is either not supported or not implemented");
+            }
+        }
+
+        private Predicate<TargetSnapshot> getNotEqualToPredicate(final TargetFields field, final String subAttribute,
+                final Function<TargetSnapshot, List<Object>> joined, final List<TargetUpdateStatus> enumValues,
+                final String value) {
+            if (enumValues != null) {
+                return exists(joined, element -> element == null || !enumValues.get(0).equals(element));
+            }
+
+            if (!NumberUtils.isCreatable(value)) {
+                if (value.isEmpty()) {
+                    return exists(joined, element -> element != null && !toString(element).isEmpty());
+                }
+
+                final Predicate<Object> like = toLike(value);
+                if (isSimpleField(field)) {
+                    return exists(joined, element -> element == null || !like.test(element));
+                }
+                return notExists(getElements(field, subAttribute), like);
+            }
+
+            final Predicate<Object> equalTo = toEqualTo(field, value);
+            return exists(joined, element -> element == null || !equalTo.test(element));
+        }
+
+        private Predicate<TargetSnapshot> getOutPredicate(final TargetFields field, final String subAttribute,
+                final Function<TargetSnapshot, List<Object>> joined, final List<String> values,
+                final List<TargetUpdateStatus> enumValues) {
+            final Predicate<Object> in = toIn(values, enumValues);
+            if (isSimpleField(field)) {
+                return exists(joined, element -> element == null || !in.test(element));
+            }
+            return notExists(getElements(field, subAttribute), in);
+        }
+
+        private Predicate<TargetSnapshot> compare(final TargetFields field,
+                final Function<TargetSnapshot, List<Object>> joined, final String value,
+                final Predicate<Integer> result) {
+            final boolean replace = virtualPropertyReplacer != null && value.contains("${");
+            return target -> {
+                final String replaced = replace ? virtualPropertyReplacer.replace(value) : value;
+                return joined.apply(target).stream().anyMatch(element -> {
+                    if (element == null) {
+                        return false;
+                    }
+                    if (NUMERIC_FIELDS.contains(field)) {
+                        return NumberUtils.isCreatable(replaced)
+                                && result.test(BigDecimal.valueOf((Long) element).compareTo(toNumber(replaced)));
+                    }
+                    return result.test(toString(element).compareTo(replaced));
+                });
+            };
+        }
+
+        private static Predicate<TargetSnapshot> exists(final Function<TargetSnapshot, List<Object>> joined,
+                final Predicate<Object> condition) {
+            return target -> joined.apply(target).stream().anyMatch(condition);
+        }
+
+        private static Predicate<TargetSnapshot> notExists(final Function<TargetSnapshot, List<Object>> elements,
+                final Predicate<Object> condition) {
+            return target -> elements.apply(target).stream().noneMatch(condition);
+        }
+
+        /**
+         * @return the values of the left outer join of the RSQLUtility, i.e. a
+         *         <code>null</code> value for a target without tags, no values
+         *         for a target without the distribution set
+         */
+        private Function<TargetSnapshot, List<Object>> getJoinedValues(final TargetFields field,
+                final String subAttribute) {
+            switch (field) {
+            case ID:
+            case CONTROLLERID:
+                return target -> Collections.singletonList(target.getControllerId());
+            case NAME:
+                return target -> Collections.singletonList(target.getName());
+            case DESCRIPTION:
+                return target -> Collections.singletonList(target.getDescription());
+            case CREATEDAT:
+                return target -> Collections.singletonList(target.getCreatedAt());
+            case LASTMODIFIEDAT:
+                return target -> Collections.singletonList(target.getLastModifiedAt());
+            case UPDATESTATUS:
+                return target -> Collections.singletonList(target.getUpdateStatus());
+            case IPADDRESS:
+                return target -> Collections.singletonList(target.getAddress());
+            case LASTCONTROLLERREQUESTAT:
+                return target -> Collections.singletonList(target.getLastTargetQuery());
+            case ATTRIBUTE:
+                return target -> getMapValues(target.getAttributes().entrySet(), subAttribute);
+            case METADATA:
+                return target -> getMapValues(target.getMetadata().entrySet(), subAttribute);
+            case TAG:
+                return target -> target.getTags().isEmpty() ? Collections.singletonList(null)
+                        : Collections.unmodifiableList(target.getTags());
+            default:
+                return getElements(field, subAttribute);
+            }
+        }
+
+        /**
+         * @return the values of the inner join of the sub query of the
+         *         RSQLUtility for tags and distribution sets
+         */
+        private static Function<TargetSnapshot, List<Object>> getElements(final TargetFields field,
+                final String subAttribute) {
+            if (field == TargetFields.TAG) {
+                return target -> Collections.unmodifiableList(target.getTags());
+            }
+            final boolean name = "name".equalsIgnoreCase(subAttribute);
+            return target -> {
+                final DistributionSetSnapshot distributionSet = getDistributionSet(target, field);
+                if (distributionSet == null) {
+                    return Collections.emptyList();
+                }
+                return Collections.singletonList(name ? distributionSet.getName() : distributionSet.getVersion());
+            };
+        }
+
+        private static List<Object> getMapValues(final Set<Entry<String, String>> entries, final String key) {
+            return entries.stream().filter(entry -> entry.getKey().equalsIgnoreCase(key)).map(Entry::getValue)
+                    .collect(Collectors.toList());
+        }
+
+        private static boolean isSubQuery(final String operator, final List<TargetUpdateStatus> enumValues,
+                final String value) {
+            return "=out=".equals(operator) || ("!=".equals(operator) && enumValues == null && !value.isEmpty()
+                    && !NumberUtils.isCreatable(value));
+        }
+
+        private void requireDistributionSet(final TargetFields field) {
+            if (field == TargetFields.ASSIGNEDDS || field == TargetFields.INSTALLEDDS) {
+                requiredDistributionSets.add(field);
+            }
+        }
+
+        private static Predicate<Object> toEqualTo(final TargetFields field, final String value) {
+            if (!NumberUtils.isCreatable(value)) {
+                if (value.isEmpty()) {
+                    return element -> element == null || toString(element).isEmpty();
+                }
+                return toLike(value);
+            }
+
+            if (NUMERIC_FIELDS.contains(field)) {
+                final BigDecimal number = toNumber(value);
+                return element -> element != null && number != null
+                        && BigDecimal.valueOf((Long) element).compareTo(number) == 0;
+            }
+            return element -> element != null && value.equals(toString(element));
+        }
+
+        private static Predicate<Object> toLike(final String value) {
+            final String regex = value.toUpperCase().chars()
+                    .mapToObj(c -> c == LIKE_WILDCARD ? ".*" : Pattern.quote(String.valueOf((char) c)))
+                    .collect(Collectors.joining());
+            final Pattern pattern = Pattern.compile(regex, Pattern.DOTALL);
+            return element -> element != null && pattern.matcher(toString(element).toUpperCase()).matches();
+        }
+
+        private static Predicate<Object> toIn(final List<String> values, final List<TargetUpdateStatus> enumValues) {
+            if (enumValues != null) {
+                return enumValues::contains;
+            }
+            final Set<String> inParams = values.stream().map(String::toUpperCase).collect(Collectors.toSet());
+            return element -> element != null && inParams.contains(toString(element).toUpperCase());
+        }
+
+        private static BigDecimal toNumber(final String value) {
+            try {
+                return new BigDecimal(value);
+            } catch (final NumberFormatException e) {
+                return null;
+            }
+        }
+
+        private static String toString(final Object element) {
+            return element instanceof Enum ? ((Enum<?>) element).name() : String.valueOf(element);
+        }
+
+        private static List<TargetUpdateStatus> transformEnumValues(final ComparisonNode node,
+                final List<String> values) {
+            try {
+                return values.stream().map(value -> TargetUpdateStatus.valueOf(value.toUpperCase()))
+                        .collect(Collectors.toList());
+            } catch (final IllegalArgumentException e) {
+                throw new RSQLParameterUnsupportedFieldException(
+                        "field {" + node.getSelector() + "} must be one of the following values {"
+                                + Arrays.stream(TargetUpdateStatus.values()).map(v -> v.name().toLowerCase())
+                                        .collect(Collectors.toList())
+                                + "}",
+                        e);
+            }
+        }
+
+        private static boolean isSimpleField(final TargetFields field) {
+            return field.getSubEntityAttributes().isEmpty() && field != TargetFields.TAG;
+        }
+
+        private static TargetFields getAndValidateField(final ComparisonNode node) {
+            final String[] graph = getSubAttributesFrom(node.getSelector());
+            final TargetFields field;
+            try {
+                field = TargetFields.valueOf(graph[0].toUpperCase());
+            } catch (final IllegalArgumentException e) {
+                throw new RSQLParameterUnsupportedFieldException("The given search parameter field {"
+                        + node.getSelector() + "} does not exist, must be one of the following fields {"
+                        + Arrays.stream(TargetFields.values()).map(v -> v.name().toLowerCase())
+                                .collect(Collectors.toList())
+                        + "}", e);
+            }
+
+            if (field.isMap()) {
+                if (graph.length != 2) {
+                    throw new RSQLParameterUnsupportedFieldException("The syntax of the given map search parameter field {"
+                            + node.getSelector() + "} is wrong. Syntax is: fieldname.keyname", new Exception());
+                }
+                return field;
+            }
+
+            final boolean subEntity = !field.getSubEntityAttributes().isEmpty();
+            if ((subEntity && (graph.length != 2 || !field.containsSubEntityAttribute(graph[1])))
+                    || (!subEntity && graph.length != 1)) {
+                throw new RSQLParameterUnsupportedFieldException(
+                        "The given search parameter field {" + node.getSelector() + "} does not exist",
+                        new Exception());
+            }
+            return field;
+        }
+
+        private static String[] getSubAttributesFrom(final String property) {
+            return property.split("\\" + FieldNameProvider.SUB_ATTRIBUTE_SEPERATOR);
+        }
+    }
+}
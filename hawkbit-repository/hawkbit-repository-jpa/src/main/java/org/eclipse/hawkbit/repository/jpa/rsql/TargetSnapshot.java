@@ -0,0 +1,165 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.repository.TargetFields;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.TargetMetadata;
+import org.eclipse.hawkbit.repository.model.TargetTag;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+
+/**
+ * Immutable copy of the {@link TargetFields} of a target that are evaluated by
+ * the {@link TargetPredicateCompiler}, i.e. a target can be matched against
+ * target filters without access to the database.
+ */
+public final class TargetSnapshot {
+
+    private final String controllerId;
+    private final String name;
+    private final String description;
+    private final Long createdAt;
+    private final Long lastModifiedAt;
+    private final TargetUpdateStatus updateStatus;
+    private final String address;
+    private final Long lastTargetQuery;
+    private final Map<String, String> attributes;
+    private final Map<String, String> metadata;
+    private final List<String> tags;
+    private final DistributionSetSnapshot assignedDistributionSet;
+    private final DistributionSetSnapshot installedDistributionSet;
+
+    private TargetSnapshot(final JpaTarget target) {
+        this.controllerId = target.getControllerId();
+        this.name = target.getName();
+        this.description = target.getDescription();
+        this.createdAt = target.getCreatedAt();
+        this.lastModifiedAt = target.getLastModifiedAt();
+        this.updateStatus = target.getUpdateStatus();
+        this.address = target.getAddress() == null ? null : target.getAddress().toString();
+        this.lastTargetQuery = target.getLastTargetQuery();
+        this.attributes = Collections.unmodifiableMap(new HashMap<>(target.getControllerAttributes()));
+        this.metadata = Collections.unmodifiableMap(target.getMetadata().stream()
+                .collect(Collectors.toMap(TargetMetadata::getKey, TargetMetadata::getValue)));
+        this.tags = Collections
+                .unmodifiableList(target.getTags().stream().map(TargetTag::getName).collect(Collectors.toList()));
+        this.assignedDistributionSet = DistributionSetSnapshot.of(target.getAssignedDistributionSet());
+        this.installedDistributionSet = DistributionSetSnapshot.of(target.getInstalledDistributionSet());
+    }
+
+    /**
+     * Copies the fields of the given target. Has to be called within a
+     * transaction as the attributes, metadata and tags of the target are
+     * loaded lazily.
+     *
+     * @param target
+     *            to copy
+     * @return the snapshot of the target
+     */
+    public static TargetSnapshot of(final JpaTarget target) {
+        return new TargetSnapshot(target);
+    }
+
+    public String getControllerId() {
+        return controllerId;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public Long getCreatedAt() {
+        return createdAt;
+    }
+
+    public Long getLastModifiedAt() {
+        return lastModifiedAt;
+    }
+
+    public TargetUpdateStatus getUpdateStatus() {
+        return updateStatus;
+    }
+
+    public String getAddress() {
+        return address;
+    }
+
+    public Long getLastTargetQuery() {
+        return lastTargetQuery;
+    }
+
+    public Map<String, String> getAttributes() {
+        return attributes;
+    }
+
+    public Map<String, String> getMetadata() {
+        return metadata;
+    }
+
+    public List<String> getTags() {
+        return tags;
+    }
+
+    /**
+     * @return the assigned distribution set or <code>null</code> if none is
+     *         assigned
+     */
+    public DistributionSetSnapshot getAssignedDistributionSet() {
+        return assignedDistributionSet;
+    }
+
+    /**
+     * @return the installed distribution set or <code>null</code> if none is
+     *         installed
+     */
+    public DistributionSetSnapshot getInstalledDistributionSet() {
+        return installedDistributionSet;
+    }
+
+    @Override
+    public String toString() {
+        return "TargetSnapshot [controllerId=" + controllerId + "]";
+    }
+
+    /**
+     * Name and version of a distribution set of a target.
+     */
+    public static final class DistributionSetSnapshot {
+        private final String name;
+        private final String version;
+
+        private DistributionSetSnapshot(final DistributionSet distributionSet) {
+            this.name = distributionSet.getName();
+            this.version = distributionSet.getVersion();
+        }
+
+        private static DistributionSetSnapshot of(final DistributionSet distributionSet) {
+            return distributionSet == null ? null : new DistributionSetSnapshot(distributionSet);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public String getVersion() {
+            return version;
+        }
+    }
+}
@@ -35,6 +35,18 @@ public final class ActionSpecifications {
         // utility class
     }
 
+    /**
+     * {@link Specification} for retrieving the {@link Action}s of a target.
+     *
+     * @param controllerId
+     *            of the target
+     * @return a specification to use with spring JPA
+     */
+    public static Specification<JpaAction> byTargetControllerId(final String controllerId) {
+        return (actionRoot, query, criteriaBuilder) -> criteriaBuilder
+                .equal(actionRoot.get(JpaAction_.target).get(JpaTarget_.controllerId), controllerId);
+    }
+
     /**
      * Specification which joins all necessary tables to retrieve the dependency
      * between a target and a local file assignment through the assigned action
@@ -0,0 +1,175 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.specifications;
+
+import java.lang.reflect.AnnotatedElement;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.persistence.Basic;
+import javax.persistence.Column;
+import javax.persistence.JoinColumn;
+import javax.persistence.ManyToOne;
+import javax.persistence.OneToOne;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.Expression;
+import javax.persistence.criteria.Path;
+import javax.persistence.criteria.Predicate;
+import javax.persistence.criteria.Root;
+import javax.persistence.metamodel.Attribute;
+import javax.persistence.metamodel.Attribute.PersistentAttributeType;
+import javax.persistence.metamodel.ManagedType;
+import javax.persistence.metamodel.Metamodel;
+import javax.persistence.metamodel.SingularAttribute;
+import javax.validation.constraints.NotNull;
+
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
+import org.eclipse.hawkbit.repository.exception.InvalidPagingCursorException;
+import org.springframework.beans.SimpleTypeConverter;
+import org.springframework.beans.TypeMismatchException;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Order;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Specifications class for keyset pagination by a {@link KeysetPageRequest}.
+ * The class provides Spring Data JPQL Specifications.
+ */
+public final class KeysetSpecification {
+    private KeysetSpecification() {
+        // utility class
+    }
+
+    /**
+     * Checks if the entries of the given type can be located by the sort keys
+     * of the given sort. That is the case if all sorted properties are
+     * mandatory, as the position of <code>null</code> values in the sort order
+     * is database specific.
+     *
+     * @param metamodel
+     *            of the persistence unit
+     * @param domainClass
+     *            of the entity
+     * @param sort
+     *            to check
+     * @return <code>true</code> if {@link #isAfterKeys(KeysetPageRequest)} can
+     *         be applied for the sort
+     */
+    public static boolean isSeekable(final Metamodel metamodel, final Class<?> domainClass, final Sort sort) {
+        for (final Order order : sort) {
+            ManagedType<?> type = metamodel.managedType(domainClass);
+            final String[] path = order.getProperty().split("\\.");
+            for (int i = 0; i < path.length; i++) {
+                final Attribute<?, ?> attribute;
+                try {
+                    attribute = type.getAttribute(path[i]);
+                } catch (final IllegalArgumentException e) {
+                    return false;
+                }
+                if (!isMandatory(attribute)) {
+                    return false;
+                }
+                if (i < path.length - 1) {
+                    if (!attribute.isAssociation()
+                            && attribute.getPersistentAttributeType() != PersistentAttributeType.EMBEDDED) {
+                        return false;
+                    }
+                    type = metamodel.managedType(attribute.getJavaType());
+                }
+            }
+        }
+        return true;
+    }
+
+    private static boolean isMandatory(final Attribute<?, ?> attribute) {
+        if (!(attribute instanceof SingularAttribute)) {
+            return false;
+        }
+        final SingularAttribute<?, ?> singular = (SingularAttribute<?, ?>) attribute;
+        if (singular.isId() || !singular.isOptional() || singular.getJavaType().isPrimitive()) {
+            return true;
+        }
+        if (!(attribute.getJavaMember() instanceof AnnotatedElement)) {
+            return false;
+        }
+
+        final AnnotatedElement member = (AnnotatedElement) attribute.getJavaMember();
+        final Column column = member.getAnnotation(Column.class);
+        final JoinColumn joinColumn = member.getAnnotation(JoinColumn.class);
+        final Basic basic = member.getAnnotation(Basic.class);
+        final ManyToOne manyToOne = member.getAnnotation(ManyToOne.class);
+        final OneToOne oneToOne = member.getAnnotation(OneToOne.class);
+        return member.isAnnotationPresent(NotNull.class) || (column != null && !column.nullable())
+                || (joinColumn != null && !joinColumn.nullable()) || (basic != null && !basic.optional())
+                || (manyToOne != null && !manyToOne.optional()) || (oneToOne != null && !oneToOne.optional());
+    }
+
+    /**
+     * {@link Specification} for retrieving the entries that follow the
+     * {@link KeysetPageRequest#getKeys()} in the order of
+     * {@link KeysetPageRequest#getSort()}, i.e. the lexicographic comparison of
+     * the sorted properties with the keys.
+     *
+     * @param pageRequest
+     *            with the keys of the last entry of the previous page
+     * @return the {@link Specification}
+     *
+     * @throws InvalidPagingCursorException
+     *             if a key cannot be converted to the type of its property
+     */
+    public static <T> Specification<T> isAfterKeys(final KeysetPageRequest pageRequest) {
+        return (root, query, cb) -> {
+            final List<Order> orders = pageRequest.getSort().toList();
+            final List<Predicate> alternatives = new ArrayList<>(orders.size());
+            final List<Predicate> equalPrefix = new ArrayList<>(orders.size());
+
+            for (int i = 0; i < orders.size(); i++) {
+                final Order order = orders.get(i);
+                final Expression<Comparable<Object>> property = getProperty(root, cb, order);
+                final Expression<Comparable<Object>> key = getKey(cb, pageRequest.getKeys().get(i), property, order);
+
+                final List<Predicate> alternative = new ArrayList<>(equalPrefix);
+                alternative.add(order.isAscending() ? cb.greaterThan(property, key) : cb.lessThan(property, key));
+                alternatives.add(cb.and(alternative.toArray(new Predicate[0])));
+                equalPrefix.add(cb.equal(property, key));
+            }
+
+            return cb.or(alternatives.toArray(new Predicate[0]));
+        };
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Expression<Comparable<Object>> getProperty(final Root<?> root, final CriteriaBuilder cb,
+            final Order order) {
+        Path<?> path = root;
+        for (final String attribute : order.getProperty().split("\\.")) {
+            path = path.get(attribute);
+        }
+        if (order.isIgnoreCase() && String.class.equals(path.getJavaType())) {
+            // lower case as done by spring data for the sort
+            return (Expression<Comparable<Object>>) (Expression<?>) cb.lower((Expression<String>) path);
+        }
+        return (Expression<Comparable<Object>>) path;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Expression<Comparable<Object>> getKey(final CriteriaBuilder cb, final String key,
+            final Expression<Comparable<Object>> property, final Order order) {
+        if (order.isIgnoreCase() && String.class.equals(property.getJavaType())) {
+            return (Expression<Comparable<Object>>) (Expression<?>) cb.lower(cb.literal(key));
+        }
+        try {
+            final Object value = new SimpleTypeConverter().convertIfNecessary(key, property.getJavaType());
+            return cb.literal((Comparable<Object>) value);
+        } catch (final TypeMismatchException | ClassCastException e) {
+            throw new InvalidPagingCursorException(
+                    "Cursor key " + key + " does not match the sort property " + order.getProperty() + ".", e);
+        }
+    }
+}
@@ -289,6 +289,17 @@ public final class TargetSpecifications {
         };
     }
 
+    /**
+     * {@link Specification} for retrieving {@link Target}s by their IDs
+     *
+     * @param targetIds
+     *            the IDs of the targets
+     * @return the {@link Target} {@link Specification}
+     */
+    public static Specification<JpaTarget> hasIdIn(final Collection<Long> targetIds) {
+        return (targetRoot, query, cb) -> targetRoot.get(JpaTarget_.id).in(targetIds);
+    }
+
     /**
      * {@link Specification} for retrieving {@link Target}s that are not in the
      * given {@link RolloutGroup}s
@@ -0,0 +1,139 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.utils;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import javax.persistence.EntityManager;
+import javax.persistence.Query;
+import javax.persistence.criteria.CriteriaBuilder;
+import javax.persistence.criteria.CriteriaQuery;
+import javax.persistence.criteria.From;
+import javax.persistence.criteria.JoinType;
+import javax.persistence.criteria.Root;
+import javax.persistence.criteria.Selection;
+
+import org.eclipse.hawkbit.repository.ExportFieldProvider;
+import org.eclipse.persistence.config.HintValues;
+import org.eclipse.persistence.config.QueryHints;
+import org.eclipse.persistence.config.ResultSetConcurrency;
+import org.eclipse.persistence.config.ResultSetType;
+import org.eclipse.persistence.queries.ReportQueryResult;
+import org.eclipse.persistence.queries.ScrollableCursor;
+import org.springframework.data.jpa.domain.Specification;
+
+/**
+ * Utility class for the export of entities. The export reads the selected
+ * fields only, i.e. no entities are built and kept in the persistence context,
+ * and iterates the result by a forward-only cursor, i.e. the memory footprint
+ * does not depend on the number of exported entities.
+ *
+ * Note: MySQL/MariaDB stream the result only if the datasource URL contains
+ * {@code useCursorFetch=true}, otherwise the driver reads the complete result
+ * before the first row is returned.
+ */
+public final class ExportHelper {
+
+    private static final int FETCH_SIZE = 1000;
+    private static final String ID = "id";
+
+    private ExportHelper() {
+        // utility class
+    }
+
+    /**
+     * Exports the given fields of all entities that match the given
+     * specification in the order of their id.
+     *
+     * @param entityManager
+     *            to query the entities with
+     * @param domainClass
+     *            of the entities
+     * @param spec
+     *            to filter the entities by or <code>null</code> to export all
+     * @param fields
+     *            to export
+     * @param rowConsumer
+     *            that is called with the values of the fields in the order of
+     *            the given fields for every entity
+     * @return the number of exported entities
+     */
+    public static <T> long export(final EntityManager entityManager, final Class<T> domainClass,
+            final Specification<T> spec, final List<? extends ExportFieldProvider> fields,
+            final Consumer<Object[]> rowConsumer) {
+        final CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        final CriteriaQuery<Object[]> query = cb.createQuery(Object[].class);
+        final Root<T> root = query.from(domainClass);
+
+        // the id is selected as well to keep entities with equal values apart
+        // if the specification makes the query distinct
+        final List<Selection<?>> selections = new ArrayList<>(fields.size() + 1);
+        selections.add(root.get(ID));
+        final Map<String, From<?, ?>> joins = new HashMap<>();
+        for (final ExportFieldProvider field : fields) {
+            selections.add(getPath(root, joins, field.getFieldName()));
+        }
+        query.multiselect(selections);
+        if (spec != null) {
+            query.where(spec.toPredicate(root, query, cb));
+        }
+        query.orderBy(cb.asc(root.get(ID)));
+
+        // untyped as the scrollable cursor is returned as single result
+        final Query cursorQuery = entityManager.createQuery(query)
+                .setHint(QueryHints.SCROLLABLE_CURSOR, HintValues.TRUE)
+                .setHint(QueryHints.RESULT_SET_TYPE, ResultSetType.ForwardOnly)
+                .setHint(QueryHints.RESULT_SET_CONCURRENCY, ResultSetConcurrency.ReadOnly)
+                .setHint(QueryHints.JDBC_FETCH_SIZE, FETCH_SIZE).setHint(QueryHints.READ_ONLY, HintValues.TRUE);
+
+        long count = 0;
+        final ScrollableCursor cursor = (ScrollableCursor) cursorQuery.getSingleResult();
+        try {
+            while (cursor.hasNext()) {
+                final Object[] row = toArray(cursor.next());
+                final Object[] values = new Object[row.length - 1];
+                System.arraycopy(row, 1, values, 0, values.length);
+                rowConsumer.accept(values);
+                count++;
+            }
+        } finally {
+            cursor.close();
+        }
+        return count;
+    }
+
+    private static Selection<?> getPath(final Root<?> root, final Map<String, From<?, ?>> joins,
+            final String fieldName) {
+        final String[] path = fieldName.split("\\.");
+        From<?, ?> from = root;
+        final StringBuilder joinPath = new StringBuilder();
+        for (int i = 0; i < path.length - 1; i++) {
+            joinPath.append(path[i]).append('.');
+            final From<?, ?> parent = from;
+            final String attribute = path[i];
+            // references are optional, i.e. must not filter the entities
+            from = joins.computeIfAbsent(joinPath.toString(), key -> parent.join(attribute, JoinType.LEFT));
+        }
+        return from.get(path[path.length - 1]);
+    }
+
+    private static Object[] toArray(final Object row) {
+        if (row instanceof Object[]) {
+            return (Object[]) row;
+        }
+        if (row instanceof ReportQueryResult) {
+            return ((ReportQueryResult) row).toArray();
+        }
+        return new Object[] { row };
+    }
+}
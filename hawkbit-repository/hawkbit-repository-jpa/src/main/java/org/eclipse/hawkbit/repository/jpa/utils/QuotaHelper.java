@@ -8,14 +8,23 @@
  */
 package org.eclipse.hawkbit.repository.jpa.utils;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.function.ToLongFunction;
 
 import javax.validation.constraints.NotNull;
 
 import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
+import org.eclipse.hawkbit.repository.jpa.configuration.Constants;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import com.google.common.collect.Lists;
+
 /**
  * Helper class to check quotas.
  */
@@ -133,6 +142,68 @@ public final class QuotaHelper {
         }
     }
 
+    /**
+     * Asserts the specified assignment quota for multiple parent entities at
+     * once. The entities that are currently assigned to the parent entities
+     * are counted with one call of the count function per
+     * {@link Constants#MAX_ENTRIES_IN_STATEMENT} parent entities.
+     * 
+     * @param requested
+     *            The number of entities that shall be assigned per ID of the
+     *            parent entity.
+     * @param limit
+     *            The maximum number of entities that may be assigned to a
+     *            parent entity.
+     * @param type
+     *            The type of the entities that shall be assigned.
+     * @param parentType
+     *            The type of the parent entities.
+     * @param countFct
+     *            Function to count the entities that are currently assigned to
+     *            the given parent entities. Parent entities without any
+     *            assigned entity may be omitted in the result.
+     * 
+     * @throws AssignmentQuotaExceededException
+     *             if the assignment operation would cause the quota to be
+     *             exceeded for one of the parent entities
+     */
+    public static <T> void assertAssignmentQuota(final Map<T, Long> requested, final long limit,
+            @NotNull final Class<?> type, @NotNull final Class<?> parentType,
+            @NotNull final Function<Collection<T>, Map<T, Long>> countFct) {
+
+        // check if the quota is unlimited
+        if (limit <= 0) {
+            LOG.debug("Quota 'Max {} entities per {}' is unlimited.", type.getSimpleName(),
+                    parentType.getSimpleName());
+            return;
+        }
+
+        requested.forEach((parentId, count) -> assertAssignmentQuota(parentId, count, limit, type.getSimpleName(),
+                parentType.getSimpleName(), null));
+
+        final Map<T, Long> currentCounts = new HashMap<>();
+        Lists.partition(new ArrayList<>(requested.keySet()), Constants.MAX_ENTRIES_IN_STATEMENT)
+                .forEach(chunk -> currentCounts.putAll(countFct.apply(chunk)));
+
+        requested.forEach((parentId, count) -> assertAssignmentQuota(parentId, count, limit, type.getSimpleName(),
+                parentType.getSimpleName(), id -> currentCounts.getOrDefault(id, 0L)));
+    }
+
+    /**
+     * Converts the result of a grouped count query, i.e. rows of the grouping
+     * key and the count, into a map.
+     * 
+     * @param rows
+     *            the result rows of the query
+     * @return the counts by key
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Map<T, Long> toCountMap(final List<Object[]> rows) {
+        final Map<T, Long> counts = new HashMap<>(rows.size());
+        rows.forEach(row -> counts.put((T) row[0], ((Number) row[1]).longValue()));
+        return counts;
+    }
+
     /**
      * Assert that the number of assignments in a request does not exceed the
      * limit.
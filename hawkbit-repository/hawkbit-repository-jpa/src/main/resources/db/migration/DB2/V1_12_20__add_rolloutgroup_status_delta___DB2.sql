@@ -0,0 +1,14 @@
+CREATE TABLE sp_rolloutgroup_status_delta
+(
+    id              BIGINT GENERATED ALWAYS AS IDENTITY NOT NULL,
+    rolloutgroup_id BIGINT  NOT NULL,
+    status          INTEGER NOT NULL,
+    delta           BIGINT  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE INDEX sp_idx_rolloutgroup_status_delta_01 ON sp_rolloutgroup_status_delta (rolloutgroup_id);
+
+ALTER TABLE sp_rolloutgroup_status_delta
+    ADD CONSTRAINT fk_rolloutgroup_status_delta_group FOREIGN KEY (rolloutgroup_id) REFERENCES sp_rolloutgroup (id)
+        ON DELETE CASCADE;
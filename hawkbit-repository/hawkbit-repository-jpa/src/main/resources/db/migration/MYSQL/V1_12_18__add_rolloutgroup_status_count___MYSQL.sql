@@ -0,0 +1,26 @@
+CREATE TABLE sp_rolloutgroup_status_count
+(
+    rolloutgroup_id BIGINT  NOT NULL,
+    status          INTEGER NOT NULL,
+    action_count    BIGINT  NOT NULL,
+    PRIMARY KEY (rolloutgroup_id, status)
+);
+
+ALTER TABLE sp_rolloutgroup_status_count
+    ADD CONSTRAINT fk_rolloutgroup_status_count_group FOREIGN KEY (rolloutgroup_id) REFERENCES sp_rolloutgroup (id)
+        ON DELETE CASCADE;
+
+INSERT INTO sp_rolloutgroup_status_count (rolloutgroup_id, status, action_count)
+SELECT g.id, s.status, (SELECT COUNT(*) FROM sp_action a WHERE a.rolloutgroup = g.id AND a.status = s.status)
+FROM sp_rolloutgroup g
+CROSS JOIN (SELECT 0 AS status
+    UNION ALL SELECT 1 AS status
+    UNION ALL SELECT 2 AS status
+    UNION ALL SELECT 3 AS status
+    UNION ALL SELECT 4 AS status
+    UNION ALL SELECT 5 AS status
+    UNION ALL SELECT 6 AS status
+    UNION ALL SELECT 7 AS status
+    UNION ALL SELECT 8 AS status
+    UNION ALL SELECT 9 AS status
+    UNION ALL SELECT 10 AS status) s;
@@ -0,0 +1,17 @@
+DROP TABLE sp_lock;
+DROP TABLE sp_cluster_node;
+
+CREATE TABLE sp_lock
+(
+    lock_key   VARCHAR(256) NOT NULL,
+    owner_id   VARCHAR(64)  NOT NULL,
+    expires_at DATETIME(3) NOT NULL,
+    PRIMARY KEY (lock_key)
+);
+
+CREATE TABLE sp_cluster_node
+(
+    node_id    VARCHAR(64) NOT NULL,
+    expires_at DATETIME(3) NOT NULL,
+    PRIMARY KEY (node_id)
+);
@@ -10,8 +10,13 @@ package org.eclipse.hawkbit.repository.event.remote.entity;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.Collections;
+import java.util.List;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
@@ -24,6 +29,9 @@ import io.qameta.allure.Story;
 @Story("Test TargetCreatedEvent, TargetUpdatedEvent and CancelTargetAssignmentEvent")
 public class TargetEventTest extends AbstractRemoteEntityEventTest<Target> {
 
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
     @Test
     @Description("Verifies that the target entity reloading by remote created event works")
     public void testTargetCreatedEvent() {
@@ -47,6 +55,33 @@ public class TargetEventTest extends AbstractRemoteEntityEventTest<Target> {
         assertThat(underTest.getActionId()).isNotNull();
     }
 
+    @Test
+    @Description("Verifies that the target updated event embeds the snapshot of the target only if enabled and that the snapshot survives the serialization")
+    public void testTargetUpdatedEventWithSnapshot() {
+        final Target target = createEntity();
+        assertThat(new TargetUpdatedEvent(target, "node").getSnapshot()).isNull();
+
+        final List<String> snapshotEvents = repositoryProperties.getSnapshotEvents();
+        repositoryProperties.setSnapshotEvents(Collections.singletonList(TargetUpdatedEvent.class.getSimpleName()));
+        try {
+            final TargetUpdatedEvent event = new TargetUpdatedEvent(target, "node");
+
+            assertSnapshot(createProtoStuffEvent(event), target);
+            assertSnapshot(createJacksonEvent(event), target);
+        } finally {
+            repositoryProperties.setSnapshotEvents(snapshotEvents);
+        }
+    }
+
+    private static void assertSnapshot(final TargetUpdatedEvent event, final Target target) {
+        assertThat(event.getSnapshot()).isNotNull();
+        assertThat(event.getSnapshot().getFormatVersion()).isEqualTo(EntitySnapshot.FORMAT_VERSION);
+        assertThat(event.getSnapshot().getRevision()).isEqualTo(target.getOptLockRevision());
+        assertThat(event.getSnapshotField(EntitySnapshot.CONTROLLER_ID)).contains("12345");
+        assertThat(event.getSnapshotField(EntitySnapshot.UPDATE_STATUS))
+                .contains(target.getUpdateStatus().name());
+    }
+
     @Override
     protected Target createEntity() {
         return testdataFactory.createTarget("12345");
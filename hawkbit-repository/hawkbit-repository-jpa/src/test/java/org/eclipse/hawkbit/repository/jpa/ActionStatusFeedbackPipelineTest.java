@@ -0,0 +1,109 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.tenancy.TenantAware;
+import org.eclipse.hawkbit.tenancy.TenantAware.TenantRunner;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionTimedOutException;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Action status feedback group commit")
+public class ActionStatusFeedbackPipelineTest {
+
+    private final CountDownLatch releaseCommit = new CountDownLatch(1);
+    private ActionStatusFeedbackPipeline pipeline;
+
+    @BeforeEach
+    public void setup() {
+        final RepositoryProperties repositoryProperties = new RepositoryProperties();
+        repositoryProperties.setActionFeedbackLanes(1);
+        repositoryProperties.setActionFeedbackCommitTimeout(100);
+
+        final PlatformTransactionManager txManager = mock(PlatformTransactionManager.class);
+        when(txManager.getTransaction(any())).thenReturn(new SimpleTransactionStatus());
+        final TenantAware tenantAware = mock(TenantAware.class);
+        when(tenantAware.runAsTenant(anyString(), any()))
+                .thenAnswer(invocation -> invocation.getArgument(1, TenantRunner.class).run());
+
+        pipeline = new ActionStatusFeedbackPipeline(repositoryProperties, txManager, tenantAware,
+                new SimpleMeterRegistry());
+    }
+
+    @AfterEach
+    public void tearDown() {
+        releaseCommit.countDown();
+        pipeline.shutdown();
+    }
+
+    @Test
+    @Description("Verifies that a feedback is persisted and returned by the group commit.")
+    public void feedbackIsPersistedInGroupCommit() {
+        final Action action = mock(Action.class);
+
+        assertThat(pipeline.submit("DEFAULT", 1L, () -> action, 10_000)).isSameAs(action);
+    }
+
+    @Test
+    @Description("Verifies that the submitter of a feedback that is part of a stuck group commit fails after the "
+            + "commit timeout instead of waiting forever.")
+    public void waitForStuckGroupCommitIsBounded() {
+        final CountDownLatch commitStarted = new CountDownLatch(1);
+
+        final long start = System.currentTimeMillis();
+        assertThatExceptionOfType(TransactionTimedOutException.class)
+                .isThrownBy(() -> pipeline.submit("DEFAULT", 1L, () -> {
+                    commitStarted.countDown();
+                    awaitUninterruptibly(releaseCommit);
+                    return null;
+                }, 50)).withMessageContaining("action 1");
+
+        assertThat(commitStarted.getCount()).as("feedback has been part of the group commit").isZero();
+        assertThat(System.currentTimeMillis() - start).isLessThan(5_000);
+    }
+
+    private static void awaitUninterruptibly(final CountDownLatch latch) {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                try {
+                    latch.await(10, TimeUnit.SECONDS);
+                    return;
+                } catch (final InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        } finally {
+            if (interrupted) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
@@ -28,6 +28,9 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
@@ -70,10 +73,12 @@ import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.repository.test.matcher.Expect;
 import org.eclipse.hawkbit.repository.test.matcher.ExpectEvents;
 import org.eclipse.hawkbit.repository.test.util.WithSpringAuthorityRule;
+import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.junit.jupiter.api.Test;
 import org.mockito.Mockito;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutorService;
 
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
@@ -198,6 +203,44 @@ public class ControllerManagementTest extends AbstractJpaIntegrationTest {
         assertThat(controllerManagement.findActionStatusByAction(PAGE, actionId).getNumberOfElements()).isEqualTo(6);
     }
 
+    @Test
+    @Description("Controller feedback of multiple targets is persisted in group commits if enabled for the tenant.")
+    public void controllerConfirmsUpdatesWithFinishedInGroupCommit() throws Exception {
+        tenantConfigurationManagement
+                .addOrUpdateConfiguration(TenantConfigurationKey.ACTION_FEEDBACK_GROUP_COMMIT_ENABLED, true);
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Target> targets = testdataFactory.createTargets(20);
+        final List<Long> actionIds = assignDistributionSet(ds, targets).getAssignedEntity().stream()
+                .map(Action::getId).collect(Collectors.toList());
+
+        final ExecutorService executor = new DelegatingSecurityContextExecutorService(
+                Executors.newFixedThreadPool(actionIds.size()));
+        try {
+            final List<Future<Action>> feedbacks = new ArrayList<>();
+            for (final Long actionId : actionIds) {
+                feedbacks.add(executor.submit(() -> controllerManagement.addUpdateActionStatus(
+                        entityFactory.actionStatus().create(actionId).status(Action.Status.FINISHED))));
+            }
+            for (final Future<Action> feedback : feedbacks) {
+                assertThat(feedback.get().getStatus()).isEqualTo(Action.Status.FINISHED);
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        assertThat(actionIds).allSatisfy(actionId -> {
+            final Action action = deploymentManagement.findAction(actionId).get();
+            assertThat(action.getStatus()).isEqualTo(Action.Status.FINISHED);
+            assertThat(action.isActive()).isFalse();
+        });
+        assertThat(targets).allSatisfy(target -> assertThat(
+                targetManagement.getByControllerID(target.getControllerId()).get().getUpdateStatus())
+                        .isEqualTo(TargetUpdateStatus.IN_SYNC));
+
+        verifyThrownExceptionBy(() -> controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(NOT_EXIST_IDL).status(Action.Status.FINISHED)), "Action");
+    }
+
     @Test
     @Description("Controller confirms successful update with FINISHED status on a action that is on canceling. "
             + "Reason: The decision to ignore the cancellation is in fact up to the controller.")
@@ -24,8 +24,12 @@ import java.util.stream.Collectors;
 import javax.validation.ConstraintViolationException;
 
 import org.assertj.core.api.Assertions;
+import org.eclipse.hawkbit.repository.ActionExportFields;
+import org.eclipse.hawkbit.repository.ActionStatusExportFields;
 import org.eclipse.hawkbit.repository.ActionStatusFields;
 import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
 import org.eclipse.hawkbit.repository.event.remote.MultiActionAssignEvent;
 import org.eclipse.hawkbit.repository.event.remote.MultiActionCancelEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
@@ -69,6 +73,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 
 import com.google.common.collect.Iterables;
@@ -160,6 +165,30 @@ public class DeploymentManagementTest extends AbstractJpaIntegrationTest {
         assertThat(actions.getContent().get(0).getId()).as("Action of target").isEqualTo(actionId);
     }
 
+    @Test
+    @Description("Test verifies that the actions of a target are paged with cursors as slices without total.")
+    public void findActionsByTargetWithKeysetPagination() {
+        final Target testTarget = testdataFactory.createTarget();
+        final List<Long> actionIds = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            actionIds.add(getFirstAssignedActionId(
+                    assignDistributionSet(testdataFactory.createDistributionSet("keyset" + i), testTarget)));
+        }
+        final Sort sort = Sort.by(Direction.ASC, "id");
+
+        final KeysetPageRequest first = KeysetPageRequest.of("", 0, 2, sort);
+        final Slice<Action> firstSlice = deploymentManagement.findActionsByTarget(testTarget.getControllerId(), first);
+        assertThat(firstSlice).as("Actions are paged without total").isNotInstanceOf(Page.class);
+        assertThat(firstSlice.hasNext()).as("First slice has a next slice").isTrue();
+        assertThat(firstSlice.getContent()).extracting(Action::getId).containsExactly(actionIds.get(0),
+                actionIds.get(1));
+
+        final Slice<Action> secondSlice = deploymentManagement.findActionsByTarget(testTarget.getControllerId(),
+                KeysetPageRequest.of(first.next(firstSlice.getContent()), 0, 2, sort));
+        assertThat(secondSlice.hasNext()).as("Second slice is the last one").isFalse();
+        assertThat(secondSlice.getContent()).extracting(Action::getId).containsExactly(actionIds.get(2));
+    }
+
     @Test
     @Description("Test verifies that the 'max actions per target' quota is enforced.")
     public void assertMaxActionsPerTargetQuotaIsEnforced() {
@@ -178,6 +207,29 @@ public class DeploymentManagementTest extends AbstractJpaIntegrationTest {
                 .isThrownBy(() -> assignDistributionSet(ds1.getId(), testTarget.getControllerId(), 77));
     }
 
+    @Test
+    @Description("Test verifies that the 'max actions per target' quota is enforced for every target of an assignment to multiple targets.")
+    public void assertMaxActionsPerTargetQuotaIsEnforcedForEveryTargetOfAssignment() {
+
+        final int maxActions = quotaManagement.getMaxActionsPerTarget();
+        final List<Target> targets = testdataFactory.createTargets(3, "quotaTarget");
+        final Target targetAtQuota = targets.get(1);
+        final DistributionSet ds1 = testdataFactory.createDistributionSet("ds1");
+
+        enableMultiAssignments();
+        for (int i = 0; i < maxActions; i++) {
+            deploymentManagement.offlineAssignedDistributionSets(Collections
+                    .singletonList(new SimpleEntry<String, Long>(targetAtQuota.getControllerId(), ds1.getId())));
+        }
+
+        assertThatExceptionOfType(AssignmentQuotaExceededException.class)
+                .isThrownBy(() -> assignDistributionSet(ds1.getId(),
+                        targets.stream().map(Target::getControllerId).collect(Collectors.toList()), 77));
+        assertThat(actionRepository.countByTargetId(targets.get(0).getId())).isZero();
+        assertThat(actionRepository.countByTargetId(targets.get(2).getId())).isZero();
+        assertThat(actionRepository.countByTargetId(targetAtQuota.getId())).isEqualTo(maxActions);
+    }
+
     @Test
     @Description("An assignment request with more assignments than allowed by 'maxTargetDistributionSetAssignmentsPerManualAssignment' quota throws an exception.")
     public void assignmentRequestThatIsTooLarge() {
@@ -237,6 +289,42 @@ public class DeploymentManagementTest extends AbstractJpaIntegrationTest {
         assertThat(messages.getContent().get(0)).as("Message of action-status").isEqualTo(expectedMsg);
     }
 
+    @Test
+    @Description("Test verifies that the export of actions and action-states returns the selected fields of the "
+            + "entries that match the filter in the order of their creation.")
+    public void exportActionsAndActionStatus() {
+        final DistributionSet testDs = testdataFactory.createDistributionSet("TestDs", "1.0", Collections.emptyList());
+        final List<Target> testTargets = testdataFactory.createTargets(3);
+        final List<Long> actionIds = assignDistributionSet(testDs, testTargets).getAssignedEntity().stream()
+                .map(Action::getId).sorted().collect(Collectors.toList());
+        controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(actionIds.get(0)).status(Action.Status.FINISHED));
+
+        final List<Object[]> actions = new ArrayList<>();
+        assertThat(deploymentManagement.exportActions(null,
+                Arrays.asList(ActionExportFields.ID, ActionExportFields.TARGET, ActionExportFields.DISTRIBUTIONSET,
+                        ActionExportFields.ACTIVE, ActionExportFields.STATUS, ActionExportFields.ROLLOUT),
+                actions::add)).isEqualTo(3);
+        assertThat(actions).extracting(row -> row[0]).containsExactlyElementsOf(actionIds);
+        final Action finished = deploymentManagement.findAction(actionIds.get(0)).get();
+        assertThat(actions.get(0)).containsExactly(finished.getId(), finished.getTarget().getControllerId(),
+                testDs.getId(), false, Status.FINISHED, null);
+
+        final List<Object[]> filtered = new ArrayList<>();
+        assertThat(deploymentManagement.exportActions("id==" + actionIds.get(1),
+                Collections.singletonList(ActionExportFields.ID), filtered::add)).isEqualTo(1);
+        assertThat(filtered.get(0)).containsExactly(actionIds.get(1));
+
+        final List<Object[]> states = new ArrayList<>();
+        assertThat(deploymentManagement.exportActionStatus("reportedAt=ge=0",
+                Arrays.asList(ActionStatusExportFields.ACTION, ActionStatusExportFields.TARGET,
+                        ActionStatusExportFields.STATUS),
+                states::add)).isEqualTo(4);
+        assertThat(states.get(3)).containsExactly(finished.getId(), finished.getTarget().getControllerId(),
+                Status.FINISHED);
+        assertThat(states.subList(0, 3)).extracting(row -> row[0]).containsExactlyInAnyOrderElementsOf(actionIds);
+    }
+
     @Test
     @Description("Ensures that tag to distribution set assignment that does not exist will cause EntityNotFoundException.")
     public void assignDistributionSetToTagThatDoesNotExistThrowsException() {
@@ -255,13 +343,17 @@ public class DeploymentManagementTest extends AbstractJpaIntegrationTest {
     }
 
     @Test
-    @Description("Test verifies that an assignment with automatic cancelation works correctly even if the update is split into multiple partitions on the database.")
+    @Description("Test verifies that an assignment with automatic cancelation works correctly even if the update is split into multiple partitions on the database. "
+            + "The entity events of the actions and targets are aggregated into bulk entity events.")
     @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = Constants.MAX_ENTRIES_IN_STATEMENT + 10),
-            @Expect(type = TargetUpdatedEvent.class, count = 2 * (Constants.MAX_ENTRIES_IN_STATEMENT + 10)),
+            @Expect(type = TargetUpdatedEvent.class, count = 0),
             @Expect(type = TargetAssignDistributionSetEvent.class, count = 2),
-            @Expect(type = ActionCreatedEvent.class, count = 2 * (Constants.MAX_ENTRIES_IN_STATEMENT + 10)),
+            @Expect(type = ActionCreatedEvent.class, count = 0),
             @Expect(type = CancelTargetAssignmentEvent.class, count = Constants.MAX_ENTRIES_IN_STATEMENT + 10),
-            @Expect(type = ActionUpdatedEvent.class, count = Constants.MAX_ENTRIES_IN_STATEMENT + 10),
+            @Expect(type = ActionUpdatedEvent.class, count = 0),
+            // created actions and updated targets per assignment, cancelled
+            // actions of the second assignment
+            @Expect(type = BulkEntityEvent.class, count = 5),
             @Expect(type = DistributionSetCreatedEvent.class, count = 2),
             @Expect(type = SoftwareModuleCreatedEvent.class, count = 6) })
     public void multiAssigmentHistoryOverMultiplePagesResultsInTwoActiveAction() {
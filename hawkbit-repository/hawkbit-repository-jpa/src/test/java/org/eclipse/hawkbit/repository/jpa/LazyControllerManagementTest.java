@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import java.util.concurrent.TimeUnit;
 
 import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.event.remote.MultiTargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetPollEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
 import org.eclipse.hawkbit.repository.model.Target;
@@ -36,10 +37,13 @@ public class LazyControllerManagementTest extends AbstractJpaIntegrationTest {
     @Autowired
     private RepositoryProperties repositoryProperties;
 
+    @Autowired
+    private TargetPollTracker targetPollTracker;
+
     @Test
     @Description("Verfies that lazy target poll update is executed as specified.")
     @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
-            @Expect(type = TargetPollEvent.class, count = 2) })
+            @Expect(type = TargetPollEvent.class, count = 1), @Expect(type = MultiTargetPollEvent.class, count = 1) })
     public void lazyFindOrRegisterTargetIfItDoesNotexist() throws InterruptedException {
         final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", LOCALHOST);
         assertThat(target).as("target should not be null").isNotNull();
@@ -53,4 +57,46 @@ public class LazyControllerManagementTest extends AbstractJpaIntegrationTest {
         assertThat(updated.getOptLockRevision()).isEqualTo(target.getOptLockRevision());
         assertThat(updated.getLastTargetQuery()).isGreaterThan(target.getLastTargetQuery());
     }
+
+    @Test
+    @Description("Verfies that repeated polls of a target are coalesced into one lazy target poll update.")
+    @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = TargetPollEvent.class, count = 1), @Expect(type = MultiTargetPollEvent.class, count = 1) })
+    public void repeatedPollsAreCoalesced() throws InterruptedException {
+        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", LOCALHOST);
+        targetPollTracker.flush();
+        final long coalescedBefore = targetPollTracker.getCoalescedCount();
+        final long flushedBefore = targetPollTracker.getFlushedCount();
+
+        TimeUnit.MILLISECONDS.sleep(10);
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", LOCALHOST);
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", LOCALHOST);
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist("AA", LOCALHOST);
+
+        assertThat(targetPollTracker.getPendingCount()).as("pending polls").isEqualTo(1);
+        assertThat(targetPollTracker.getCoalescedCount() - coalescedBefore).as("coalesced polls").isEqualTo(2);
+
+        targetPollTracker.flush();
+
+        assertThat(targetPollTracker.getPendingCount()).as("pending polls").isZero();
+        assertThat(targetPollTracker.getFlushedCount() - flushedBefore).as("flushed polls").isEqualTo(1);
+
+        final Target updated = targetManagement.get(target.getId()).get();
+
+        assertThat(updated.getOptLockRevision()).isEqualTo(target.getOptLockRevision());
+        assertThat(updated.getLastTargetQuery()).isGreaterThan(target.getLastTargetQuery());
+    }
+
+    @Test
+    @Description("Verfies that the pending polls of a tenant are discarded when the tenant is deleted.")
+    public void pendingPollsOfDeletedTenantAreDiscarded() {
+        targetPollTracker.flush();
+        targetPollTracker.record("deletedTenant", "AA");
+        targetPollTracker.record("deletedTenant", "BB");
+        assertThat(targetPollTracker.getPendingCount()).as("pending polls").isEqualTo(2);
+
+        systemManagement.deleteTenant("deletedTenant");
+
+        assertThat(targetPollTracker.getPendingCount()).as("pending polls").isZero();
+    }
 }
@@ -13,6 +13,7 @@ import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -68,6 +69,7 @@ import org.eclipse.hawkbit.repository.model.RolloutGroupConditionBuilder;
 import org.eclipse.hawkbit.repository.model.RolloutGroupConditions;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
+import org.eclipse.hawkbit.repository.model.TotalTargetCountActionStatus;
 import org.eclipse.hawkbit.repository.model.TotalTargetCountStatus;
 import org.eclipse.hawkbit.repository.test.matcher.Expect;
 import org.eclipse.hawkbit.repository.test.matcher.ExpectEvents;
@@ -75,6 +77,7 @@ import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.T
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
@@ -92,11 +95,82 @@ import io.qameta.allure.Story;
 @Story("Rollout Management")
 public class RolloutManagementTest extends AbstractJpaIntegrationTest {
 
+    @Autowired
+    private RolloutGroupStatusCounter rolloutGroupStatusCounter;
+
     @BeforeEach
     public void reset() {
         this.approvalStrategy.setApprovalNeeded(false);
     }
 
+    @Test
+    @Description("Verifies that only the given rollouts are handled if the rollouts are handled by ID.")
+    public void handleRolloutsByIdOnlyHandlesGivenRollouts() {
+        testdataFactory.createTargets(4, "handleById");
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet();
+        final Rollout rolloutA = testdataFactory.createRolloutByVariables("handleByIdA", "description", 2,
+                "controllerId==handleById*", distributionSet, "50", "5");
+        final Rollout rolloutB = testdataFactory.createRolloutByVariables("handleByIdB", "description", 2,
+                "controllerId==handleById*", distributionSet, "50", "5");
+        rolloutManagement.start(rolloutA.getId());
+        rolloutManagement.start(rolloutB.getId());
+
+        rolloutManagement.handleRollouts(Arrays.asList(rolloutA.getId(), -1L));
+
+        assertThat(rolloutManagement.get(rolloutA.getId()).get().getStatus()).isEqualTo(RolloutStatus.RUNNING);
+        assertThat(rolloutManagement.get(rolloutB.getId()).get().getStatus()).isEqualTo(RolloutStatus.STARTING);
+    }
+
+    @Test
+    @Description("Verifies that the maintained status counters of the rollout groups match the actions of the groups.")
+    public void rolloutGroupStatusCountersMatchActionsOfGroups() {
+        final Rollout rollout = createTestRolloutWithTargetsAndDistributionSet(9, 3, "50", "80", "statusCounters",
+                "statusCounters");
+        rolloutManagement.start(rollout.getId());
+        rolloutManagement.handleRollouts();
+
+        changeStatusForRunningActions(rollout, Status.FINISHED, 2);
+        changeStatusForRunningActions(rollout, Status.ERROR, 1);
+        targetManagement.delete(Collections
+                .singletonList(findActionsByRolloutAndStatus(rollout, Status.SCHEDULED).get(0).getTarget().getId()));
+
+        assertStatusCountersMatchActions(rollout);
+
+        // counters are kept on deletion of actions by the action cleanup
+        systemSecurityContext.runAsSystem(() -> deploymentManagement
+                .deleteActionsByStatusAndLastModifiedBefore(Collections.singleton(Status.FINISHED), Long.MAX_VALUE));
+        assertThat(findActionsByRolloutAndStatus(rollout, Status.FINISHED)).isEmpty();
+        assertStatusCountersMatchActions(rollout);
+
+        // folding the logged changes does not change the counters
+        rolloutGroupStatusCounter.foldAll();
+        assertStatusCountersMatchActions(rollout);
+    }
+
+    private void assertStatusCountersMatchActions(final Rollout rollout) {
+        final Map<String, Long> groupCounts = new HashMap<>();
+        final Map<String, Long> rolloutCounts = new HashMap<>();
+        for (final Status status : Status.values()) {
+            for (final Action action : findActionsByRolloutAndStatus(rollout, status)) {
+                groupCounts.merge(action.getRolloutGroup().getId() + "-" + status, 1L, Long::sum);
+                rolloutCounts.merge(rollout.getId() + "-" + status, 1L, Long::sum);
+            }
+        }
+
+        final List<Long> groupIds = rolloutGroupManagement.findByRollout(PAGE, rollout.getId()).getContent().stream()
+                .map(RolloutGroup::getId).collect(Collectors.toList());
+        assertThat(toCountMap(rolloutGroupStatusCounter.getStatusCountByRolloutGroupId(groupIds)))
+                .isEqualTo(groupCounts);
+        assertThat(toCountMap(
+                rolloutGroupStatusCounter.getStatusCountByRolloutId(Collections.singletonList(rollout.getId()))))
+                        .isEqualTo(rolloutCounts);
+    }
+
+    private static Map<String, Long> toCountMap(final List<TotalTargetCountActionStatus> counts) {
+        return counts.stream().filter(count -> count.getCount() > 0).collect(Collectors
+                .toMap(count -> count.getId() + "-" + count.getStatus(), TotalTargetCountActionStatus::getCount));
+    }
+
     @Test
     @Description("Verifies that a running action with distribution-set (A) is not canceled by a rollout which tries to also assign a distribution-set (A)")
     public void rolloutShouldNotCancelRunningActionWithTheSameDistributionSet() {
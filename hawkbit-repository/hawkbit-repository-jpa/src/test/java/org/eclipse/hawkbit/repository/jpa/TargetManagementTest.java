@@ -20,13 +20,18 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 import javax.validation.ConstraintViolationException;
 
 import org.apache.commons.lang3.RandomStringUtils;
+import org.eclipse.hawkbit.exception.SpServerError;
 import org.eclipse.hawkbit.im.authentication.SpPermission;
 import org.eclipse.hawkbit.repository.FilterParams;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
+import org.eclipse.hawkbit.repository.TargetExportFields;
+import org.eclipse.hawkbit.repository.event.remote.MultiTargetCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAssignDistributionSetEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetAttributesRequestedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
@@ -40,6 +45,7 @@ import org.eclipse.hawkbit.repository.event.remote.entity.TargetTagCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
 import org.eclipse.hawkbit.repository.exception.AssignmentQuotaExceededException;
 import org.eclipse.hawkbit.repository.exception.EntityAlreadyExistsException;
+import org.eclipse.hawkbit.repository.exception.InvalidPagingCursorException;
 import org.eclipse.hawkbit.repository.exception.InvalidTargetAddressException;
 import org.eclipse.hawkbit.repository.exception.TenantNotExistException;
 import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
@@ -51,8 +57,11 @@ import org.eclipse.hawkbit.repository.model.MetaData;
 import org.eclipse.hawkbit.repository.model.NamedEntity;
 import org.eclipse.hawkbit.repository.model.Tag;
 import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetImport;
+import org.eclipse.hawkbit.repository.model.TargetImportResult;
 import org.eclipse.hawkbit.repository.model.TargetMetadata;
 import org.eclipse.hawkbit.repository.model.TargetTag;
+import org.eclipse.hawkbit.repository.model.TargetUpdateStatus;
 import org.eclipse.hawkbit.repository.test.matcher.Expect;
 import org.eclipse.hawkbit.repository.test.matcher.ExpectEvents;
 import org.eclipse.hawkbit.repository.test.util.WithSpringAuthorityRule;
@@ -60,6 +69,11 @@ import org.eclipse.hawkbit.repository.test.util.WithUser;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.domain.Sort.Direction;
+import org.springframework.data.domain.Sort.Order;
 
 import com.google.common.collect.Iterables;
 
@@ -1100,4 +1114,153 @@ public class TargetManagementTest extends AbstractJpaIntegrationTest {
         assertThat(foundTargetsByMetadataAndControllerId.getContent().stream().map(Target::getControllerId))
                 .as("Targets found by RSQL filter have wrong controller ids").containsExactlyInAnyOrder(controllerIds);
     }
+
+    @Test
+    @Description("Verifies that keyset pagination with cursors returns the targets in the same order as offset "
+            + "based pagination, also if the sort contains properties that might be null.")
+    public void findTargetsWithKeysetPagination() {
+        for (int i = 0; i < 25; i++) {
+            targetManagement.create(entityFactory.target().create().controllerId("keyset" + i).name("name" + (i % 4))
+                    .description(i % 2 == 0 ? null : "description" + (i % 3)));
+        }
+        testdataFactory.createTarget("other");
+
+        for (final Sort sort : Arrays.asList(Sort.by(Direction.DESC, "name"),
+                Sort.by(Order.asc("name").ignoreCase(), Order.desc("controllerId")),
+                Sort.by(Direction.ASC, "description"), Sort.unsorted())) {
+            final List<String> expected = targetManagement
+                    .findByRsql(PageRequest.of(0, 100, sort.and(Sort.by("id"))), "controllerId==keyset*").getContent()
+                    .stream().map(Target::getControllerId).collect(Collectors.toList());
+
+            assertThat(pageWithCursor(sort, pageable -> targetManagement.findByRsql(pageable,
+                    "controllerId==keyset*"))).as("Targets paged by RSQL and %s", sort).isEqualTo(expected);
+            assertThat(pageWithCursor(sort, targetManagement::findAll)).as("All targets paged by %s", sort)
+                    .containsSubsequence(expected).hasSize(26);
+        }
+    }
+
+    @Test
+    @Description("Verifies that keyset pagination continues after the last target of the previous page even if "
+            + "targets of the previous page have been deleted meanwhile.")
+    public void keysetPaginationIsStableOnDeletion() {
+        testdataFactory.createTargets(10, "keyset");
+        final Sort sort = Sort.by(Direction.ASC, "controllerId");
+
+        final KeysetPageRequest first = KeysetPageRequest.of("", 0, 5, sort);
+        final Page<Target> firstPage = targetManagement.findByRsql(first, "controllerId==keyset*");
+        assertThat(firstPage.getTotalElements()).isEqualTo(10);
+        final String cursor = first.next(firstPage.getContent());
+
+        targetManagement.deleteByControllerID(firstPage.getContent().get(0).getControllerId());
+
+        final Page<Target> secondPage = targetManagement.findByRsql(KeysetPageRequest.of(cursor, 0, 5, sort),
+                "controllerId==keyset*");
+        assertThat(secondPage.getContent()).as("Second page starts after the last target of the first page")
+                .extracting(Target::getControllerId)
+                .containsExactly("keyset-00005", "keyset-00006", "keyset-00007", "keyset-00008", "keyset-00009");
+
+        assertThatExceptionOfType(InvalidPagingCursorException.class)
+                .isThrownBy(() -> KeysetPageRequest.of("no cursor", 0, 5, sort));
+        assertThatExceptionOfType(InvalidPagingCursorException.class).as("Cursor of another sort is rejected")
+                .isThrownBy(() -> KeysetPageRequest.of(cursor, 0, 5, Sort.by(Direction.ASC, "createdAt")));
+        assertThatExceptionOfType(InvalidPagingCursorException.class).as("Cursor of another direction is rejected")
+                .isThrownBy(() -> KeysetPageRequest.of(cursor, 0, 5, Sort.by(Direction.DESC, "controllerId")));
+    }
+
+    @Test
+    @Description("Verifies that the export of targets returns the selected fields of the targets that match the "
+            + "filter in the order of their creation, including targets without referenced distribution set.")
+    public void exportTargets() {
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Target> targets = testdataFactory.createTargets(10, "export");
+        testdataFactory.createTarget("other");
+        assignDistributionSet(ds.getId(), targets.get(3).getControllerId());
+        final TargetTag tagA = targetTagManagement.create(entityFactory.tag().create().name("A"));
+        final TargetTag tagB = targetTagManagement.create(entityFactory.tag().create().name("B"));
+        targetManagement.assignTag(Arrays.asList(targets.get(1).getControllerId(), targets.get(3).getControllerId()),
+                tagA.getId());
+        targetManagement.assignTag(Arrays.asList(targets.get(3).getControllerId(), targets.get(5).getControllerId()),
+                tagB.getId());
+
+        final List<Object[]> rows = new ArrayList<>();
+        final long count = targetManagement.export("controllerId==export*", Arrays.asList(
+                TargetExportFields.CONTROLLERID, TargetExportFields.UPDATESTATUS,
+                TargetExportFields.ASSIGNEDDISTRIBUTIONSET), rows::add);
+
+        assertThat(count).isEqualTo(10);
+        assertThat(rows).extracting(row -> row[0])
+                .containsExactlyElementsOf(targetManagement.findByRsql(PageRequest.of(0, 100, Sort.by("id")),
+                        "controllerId==export*").getContent().stream().map(Target::getControllerId)
+                        .collect(Collectors.toList()));
+        final Map<Object, Object[]> byControllerId = rows.stream()
+                .collect(Collectors.toMap(row -> row[0], Function.identity()));
+        assertThat(byControllerId.get(targets.get(3).getControllerId()))
+                .containsExactly(targets.get(3).getControllerId(), TargetUpdateStatus.PENDING, ds.getId());
+        assertThat(byControllerId.get(targets.get(4).getControllerId()))
+                .containsExactly(targets.get(4).getControllerId(), TargetUpdateStatus.UNKNOWN, null);
+
+        final List<Object[]> tagged = new ArrayList<>();
+        assertThat(targetManagement.export("tag==A,tag==B", Collections.singletonList(TargetExportFields.NAME),
+                tagged::add)).as("Targets with both tags are exported once").isEqualTo(3);
+        assertThat(targetManagement.export(null, Collections.singletonList(TargetExportFields.CONTROLLERID),
+                row -> {
+                })).isEqualTo(11);
+    }
+
+    @Test
+    @Description("Verifies that an import creates the valid targets with their tags, metadata and attributes, "
+            + "reports the invalid ones per line and publishes a single event for the created targets.")
+    @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = TargetTagCreatedEvent.class, count = 1),
+            @Expect(type = MultiTargetCreatedEvent.class, count = 1) })
+    public void importTargets() {
+        testdataFactory.createTarget("existing");
+        final TargetTag tag = targetTagManagement.create(entityFactory.tag().create().name("A"));
+        final Map<String, String> metadata = Collections.singletonMap("key", "value");
+        final Map<String, String> attributes = Collections.singletonMap("revision", "1.1");
+
+        final TargetImportResult result = targetManagement.importTargets(Arrays.asList(
+                new TargetImport(1, entityFactory.target().create().controllerId("imported1").name("first"),
+                        Collections.singletonList("A"), metadata, attributes),
+                new TargetImport(2, entityFactory.target().create().controllerId("imported2"), null, null, null),
+                new TargetImport(3, entityFactory.target().create().controllerId("existing"), null, null, null),
+                new TargetImport(4, entityFactory.target().create().controllerId("imported2"), null, null, null),
+                new TargetImport(5, entityFactory.target().create().controllerId("imported3"),
+                        Collections.singletonList("notexist"), null, null),
+                new TargetImport(6, entityFactory.target().create().controllerId("invalid id"), null, null, null),
+                new TargetImport(7, entityFactory.target().create().controllerId("imported4"), null,
+                        Collections.singletonMap("", "value"), null)));
+
+        assertThat(result.getCreated()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(TargetImportResult.Error::getLine).containsExactly(3L, 4L, 5L, 6L,
+                7L);
+        assertThat(result.getErrors()).extracting(TargetImportResult.Error::getError).containsExactly(
+                SpServerError.SP_REPO_ENTITY_ALREADY_EXISTS, SpServerError.SP_REPO_ENTITY_ALREADY_EXISTS,
+                SpServerError.SP_REPO_ENTITY_NOT_EXISTS, SpServerError.SP_REPO_CONSTRAINT_VIOLATION,
+                SpServerError.SP_REPO_CONSTRAINT_VIOLATION);
+
+        assertThat(targetManagement.count()).isEqualTo(3);
+        assertThat(targetManagement.getByControllerID("imported1")).hasValueSatisfying(target -> {
+            assertThat(target.getName()).isEqualTo("first");
+            assertThat(target.getSecurityToken()).isNotEmpty();
+        });
+        assertThat(targetManagement.findByTag(PageRequest.of(0, 10), tag.getId()).getContent())
+                .extracting(Target::getControllerId).containsExactly("imported1");
+        assertThat(targetManagement.getMetaDataByControllerId("imported1", "key")).hasValueSatisfying(
+                md -> assertThat(md.getValue()).isEqualTo("value"));
+        assertThat(targetManagement.getControllerAttributes("imported1")).isEqualTo(attributes);
+        assertThat(targetManagement.getControllerAttributes("imported2")).isEmpty();
+    }
+
+    private static List<String> pageWithCursor(final Sort sort, final Function<Pageable, Slice<Target>> findPage) {
+        final List<String> controllerIds = new ArrayList<>();
+        String cursor = "";
+        while (cursor != null) {
+            final KeysetPageRequest pageable = KeysetPageRequest.of(cursor, 0, 4, sort);
+            final Slice<Target> page = findPage.apply(pageable);
+            page.getContent().stream().map(Target::getControllerId).forEach(controllerIds::add);
+            cursor = pageable.next(page.getContent());
+        }
+        return controllerIds;
+    }
 }
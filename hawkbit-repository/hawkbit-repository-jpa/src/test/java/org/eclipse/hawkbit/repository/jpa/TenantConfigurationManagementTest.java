@@ -16,13 +16,16 @@ import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.repository.exception.InvalidTenantConfigurationKeyException;
+import org.eclipse.hawkbit.repository.model.TenantConfigurationSnapshot;
 import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
 import org.eclipse.hawkbit.tenancy.configuration.DurationHelper;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.eclipse.hawkbit.tenancy.configuration.validator.TenantConfigurationValidatorException;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.EnvironmentAware;
 import org.springframework.core.env.Environment;
 
@@ -34,6 +37,9 @@ import io.qameta.allure.Story;
 @Story("Tenant Configuration Management")
 public class TenantConfigurationManagementTest extends AbstractJpaIntegrationTest implements EnvironmentAware {
 
+    @Autowired
+    private TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache;
+
     private Environment environment = null;
 
     @Override
@@ -71,6 +77,37 @@ public class TenantConfigurationManagementTest extends AbstractJpaIntegrationTes
         // assertThat(tenantConfigurationManagement.getTenantConfigurations()).hasSize(1);
     }
 
+    @Test
+    @Description("Tests that the configuration snapshot contains the converted global defaults and reflects "
+            + "tenant specific changes and deletions.")
+    public void snapshotReflectsConfigurationChanges() {
+        final TenantConfigurationSnapshot defaults = tenantConfigurationSnapshotCache.getSnapshot();
+        assertThat(defaults.getPollingTime()).isEqualTo(tenantConfigurationManagement
+                .getGlobalConfigurationValue(TenantConfigurationKey.POLLING_TIME_INTERVAL, String.class));
+        assertThat(defaults.getPollingTimeDuration())
+                .isEqualTo(DurationHelper.formattedStringToDuration(defaults.getPollingTime()));
+        assertThat(defaults.getMaintenanceWindowPollCount()).isEqualTo(tenantConfigurationManagement
+                .getGlobalConfigurationValue(TenantConfigurationKey.MAINTENANCE_WINDOW_POLL_COUNT, Integer.class));
+        assertThat(defaults.isEnabled(TenantConfigurationKey.AUTHENTICATION_MODE_TARGET_SECURITY_TOKEN_ENABLED))
+                .isFalse();
+        assertThat(tenantConfigurationSnapshotCache.getSnapshot()).isSameAs(defaults);
+
+        tenantConfigurationManagement.addOrUpdateConfiguration(TenantConfigurationKey.POLLING_TIME_INTERVAL,
+                "00:07:00");
+        tenantConfigurationManagement.addOrUpdateConfiguration(
+                TenantConfigurationKey.AUTHENTICATION_MODE_TARGET_SECURITY_TOKEN_ENABLED, true);
+
+        final TenantConfigurationSnapshot changed = tenantConfigurationSnapshotCache.getSnapshot();
+        assertThat(changed.getPollingTime()).isEqualTo("00:07:00");
+        assertThat(changed.getPollingTimeDuration()).isEqualTo(Duration.ofMinutes(7));
+        assertThat(changed.isEnabled(TenantConfigurationKey.AUTHENTICATION_MODE_TARGET_SECURITY_TOKEN_ENABLED))
+                .isTrue();
+
+        tenantConfigurationManagement.deleteConfiguration(TenantConfigurationKey.POLLING_TIME_INTERVAL);
+        assertThat(tenantConfigurationSnapshotCache.getSnapshot().getPollingTime())
+                .isEqualTo(defaults.getPollingTime());
+    }
+
     @Test
     @Description("Tests that the tenant specific configuration can be updated")
     public void updateTenantSpecifcConfiguration() {
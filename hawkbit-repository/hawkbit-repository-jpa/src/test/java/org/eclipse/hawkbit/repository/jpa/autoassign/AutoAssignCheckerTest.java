@@ -144,6 +144,29 @@ public class AutoAssignCheckerTest extends AbstractJpaIntegrationTest {
         verifyThatCreatedActionsAreInitiatedByCurrentUser(targetFilterQuery, setA, targets);
     }
 
+    @Test
+    @Description("Test that the incremental auto assignment only checks the given targets")
+    public void checkAutoAssignOfChangedTargets() {
+        final DistributionSet setA = testdataFactory.createDistributionSet("dsA");
+        targetFilterQueryManagement.create(entityFactory.targetFilterQuery().create().name("filterA")
+                .query("name==*").autoAssignDistributionSet(setA.getId()));
+
+        final List<Target> targets = testdataFactory.createTargets(20, "changed", "changed description");
+        final List<Target> changedTargets = targets.subList(0, 5);
+        final List<Target> unchangedTargets = targets.subList(5, 20);
+
+        autoAssignChecker.check(changedTargets.stream().map(Target::getId).collect(Collectors.toList()));
+
+        verifyThatTargetsHaveDistributionSetAssignment(setA, changedTargets, targets.size());
+        assertThat(unchangedTargets).as("unchanged targets are not checked").allMatch(
+                target -> !deploymentManagement.getAssignedDistributionSet(target.getControllerId()).isPresent());
+
+        // targets that already have the DS in their action history are skipped
+        autoAssignChecker.check(targets.stream().map(Target::getId).collect(Collectors.toList()));
+        verifyThatTargetsHaveDistributionSetAssignment(setA, targets, targets.size());
+        assertThat(deploymentManagement.findActionsAll(PAGE).getContent()).hasSize(targets.size());
+    }
+
     @Test
     @Description("Test auto assignment of an incomplete DS to filtered targets, that causes failures")
     public void checkAutoAssignWithFailures() {
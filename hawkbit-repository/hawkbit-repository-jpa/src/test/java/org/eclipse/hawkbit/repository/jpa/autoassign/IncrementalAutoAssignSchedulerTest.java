@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.autoassign;
+
+import static org.mockito.Mockito.mock;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.autoassign.AutoAssignExecutor;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.autoassign.IncrementalAutoAssignSchedulerTest.SchedulerTestConfiguration;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantPartitioning;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.security.SystemSecurityContext;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Bean;
+import org.springframework.integration.support.locks.LockRegistry;
+import org.springframework.test.context.TestPropertySource;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+/**
+ * Test class for {@link IncrementalAutoAssignScheduler}.
+ */
+@Feature("Component Tests - Repository")
+@Story("Incremental auto assignment")
+@SpringBootTest(classes = { SchedulerTestConfiguration.class })
+@TestPropertySource(locations = "classpath:/jpa-test.properties", properties = {
+        "hawkbit.server.repository.incremental-auto-assignment=true" })
+public class IncrementalAutoAssignSchedulerTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private IncrementalAutoAssignScheduler scheduler;
+
+    @Autowired
+    private RecordingAutoAssignExecutor autoAssignExecutor;
+
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
+    @Test
+    @Description("Verifies that the targets of an assignment to more targets than the bulk event threshold are "
+            + "checked, although they are notified by one bulk entity event.")
+    public void targetsOfBulkAssignmentAreChecked() {
+        final int threshold = repositoryProperties.getBulkEventThreshold();
+        repositoryProperties.setBulkEventThreshold(2);
+        try {
+            final DistributionSet ds = testdataFactory.createDistributionSet();
+            final List<Target> targets = testdataFactory.createTargets(3);
+            final Set<Long> targetIds = targets.stream().map(Target::getId).collect(Collectors.toSet());
+            // the created targets are checked first
+            awaitChecked(targetIds);
+            autoAssignExecutor.checked.clear();
+
+            assignDistributionSet(ds, targets);
+
+            awaitChecked(targetIds);
+        } finally {
+            repositoryProperties.setBulkEventThreshold(threshold);
+        }
+    }
+
+    private void awaitChecked(final Set<Long> targetIds) {
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).pollInSameThread().pollInterval(100, TimeUnit.MILLISECONDS)
+                .until(() -> {
+                    scheduler.checkChanges();
+                    return autoAssignExecutor.checked.containsAll(targetIds);
+                });
+    }
+
+    public static class SchedulerTestConfiguration {
+
+        @Bean
+        RecordingAutoAssignExecutor recordingAutoAssignExecutor() {
+            return new RecordingAutoAssignExecutor();
+        }
+
+        @Bean
+        IncrementalAutoAssignScheduler incrementalAutoAssignSchedulerUnderTest(
+                final RepositoryProperties repositoryProperties,
+                final RecordingAutoAssignExecutor recordingAutoAssignExecutor,
+                final SystemSecurityContext systemSecurityContext, final LockRegistry lockRegistry,
+                final TenantPartitioning tenantPartitioning) {
+            // the changes are checked by the test
+            return new IncrementalAutoAssignScheduler(mock(ScheduledExecutorService.class), repositoryProperties,
+                    recordingAutoAssignExecutor, systemSecurityContext, lockRegistry, tenantPartitioning);
+        }
+    }
+
+    private static class RecordingAutoAssignExecutor implements AutoAssignExecutor {
+
+        private final Set<Long> checked = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void check() {
+            // the test checks the changed targets only
+        }
+
+        @Override
+        public void check(final Collection<Long> targetIds) {
+            checked.addAll(targetIds);
+        }
+    }
+}
@@ -14,6 +14,7 @@ import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicInteger;
 
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantPartitioning;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -36,6 +37,9 @@ public class AutoCleanupSchedulerTest extends AbstractJpaIntegrationTest {
     @Autowired
     private LockRegistry lockRegistry;
 
+    @Autowired
+    private TenantPartitioning tenantPartitioning;
+
     @BeforeEach
     public void setUp() {
         counter.set(0);
@@ -46,7 +50,8 @@ public class AutoCleanupSchedulerTest extends AbstractJpaIntegrationTest {
     public void executeHandlerChain() {
 
         new AutoCleanupScheduler(systemManagement, systemSecurityContext, lockRegistry, Arrays.asList(
-                new SuccessfulCleanup(), new SuccessfulCleanup(), new FailingCleanup(), new SuccessfulCleanup())).run();
+                new SuccessfulCleanup(), new SuccessfulCleanup(), new FailingCleanup(), new SuccessfulCleanup()),
+                tenantPartitioning).run();
 
         assertThat(counter.get()).isEqualTo(4);
 
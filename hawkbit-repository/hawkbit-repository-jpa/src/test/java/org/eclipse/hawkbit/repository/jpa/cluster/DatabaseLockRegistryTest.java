@@ -0,0 +1,97 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+
+import javax.sql.DataSource;
+
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+/**
+ * Test class for {@link DatabaseLockRegistry}.
+ */
+@Feature("Component Tests - Repository")
+@Story("Cluster lock registry")
+public class DatabaseLockRegistryTest extends AbstractJpaIntegrationTest {
+
+    private static final long LEASE_TIME = TimeUnit.MINUTES.toMillis(1);
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Autowired
+    private ScheduledExecutorService executorService;
+
+    private final List<DatabaseLockRegistry> registries = new ArrayList<>();
+
+    @AfterEach
+    public void shutdownRegistries() {
+        registries.forEach(DatabaseLockRegistry::shutdown);
+    }
+
+    @Test
+    @Description("Verifies that a lock is held by one node at a time and released by unlock.")
+    public void lockIsExclusiveAcrossNodes() {
+        final DatabaseLockRegistry node1 = createRegistry("node1", LEASE_TIME);
+        final DatabaseLockRegistry node2 = createRegistry("node2", LEASE_TIME);
+
+        final Lock lock = node1.obtain("exclusive");
+        assertThat(lock.tryLock()).isTrue();
+        assertThat(node1.obtain("exclusive").tryLock()).as("lock is not reentrant on the same node").isFalse();
+        assertThat(node2.obtain("exclusive").tryLock()).as("lock is held by another node").isFalse();
+        assertThat(node2.obtain("other").tryLock()).as("other keys are independent").isTrue();
+
+        lock.unlock();
+        final Lock takeOver = node2.obtain("exclusive");
+        assertThat(takeOver.tryLock()).as("lock has been released").isTrue();
+        takeOver.unlock();
+    }
+
+    @Test
+    @Description("Verifies that the lock of a node that does not renew its lease is taken over after expiry.")
+    public void expiredLockIsTakenOver() throws InterruptedException {
+        // the renewal of a dead node is never executed
+        final DatabaseLockRegistry dead = new DatabaseLockRegistry(new JdbcTemplate(dataSource), txManager,
+                mock(ScheduledExecutorService.class), "dead", 1, Database.H2);
+        final DatabaseLockRegistry node = createRegistry("node", LEASE_TIME);
+
+        assertThat(dead.obtain("expiring").tryLock()).isTrue();
+        final Lock lock = node.obtain("expiring");
+        assertThat(lock.tryLock(5, TimeUnit.SECONDS)).as("expired lock is taken over").isTrue();
+        lock.unlock();
+    }
+
+    private DatabaseLockRegistry createRegistry(final String nodeId, final long leaseTime) {
+        final DatabaseLockRegistry registry = new DatabaseLockRegistry(new JdbcTemplate(dataSource), txManager,
+                executorService, nodeId, leaseTime, Database.H2);
+        registries.add(registry);
+        return registry;
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.cluster;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doReturn;
+import static org.mockito.Mockito.mock;
+
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import javax.sql.DataSource;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.orm.jpa.vendor.Database;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+/**
+ * Test class for {@link TenantPartitioning}.
+ */
+@Feature("Component Tests - Repository")
+@Story("Cluster tenant partitioning")
+public class TenantPartitioningTest extends AbstractJpaIntegrationTest {
+
+    private static final List<String> TENANTS = IntStream.range(0, 50).mapToObj(i -> "tenant" + i)
+            .collect(Collectors.toList());
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @Test
+    @Description("Verifies that every tenant is owned by exactly one of the live nodes and that the tenants of a "
+            + "node that left are taken over by the remaining nodes.")
+    public void tenantsAreOwnedByExactlyOneLiveNode() {
+        final TenantPartitioning node1 = createPartitioning("node1", true);
+        final TenantPartitioning node2 = createPartitioning("node2", true);
+        node1.renewLease();
+        node2.renewLease();
+        node1.renewLease();
+
+        try {
+            for (final String tenant : TENANTS) {
+                assertThat(node1.isOwner(tenant)).as("tenant %s is owned by exactly one node", tenant)
+                        .isNotEqualTo(node2.isOwner(tenant));
+                assertThat(node1.isOwner(tenant.toLowerCase())).as("ownership ignores the case of the tenant")
+                        .isEqualTo(node1.isOwner(tenant.toUpperCase()));
+            }
+            assertThat(TENANTS).as("tenants are distributed over both nodes").anyMatch(node1::isOwner)
+                    .anyMatch(node2::isOwner);
+
+            node2.shutdown();
+            node1.renewLease();
+            assertThat(TENANTS).as("tenants of a node that left are taken over").allMatch(node1::isOwner);
+        } finally {
+            node1.shutdown();
+            node2.shutdown();
+        }
+    }
+
+    @Test
+    @Description("Verifies that every tenant is owned by the node outside of the cluster mode.")
+    public void allTenantsAreOwnedOutsideOfClusterMode() {
+        final TenantPartitioning node = createPartitioning("single", false);
+
+        assertThat(node.isClusterMode()).isFalse();
+        assertThat(TENANTS).allMatch(node::isOwner);
+    }
+
+    private TenantPartitioning createPartitioning(final String nodeId, final boolean clusterMode) {
+        final RepositoryProperties repositoryProperties = new RepositoryProperties();
+        repositoryProperties.setClusterMode(clusterMode);
+        repositoryProperties.setClusterNodeId(nodeId);
+        repositoryProperties.setClusterLeaseTime(TimeUnit.MINUTES.toMillis(1));
+        // the leases are renewed by the test
+        final ScheduledExecutorService executorService = mock(ScheduledExecutorService.class);
+        doReturn(mock(ScheduledFuture.class)).when(executorService).scheduleWithFixedDelay(any(), anyLong(),
+                anyLong(), any());
+        return new TenantPartitioning(repositoryProperties, new JdbcTemplate(dataSource), txManager,
+                executorService, Database.H2);
+    }
+}
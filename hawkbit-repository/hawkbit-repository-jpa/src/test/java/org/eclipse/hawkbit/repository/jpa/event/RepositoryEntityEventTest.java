@@ -10,16 +10,23 @@ package org.eclipse.hawkbit.repository.jpa.event;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.util.List;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
 
 import org.assertj.core.api.Assertions;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
 import org.eclipse.hawkbit.repository.event.TenantAwareEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
 import org.eclipse.hawkbit.repository.event.remote.DistributionSetDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.RolloutDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.SoftwareModuleDeletedEvent;
 import org.eclipse.hawkbit.repository.event.remote.TargetDeletedEvent;
+import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.DistributionSetCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.SoftwareModuleUpdatedEvent;
@@ -27,6 +34,7 @@ import org.eclipse.hawkbit.repository.event.remote.entity.TargetCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.TargetUpdatedEvent;
 import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
 import org.eclipse.hawkbit.repository.jpa.event.RepositoryEntityEventTest.RepositoryTestConfiguration;
+import org.eclipse.hawkbit.repository.model.Action;
 import org.eclipse.hawkbit.repository.model.DistributionSet;
 import org.eclipse.hawkbit.repository.model.Rollout;
 import org.eclipse.hawkbit.repository.model.SoftwareModule;
@@ -50,9 +58,13 @@ public class RepositoryEntityEventTest extends AbstractJpaIntegrationTest {
     @Autowired
     private MyEventListener eventListener;
 
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
     @BeforeEach
     public void beforeTest() {
         eventListener.queue.clear();
+        eventListener.received.clear();
     }
 
     @Test
@@ -171,6 +183,59 @@ public class RepositoryEntityEventTest extends AbstractJpaIntegrationTest {
         assertThat(softwareModuleDeletedEvent.getEntityId()).isEqualTo(softwareModule.getId());
     }
 
+    @Test
+    @Description("Verifies that one bulk entity event is published instead of an event per entity if the number of "
+            + "entities changed within a bulk scope reaches the threshold")
+    public void bulkEntityEventIsPublishedIfThresholdIsReached() throws InterruptedException {
+        final List<Target> targets = BulkEventScope.run(3, () -> testdataFactory.createTargets(3));
+
+        final BulkEntityEvent bulkEvent = eventListener.waitForEvent(BulkEntityEvent.class);
+        assertThat(bulkEvent.isEntityOfType(Target.class)).isTrue();
+        assertThat(bulkEvent.getKind()).isEqualTo(Kind.CREATED);
+        assertThat(bulkEvent.getEntityIds())
+                .containsExactlyInAnyOrderElementsOf(targets.stream().map(Target::getId).collect(Collectors.toList()));
+        assertThat(eventListener.received).noneMatch(TargetCreatedEvent.class::isInstance);
+    }
+
+    @Test
+    @Description("Verifies that the entity events are published if the number of entities changed within a bulk "
+            + "scope does not reach the threshold")
+    public void entityEventsArePublishedIfThresholdIsNotReached() throws InterruptedException {
+        BulkEventScope.run(3, () -> testdataFactory.createTargets(2));
+
+        assertThat(eventListener.waitForEvent(TargetCreatedEvent.class)).isNotNull();
+        assertThat(eventListener.waitForEvent(TargetCreatedEvent.class)).isNotNull();
+        assertThat(eventListener.received).noneMatch(BulkEntityEvent.class::isInstance);
+    }
+
+    @Test
+    @Description("Verifies that an assignment to more targets than the bulk event threshold publishes one bulk entity "
+            + "event for the created actions with the targets as parents")
+    public void bulkEntityEventIsPublishedForAssignment() throws InterruptedException {
+        final int threshold = repositoryProperties.getBulkEventThreshold();
+        repositoryProperties.setBulkEventThreshold(2);
+        try {
+            final DistributionSet ds = testdataFactory.createDistributionSet();
+            final List<Target> targets = testdataFactory.createTargets(3);
+            eventListener.queue.clear();
+            eventListener.received.clear();
+
+            assignDistributionSet(ds, targets);
+
+            BulkEntityEvent bulkEvent;
+            do {
+                bulkEvent = eventListener.waitForEvent(BulkEntityEvent.class);
+            } while (!bulkEvent.isEntityOfType(Action.class));
+            assertThat(bulkEvent.getKind()).isEqualTo(Kind.CREATED);
+            assertThat(bulkEvent.getEntityIds()).hasSize(3);
+            assertThat(bulkEvent.getParentIds()).containsExactlyInAnyOrderElementsOf(
+                    targets.stream().map(Target::getId).collect(Collectors.toList()));
+            assertThat(eventListener.received).noneMatch(ActionCreatedEvent.class::isInstance);
+        } finally {
+            repositoryProperties.setBulkEventThreshold(threshold);
+        }
+    }
+
     public static class RepositoryTestConfiguration {
 
         @Bean
@@ -183,10 +248,12 @@ public class RepositoryEntityEventTest extends AbstractJpaIntegrationTest {
     private static class MyEventListener {
 
         private final BlockingQueue<TenantAwareEvent> queue = new LinkedBlockingQueue<>();
+        private final List<TenantAwareEvent> received = new CopyOnWriteArrayList<>();
 
         @EventListener(classes = TenantAwareEvent.class)
         public void onEvent(final TenantAwareEvent event) {
             queue.offer(event);
+            received.add(event);
         }
 
         public <T> T waitForEvent(final Class<T> eventType) throws InterruptedException {
@@ -0,0 +1,123 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.awaitility.Awaitility;
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.eclipse.hawkbit.repository.RolloutManagement;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
+import org.eclipse.hawkbit.repository.event.remote.entity.RolloutUpdatedEvent;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.jpa.cluster.TenantPartitioning;
+import org.eclipse.hawkbit.repository.jpa.model.JpaAction;
+import org.eclipse.hawkbit.repository.jpa.model.JpaTarget;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Rollout;
+import org.eclipse.hawkbit.repository.model.Rollout.RolloutStatus;
+import org.eclipse.hawkbit.repository.model.RolloutGroup.RolloutGroupStatus;
+import org.eclipse.hawkbit.repository.model.helper.EventPublisherHolder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Component Tests - Repository")
+@Story("Event driven rollout handling")
+@TestPropertySource(locations = "classpath:/jpa-test.properties", properties = {
+        "hawkbit.server.repository.event-driven-rollout-handling=true",
+        "hawkbit.server.repository.rollout-handling-debounce=100" })
+public class EventDrivenRolloutSchedulerTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private RepositoryProperties repositoryProperties;
+
+    @Autowired
+    private TenantPartitioning tenantPartitioning;
+
+    @Test
+    @Description("Verifies that a started rollout is handled without running the rollout handler explicitly.")
+    public void startedRolloutIsHandledByEvent() {
+        final Rollout rollout = createRollout("eventDriven");
+
+        rolloutManagement.start(rollout.getId());
+
+        Awaitility.await().atMost(10, TimeUnit.SECONDS).pollInSameThread().pollInterval(100, TimeUnit.MILLISECONDS)
+                .until(() -> rolloutManagement.get(rollout.getId()).get().getStatus() == RolloutStatus.RUNNING);
+        assertThat(rolloutGroupManagement.findByRollout(PAGE, rollout.getId()).getContent().get(0).getStatus())
+                .as("first group is started").isEqualTo(RolloutGroupStatus.RUNNING);
+    }
+
+    @Test
+    @Description("Verifies that only the changes caused by this node are handled outside of the cluster mode.")
+    public void changesOfOtherNodesAreIgnored() {
+        final Rollout local = createRollout("local");
+        final Rollout remote = createRollout("remote");
+        final RolloutManagement rolloutManagementMock = mock(RolloutManagement.class);
+        final EventDrivenRolloutScheduler scheduler = new EventDrivenRolloutScheduler(
+                mock(ScheduledExecutorService.class), repositoryProperties, rolloutManagementMock,
+                systemSecurityContext, tenantPartitioning, EventPublisherHolder.getInstance());
+
+        scheduler.onRolloutUpdate(new RolloutUpdatedEvent(remote, "otherNode"));
+        scheduler.handleDirtyRollouts();
+        verifyNoInteractions(rolloutManagementMock);
+
+        scheduler.onRolloutUpdate(
+                new RolloutUpdatedEvent(local, EventPublisherHolder.getInstance().getApplicationId()));
+        scheduler.handleDirtyRollouts();
+        verify(rolloutManagementMock).handleRollouts(Collections.singletonList(local.getId()));
+    }
+
+    @Test
+    @Description("Verifies that the rollouts of the actions of a bulk operation, e.g. the start of a rollout group, "
+            + "are handled although the actions are notified by one bulk entity event.")
+    public void rolloutsOfBulkActionChangesAreHandled() {
+        final Rollout rollout = createRollout("bulk");
+        final RolloutManagement rolloutManagementMock = mock(RolloutManagement.class);
+        final EventDrivenRolloutScheduler scheduler = new EventDrivenRolloutScheduler(
+                mock(ScheduledExecutorService.class), repositoryProperties, rolloutManagementMock,
+                systemSecurityContext, tenantPartitioning, EventPublisherHolder.getInstance());
+        final String tenant = tenantAware.getCurrentTenant();
+        final String applicationId = EventPublisherHolder.getInstance().getApplicationId();
+        final List<Long> ids = Arrays.asList(1L, 2L);
+
+        scheduler.onBulkActionChange(new BulkEntityEvent(tenant, applicationId, JpaTarget.class.getName(),
+                Kind.UPDATED, ids, Collections.emptyList(), Collections.emptyList(),
+                Collections.singletonList(rollout.getId()), Collections.singletonList(null)));
+        scheduler.handleDirtyRollouts();
+        verifyNoInteractions(rolloutManagementMock);
+
+        scheduler.onBulkActionChange(new BulkEntityEvent(tenant, applicationId, JpaAction.class.getName(),
+                Kind.UPDATED, ids, ids, Collections.emptyList(), Arrays.asList(rollout.getId(), rollout.getId()),
+                Arrays.asList(1L, 2L)));
+        scheduler.handleDirtyRollouts();
+        verify(rolloutManagementMock).handleRollouts(Collections.singletonList(rollout.getId()));
+    }
+
+    private Rollout createRollout(final String name) {
+        testdataFactory.createTargets(4, name + "-", name);
+        final DistributionSet distributionSet = testdataFactory.createDistributionSet(name);
+        return testdataFactory.createRolloutByVariables(name, name + "description", 2,
+                "controllerId==" + name + "-*", distributionSet, "50", "5");
+    }
+}
@@ -0,0 +1,130 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.rollout;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.eclipse.hawkbit.repository.RepositoryProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Repository")
+@Story("Rollout worker pool")
+public class RolloutWorkerPoolTest {
+
+    private final CountDownLatch release = new CountDownLatch(1);
+    private RolloutWorkerPool pool;
+
+    @AfterEach
+    public void tearDown() {
+        release.countDown();
+        if (pool != null) {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    @Description("Verifies that no more than the configured number of rollouts of a tenant are handled at the same time, "
+            + "even if workers are idle.")
+    public void rolloutsOfTenantAreCapped() throws InterruptedException {
+        pool = createPool(4, 2);
+        final AtomicInteger running = new AtomicInteger();
+        final AtomicInteger maxRunning = new AtomicInteger();
+        final CountDownLatch started = new CountDownLatch(2);
+
+        for (int i = 0; i < 4; i++) {
+            pool.submit("tenant", () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                started.countDown();
+                await(release);
+                running.decrementAndGet();
+            });
+        }
+
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        // give the idle workers the chance to violate the cap
+        TimeUnit.MILLISECONDS.sleep(200);
+        assertThat(maxRunning.get()).isEqualTo(2);
+    }
+
+    @Test
+    @Description("Verifies that a rollout of another tenant is handled before further queued rollouts of a tenant.")
+    public void tenantsAreServedInTurn() throws InterruptedException {
+        pool = createPool(1, 1);
+        final List<String> handled = new CopyOnWriteArrayList<>();
+        final CountDownLatch started = new CountDownLatch(1);
+
+        pool.submit("tenantA", () -> {
+            started.countDown();
+            await(release);
+            handled.add("A1");
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        pool.submit("tenantA", () -> handled.add("A2"));
+        pool.submit("tenantA", () -> handled.add("A3"));
+        final CompletableFuture<Void> last = pool.submit("tenantB", () -> handled.add("B1"));
+
+        release.countDown();
+        last.join();
+
+        assertThat(handled).startsWith("A1", "B1");
+    }
+
+    @Test
+    @Description("Verifies that the queued rollouts are rejected on shutdown instead of being waited for forever.")
+    public void queuedRolloutsAreRejectedOnShutdown() throws InterruptedException {
+        pool = createPool(1, 1);
+        final CountDownLatch started = new CountDownLatch(1);
+
+        pool.submit("tenant", () -> {
+            started.countDown();
+            await(release);
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+        final CompletableFuture<Void> queued = pool.submit("tenant", () -> {
+        });
+
+        pool.shutdown();
+
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(queued::join)
+                .withCauseInstanceOf(RejectedExecutionException.class);
+        assertThatExceptionOfType(CompletionException.class).isThrownBy(() -> pool.submit("tenant", () -> {
+        }).join()).withCauseInstanceOf(RejectedExecutionException.class);
+    }
+
+    private static RolloutWorkerPool createPool(final int workers, final int perTenant) {
+        final RepositoryProperties repositoryProperties = new RepositoryProperties();
+        repositoryProperties.setRolloutWorkers(workers);
+        repositoryProperties.setRolloutWorkersPerTenant(perTenant);
+        return new RolloutWorkerPool(repositoryProperties, new SimpleMeterRegistry());
+    }
+
+    private static void await(final CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (final InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -8,10 +8,12 @@
  */
 package org.eclipse.hawkbit.repository.jpa.rsql;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.fail;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.reset;
@@ -51,6 +53,8 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.orm.jpa.vendor.Database;
 import org.springframework.test.context.junit.jupiter.SpringExtension;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import io.qameta.allure.Description;
 import io.qameta.allure.Feature;
 import io.qameta.allure.Story;
@@ -381,6 +385,35 @@ public class RSQLUtilityTest {
                 eq(overduePropPlaceholder));
     }
 
+    @Test
+    @Description("Verifies that a parsed RSQL expression is taken from the cache while its placeholders are resolved "
+            + "on every use.")
+    public void cachedRsqlResolvesMacroOnEveryUse() {
+        reset(baseSoftwareModuleRootMock, criteriaQueryMock, criteriaBuilderMock);
+        final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        final ParsedRsqlCache parsedRsqlCache = new ParsedRsqlCache();
+        parsedRsqlCache.monitor(meterRegistry);
+        final String correctRsql = "testfield=le=${overdue_ts}";
+        when(baseSoftwareModuleRootMock.get("testfield")).thenReturn(baseSoftwareModuleRootMock);
+        doReturn(String.class).when(baseSoftwareModuleRootMock).getJavaType();
+        final VirtualPropertyReplacer macroLookup = setupMacroLookup();
+
+        // test
+        RSQLUtility.parse(correctRsql, TestFieldEnum.class, macroLookup, testDb, parsedRsqlCache)
+                .toPredicate(baseSoftwareModuleRootMock, criteriaQueryMock, criteriaBuilderMock);
+        RSQLUtility.parse(correctRsql, TestFieldEnum.class, macroLookup, testDb, parsedRsqlCache)
+                .toPredicate(baseSoftwareModuleRootMock, criteriaQueryMock, criteriaBuilderMock);
+
+        // verification
+        assertThat(getCacheHits(meterRegistry)).isEqualTo(1);
+        assertThat(meterRegistry.get("hawkbit.repository.rsql.cache.hit.ratio").gauge().value()).isPositive();
+        verify(macroResolver, times(2)).lookup("overdue_ts");
+    }
+
+    private static double getCacheHits(final MeterRegistry meterRegistry) {
+        return meterRegistry.get("cache.gets").tag("cache", "rsql").tag("result", "hit").functionCounter().count();
+    }
+
     @Test
     @Description("Tests RSQL expression with an unknown placeholder.")
     public void correctRsqlWithUnknownMacro() {
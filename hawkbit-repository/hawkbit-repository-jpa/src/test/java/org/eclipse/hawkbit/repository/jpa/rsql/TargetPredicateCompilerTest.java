@@ -0,0 +1,135 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.repository.jpa.rsql;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatExceptionOfType;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import org.eclipse.hawkbit.repository.exception.RSQLParameterSyntaxException;
+import org.eclipse.hawkbit.repository.exception.RSQLParameterUnsupportedFieldException;
+import org.eclipse.hawkbit.repository.jpa.AbstractJpaIntegrationTest;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.repository.model.TargetTag;
+import org.eclipse.hawkbit.repository.rsql.VirtualPropertyReplacer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+/**
+ * Test class for {@link TargetPredicateCompiler} that verifies that compiled
+ * filters match the same targets as the database queries of the
+ * {@link RSQLUtility}.
+ */
+@Feature("Component Tests - Repository")
+@Story("RSQL filter target in memory")
+public class TargetPredicateCompilerTest extends AbstractJpaIntegrationTest {
+
+    @Autowired
+    private VirtualPropertyReplacer virtualPropertyReplacer;
+
+    @Autowired
+    private PlatformTransactionManager txManager;
+
+    @BeforeEach
+    public void setupBeforeTest() {
+        final DistributionSet ds = testdataFactory.createDistributionSet("AssignedDs");
+
+        final Target target = targetManagement.create(entityFactory.target().create().controllerId("targetId123")
+                .name("targetName123").description("targetDesc123"));
+        controllerManagement.updateControllerAttributes(target.getControllerId(),
+                Collections.singletonMap("revision", "1.1"), null);
+        controllerManagement.findOrRegisterTargetIfItDoesNotExist(target.getControllerId(), LOCALHOST);
+        createTargetMetadata(target.getControllerId(), entityFactory.generateTargetMetadata("metaKey", "metaValue"));
+
+        final Target target2 = targetManagement
+                .create(entityFactory.target().create().controllerId("targetId1234").description("targetId1234"));
+        controllerManagement.updateControllerAttributes(target2.getControllerId(),
+                Collections.singletonMap("Revision", "1.2"), null);
+        createTargetMetadata(target2.getControllerId(), entityFactory.generateTargetMetadata("metaKey", "value"));
+
+        final Target target3 = testdataFactory.createTarget("targetId1235");
+        final Target target4 = testdataFactory.createTarget("targetId1236");
+        testdataFactory.createTarget("targetId_1237");
+
+        final TargetTag targetTag = targetTagManagement.create(entityFactory.tag().create().name("Tag1"));
+        final TargetTag targetTag2 = targetTagManagement.create(entityFactory.tag().create().name("Tag2"));
+        targetManagement.assignTag(Arrays.asList(target.getControllerId(), target2.getControllerId()),
+                targetTag.getId());
+        targetManagement.assignTag(
+                Arrays.asList(target.getControllerId(), target3.getControllerId(), target4.getControllerId()),
+                targetTag2.getId());
+
+        assignDistributionSet(ds.getId(), target.getControllerId());
+    }
+
+    @Test
+    @Description("Verifies that compiled filters match the same targets as the database query of the filter.")
+    public void compiledFilterMatchesDatabaseQuery() {
+        final List<String> filters = Arrays.asList("id==targetId123", "controllerId==target*", "name!=targetName123",
+                "name==''", "name!=''", "description==targetId*", "description=in=(targetDesc123,notexist)",
+                "description=out=(targetDesc123,notexist)", "controllerId==targetId_1237", "controllerId==*_*",
+                "updateStatus==pending", "updateStatus!=registered", "updateStatus=in=(registered,unknown)",
+                "updateStatus=out=(pending)", "ipAddress==127.0.0.1", "ipAddress!=*0.0.1",
+                "attribute.revision==1.1", "attribute.revision!=1.1", "attribute.revision=gt=1.1",
+                "attribute.revision=in=(1.1,1.3)", "attribute.revision=out=(1.1)", "attribute.notExist!=x",
+                "metadata.metaKey==meta*", "metadata.metaKey!=value", "metadata.notExist!=x", "tag==Tag1",
+                "tag==''", "tag!=Tag1", "tag!=T*", "tag=in=(Tag1,notexist)", "tag=in=(null)", "tag=out=(Tag1)",
+                "tag=out=(null)", "tag==Tag1;tag==Tag2", "tag==Tag1,tag==Tag2", "assignedDs.name==AssignedDs",
+                "assignedDs.name!=AssignedDs", "assignedDs.version=out=(notexist)",
+                "assignedDs.name==AssignedDs,name==targetName123", "assignedDs.name==notexist,tag==Tag1",
+                "assignedDs.name!=notexist,tag==Tag2", "installedDs.name==*",
+                "lastControllerRequestAt=le=${now_ts}", "lastControllerRequestAt=gt=${overdue_ts}",
+                "lastControllerRequestAt=lt=1", "createdAt=ge=0",
+                "(name==target*,description==target*);(tag==Tag2,attribute.revision==1.2)");
+
+        final List<TargetSnapshot> snapshots = new TransactionTemplate(txManager).execute(status -> targetRepository
+                .findAll().stream().map(TargetSnapshot::of).collect(Collectors.toList()));
+        assertThat(snapshots).hasSize(5);
+
+        for (final String filter : filters) {
+            final Set<String> expected = targetManagement.findByRsql(PAGE, filter).getContent().stream()
+                    .map(Target::getControllerId).collect(Collectors.toSet());
+            final Predicate<TargetSnapshot> compiled = TargetPredicateCompiler.compile(filter,
+                    virtualPropertyReplacer);
+            final Set<String> actual = snapshots.stream().filter(compiled).map(TargetSnapshot::getControllerId)
+                    .collect(Collectors.toSet());
+
+            assertThat(actual).as("Targets matching filter %s", filter).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    @Description("Verifies that invalid filters are rejected with the exceptions of the database query.")
+    public void invalidFilterIsRejected() {
+        assertThatExceptionOfType(RSQLParameterSyntaxException.class)
+                .isThrownBy(() -> TargetPredicateCompiler.compile("name==", virtualPropertyReplacer));
+        assertThatExceptionOfType(RSQLParameterUnsupportedFieldException.class)
+                .isThrownBy(() -> TargetPredicateCompiler.compile("notexist==x", virtualPropertyReplacer));
+        assertThatExceptionOfType(RSQLParameterUnsupportedFieldException.class)
+                .isThrownBy(() -> TargetPredicateCompiler.compile("assignedDs==x", virtualPropertyReplacer));
+        assertThatExceptionOfType(RSQLParameterUnsupportedFieldException.class)
+                .isThrownBy(() -> TargetPredicateCompiler.compile("attribute==x", virtualPropertyReplacer));
+        assertThatExceptionOfType(RSQLParameterUnsupportedFieldException.class)
+                .isThrownBy(() -> TargetPredicateCompiler.compile("updateStatus==x", virtualPropertyReplacer));
+    }
+}
@@ -8,6 +8,7 @@
  */
 package org.eclipse.hawkbit.ddi.rest.resource;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -37,6 +38,7 @@ import org.springframework.hateoas.Link;
 import org.springframework.hateoas.server.mvc.WebMvcLinkBuilder;
 import org.springframework.http.HttpRequest;
 import org.springframework.util.CollectionUtils;
+import org.springframework.util.DigestUtils;
 
 /**
  * Utility class for the DDI API.
@@ -143,6 +145,23 @@ public final class DataConversionHelper {
         return result;
     }
 
+    /**
+     * Calculates an etag for the given {@link DdiControllerBase} based on the
+     * polling time and the links, i.e. everything the controller is informed
+     * about.
+     *
+     * @param controllerBase
+     *            to calculate the etag for
+     * @return the quoted etag
+     */
+    static String calculateEtag(final DdiControllerBase controllerBase) {
+        final StringBuilder state = new StringBuilder(controllerBase.getConfig().getPolling().getSleep());
+        controllerBase.getLinks().forEach(link -> state.append('|').append(link.getRel().value()).append('=')
+                .append(link.getHref()));
+
+        return "\"" + DigestUtils.md5DigestAsHex(state.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
     /**
      * Calculates an etag for the given {@link Action} based on the entities
      * hashcode and the {@link Action#isHitAutoForceTime(long)} to reflect a
@@ -10,8 +10,10 @@ package org.eclipse.hawkbit.ddi.rest.resource;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.validation.Valid;
@@ -37,6 +39,7 @@ import org.eclipse.hawkbit.ddi.rest.api.DdiRestConstants;
 import org.eclipse.hawkbit.ddi.rest.api.DdiRootControllerRestApi;
 import org.eclipse.hawkbit.repository.ArtifactManagement;
 import org.eclipse.hawkbit.repository.ControllerManagement;
+import org.eclipse.hawkbit.repository.ControllerStateCache;
 import org.eclipse.hawkbit.repository.EntityFactory;
 import org.eclipse.hawkbit.repository.RepositoryConstants;
 import org.eclipse.hawkbit.repository.SystemManagement;
@@ -48,6 +51,7 @@ import org.eclipse.hawkbit.repository.exception.CancelActionNotAllowedException;
 import org.eclipse.hawkbit.repository.exception.EntityNotFoundException;
 import org.eclipse.hawkbit.repository.exception.SoftwareModuleNotAssignedToTargetException;
 import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Action.ActionType;
 import org.eclipse.hawkbit.repository.model.Action.Status;
 import org.eclipse.hawkbit.repository.model.ActionStatus;
 import org.eclipse.hawkbit.repository.model.Artifact;
@@ -124,6 +128,9 @@ public class DdiRootController implements DdiRootControllerRestApi {
     @Autowired
     private EntityFactory entityFactory;
 
+    @Autowired
+    private ControllerStateCache controllerStateCache;
+
     @Override
     public ResponseEntity<List<DdiArtifact>> getSoftwareModulesArtifacts(@PathVariable("tenant") final String tenant,
             @PathVariable("controllerId") final String controllerId,
@@ -147,18 +154,56 @@ public class DdiRootController implements DdiRootControllerRestApi {
             @PathVariable("controllerId") final String controllerId) {
         LOG.debug("getControllerBase({})", controllerId);
 
-        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, IpUtil
-                .getClientIpFromRequest(requestResponseContextHolder.getHttpServletRequest(), securityProperties));
+        final HttpServletRequest request = requestResponseContextHolder.getHttpServletRequest();
+        final URI address = IpUtil.getClientIpFromRequest(request, securityProperties);
+        final String ifNoneMatch = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+
+        if (ifNoneMatch != null) {
+            final Optional<String> cachedEtag = controllerStateCache.getState(controllerId, String.valueOf(address));
+            if (cachedEtag.isPresent() && HttpUtil.matchesHttpHeader(ifNoneMatch, cachedEtag.get())) {
+                controllerManagement.registerPoll(controllerId);
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cachedEtag.get()).build();
+            }
+        }
+
+        // retrieve the version before the state is calculated so that a
+        // concurrent change is not hidden by the cache
+        final long stateVersion = controllerStateCache.getVersion(controllerId);
+
+        final Target target = controllerManagement.findOrRegisterTargetIfItDoesNotExist(controllerId, address);
         final Action action = controllerManagement.findActiveActionWithHighestWeight(controllerId).orElse(null);
 
         checkAndCancelExpiredAction(action);
 
-        return new ResponseEntity<>(
-                DataConversionHelper.fromTarget(target, action,
-                        action == null ? controllerManagement.getPollingTime()
-                                : controllerManagement.getPollingTimeForAction(action.getId()),
-                        tenantAware),
-                HttpStatus.OK);
+        final DdiControllerBase controllerBase = DataConversionHelper.fromTarget(target, action,
+                action == null ? controllerManagement.getPollingTime()
+                        : controllerManagement.getPollingTimeForAction(action.getId()),
+                tenantAware);
+        final String etag = DataConversionHelper.calculateEtag(controllerBase);
+
+        if (isControllerBaseTimeIndependent(action)) {
+            controllerStateCache.putState(stateVersion, target.getId(), controllerId, String.valueOf(address), etag);
+        }
+
+        if (ifNoneMatch != null && HttpUtil.matchesHttpHeader(ifNoneMatch, etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        return ResponseEntity.ok().eTag(etag).body(controllerBase);
+    }
+
+    /**
+     * The controller base might change over time without any event if the
+     * action has a maintenance window (polling time, cancellation on lapse) or
+     * is forced at a future point in time. These must not be cached.
+     */
+    private static boolean isControllerBaseTimeIndependent(final Action action) {
+        if (action == null || action.isCancelingOrCanceled()) {
+            return true;
+        }
+
+        return !action.hasMaintenanceSchedule() && (ActionType.TIMEFORCED != action.getActionType()
+                || action.isHitAutoForceTime(System.currentTimeMillis()));
     }
 
     @Override
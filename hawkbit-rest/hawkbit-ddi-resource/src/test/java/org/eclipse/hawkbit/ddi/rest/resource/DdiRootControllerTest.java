@@ -288,6 +288,38 @@ public class DdiRootControllerTest extends AbstractDDiApiIntegrationTest {
                 .andReturn().getResponse().getHeader("ETag");
     }
 
+    @Test
+    @Description("Ensures that a poll with the etag of the cached controller state is answered with not modified "
+            + "and still registered as poll, and that a change of the polling time invalidates the cached state.")
+    @ExpectEvents({ @Expect(type = TargetCreatedEvent.class, count = 1),
+            @Expect(type = TargetPollEvent.class, count = 3),
+            @Expect(type = TenantConfigurationCreatedEvent.class, count = 1) })
+    public void rootRsNotModifiedFromCachedStateUntilPollingTimeChanges() throws Exception {
+        final String etag = mvc.perform(get("/{tenant}/controller/v1/4711", tenantAware.getCurrentTenant()))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk()).andReturn().getResponse()
+                .getHeader("ETag");
+        assertThat(etag).isNotNull();
+
+        final long current = System.currentTimeMillis();
+        mvc.perform(get("/{tenant}/controller/v1/4711", tenantAware.getCurrentTenant()).header("If-None-Match", etag))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isNotModified())
+                .andExpect(content().string(""));
+        assertThat(targetManagement.getByControllerID("4711").get().getLastTargetQuery())
+                .isGreaterThanOrEqualTo(current);
+
+        WithSpringAuthorityRule.runAs(WithSpringAuthorityRule.withUser("tenantadmin", HAS_AUTH_TENANT_CONFIGURATION),
+                () -> tenantConfigurationManagement.addOrUpdateConfiguration(
+                        TenantConfigurationKey.POLLING_TIME_INTERVAL, "00:02:00"));
+
+        final String changedEtag = mvc
+                .perform(get("/{tenant}/controller/v1/4711", tenantAware.getCurrentTenant())
+                        .header("If-None-Match", etag))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.config.polling.sleep", equalTo("00:02:00"))).andReturn().getResponse()
+                .getHeader("ETag");
+        assertThat(changedEtag).isNotEqualTo(etag);
+    }
+
     @Test
     @Description("Ensures that the target state machine of a precomissioned target switches from "
             + "UNKNOWN to REGISTERED when the target polls for the first time.")
@@ -39,6 +39,8 @@ public class PagedList<T> extends RepresentationModel<PagedList<T>> {
     @JsonProperty
     private final long total;
     private final int size;
+    @JsonProperty
+    private final String next;
 
     /**
      * creates a new paged list with the given {@code content} and {@code total}
@@ -51,11 +53,31 @@ public class PagedList<T> extends RepresentationModel<PagedList<T>> {
      * @throws NullPointerException
      *             in case {@code content} is {@code null}.
      */
+    public PagedList(final List<T> content, final long total) {
+        this(content, total, null);
+    }
+
+    /**
+     * creates a new paged list with the given {@code content}, {@code total}
+     * and the cursor of the {@code next} page.
+     *
+     * @param content
+     *            the actual content of the list
+     * @param total
+     *            the total amount of elements
+     * @param next
+     *            the cursor of the next page or {@code null} if this is the
+     *            last page or the list is not keyset paged
+     * @throws NullPointerException
+     *             in case {@code content} is {@code null}.
+     */
     @JsonCreator
-    public PagedList(@JsonProperty("content") @NotNull final List<T> content, @JsonProperty("total") final long total) {
+    public PagedList(@JsonProperty("content") @NotNull final List<T> content, @JsonProperty("total") final long total,
+            @JsonProperty("next") final String next) {
         this.size = content.size();
         this.total = total;
         this.content = content;
+        this.next = next;
     }
 
     /**
@@ -72,6 +94,13 @@ public class PagedList<T> extends RepresentationModel<PagedList<T>> {
         return total;
     }
 
+    /**
+     * @return the cursor of the next page or {@code null} if there is none
+     */
+    public String getNext() {
+        return next;
+    }
+
     public List<T> getContent() {
         return Collections.unmodifiableList(content);
     }
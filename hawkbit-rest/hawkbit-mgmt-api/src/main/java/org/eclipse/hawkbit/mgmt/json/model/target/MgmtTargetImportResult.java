@@ -0,0 +1,62 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.mgmt.json.model.target;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+/**
+ * A json annotated rest model for the result of a target import.
+ */
+@JsonInclude(Include.NON_NULL)
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class MgmtTargetImportResult {
+
+    @JsonProperty
+    private long created;
+
+    @JsonProperty
+    private long failed;
+
+    @JsonProperty
+    private List<MgmtTargetImportError> errors = new ArrayList<>();
+
+    public long getCreated() {
+        return created;
+    }
+
+    public void setCreated(final long created) {
+        this.created = created;
+    }
+
+    /**
+     * @return the count of the rejected lines, might be larger than the
+     *         reported errors
+     */
+    public long getFailed() {
+        return failed;
+    }
+
+    public void setFailed(final long failed) {
+        this.failed = failed;
+    }
+
+    public List<MgmtTargetImportError> getErrors() {
+        return errors;
+    }
+
+    public void setErrors(final List<MgmtTargetImportError> errors) {
+        this.errors = errors;
+    }
+}
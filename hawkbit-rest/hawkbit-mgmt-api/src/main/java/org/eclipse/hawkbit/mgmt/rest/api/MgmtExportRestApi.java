@@ -0,0 +1,76 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.mgmt.rest.api;
+
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+/**
+ * REST API for the export of targets, actions and action status entries as
+ * newline delimited JSON ({@link MgmtRestConstants#MEDIA_TYPE_NDJSON}), i.e.
+ * one JSON object with the requested fields per line. The entries are written
+ * in the order of their creation while they are read from the database.
+ */
+@RequestMapping(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING)
+public interface MgmtExportRestApi {
+
+    /**
+     * Handles the GET request of exporting targets.
+     *
+     * @param rsqlParam
+     *            the search parameter in the request URL, syntax
+     *            {@code q=name==abc}
+     * @param fieldsParam
+     *            the comma separated fields to export, all fields if not
+     *            given
+     * @return status OK if successful, the targets are written to the response
+     *         directly
+     */
+    @GetMapping(value = "/targets")
+    ResponseEntity<Void> exportTargets(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_EXPORT_FIELDS, required = false) String fieldsParam);
+
+    /**
+     * Handles the GET request of exporting actions.
+     *
+     * @param rsqlParam
+     *            the search parameter in the request URL, syntax
+     *            {@code q=status==pending}
+     * @param fieldsParam
+     *            the comma separated fields to export, all fields if not
+     *            given
+     * @return status OK if successful, the actions are written to the response
+     *         directly
+     */
+    @GetMapping(value = "/actions")
+    ResponseEntity<Void> exportActions(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_EXPORT_FIELDS, required = false) String fieldsParam);
+
+    /**
+     * Handles the GET request of exporting action status entries. The
+     * messages of the entries are not part of the export.
+     *
+     * @param rsqlParam
+     *            the search parameter in the request URL, syntax
+     *            {@code q=reportedAt=ge=1609459200000}
+     * @param fieldsParam
+     *            the comma separated fields to export, all fields if not
+     *            given
+     * @return status OK if successful, the entries are written to the response
+     *         directly
+     */
+    @GetMapping(value = "/actionstatus")
+    ResponseEntity<Void> exportActionStatus(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_EXPORT_FIELDS, required = false) String fieldsParam);
+}
@@ -0,0 +1,40 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.mgmt.rest.api;
+
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetImportResult;
+import org.springframework.hateoas.MediaTypes;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+/**
+ * REST API for the bulk import of targets. The request body is read as a
+ * stream and imported in chunks, i.e. large imports are neither held in memory
+ * nor rejected as a whole because of single invalid entries.
+ */
+@RequestMapping(MgmtRestConstants.IMPORT_V1_REQUEST_MAPPING)
+public interface MgmtImportRestApi {
+
+    /**
+     * Handles the POST request of importing targets. The body is either
+     * newline delimited JSON ({@link MgmtRestConstants#MEDIA_TYPE_NDJSON}) with
+     * one target object per line, or CSV ({@link MgmtRestConstants#MEDIA_TYPE_CSV})
+     * with a header line that names the columns. Tags, metadata and controller
+     * attributes of the targets are imported as well.
+     *
+     * @return status OK with the count of the created targets and the errors
+     *         of the rejected lines
+     */
+    @PostMapping(value = "/targets", consumes = { MgmtRestConstants.MEDIA_TYPE_NDJSON,
+            MgmtRestConstants.MEDIA_TYPE_CSV }, produces = { MediaTypes.HAL_JSON_VALUE,
+                    MediaType.APPLICATION_JSON_VALUE })
+    ResponseEntity<MgmtTargetImportResult> importTargets();
+}
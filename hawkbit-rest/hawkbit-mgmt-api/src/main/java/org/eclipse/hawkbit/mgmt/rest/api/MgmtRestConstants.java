@@ -170,6 +170,12 @@ public final class MgmtRestConstants {
      */
     public static final String REQUEST_PARAMETER_PAGING_OFFSET = "offset";
 
+    /**
+     * Paging http parameter for the cursor of a keyset paged request as
+     * returned by the previous page. Replaces the offset if present.
+     */
+    public static final String REQUEST_PARAMETER_PAGING_CURSOR = "cursor";
+
     /**
      * The request parameter for sorting. The value of the sort parameter must
      * be in the following pattern. Example:
@@ -205,6 +211,33 @@ public final class MgmtRestConstants {
      */
     public static final String ROLLOUT_V1_REQUEST_MAPPING = BASE_V1_REQUEST_MAPPING + "/rollouts";
 
+    /**
+     * The export URL mapping rest resource.
+     */
+    public static final String EXPORT_V1_REQUEST_MAPPING = BASE_V1_REQUEST_MAPPING + "/export";
+
+    /**
+     * The request parameter for the comma separated fields of an export.
+     * Example: http://localhost/rest/v1/export/targets?fields=controllerId,name
+     */
+    public static final String REQUEST_PARAMETER_EXPORT_FIELDS = "fields";
+
+    /**
+     * Media type of the exports, i.e. newline delimited JSON with one object
+     * per line.
+     */
+    public static final String MEDIA_TYPE_NDJSON = "application/x-ndjson";
+
+    /**
+     * The import URL mapping rest resource.
+     */
+    public static final String IMPORT_V1_REQUEST_MAPPING = BASE_V1_REQUEST_MAPPING + "/import";
+
+    /**
+     * Media type of comma separated imports with a header line.
+     */
+    public static final String MEDIA_TYPE_CSV = "text/csv";
+
     /**
      * Request parameter for async
      */
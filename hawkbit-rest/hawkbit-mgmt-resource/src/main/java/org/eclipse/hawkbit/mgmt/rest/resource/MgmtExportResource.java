@@ -0,0 +1,184 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import java.util.function.ToLongFunction;
+import java.util.stream.Collectors;
+
+import javax.servlet.http.HttpServletResponse;
+
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtExportRestApi;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.repository.ActionExportFields;
+import org.eclipse.hawkbit.repository.ActionStatusExportFields;
+import org.eclipse.hawkbit.repository.DeploymentManagement;
+import org.eclipse.hawkbit.repository.ExportFieldProvider;
+import org.eclipse.hawkbit.repository.TargetExportFields;
+import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.rest.exception.ExportParameterUnsupportedFieldException;
+import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
+import org.springframework.context.annotation.Scope;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+
+/**
+ * REST Resource for the export of targets, actions and action status entries.
+ * The entries are written to the response while they are read from the
+ * repository, i.e. neither the entries nor the response are held in memory.
+ */
+@RestController
+@Scope(value = WebApplicationContext.SCOPE_REQUEST)
+public class MgmtExportResource implements MgmtExportRestApi {
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final String FIELD_DELIMITER = ",";
+
+    private final TargetManagement targetManagement;
+
+    private final DeploymentManagement deploymentManagement;
+
+    private final RequestResponseContextHolder requestResponseContextHolder;
+
+    MgmtExportResource(final TargetManagement targetManagement, final DeploymentManagement deploymentManagement,
+            final RequestResponseContextHolder requestResponseContextHolder) {
+        this.targetManagement = targetManagement;
+        this.deploymentManagement = deploymentManagement;
+        this.requestResponseContextHolder = requestResponseContextHolder;
+    }
+
+    @Override
+    public ResponseEntity<Void> exportTargets(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) final String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_EXPORT_FIELDS, required = false) final String fieldsParam) {
+        final List<TargetExportFields> fields = parseFields(TargetExportFields.class, fieldsParam);
+        return export(fields, writer -> targetManagement.export(rsqlParam, fields, writer));
+    }
+
+    @Override
+    public ResponseEntity<Void> exportActions(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) final String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_EXPORT_FIELDS, required = false) final String fieldsParam) {
+        final List<ActionExportFields> fields = parseFields(ActionExportFields.class, fieldsParam);
+        return export(fields, writer -> deploymentManagement.exportActions(rsqlParam, fields, writer));
+    }
+
+    @Override
+    public ResponseEntity<Void> exportActionStatus(
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_SEARCH, required = false) final String rsqlParam,
+            @RequestParam(value = MgmtRestConstants.REQUEST_PARAMETER_EXPORT_FIELDS, required = false) final String fieldsParam) {
+        final List<ActionStatusExportFields> fields = parseFields(ActionStatusExportFields.class, fieldsParam);
+        return export(fields, writer -> deploymentManagement.exportActionStatus(rsqlParam, fields, writer));
+    }
+
+    private ResponseEntity<Void> export(final List<? extends ExportFieldProvider> fields,
+            final ToLongFunction<Consumer<Object[]>> export) {
+        final NdjsonWriter writer = new NdjsonWriter(requestResponseContextHolder.getHttpServletResponse(),
+                fields.stream().map(ExportFieldProvider::getName).collect(Collectors.toList()));
+        export.applyAsLong(writer);
+        writer.finish();
+        return ResponseEntity.ok().build();
+    }
+
+    private static <T extends Enum<T> & ExportFieldProvider> List<T> parseFields(final Class<T> enumType,
+            final String fieldsParam) {
+        final List<T> all = Arrays.asList(enumType.getEnumConstants());
+        if (!StringUtils.hasText(fieldsParam)) {
+            return all;
+        }
+
+        final List<T> fields = new ArrayList<>();
+        for (final String name : fieldsParam.split(FIELD_DELIMITER)) {
+            final String trimmed = name.trim();
+            fields.add(all.stream().filter(field -> field.getName().equalsIgnoreCase(trimmed)).findAny()
+                    .orElseThrow(() -> new ExportParameterUnsupportedFieldException(trimmed)));
+        }
+        return fields;
+    }
+
+    /**
+     * Writes the rows of an export as JSON object per line. The response is
+     * opened with the first row, i.e. errors that occur before, e.g. of the
+     * RSQL filter, are still reported as error response.
+     */
+    private static final class NdjsonWriter implements Consumer<Object[]> {
+        private final HttpServletResponse response;
+        private final List<String> names;
+        private JsonGenerator generator;
+
+        private NdjsonWriter(final HttpServletResponse response, final List<String> names) {
+            this.response = response;
+            this.names = names;
+        }
+
+        @Override
+        public void accept(final Object[] row) {
+            try {
+                final JsonGenerator json = getGenerator();
+                json.writeStartObject();
+                for (int i = 0; i < row.length; i++) {
+                    json.writeFieldName(names.get(i));
+                    writeValue(json, row[i]);
+                }
+                json.writeEndObject();
+                json.writeRaw('\n');
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        private static void writeValue(final JsonGenerator json, final Object value) throws IOException {
+            if (value == null) {
+                json.writeNull();
+            } else if (value instanceof Boolean) {
+                json.writeBoolean((Boolean) value);
+            } else if (value instanceof Long || value instanceof Integer) {
+                json.writeNumber(((Number) value).longValue());
+            } else if (value instanceof Enum) {
+                json.writeString(((Enum<?>) value).name().toLowerCase(Locale.ENGLISH));
+            } else {
+                json.writeString(value.toString());
+            }
+        }
+
+        private JsonGenerator getGenerator() throws IOException {
+            if (generator == null) {
+                response.setContentType(MgmtRestConstants.MEDIA_TYPE_NDJSON);
+                response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                generator = JSON_FACTORY.createGenerator(response.getOutputStream());
+                // objects are separated by line breaks only
+                generator.setPrettyPrinter(new MinimalPrettyPrinter(""));
+            }
+            return generator;
+        }
+
+        private void finish() {
+            try {
+                getGenerator().flush();
+            } catch (final IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+}
@@ -0,0 +1,148 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.validation.ConstraintViolationException;
+
+import org.eclipse.hawkbit.exception.AbstractServerRtException;
+import org.eclipse.hawkbit.exception.SpServerError;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetImportError;
+import org.eclipse.hawkbit.mgmt.json.model.target.MgmtTargetImportResult;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtImportRestApi;
+import org.eclipse.hawkbit.mgmt.rest.resource.MgmtTargetImportReader.InvalidLineException;
+import org.eclipse.hawkbit.repository.EntityFactory;
+import org.eclipse.hawkbit.repository.TargetManagement;
+import org.eclipse.hawkbit.repository.model.TargetImport;
+import org.eclipse.hawkbit.repository.model.TargetImportResult;
+import org.eclipse.hawkbit.rest.util.RequestResponseContextHolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.annotation.Scope;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.WebApplicationContext;
+
+/**
+ * REST Resource for the bulk import of targets. The body is read line by line
+ * and the targets are imported in chunks of {@link #CHUNK_SIZE}, each in its
+ * own transaction, i.e. the created targets of a chunk are kept even if a
+ * later chunk fails.
+ */
+@RestController
+@Scope(value = WebApplicationContext.SCOPE_REQUEST)
+public class MgmtImportResource implements MgmtImportRestApi {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MgmtImportResource.class);
+
+    private static final int CHUNK_SIZE = 500;
+
+    /**
+     * Errors beyond are counted but not reported.
+     */
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final TargetManagement targetManagement;
+
+    private final EntityFactory entityFactory;
+
+    private final RequestResponseContextHolder requestResponseContextHolder;
+
+    MgmtImportResource(final TargetManagement targetManagement, final EntityFactory entityFactory,
+            final RequestResponseContextHolder requestResponseContextHolder) {
+        this.targetManagement = targetManagement;
+        this.entityFactory = entityFactory;
+        this.requestResponseContextHolder = requestResponseContextHolder;
+    }
+
+    @Override
+    public ResponseEntity<MgmtTargetImportResult> importTargets() {
+        final HttpServletRequest request = requestResponseContextHolder.getHttpServletRequest();
+        final MgmtTargetImportResult result = new MgmtTargetImportResult();
+        final List<TargetImport> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (final MgmtTargetImportReader reader = MgmtTargetImportReader
+                .of(MediaType.parseMediaType(request.getContentType()), request.getInputStream(), entityFactory)) {
+            TargetImport targetImport = next(reader, result);
+            while (targetImport != null) {
+                chunk.add(targetImport);
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, result);
+                    chunk.clear();
+                }
+                targetImport = next(reader, result);
+            }
+        } catch (final IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        importChunk(chunk, result);
+
+        return ResponseEntity.ok(result);
+    }
+
+    private static TargetImport next(final MgmtTargetImportReader reader, final MgmtTargetImportResult result)
+            throws IOException {
+        while (true) {
+            try {
+                return reader.next();
+            } catch (final InvalidLineException e) {
+                addError(result, e.getLine(), e.getControllerId(), e.getError(), e.getMessage());
+            }
+        }
+    }
+
+    private void importChunk(final List<TargetImport> chunk, final MgmtTargetImportResult result) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+
+        try {
+            final TargetImportResult chunkResult = targetManagement.importTargets(chunk);
+            result.setCreated(result.getCreated() + chunkResult.getCreated());
+            chunkResult.getErrors().forEach(error -> addError(result, error.getLine(), error.getControllerId(),
+                    error.getError(), error.getMessage()));
+        } catch (final RuntimeException e) {
+            // e.g. a target that has been created concurrently, none of the
+            // chunk is created in that case but the following chunks are
+            // still imported
+            LOG.warn("Import of {} targets failed", chunk.size(), e);
+            final SpServerError error = toError(e);
+            chunk.forEach(targetImport -> addError(result, targetImport.getLine(), null, error, e.getMessage()));
+        }
+    }
+
+    private static SpServerError toError(final RuntimeException e) {
+        if (e instanceof AbstractServerRtException) {
+            return ((AbstractServerRtException) e).getError();
+        }
+        if (e instanceof ConstraintViolationException) {
+            return SpServerError.SP_REPO_CONSTRAINT_VIOLATION;
+        }
+        return SpServerError.SP_REPO_GENERIC_ERROR;
+    }
+
+    private static void addError(final MgmtTargetImportResult result, final long line, final String controllerId,
+            final SpServerError error, final String message) {
+        result.setFailed(result.getFailed() + 1);
+        if (result.getErrors().size() < MAX_REPORTED_ERRORS) {
+            final MgmtTargetImportError importError = new MgmtTargetImportError();
+            importError.setLine(line);
+            importError.setControllerId(controllerId);
+            importError.setErrorCode(error.getKey());
+            importError.setMessage(message);
+            result.getErrors().add(importError);
+        }
+    }
+}
@@ -0,0 +1,356 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.eclipse.hawkbit.exception.AbstractServerRtException;
+import org.eclipse.hawkbit.exception.SpServerError;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.repository.EntityFactory;
+import org.eclipse.hawkbit.repository.builder.TargetCreate;
+import org.eclipse.hawkbit.repository.model.TargetImport;
+import org.springframework.http.MediaType;
+import org.springframework.util.StringUtils;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+/**
+ * Reads the {@link TargetImport}s of an import line by line, i.e. the import
+ * is never held in memory as a whole. Lines that cannot be read are reported
+ * by an {@link InvalidLineException} and skipped.
+ */
+abstract class MgmtTargetImportReader implements Closeable {
+
+    private static final String CONTROLLER_ID = "controllerId";
+    private static final String NAME = "name";
+    private static final String DESCRIPTION = "description";
+    private static final String ADDRESS = "address";
+    private static final String SECURITY_TOKEN = "securityToken";
+    private static final String TAGS = "tags";
+    private static final String METADATA = "metadata";
+    private static final String ATTRIBUTES = "attributes";
+
+    private final BufferedReader reader;
+    private final EntityFactory entityFactory;
+    private long lineNumber;
+
+    private MgmtTargetImportReader(final InputStream in, final EntityFactory entityFactory) {
+        this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        this.entityFactory = entityFactory;
+    }
+
+    /**
+     * Creates the reader for the given media type.
+     *
+     * @param mediaType
+     *            of the import, CSV or newline delimited JSON
+     * @param in
+     *            the import to read
+     * @param entityFactory
+     *            to build the targets
+     * @return the reader
+     */
+    static MgmtTargetImportReader of(final MediaType mediaType, final InputStream in,
+            final EntityFactory entityFactory) {
+        if (MediaType.valueOf(MgmtRestConstants.MEDIA_TYPE_CSV).isCompatibleWith(mediaType)) {
+            return new Csv(in, entityFactory);
+        }
+        return new Ndjson(in, entityFactory);
+    }
+
+    /**
+     * @return the next {@link TargetImport} or <code>null</code> if the end of
+     *         the import is reached
+     * @throws InvalidLineException
+     *             if the next line cannot be read, the following lines can
+     *             still be read
+     * @throws IOException
+     *             if the import cannot be read
+     */
+    abstract TargetImport next() throws IOException;
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    String readLine() throws IOException {
+        final String line = reader.readLine();
+        if (line != null) {
+            lineNumber++;
+        }
+        return line;
+    }
+
+    long getLineNumber() {
+        return lineNumber;
+    }
+
+    TargetImport toImport(final long line, final Map<String, String> fields, final Collection<String> tags,
+            final Map<String, String> metadata, final Map<String, String> attributes) {
+        final String controllerId = fields.get(CONTROLLER_ID);
+        try {
+            final TargetCreate create = entityFactory.target().create().controllerId(controllerId)
+                    .name(fields.get(NAME)).description(fields.get(DESCRIPTION))
+                    .securityToken(fields.get(SECURITY_TOKEN)).address(fields.get(ADDRESS));
+            return new TargetImport(line, create, tags, metadata, attributes);
+        } catch (final AbstractServerRtException e) {
+            throw new InvalidLineException(line, controllerId, e.getError(), e.getMessage());
+        }
+    }
+
+    /**
+     * Reads one JSON object per line, e.g.
+     * <code>{"controllerId":"id","tags":["tag"],"metadata":{"key":"value"},"attributes":{"key":"value"}}</code>.
+     */
+    private static final class Ndjson extends MgmtTargetImportReader {
+        private static final ObjectMapper MAPPER = new ObjectMapper();
+
+        private Ndjson(final InputStream in, final EntityFactory entityFactory) {
+            super(in, entityFactory);
+        }
+
+        @Override
+        TargetImport next() throws IOException {
+            String line;
+            do {
+                line = readLine();
+                if (line == null) {
+                    return null;
+                }
+            } while (!StringUtils.hasText(line));
+
+            final long number = getLineNumber();
+            final JsonNode node;
+            try {
+                node = MAPPER.readTree(line);
+            } catch (final JsonProcessingException e) {
+                throw new InvalidLineException(number, null, SpServerError.SP_REST_BODY_NOT_READABLE,
+                        e.getOriginalMessage());
+            }
+            if (!node.isObject()) {
+                throw new InvalidLineException(number, null, SpServerError.SP_REST_BODY_NOT_READABLE,
+                        "A JSON object is expected");
+            }
+
+            final Map<String, String> fields = new HashMap<>();
+            for (final String field : new String[] { CONTROLLER_ID, NAME, DESCRIPTION, ADDRESS, SECURITY_TOKEN }) {
+                fields.put(field, text(node.get(field)));
+            }
+
+            final List<String> tags = new ArrayList<>();
+            final JsonNode tagsNode = node.path(TAGS);
+            if (!tagsNode.isMissingNode() && !tagsNode.isNull()) {
+                if (!tagsNode.isArray()) {
+                    throw new InvalidLineException(number, fields.get(CONTROLLER_ID),
+                            SpServerError.SP_REST_BODY_NOT_READABLE, "The tags are expected as array");
+                }
+                tagsNode.forEach(tag -> tags.add(text(tag)));
+            }
+
+            return toImport(number, fields, tags, map(number, fields, node.path(METADATA)),
+                    map(number, fields, node.path(ATTRIBUTES)));
+        }
+
+        private static Map<String, String> map(final long number, final Map<String, String> fields,
+                final JsonNode node) {
+            final Map<String, String> map = new HashMap<>();
+            if (node.isMissingNode() || node.isNull()) {
+                return map;
+            }
+            if (!node.isObject()) {
+                throw new InvalidLineException(number, fields.get(CONTROLLER_ID),
+                        SpServerError.SP_REST_BODY_NOT_READABLE, "The metadata and attributes are expected as object");
+            }
+
+            final Iterator<Entry<String, JsonNode>> entries = node.fields();
+            while (entries.hasNext()) {
+                final Entry<String, JsonNode> entry = entries.next();
+                map.put(entry.getKey(), text(entry.getValue()));
+            }
+            return map;
+        }
+
+        private static String text(final JsonNode node) {
+            return node == null || node.isNull() ? null : node.asText();
+        }
+    }
+
+    /**
+     * Reads comma separated values with a header line that names the columns,
+     * e.g. <code>controllerId,name,tags,metadata.key,attribute.key</code>.
+     * Multiple tags are separated by <code>;</code>, values might be quoted.
+     */
+    private static final class Csv extends MgmtTargetImportReader {
+        private static final char SEPARATOR = ',';
+        private static final char QUOTE = '"';
+        private static final String TAG_SEPARATOR = ";";
+        private static final String METADATA_PREFIX = "metadata.";
+        private static final String ATTRIBUTE_PREFIX = "attribute.";
+
+        private List<String> header;
+        private long recordLine;
+
+        private Csv(final InputStream in, final EntityFactory entityFactory) {
+            super(in, entityFactory);
+        }
+
+        @Override
+        TargetImport next() throws IOException {
+            if (header == null) {
+                header = readRecord();
+                if (header == null) {
+                    return null;
+                }
+            }
+
+            List<String> values;
+            do {
+                values = readRecord();
+                if (values == null) {
+                    return null;
+                }
+            } while (values.size() == 1 && values.get(0).isEmpty());
+
+            final long number = recordLine;
+            if (values.size() > header.size()) {
+                throw new InvalidLineException(number, null, SpServerError.SP_REST_BODY_NOT_READABLE,
+                        "The line has more values than the header has columns");
+            }
+
+            final Map<String, String> fields = new HashMap<>();
+            final List<String> tags = new ArrayList<>();
+            final Map<String, String> metadata = new HashMap<>();
+            final Map<String, String> attributes = new HashMap<>();
+            for (int i = 0; i < values.size(); i++) {
+                final String column = header.get(i).trim();
+                final String value = values.get(i);
+                if (value.isEmpty()) {
+                    continue;
+                }
+
+                if (column.startsWith(METADATA_PREFIX)) {
+                    metadata.put(column.substring(METADATA_PREFIX.length()), value);
+                } else if (column.startsWith(ATTRIBUTE_PREFIX)) {
+                    attributes.put(column.substring(ATTRIBUTE_PREFIX.length()), value);
+                } else if (TAGS.equals(column)) {
+                    for (final String tag : value.split(TAG_SEPARATOR)) {
+                        if (StringUtils.hasText(tag)) {
+                            tags.add(tag.trim());
+                        }
+                    }
+                } else {
+                    fields.put(column, value);
+                }
+            }
+
+            return toImport(number, fields, tags, metadata, attributes);
+        }
+
+        /**
+         * Reads the values of the next record, quoted values might span
+         * multiple lines.
+         */
+        private List<String> readRecord() throws IOException {
+            String line = readLine();
+            if (line == null) {
+                return null;
+            }
+
+            recordLine = getLineNumber();
+            final List<String> values = new ArrayList<>();
+            final StringBuilder value = new StringBuilder();
+            boolean quoted = false;
+            int i = 0;
+            while (true) {
+                if (i == line.length()) {
+                    if (!quoted) {
+                        break;
+                    }
+                    line = readLine();
+                    if (line == null) {
+                        throw new InvalidLineException(recordLine, null, SpServerError.SP_REST_BODY_NOT_READABLE,
+                                "The quoted value is not terminated");
+                    }
+                    value.append('\n');
+                    i = 0;
+                    continue;
+                }
+
+                final char c = line.charAt(i++);
+                if (quoted) {
+                    if (c != QUOTE) {
+                        value.append(c);
+                    } else if (i < line.length() && line.charAt(i) == QUOTE) {
+                        // escaped quote
+                        value.append(QUOTE);
+                        i++;
+                    } else {
+                        quoted = false;
+                    }
+                } else if (c == QUOTE) {
+                    quoted = true;
+                } else if (c == SEPARATOR) {
+                    values.add(value.toString());
+                    value.setLength(0);
+                } else {
+                    value.append(c);
+                }
+            }
+            values.add(value.toString());
+            return values;
+        }
+    }
+
+    /**
+     * Thrown if a line of the import cannot be read.
+     */
+    static final class InvalidLineException extends RuntimeException {
+        private static final long serialVersionUID = 1L;
+
+        private final long line;
+        private final String controllerId;
+        private final SpServerError error;
+
+        InvalidLineException(final long line, final String controllerId, final SpServerError error,
+                final String message) {
+            super(message);
+            this.line = line;
+            this.controllerId = controllerId;
+            this.error = error;
+        }
+
+        long getLine() {
+            return line;
+        }
+
+        String getControllerId() {
+            return controllerId;
+        }
+
+        SpServerError getError() {
+            return error;
+        }
+    }
+}
@@ -14,6 +14,8 @@ import org.eclipse.hawkbit.repository.ActionStatusFields;
 import org.eclipse.hawkbit.repository.DistributionSetFields;
 import org.eclipse.hawkbit.repository.DistributionSetMetadataFields;
 import org.eclipse.hawkbit.repository.DistributionSetTypeFields;
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
+import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
 import org.eclipse.hawkbit.repository.RolloutFields;
 import org.eclipse.hawkbit.repository.RolloutGroupFields;
 import org.eclipse.hawkbit.repository.SoftwareModuleFields;
@@ -23,6 +25,8 @@ import org.eclipse.hawkbit.repository.TagFields;
 import org.eclipse.hawkbit.repository.TargetFields;
 import org.eclipse.hawkbit.repository.TargetFilterQueryFields;
 import org.eclipse.hawkbit.rest.util.SortUtility;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Sort.Direction;
 
@@ -53,6 +57,28 @@ public final class PagingUtility {
         return pageLimit;
     }
 
+    /**
+     * Creates a keyset based page request if a cursor is given, even if it is
+     * empty, and an offset based one otherwise.
+     */
+    static Pageable toPageRequest(final String cursor, final int offset, final int limit, final Sort sort) {
+        if (cursor == null) {
+            return new OffsetBasedPageRequest(offset, limit, sort);
+        }
+        return KeysetPageRequest.of(cursor, offset, limit, sort);
+    }
+
+    /**
+     * @return the cursor of the page that follows the given one in case of a
+     *         keyset based page request, <code>null</code> otherwise
+     */
+    static String nextCursor(final Pageable pageable, final Slice<?> page) {
+        if (pageable instanceof KeysetPageRequest) {
+            return ((KeysetPageRequest) pageable).next(page.getContent());
+        }
+        return null;
+    }
+
     static Sort sanitizeTargetSortParam(final String sortParam) {
         if (sortParam == null) {
             // default
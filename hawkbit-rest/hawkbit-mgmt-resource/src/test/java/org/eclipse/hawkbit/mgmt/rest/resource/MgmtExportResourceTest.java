@@ -0,0 +1,121 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.eclipse.hawkbit.exception.SpServerError;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.DistributionSet;
+import org.eclipse.hawkbit.repository.model.Target;
+import org.eclipse.hawkbit.rest.util.MockMvcResultPrinter;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+/**
+ * Test for {@link MgmtExportResource}.
+ */
+@Feature("Component Tests - Management API")
+@Story("Export Resource")
+public class MgmtExportResourceTest extends AbstractManagementApiIntegrationTest {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    @Test
+    @Description("Verifies that the export of targets writes one JSON object with the requested fields per target "
+            + "that matches the filter.")
+    public void exportTargets() throws Exception {
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Target> targets = testdataFactory.createTargets(3, "export");
+        testdataFactory.createTarget("other");
+        assignDistributionSet(ds.getId(), targets.get(0).getControllerId());
+
+        final List<Map<String, Object>> rows = export(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING
+                + "/targets?q=controllerId==export*&fields=controllerId,updateStatus,assignedDistributionSet");
+
+        assertThat(rows).hasSize(3).allSatisfy(row -> assertThat(row).containsOnlyKeys("controllerId",
+                "updateStatus", "assignedDistributionSet"));
+        assertThat(rows).filteredOn(row -> targets.get(0).getControllerId().equals(row.get("controllerId")))
+                .hasSize(1).allSatisfy(row -> {
+                    assertThat(row.get("updateStatus")).isEqualTo("pending");
+                    assertThat(((Number) row.get("assignedDistributionSet")).longValue()).isEqualTo(ds.getId());
+                });
+
+        assertThat(export(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/targets")).hasSize(4)
+                .allSatisfy(row -> assertThat(row).containsKeys("controllerId", "name", "lastModifiedAt"));
+    }
+
+    @Test
+    @Description("Verifies that the export of actions and action status entries writes one JSON object per entry.")
+    public void exportActionsAndActionStatus() throws Exception {
+        final DistributionSet ds = testdataFactory.createDistributionSet();
+        final List<Target> targets = testdataFactory.createTargets(2, "export");
+        final Long actionId = getFirstAssignedActionId(assignDistributionSet(ds, targets));
+        controllerManagement.addUpdateActionStatus(
+                entityFactory.actionStatus().create(actionId).status(Action.Status.FINISHED));
+
+        final List<Map<String, Object>> actions = export(
+                MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/actions?fields=id,target,status,active");
+        assertThat(actions).hasSize(2);
+        assertThat(actions).filteredOn(row -> actionId.equals(((Number) row.get("id")).longValue())).hasSize(1)
+                .allSatisfy(row -> {
+                    assertThat(row.get("status")).isEqualTo("finished");
+                    assertThat(row.get("active")).isEqualTo(false);
+                });
+
+        final List<Map<String, Object>> states = export(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING
+                + "/actionstatus?q=id=ge=0&fields=action,status");
+        assertThat(states).hasSize(3).extracting(row -> row.get("status")).containsOnly("running", "finished");
+    }
+
+    @Test
+    @Description("Verifies that invalid fields and filters are rejected before the export starts.")
+    public void exportWithInvalidParametersIsRejected() throws Exception {
+        mvc.perform(get(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/targets?fields=controllerId,notexist"))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode",
+                        equalTo(SpServerError.SP_REST_EXPORT_PARAM_INVALID_FIELD.getKey())));
+
+        mvc.perform(get(MgmtRestConstants.EXPORT_V1_REQUEST_MAPPING + "/actions?q=notexist==1"))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_REST_RSQL_PARAM_INVALID_FIELD.getKey())));
+    }
+
+    private List<Map<String, Object>> export(final String url) throws Exception {
+        final String body = mvc.perform(get(url)).andDo(MockMvcResultPrinter.print()).andExpect(status().isOk())
+                .andExpect(content().contentTypeCompatibleWith(MediaType.valueOf(MgmtRestConstants.MEDIA_TYPE_NDJSON)))
+                .andReturn().getResponse().getContentAsString();
+
+        final List<Map<String, Object>> rows = new ArrayList<>();
+        for (final String line : body.split("\n")) {
+            if (!line.isEmpty()) {
+                rows.add(MAPPER.readValue(line, new TypeReference<Map<String, Object>>() {
+                }));
+            }
+        }
+        return rows;
+    }
+}
@@ -0,0 +1,106 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.mgmt.rest.resource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import org.eclipse.hawkbit.exception.SpServerError;
+import org.eclipse.hawkbit.mgmt.rest.api.MgmtRestConstants;
+import org.eclipse.hawkbit.repository.model.TargetTag;
+import org.eclipse.hawkbit.rest.util.MockMvcResultPrinter;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+/**
+ * Test for {@link MgmtImportResource}.
+ */
+@Feature("Component Tests - Management API")
+@Story("Import Resource")
+public class MgmtImportResourceTest extends AbstractManagementApiIntegrationTest {
+
+    private static final String TARGETS_URL = MgmtRestConstants.IMPORT_V1_REQUEST_MAPPING + "/targets";
+
+    @Test
+    @Description("Verifies that an NDJSON import creates the targets with tags, metadata and attributes and reports "
+            + "the lines that cannot be imported.")
+    public void importTargetsFromNdjson() throws Exception {
+        final TargetTag tag = targetTagManagement.create(entityFactory.tag().create().name("imported"));
+        testdataFactory.createTarget("existing");
+
+        final String body = "{\"controllerId\":\"t1\",\"name\":\"first\",\"tags\":[\"imported\"],"
+                + "\"metadata\":{\"key\":\"value\"},\"attributes\":{\"revision\":\"1.1\"}}\n" //
+                + "\n" //
+                + "{\"controllerId\":\"t2\"}\n" //
+                + "{\"controllerId\":\n" //
+                + "{\"controllerId\":\"existing\"}\n";
+
+        mvc.perform(post(TARGETS_URL).content(body).contentType(MgmtRestConstants.MEDIA_TYPE_NDJSON))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", equalTo(2))).andExpect(jsonPath("$.failed", equalTo(2)))
+                .andExpect(jsonPath("$.errors[*].line", contains(4, 5)))
+                .andExpect(jsonPath("$.errors[0].errorCode",
+                        equalTo(SpServerError.SP_REST_BODY_NOT_READABLE.getKey())))
+                .andExpect(jsonPath("$.errors[1].errorCode",
+                        equalTo(SpServerError.SP_REPO_ENTITY_ALREADY_EXISTS.getKey())))
+                .andExpect(jsonPath("$.errors[1].controllerId", equalTo("existing")));
+
+        assertThat(targetManagement.getByControllerID("t1")).hasValueSatisfying(
+                target -> assertThat(target.getName()).isEqualTo("first"));
+        assertThat(targetManagement.findByTag(PageRequest.of(0, 10), tag.getId()).getTotalElements()).isEqualTo(1);
+        assertThat(targetManagement.getMetaDataByControllerId("t1", "key")).isPresent();
+        assertThat(targetManagement.getControllerAttributes("t1")).containsEntry("revision", "1.1");
+        assertThat(targetManagement.getByControllerID("t2")).isPresent();
+    }
+
+    @Test
+    @Description("Verifies that a CSV import creates the targets of the lines, including quoted values, and "
+            + "reports the lines that cannot be imported.")
+    public void importTargetsFromCsv() throws Exception {
+        targetTagManagement.create(entityFactory.tag().create().name("a"));
+        targetTagManagement.create(entityFactory.tag().create().name("b"));
+
+        final String body = "controllerId,name,description,tags,metadata.key,attribute.revision\n" //
+                + "c1,first,\"with, comma\",a;b,value,1.1\n" //
+                + "c2,,\"multi\nline\",,,\n" //
+                + "c3,third,,unknown,,\n" //
+                + "c 4,fourth,,,,\n";
+
+        mvc.perform(post(TARGETS_URL).content(body).contentType(MgmtRestConstants.MEDIA_TYPE_CSV))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", equalTo(2))).andExpect(jsonPath("$.failed", equalTo(2)))
+                .andExpect(jsonPath("$.errors", hasSize(2)))
+                .andExpect(jsonPath("$.errors[*].line", contains(5, 6)))
+                .andExpect(jsonPath("$.errors[0].errorCode",
+                        equalTo(SpServerError.SP_REPO_ENTITY_NOT_EXISTS.getKey())))
+                .andExpect(jsonPath("$.errors[1].errorCode",
+                        equalTo(SpServerError.SP_REPO_CONSTRAINT_VIOLATION.getKey())));
+
+        assertThat(targetManagement.getByControllerID("c1")).hasValueSatisfying(target -> {
+            assertThat(target.getName()).isEqualTo("first");
+            assertThat(target.getDescription()).isEqualTo("with, comma");
+        });
+        assertThat(targetTagManagement.findByTarget(PageRequest.of(0, 10), "c1").getTotalElements()).isEqualTo(2);
+        assertThat(targetManagement.getMetaDataByControllerId("c1", "key")).isPresent();
+        assertThat(targetManagement.getControllerAttributes("c1")).containsEntry("revision", "1.1");
+        assertThat(targetManagement.getByControllerID("c2")).hasValueSatisfying(target -> {
+            assertThat(target.getName()).isEqualTo("c2");
+            assertThat(target.getDescription()).isEqualTo("multi\nline");
+        });
+    }
+}
@@ -552,6 +552,35 @@ public class MgmtTargetResourceTest extends AbstractManagementApiIntegrationTest
                 .andExpect(jsonPath("$.content.[?(@.name=='" + idE + "')].updateStatus", contains("registered")));
     }
 
+    @Test
+    @Description("Ensures that target query with cursor parameter returns the pages of targets one after another "
+            + "with the cursor of the next page.")
+    public void getTargetWithPagingCursorRequestParameter() throws Exception {
+        createTargetsAlphabetical(5);
+
+        final String cursor = getTargetPageWithCursor("", "a", "b");
+        final String lastCursor = getTargetPageWithCursor(cursor, "c", "d");
+        assertThat(getTargetPageWithCursor(lastCursor, "e")).as("Last page has no next cursor").isNull();
+
+        mvc.perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, "no cursor"))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.errorCode", equalTo(SpServerError.SP_REST_PAGING_CURSOR_SYNTAX.getKey())));
+    }
+
+    private String getTargetPageWithCursor(final String cursor, final String... expectedNames) throws Exception {
+        final MvcResult result = mvc
+                .perform(get(MgmtRestConstants.TARGET_V1_REQUEST_MAPPING)
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_LIMIT, "2")
+                        .param(MgmtRestConstants.REQUEST_PARAMETER_PAGING_CURSOR, cursor))
+                .andDo(MockMvcResultPrinter.print()).andExpect(status().isOk())
+                .andExpect(jsonPath(JSON_PATH_PAGED_LIST_TOTAL, equalTo(5)))
+                .andExpect(jsonPath("$.content[*].name", contains(expectedNames))).andReturn();
+
+        final Map<String, Object> page = JsonPath.read(result.getResponse().getContentAsString(), "$");
+        return (String) page.get("next");
+    }
+
     @Test
     @Description("Ensures that the get request for a target works.")
     public void getSingleTarget() throws Exception {
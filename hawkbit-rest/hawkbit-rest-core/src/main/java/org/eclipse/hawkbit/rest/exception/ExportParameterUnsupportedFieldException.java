@@ -0,0 +1,32 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.rest.exception;
+
+import org.eclipse.hawkbit.exception.AbstractServerRtException;
+import org.eclipse.hawkbit.exception.SpServerError;
+
+/**
+ * Exception used by the REST API in case of invalid field name in the fields
+ * parameter of an export.
+ */
+public class ExportParameterUnsupportedFieldException extends AbstractServerRtException {
+
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Creates a new ExportParameterUnsupportedFieldException with
+     * {@link SpServerError#SP_REST_EXPORT_PARAM_INVALID_FIELD} error.
+     *
+     * @param field
+     *            the name of the field that is not supported
+     */
+    public ExportParameterUnsupportedFieldException(final String field) {
+        super("The given export field " + field + " does not exist", SpServerError.SP_REST_EXPORT_PARAM_INVALID_FIELD);
+    }
+}
@@ -8,13 +8,19 @@
  */
 package org.eclipse.hawkbit.rest.util;
 
+import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.StandardOpenOption;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Optional;
 
 import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
@@ -29,7 +35,6 @@ import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 
 import com.google.common.base.Preconditions;
-import com.google.common.io.ByteStreams;
 import com.google.common.math.DoubleMath;
 
 /**
@@ -46,6 +51,17 @@ public final class FileStreamingUtil {
 
     private static final int BUFFER_SIZE = 0x2000; // 8k
 
+    private static final long TRANSFER_CHUNK_SIZE = 0x100000; // 1M
+
+    /**
+     * Request attribute by which Tomcat signals that the connector supports
+     * sendfile.
+     */
+    static final String SENDFILE_SUPPORTED_ATTR = "org.apache.tomcat.sendfile.support";
+    static final String SENDFILE_FILENAME_ATTR = "org.apache.tomcat.sendfile.filename";
+    static final String SENDFILE_FILE_START_ATTR = "org.apache.tomcat.sendfile.start";
+    static final String SENDFILE_FILE_END_ATTR = "org.apache.tomcat.sendfile.end";
+
     private FileStreamingUtil() {
 
     }
@@ -97,6 +113,19 @@ public final class FileStreamingUtil {
      * The request supports RFC7233 range requests.
      * </p>
      *
+     * <p>
+     * Full and single range requests of artifacts that are backed by a local
+     * file (see {@link AbstractDbArtifact#getFile()}) are handed over to the
+     * servlet container if it supports sendfile (Tomcat with a NIO connector)
+     * and no progress listener is given, i.e. the container writes the range
+     * to the socket without copying it through the heap. As the container
+     * does not tell when it is done, ranges with a progress listener are
+     * transferred from the file in chunks instead, reporting the progress per
+     * chunk. All other requests are copied stream based starting at the
+     * requested range (see
+     * {@link AbstractDbArtifact#getFileInputStream(long, long)}).
+     * </p>
+     *
      * @param artifact
      *            the artifact
      * @param filename
@@ -173,12 +202,13 @@ public final class FileStreamingUtil {
         // full request - no range
         if (ranges.isEmpty() || ranges.get(0).equals(full)) {
             LOG.debug("filename ({}) results into a full request: ", filename);
-            result = handleFullFileRequest(artifact, filename, response, progressListener, full);
+            result = handleFullFileRequest(artifact, filename, response, request, progressListener, full);
         }
         // standard range request
         else if (ranges.size() == 1) {
             LOG.debug("filename ({}) results into a standard range request: ", filename);
-            result = handleStandardRangeRequest(artifact, filename, response, progressListener, ranges);
+            result = handleStandardRangeRequest(artifact, filename, response, request, progressListener,
+                    ranges);
         }
         // multipart range request
         else {
@@ -190,15 +220,14 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> handleFullFileRequest(final AbstractDbArtifact artifact,
-            final String filename, final HttpServletResponse response,
+            final String filename, final HttpServletResponse response, final HttpServletRequest request,
             final FileStreamingProgressListener progressListener, final ByteRange full) {
         final ByteRange r = full;
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r.getStart() + "-" + r.getEnd() + "/" + r.getTotal());
         response.setContentLengthLong(r.getLength());
 
-        try (InputStream from = artifact.getFileInputStream()) {
-            final ServletOutputStream to = response.getOutputStream();
-            copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+        try {
+            sendOrCopyRange(artifact, request, response, progressListener, r, filename);
         } catch (final IOException e) {
             throw new FileStreamingFailedException("fullfileRequest " + filename, e);
         }
@@ -268,17 +297,14 @@ public final class FileStreamingUtil {
             final ServletOutputStream to = response.getOutputStream();
 
             for (final ByteRange r : ranges) {
-                try (InputStream from = artifact.getFileInputStream()) {
-
-                    // Add multipart boundary and header fields for every range.
-                    to.println();
-                    to.println("--" + ByteRange.MULTIPART_BOUNDARY);
-                    to.println(HttpHeaders.CONTENT_RANGE + ": bytes " + r.getStart() + "-" + r.getEnd() + "/"
-                            + r.getTotal());
-
-                    // Copy single part range of multi part range.
-                    copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
-                }
+                // Add multipart boundary and header fields for every range.
+                to.println();
+                to.println("--" + ByteRange.MULTIPART_BOUNDARY);
+                to.println(HttpHeaders.CONTENT_RANGE + ": bytes " + r.getStart() + "-" + r.getEnd() + "/"
+                        + r.getTotal());
+
+                // Copy single part range of multi part range.
+                copyRange(artifact, to, progressListener, r, filename);
             }
 
             // End with final multipart boundary.
@@ -292,16 +318,15 @@ public final class FileStreamingUtil {
     }
 
     private static ResponseEntity<InputStream> handleStandardRangeRequest(final AbstractDbArtifact artifact,
-            final String filename, final HttpServletResponse response,
+            final String filename, final HttpServletResponse response, final HttpServletRequest request,
             final FileStreamingProgressListener progressListener, final List<ByteRange> ranges) {
         final ByteRange r = ranges.get(0);
         response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + r.getStart() + "-" + r.getEnd() + "/" + r.getTotal());
         response.setContentLengthLong(r.getLength());
         response.setStatus(HttpServletResponse.SC_PARTIAL_CONTENT);
 
-        try (InputStream from = artifact.getFileInputStream()) {
-            final ServletOutputStream to = response.getOutputStream();
-            copyStreams(from, to, progressListener, r.getStart(), r.getLength(), filename);
+        try {
+            sendOrCopyRange(artifact, request, response, progressListener, r, filename);
         } catch (final IOException e) {
             LOG.error("standardRangeRequest of file ({}) failed!", filename, e);
             throw new FileStreamingFailedException(filename);
@@ -310,24 +335,90 @@ public final class FileStreamingUtil {
         return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).build();
     }
 
-    private static long copyStreams(final InputStream from, final OutputStream to,
+    private static void sendOrCopyRange(final AbstractDbArtifact artifact, final HttpServletRequest request,
+            final HttpServletResponse response, final FileStreamingProgressListener progressListener,
+            final ByteRange r, final String filename) throws IOException {
+        final Optional<File> file = artifact.getFile();
+        if (!file.isPresent()) {
+            copyRange(artifact, response.getOutputStream(), progressListener, r, filename);
+            return;
+        }
+
+        if (progressListener == null && Boolean.TRUE.equals(request.getAttribute(SENDFILE_SUPPORTED_ATTR))) {
+            LOG.trace("Hand over file {} from {} to {} to the container", filename, r.getStart(), r.getEnd());
+            request.setAttribute(SENDFILE_FILENAME_ATTR, file.get().getAbsolutePath());
+            request.setAttribute(SENDFILE_FILE_START_ATTR, r.getStart());
+            // exclusive
+            request.setAttribute(SENDFILE_FILE_END_ATTR, r.getEnd() + 1);
+            return;
+        }
+
+        try (FileChannel from = FileChannel.open(file.get().toPath(), StandardOpenOption.READ)) {
+            // the channel wrapper is not closed as this would close the servlet
+            // output stream as well
+            transferChannel(from, Channels.newChannel(response.getOutputStream()), progressListener, r.getStart(),
+                    r.getLength(), filename);
+        }
+    }
+
+    private static long transferChannel(final FileChannel from, final WritableByteChannel to,
             final FileStreamingProgressListener progressListener, final long start, final long length,
             final String filename) throws IOException {
 
         final long startMillis = System.currentTimeMillis();
-        LOG.trace("Start of copy-streams of file {} from {} to {}", filename, start, length);
+        LOG.trace("Start of channel transfer of file {} from {} with length {}", filename, start, length);
+
+        final ProgressReporter progressReporter = new ProgressReporter(progressListener, length);
+        // transfer in chunks of one percent so that the progress is reported
+        // as fine grained as with the stream copy
+        final long chunkSize = Math.min(TRANSFER_CHUNK_SIZE, Math.max(BUFFER_SIZE, length / 100));
+        long total = 0;
+
+        while (total < length) {
+            final long transferred = from.transferTo(start + total, Math.min(chunkSize, length - total), to);
+            if (transferred <= 0) {
+                break;
+            }
+
+            total += transferred;
+            progressReporter.shipped(transferred, total);
+        }
+
+        final long totalTime = System.currentTimeMillis() - startMillis;
+
+        if (total < length) {
+            throw new FileStreamingFailedException(filename + ": " + (length - total)
+                    + " bytes could not be written to client, total time on write: !" + totalTime + " ms");
+        }
+
+        LOG.trace("Finished channel transfer of file {} with length {} in {} ms", filename, length, totalTime);
+
+        return total;
+    }
+
+    private static long copyRange(final AbstractDbArtifact artifact, final OutputStream to,
+            final FileStreamingProgressListener progressListener, final ByteRange r, final String filename)
+            throws IOException {
+        try (InputStream from = artifact.getFileInputStream(r.getStart(), r.getLength())) {
+            return copyStreams(from, to, progressListener, r.getLength(), filename);
+        }
+    }
+
+    private static long copyStreams(final InputStream from, final OutputStream to,
+            final FileStreamingProgressListener progressListener, final long length, final String filename)
+            throws IOException {
+
+        final long startMillis = System.currentTimeMillis();
+        LOG.trace("Start of copy-streams of file {} with length {}", filename, length);
 
         Preconditions.checkNotNull(from);
         Preconditions.checkNotNull(to);
         final byte[] buf = new byte[BUFFER_SIZE];
+        final ProgressReporter progressReporter = new ProgressReporter(progressListener, length);
         long total = 0;
-        int progressPercent = 1;
-
-        ByteStreams.skipFully(from, start);
 
         long toRead = length;
         boolean toContinue = true;
-        long shippedSinceLastEvent = 0;
 
         while (toContinue) {
             final int r = from.read(buf);
@@ -335,28 +426,19 @@ public final class FileStreamingUtil {
                 break;
             }
 
+            final long shipped;
             toRead -= r;
             if (toRead > 0) {
                 to.write(buf, 0, r);
-                total += r;
-                shippedSinceLastEvent += r;
+                shipped = r;
             } else {
                 to.write(buf, 0, (int) toRead + r);
-                total += toRead + r;
-                shippedSinceLastEvent += toRead + r;
+                shipped = toRead + r;
                 toContinue = false;
             }
+            total += shipped;
 
-            if (progressListener != null) {
-                final int newPercent = DoubleMath.roundToInt(total * 100.0 / length, RoundingMode.DOWN);
-
-                // every 10 percent an event
-                if (newPercent == 100 || newPercent > progressPercent + 10) {
-                    progressPercent = newPercent;
-                    progressListener.progress(length, shippedSinceLastEvent, total);
-                    shippedSinceLastEvent = 0;
-                }
-            }
+            progressReporter.shipped(shipped, total);
         }
 
         final long totalTime = System.currentTimeMillis() - startMillis;
@@ -371,6 +453,40 @@ public final class FileStreamingUtil {
         return total;
     }
 
+    /**
+     * Reports the progress of a single copy operation to a
+     * {@link FileStreamingProgressListener} every 10 percent.
+     */
+    private static final class ProgressReporter {
+        private final FileStreamingProgressListener progressListener;
+        private final long length;
+        private int progressPercent = 1;
+        private long shippedSinceLastEvent;
+
+        private ProgressReporter(final FileStreamingProgressListener progressListener, final long length) {
+            this.progressListener = progressListener;
+            this.length = length;
+        }
+
+        private void shipped(final long shipped, final long total) {
+            if (progressListener == null) {
+                return;
+            }
+
+            shippedSinceLastEvent += shipped;
+            // an empty artifact is complete right away
+            final int newPercent = length == 0 ? 100
+                    : DoubleMath.roundToInt(total * 100.0 / length, RoundingMode.DOWN);
+
+            // every 10 percent an event
+            if (newPercent == 100 || newPercent > progressPercent + 10) {
+                progressPercent = newPercent;
+                progressListener.progress(length, shippedSinceLastEvent, total);
+                shippedSinceLastEvent = 0;
+            }
+        }
+    }
+
     private static final class ByteRange {
         private static final String MULTIPART_BOUNDARY = "THIS_STRING_SEPARATES_MULTIPART";
 
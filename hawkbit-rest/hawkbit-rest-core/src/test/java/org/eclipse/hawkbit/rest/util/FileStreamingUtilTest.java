@@ -0,0 +1,162 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.rest.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.eclipse.hawkbit.artifact.repository.model.AbstractDbArtifact;
+import org.eclipse.hawkbit.artifact.repository.model.DbArtifactHash;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import io.qameta.allure.Description;
+import io.qameta.allure.Feature;
+import io.qameta.allure.Story;
+
+@Feature("Unit Tests - Artifact Download")
+@Story("File streaming")
+public class FileStreamingUtilTest {
+
+    private static final String SHA1 = "0123456789abcdef0123456789abcdef01234567";
+    private static final byte[] CONTENT = "hawkbit artifact".getBytes(StandardCharsets.US_ASCII);
+
+    @Test
+    @Description("Verifies that a file backed artifact is handed over to a container that supports sendfile.")
+    public void fileIsHandedOverToContainerWithSendfileSupport() throws IOException {
+        final File file = createFile(CONTENT);
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(FileStreamingUtil.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FileStreamingUtil.writeFileResponse(new TestArtifact(file, CONTENT), "test.bin", 0, response, request, null);
+
+        assertThat(request.getAttribute(FileStreamingUtil.SENDFILE_FILENAME_ATTR)).isEqualTo(file.getAbsolutePath());
+        assertThat(request.getAttribute(FileStreamingUtil.SENDFILE_FILE_START_ATTR)).isEqualTo(0L);
+        assertThat(request.getAttribute(FileStreamingUtil.SENDFILE_FILE_END_ATTR)).isEqualTo((long) CONTENT.length);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isEqualTo(CONTENT.length);
+    }
+
+    @Test
+    @Description("Verifies that a file backed artifact is transferred by the application if the progress is "
+            + "listened to, as the container does not report when sendfile is done.")
+    public void fileIsTransferredWithProgressListener() throws IOException {
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(FileStreamingUtil.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        final List<Long> progress = new ArrayList<>();
+
+        FileStreamingUtil.writeFileResponse(new TestArtifact(createFile(CONTENT), CONTENT), "test.bin", 0, response,
+                request, (requested, shippedSinceLast, shippedOverall) -> progress.add(shippedOverall));
+
+        assertThat(request.getAttribute(FileStreamingUtil.SENDFILE_FILENAME_ATTR)).isNull();
+        assertThat(response.getContentAsByteArray()).isEqualTo(CONTENT);
+        assertThat(progress).containsExactly((long) CONTENT.length);
+    }
+
+    @Test
+    @Description("Verifies that an empty artifact is delivered with and without sendfile support.")
+    public void emptyFileIsDelivered() throws IOException {
+        final byte[] empty = new byte[0];
+        final TestArtifact artifact = new TestArtifact(createFile(empty), empty);
+        final List<Long> progress = new ArrayList<>();
+
+        final MockHttpServletRequest sendfileRequest = new MockHttpServletRequest();
+        sendfileRequest.setAttribute(FileStreamingUtil.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        final MockHttpServletResponse sendfileResponse = new MockHttpServletResponse();
+        FileStreamingUtil.writeFileResponse(artifact, "test.bin", 0, sendfileResponse, sendfileRequest, null);
+
+        assertThat(sendfileResponse.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(sendfileRequest.getAttribute(FileStreamingUtil.SENDFILE_FILE_START_ATTR)).isEqualTo(0L);
+        assertThat(sendfileRequest.getAttribute(FileStreamingUtil.SENDFILE_FILE_END_ATTR)).isEqualTo(0L);
+
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+        FileStreamingUtil.writeFileResponse(artifact, "test.bin", 0, response, new MockHttpServletRequest(),
+                (requested, shippedSinceLast, shippedOverall) -> progress.add(shippedOverall));
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(response.getContentAsByteArray()).isEmpty();
+        assertThat(response.getContentLengthLong()).isZero();
+        assertThat(progress).isEmpty();
+    }
+
+    @Test
+    @Description("Verifies that a single range of a file backed artifact is handed over with an exclusive end.")
+    public void rangeIsHandedOverToContainerWithSendfileSupport() throws IOException {
+        final File file = createFile(CONTENT);
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(FileStreamingUtil.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE);
+        request.addHeader("Range", "bytes=8-");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FileStreamingUtil.writeFileResponse(new TestArtifact(file, CONTENT), "test.bin", 1000, response, request,
+                null);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.PARTIAL_CONTENT.value());
+        assertThat(request.getAttribute(FileStreamingUtil.SENDFILE_FILE_START_ATTR)).isEqualTo(8L);
+        assertThat(request.getAttribute(FileStreamingUtil.SENDFILE_FILE_END_ATTR)).isEqualTo((long) CONTENT.length);
+        assertThat(response.getContentAsByteArray()).isEmpty();
+    }
+
+    @Test
+    @Description("Verifies that the artifact is copied to the response if the container does not support sendfile.")
+    public void fileIsCopiedWithoutSendfileSupport() throws IOException {
+        final File file = createFile(CONTENT);
+        final MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("Range", "bytes=8-");
+        final MockHttpServletResponse response = new MockHttpServletResponse();
+
+        FileStreamingUtil.writeFileResponse(new TestArtifact(file, CONTENT), "test.bin", 1000, response, request,
+                null);
+
+        assertThat(request.getAttribute(FileStreamingUtil.SENDFILE_FILENAME_ATTR)).isNull();
+        assertThat(response.getContentAsString()).isEqualTo("artifact");
+    }
+
+    private static File createFile(final byte[] content) throws IOException {
+        final File file = File.createTempFile(FileStreamingUtilTest.class.getSimpleName(), "");
+        file.deleteOnExit();
+        Files.write(file.toPath(), content);
+        return file;
+    }
+
+    private static final class TestArtifact extends AbstractDbArtifact {
+
+        private final File file;
+        private final byte[] content;
+
+        private TestArtifact(final File file, final byte[] content) {
+            super(SHA1, new DbArtifactHash(SHA1, null, null), (long) content.length, null);
+            this.file = file;
+            this.content = content;
+        }
+
+        @Override
+        public InputStream getFileInputStream() {
+            return new ByteArrayInputStream(content);
+        }
+
+        @Override
+        public Optional<File> getFile() {
+            return Optional.of(file);
+        }
+    }
+}
@@ -89,6 +89,10 @@ public class TenantResourceDocumentationTest extends AbstractApiRestDocumentatio
                 "the expiry time in milliseconds that needs to elapse before an action may be cleaned up.");
         CONFIG_ITEM_DESCRIPTIONS.put(TenantConfigurationKey.MULTI_ASSIGNMENTS_ENABLED,
                 "if multiple distribution sets can be assigned to the same targets.");
+        CONFIG_ITEM_DESCRIPTIONS.put(TenantConfigurationKey.ACTION_FEEDBACK_GROUP_COMMIT_ENABLED,
+                "if the action status feedback of the targets is persisted in group commits.");
+        CONFIG_ITEM_DESCRIPTIONS.put(TenantConfigurationKey.ACTION_FEEDBACK_GROUP_COMMIT_MAX_WAIT,
+                "the time in milliseconds a target waits for the group commit of its feedback before it is persisted on its own.");
     }
 
     @Autowired
@@ -12,7 +12,7 @@ import java.util.Arrays;
 import java.util.Collection;
 
 import org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions;
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -27,14 +27,15 @@ public abstract class AbstractControllerAuthenticationFilter implements PreAuthe
 
     private static final Logger LOGGER = LoggerFactory.getLogger(AbstractControllerAuthenticationFilter.class);
 
-    protected final TenantConfigurationManagement tenantConfigurationManagement;
+    protected final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache;
     protected final TenantAware tenantAware;
     private final SecurityConfigurationKeyTenantRunner configurationKeyTenantRunner;
     protected final SystemSecurityContext systemSecurityContext;
 
-    protected AbstractControllerAuthenticationFilter(final TenantConfigurationManagement systemManagement,
-            final TenantAware tenantAware, final SystemSecurityContext systemSecurityContext) {
-        this.tenantConfigurationManagement = systemManagement;
+    protected AbstractControllerAuthenticationFilter(
+            final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
+            final SystemSecurityContext systemSecurityContext) {
+        this.tenantConfigurationSnapshotCache = tenantConfigurationSnapshotCache;
         this.tenantAware = tenantAware;
         this.systemSecurityContext = systemSecurityContext;
         this.configurationKeyTenantRunner = new SecurityConfigurationKeyTenantRunner();
@@ -52,8 +53,7 @@ public abstract class AbstractControllerAuthenticationFilter implements PreAuthe
         public Boolean run() {
 
             LOGGER.trace("retrieving configuration value for configuration key {}", getTenantConfigurationKey());
-            return systemSecurityContext.runAsSystem(() -> tenantConfigurationManagement
-                    .getConfigurationValue(getTenantConfigurationKey(), Boolean.class).getValue());
+            return tenantConfigurationSnapshotCache.getSnapshot().isEnabled(getTenantConfigurationKey());
         }
 
     }
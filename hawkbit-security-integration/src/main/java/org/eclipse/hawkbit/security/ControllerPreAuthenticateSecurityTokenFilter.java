@@ -9,9 +9,12 @@
 package org.eclipse.hawkbit.security;
 
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 import org.eclipse.hawkbit.repository.ControllerManagement;
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache;
+import org.eclipse.hawkbit.repository.TargetAuthenticationCache.TargetAuthentication;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
@@ -25,6 +28,10 @@ import org.slf4j.LoggerFactory;
  * {@code Example Header: Authorization: TargetToken
  * 5d8fSD54fdsFG98DDsa.}
  * 
+ * The data needed to verify the security token is kept in the
+ * {@link TargetAuthenticationCache} so that repeated requests of a target do
+ * not hit the repository.
+ * 
  *
  *
  */
@@ -35,13 +42,14 @@ public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractContro
     private static final int OFFSET_TARGET_TOKEN = TARGET_SECURITY_TOKEN_AUTH_SCHEME.length();
 
     private final ControllerManagement controllerManagement;
+    private final TargetAuthenticationCache targetAuthenticationCache;
 
     /**
      * Constructor.
      * 
-     * @param tenantConfigurationManagement
-     *            the tenant management service to retrieve configuration
-     *            properties
+     * @param tenantConfigurationSnapshotCache
+     *            the cache of the tenant configuration to retrieve the
+     *            configuration properties
      * @param controllerManagement
      *            the controller management to retrieve the specific target
      *            security token to verify
@@ -51,13 +59,17 @@ public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractContro
      * @param systemSecurityContext
      *            the system security context to get access to tenant
      *            configuration
+     * @param targetAuthenticationCache
+     *            the cache for the data to verify the target security token
      */
     public ControllerPreAuthenticateSecurityTokenFilter(
-            final TenantConfigurationManagement tenantConfigurationManagement,
+            final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache,
             final ControllerManagement controllerManagement, final TenantAware tenantAware,
-            final SystemSecurityContext systemSecurityContext) {
-        super(tenantConfigurationManagement, tenantAware, systemSecurityContext);
+            final SystemSecurityContext systemSecurityContext,
+            final TargetAuthenticationCache targetAuthenticationCache) {
+        super(tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
         this.controllerManagement = controllerManagement;
+        this.targetAuthenticationCache = targetAuthenticationCache;
     }
 
     @Override
@@ -77,15 +89,17 @@ public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractContro
 
     @Override
     public HeaderAuthentication getPreAuthenticatedCredentials(final DmfTenantSecurityToken securityToken) {
-        final Optional<Target> target = systemSecurityContext.runAsSystemAsTenant(() -> {
-            if (securityToken.getTargetId() != null) {
-                return controllerManagement.get(securityToken.getTargetId());
-            }
-            return controllerManagement.getByControllerId(securityToken.getControllerId());
-        }, securityToken.getTenant());
+        final String authHeader = securityToken.getHeader(DmfTenantSecurityToken.AUTHORIZATION_HEADER);
+        if (authHeader == null || !authHeader.startsWith(TARGET_SECURITY_TOKEN_AUTH_SCHEME)) {
+            return null;
+        }
 
-        return target.map(t -> new HeaderAuthentication(t.getControllerId(),
-                systemSecurityContext.runAsSystemAsTenant(() -> t.getSecurityToken(), securityToken.getTenant())))
+        // the credentials are the presented token only if it matches the
+        // cached hash of the target security token
+        final String presentedToken = authHeader.substring(OFFSET_TARGET_TOKEN);
+        return findTargetAuthentication(securityToken)
+                .filter(authentication -> authentication.matchesSecurityToken(presentedToken))
+                .map(authentication -> new HeaderAuthentication(authentication.getControllerId(), presentedToken))
                 .orElse(null);
     }
 
@@ -93,9 +107,27 @@ public class ControllerPreAuthenticateSecurityTokenFilter extends AbstractContro
         if (securityToken.getControllerId() != null) {
             return securityToken.getControllerId();
         }
-        final Optional<Target> foundTarget = systemSecurityContext.runAsSystemAsTenant(
-                () -> controllerManagement.get(securityToken.getTargetId()), securityToken.getTenant());
-        return foundTarget.map(Target::getControllerId).orElse(null);
+        return findTargetAuthentication(securityToken).map(TargetAuthentication::getControllerId).orElse(null);
+    }
+
+    private Optional<TargetAuthentication> findTargetAuthentication(final DmfTenantSecurityToken securityToken) {
+        final String tenant = securityToken.getTenant();
+        if (securityToken.getTargetId() != null) {
+            final long targetId = securityToken.getTargetId();
+            return targetAuthenticationCache.getByTargetId(tenant, targetId,
+                    () -> loadTargetAuthentication(tenant, () -> controllerManagement.get(targetId)));
+        }
+        return targetAuthenticationCache.getByControllerId(tenant, securityToken.getControllerId(),
+                () -> loadTargetAuthentication(tenant,
+                        () -> controllerManagement.getByControllerId(securityToken.getControllerId())));
+    }
+
+    private Optional<TargetAuthentication> loadTargetAuthentication(final String tenant,
+            final Callable<Optional<Target>> targetLoader) {
+        return systemSecurityContext.runAsSystemAsTenant(() -> targetLoader.call()
+                .map(target -> TargetAuthentication.of(target.getId(), target.getControllerId(),
+                        target.getSecurityToken(), target.getOptLockRevision())),
+                tenant);
     }
 
     @Override
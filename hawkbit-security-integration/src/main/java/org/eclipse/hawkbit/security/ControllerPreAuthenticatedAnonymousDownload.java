@@ -9,7 +9,7 @@
 package org.eclipse.hawkbit.security;
 
 import org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions;
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 
@@ -24,9 +24,9 @@ public class ControllerPreAuthenticatedAnonymousDownload extends AbstractControl
     /**
      * Constructor.
      * 
-     * @param tenantConfigurationManagement
-     *            the tenant management service to retrieve configuration
-     *            properties
+     * @param tenantConfigurationSnapshotCache
+     *            the cache of the tenant configuration to retrieve the
+     *            configuration properties
      * @param tenantAware
      *            the tenant aware service to get configuration for the specific
      *            tenant
@@ -35,9 +35,9 @@ public class ControllerPreAuthenticatedAnonymousDownload extends AbstractControl
      *            configuration
      */
     public ControllerPreAuthenticatedAnonymousDownload(
-            final TenantConfigurationManagement tenantConfigurationManagement, final TenantAware tenantAware,
+            final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache, final TenantAware tenantAware,
             final SystemSecurityContext systemSecurityContext) {
-        super(tenantConfigurationManagement, tenantAware, systemSecurityContext);
+        super(tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
     }
 
     @Override
@@ -12,7 +12,7 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
 
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
 import org.slf4j.Logger;
@@ -57,9 +57,9 @@ public class ControllerPreAuthenticatedSecurityHeaderFilter extends AbstractCont
      * @param caAuthorityNameHeader
      *            the http-header which holds the ca-authority name of the
      *            certificate
-     * @param tenantConfigurationManagement
-     *            the tenant management service to retrieve configuration
-     *            properties
+     * @param tenantConfigurationSnapshotCache
+     *            the cache of the tenant configuration to retrieve the
+     *            configuration properties
      * @param tenantAware
      *            the tenant aware service to get configuration for the specific
      *            tenant
@@ -68,9 +68,9 @@ public class ControllerPreAuthenticatedSecurityHeaderFilter extends AbstractCont
      *            configuration
      */
     public ControllerPreAuthenticatedSecurityHeaderFilter(final String caCommonNameHeader,
-            final String caAuthorityNameHeader, final TenantConfigurationManagement tenantConfigurationManagement,
+            final String caAuthorityNameHeader, final TenantConfigurationSnapshotCache tenantConfigurationSnapshotCache,
             final TenantAware tenantAware, final SystemSecurityContext systemSecurityContext) {
-        super(tenantConfigurationManagement, tenantAware, systemSecurityContext);
+        super(tenantConfigurationSnapshotCache, tenantAware, systemSecurityContext);
         this.caCommonNameHeader = caCommonNameHeader;
         this.sslIssuerHashBasicHeader = caAuthorityNameHeader;
     }
@@ -150,8 +150,8 @@ public class ControllerPreAuthenticatedSecurityHeaderFilter extends AbstractCont
     private final class GetSecurityAuthorityNameTenantRunner implements TenantAware.TenantRunner<String> {
         @Override
         public String run() {
-            return systemSecurityContext.runAsSystem(() -> tenantConfigurationManagement.getConfigurationValue(
-                    TenantConfigurationKey.AUTHENTICATION_MODE_HEADER_AUTHORITY_NAME, String.class).getValue());
+            return tenantConfigurationSnapshotCache.getSnapshot()
+                    .getValue(TenantConfigurationKey.AUTHENTICATION_MODE_HEADER_AUTHORITY_NAME, String.class);
         }
     }
 
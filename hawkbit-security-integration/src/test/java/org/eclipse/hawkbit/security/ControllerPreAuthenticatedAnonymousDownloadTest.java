@@ -11,7 +11,7 @@ package org.eclipse.hawkbit.security;
 import static org.assertj.core.api.Assertions.assertThat;
 
 import org.eclipse.hawkbit.im.authentication.SpPermission.SpringEvalExpressions;
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
 import org.eclipse.hawkbit.tenancy.TenantAware;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -34,15 +34,15 @@ public class ControllerPreAuthenticatedAnonymousDownloadTest {
     private ControllerPreAuthenticatedAnonymousDownload underTest;
 
     @Mock
-    private TenantConfigurationManagement tenantConfigurationManagementMock;
+    private TenantConfigurationSnapshotCache tenantConfigurationSnapshotCacheMock;
 
     @Mock
     private TenantAware tenantAwareMock;
 
     @BeforeEach
     public void before() {
-        underTest = new ControllerPreAuthenticatedAnonymousDownload(tenantConfigurationManagementMock, tenantAwareMock,
-                new SystemSecurityContext(tenantAwareMock));
+        underTest = new ControllerPreAuthenticatedAnonymousDownload(tenantConfigurationSnapshotCacheMock,
+                tenantAwareMock, new SystemSecurityContext(tenantAwareMock));
     }
 
     @Test
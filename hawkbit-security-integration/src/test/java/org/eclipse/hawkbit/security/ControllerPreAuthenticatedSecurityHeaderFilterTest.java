@@ -9,13 +9,13 @@
 package org.eclipse.hawkbit.security;
 
 import static org.assertj.core.api.Assertions.assertThat;
-import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
 
 import java.util.Collection;
+import java.util.Collections;
 
-import org.eclipse.hawkbit.repository.TenantConfigurationManagement;
-import org.eclipse.hawkbit.repository.model.TenantConfigurationValue;
+import org.eclipse.hawkbit.repository.TenantConfigurationSnapshotCache;
+import org.eclipse.hawkbit.repository.model.TenantConfigurationSnapshot;
 import org.eclipse.hawkbit.security.DmfTenantSecurityToken.FileResource;
 import org.eclipse.hawkbit.tenancy.UserAuthoritiesResolver;
 import org.eclipse.hawkbit.tenancy.configuration.TenantConfigurationProperties.TenantConfigurationKey;
@@ -46,16 +46,16 @@ public class ControllerPreAuthenticatedSecurityHeaderFilterTest {
 
     private static final String MULTI_HASH = "HASH1;hash2,HASH3,HASH1";
 
-    private static final TenantConfigurationValue<String> CONFIG_VALUE_SINGLE_HASH = TenantConfigurationValue
-            .<String> builder().value(SINGLE_HASH).build();
+    private static final TenantConfigurationSnapshot CONFIG_VALUE_SINGLE_HASH = new TenantConfigurationSnapshot(
+            Collections.singletonMap(TenantConfigurationKey.AUTHENTICATION_MODE_HEADER_AUTHORITY_NAME, SINGLE_HASH));
 
-    private static final TenantConfigurationValue<String> CONFIG_VALUE_MULTI_HASH = TenantConfigurationValue
-            .<String> builder().value(MULTI_HASH).build();
+    private static final TenantConfigurationSnapshot CONFIG_VALUE_MULTI_HASH = new TenantConfigurationSnapshot(
+            Collections.singletonMap(TenantConfigurationKey.AUTHENTICATION_MODE_HEADER_AUTHORITY_NAME, MULTI_HASH));
 
     private ControllerPreAuthenticatedSecurityHeaderFilter underTest;
 
     @Mock
-    private TenantConfigurationManagement tenantConfigurationManagementMock;
+    private TenantConfigurationSnapshotCache tenantConfigurationSnapshotCacheMock;
     @Mock
     private DmfTenantSecurityToken tenantSecurityTokenMock;
     @Mock
@@ -65,7 +65,7 @@ public class ControllerPreAuthenticatedSecurityHeaderFilterTest {
     public void before() {
         final SecurityContextTenantAware tenantAware = new SecurityContextTenantAware(authoritiesResolver);
         underTest = new ControllerPreAuthenticatedSecurityHeaderFilter(CA_COMMON_NAME, "X-Ssl-Issuer-Hash-%d",
-                tenantConfigurationManagementMock, tenantAware, new SystemSecurityContext(tenantAware));
+                tenantConfigurationSnapshotCacheMock, tenantAware, new SystemSecurityContext(tenantAware));
     }
 
     @Test
@@ -73,9 +73,7 @@ public class ControllerPreAuthenticatedSecurityHeaderFilterTest {
     public void testIssuerHashBasedAuthenticationWithSingleKnownHash() {
         final DmfTenantSecurityToken securityToken = prepareSecurityToken(SINGLE_HASH);
         // use single known hash
-        when(tenantConfigurationManagementMock.getConfigurationValue(
-                eq(TenantConfigurationKey.AUTHENTICATION_MODE_HEADER_AUTHORITY_NAME), eq(String.class)))
-                        .thenReturn(CONFIG_VALUE_SINGLE_HASH);
+        when(tenantConfigurationSnapshotCacheMock.getSnapshot()).thenReturn(CONFIG_VALUE_SINGLE_HASH);
         assertThat(underTest.getPreAuthenticatedPrincipal(securityToken)).isNotNull();
     }
 
@@ -83,9 +81,7 @@ public class ControllerPreAuthenticatedSecurityHeaderFilterTest {
     @Description("Tests the filter for issuer hash based authentication with multiple known hashes")
     public void testIssuerHashBasedAuthenticationWithMultipleKnownHashes() {
         // use multiple known hashes
-        when(tenantConfigurationManagementMock.getConfigurationValue(
-                eq(TenantConfigurationKey.AUTHENTICATION_MODE_HEADER_AUTHORITY_NAME), eq(String.class)))
-                        .thenReturn(CONFIG_VALUE_MULTI_HASH);
+        when(tenantConfigurationSnapshotCacheMock.getSnapshot()).thenReturn(CONFIG_VALUE_MULTI_HASH);
         assertThat(underTest.getPreAuthenticatedPrincipal(prepareSecurityToken(SINGLE_HASH))).isNotNull();
         assertThat(underTest.getPreAuthenticatedPrincipal(prepareSecurityToken(SECOND_HASH))).isNotNull();
         assertThat(underTest.getPreAuthenticatedPrincipal(prepareSecurityToken(THIRD_HASH))).isNotNull();
@@ -96,9 +92,7 @@ public class ControllerPreAuthenticatedSecurityHeaderFilterTest {
     public void testIssuerHashBasedAuthenticationWithUnknownHash() {
         final DmfTenantSecurityToken securityToken = prepareSecurityToken(UNKNOWN_HASH);
         // use single known hash
-        when(tenantConfigurationManagementMock.getConfigurationValue(
-                eq(TenantConfigurationKey.AUTHENTICATION_MODE_HEADER_AUTHORITY_NAME), eq(String.class)))
-                        .thenReturn(CONFIG_VALUE_MULTI_HASH);
+        when(tenantConfigurationSnapshotCacheMock.getSnapshot()).thenReturn(CONFIG_VALUE_MULTI_HASH);
         assertThat(underTest.getPreAuthenticatedPrincipal(securityToken)).isNull();
     }
 
@@ -111,9 +105,7 @@ public class ControllerPreAuthenticatedSecurityHeaderFilterTest {
         final HeaderAuthentication expected1 = new HeaderAuthentication(CA_COMMON_NAME_VALUE, SINGLE_HASH);
         final HeaderAuthentication expected2 = new HeaderAuthentication(CA_COMMON_NAME_VALUE, SECOND_HASH);
 
-        when(tenantConfigurationManagementMock.getConfigurationValue(
-                eq(TenantConfigurationKey.AUTHENTICATION_MODE_HEADER_AUTHORITY_NAME), eq(String.class)))
-                        .thenReturn(CONFIG_VALUE_MULTI_HASH);
+        when(tenantConfigurationSnapshotCacheMock.getSnapshot()).thenReturn(CONFIG_VALUE_MULTI_HASH);
 
         final Collection<HeaderAuthentication> credentials1 = (Collection<HeaderAuthentication>) underTest
                 .getPreAuthenticatedCredentials(securityToken1);
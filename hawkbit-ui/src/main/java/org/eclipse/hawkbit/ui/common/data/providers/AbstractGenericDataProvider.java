@@ -11,6 +11,7 @@ package org.eclipse.hawkbit.ui.common.data.providers;
 import java.util.Objects;
 import java.util.stream.Stream;
 
+import org.eclipse.hawkbit.repository.KeysetPageRequest;
 import org.eclipse.hawkbit.repository.OffsetBasedPageRequest;
 import org.eclipse.hawkbit.ui.common.data.proxies.ProxyIdentifiableEntity;
 import org.slf4j.Logger;
@@ -41,6 +42,10 @@ public abstract class AbstractGenericDataProvider<T extends ProxyIdentifiableEnt
 
     private final Sort defaultSortOrder;
 
+    private long nextOffset = -1;
+    private String nextCursor;
+    private transient Object nextFilter;
+
     /**
      * Constructor for GenericDataProvider
      *
@@ -53,14 +58,48 @@ public abstract class AbstractGenericDataProvider<T extends ProxyIdentifiableEnt
 
     @Override
     protected Stream<T> fetchFromBackEnd(final Query<T, F> query) {
-        return getProxyEntities(
-                loadBackendEntities(convertToPageRequest(query, defaultSortOrder), query.getFilter().orElse(null)));
+        final F filter = query.getFilter().orElse(null);
+        if (!isKeysetPaging()) {
+            return getProxyEntities(loadBackendEntities(convertToPageRequest(query, defaultSortOrder), filter));
+        }
+
+        final KeysetPageRequest pageRequest = convertToKeysetPageRequest(query, filter);
+        final Slice<U> backendEntities = loadBackendEntities(pageRequest, filter);
+
+        // remember the position of the next page as the grid usually
+        // continues there while scrolling
+        nextCursor = pageRequest.next(backendEntities.getContent());
+        nextOffset = pageRequest.getOffset() + pageRequest.getPageSize();
+        nextFilter = filter;
+
+        return getProxyEntities(backendEntities);
+    }
+
+    private KeysetPageRequest convertToKeysetPageRequest(final Query<T, F> query, final F filter) {
+        final boolean isNextPage = nextCursor != null && query.getOffset() == nextOffset
+                && Objects.equals(filter, nextFilter);
+        return KeysetPageRequest.of(isNextPage ? nextCursor : null, query.getOffset(), query.getLimit(),
+                defaultSortOrder);
     }
 
     private PageRequest convertToPageRequest(final Query<T, F> query, final Sort sort) {
         return new OffsetBasedPageRequest(query.getOffset(), query.getLimit(), sort);
     }
 
+    /**
+     * Keyset pagination continues with the cursor of the previous fetch if the
+     * grid scrolls to the next page. It is supported for backend entities with
+     * an {@code id} only, that are loaded by repository methods with keyset
+     * support.
+     *
+     * @return <code>true</code> if the backend entities are loaded by
+     *         {@link KeysetPageRequest}, <code>false</code> for offset based
+     *         paging
+     */
+    protected boolean isKeysetPaging() {
+        return false;
+    }
+
     protected abstract Slice<U> loadBackendEntities(final PageRequest pageRequest, F filter);
 
     protected abstract Stream<T> getProxyEntities(final Slice<U> backendEntities);
@@ -80,6 +119,12 @@ public abstract class AbstractGenericDataProvider<T extends ProxyIdentifiableEnt
 
     protected abstract long sizeInBackEnd(final PageRequest pageRequest, F filter);
 
+    @Override
+    public void refreshAll() {
+        nextCursor = null;
+        super.refreshAll();
+    }
+
     @Override
     public Object getId(final T item) {
         Objects.requireNonNull(item, "Cannot provide an id for a null item.");
@@ -47,6 +47,11 @@ public class ActionDataProvider extends AbstractProxyDataProvider<ProxyAction, A
         this.deploymentManagement = deploymentManagement;
     }
 
+    @Override
+    protected boolean isKeysetPaging() {
+        return true;
+    }
+
     @Override
     protected Slice<Action> loadBackendEntities(final PageRequest pageRequest, final String controllerId) {
         if (StringUtils.isEmpty(controllerId)) {
@@ -49,6 +49,11 @@ public class TargetManagementStateDataProvider
         this.targetManagement = targetManagement;
     }
 
+    @Override
+    protected boolean isKeysetPaging() {
+        return true;
+    }
+
     @Override
     protected Slice<Target> loadBackendEntities(final PageRequest pageRequest,
             final TargetManagementFilterParams filter) {
@@ -24,11 +24,16 @@ import java.util.stream.Stream;
 import org.eclipse.hawkbit.im.authentication.TenantAwareAuthenticationDetails;
 import org.eclipse.hawkbit.im.authentication.UserPrincipal;
 import org.eclipse.hawkbit.repository.event.entity.EntityIdEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent;
+import org.eclipse.hawkbit.repository.event.remote.BulkEntityEvent.Kind;
+import org.eclipse.hawkbit.repository.event.remote.MultiTargetCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.ActionUpdatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.RolloutGroupCreatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.RolloutGroupUpdatedEvent;
 import org.eclipse.hawkbit.repository.event.remote.entity.RolloutUpdatedEvent;
+import org.eclipse.hawkbit.repository.model.Action;
+import org.eclipse.hawkbit.repository.model.Target;
 import org.eclipse.hawkbit.ui.common.event.EntityModifiedEventPayload;
 import org.eclipse.hawkbit.ui.common.event.EntityModifiedEventPayloadIdentifier;
 import org.eclipse.hawkbit.ui.common.event.EventTopics;
@@ -36,6 +41,8 @@ import org.eclipse.hawkbit.ui.push.event.ActionChangedEvent;
 import org.eclipse.hawkbit.ui.push.event.ParentIdAwareEvent;
 import org.eclipse.hawkbit.ui.push.event.RolloutChangedEvent;
 import org.eclipse.hawkbit.ui.push.event.RolloutGroupChangedEvent;
+import org.eclipse.hawkbit.ui.push.event.TargetAddedEvent;
+import org.eclipse.hawkbit.ui.push.event.TargetChangedEvent;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.ApplicationEvent;
@@ -293,6 +300,17 @@ public class DelayedEventBusPushStrategy
      */
     @Override
     public void onApplicationEvent(final ApplicationEvent applicationEvent) {
+        if (applicationEvent instanceof BulkEntityEvent) {
+            collectBulkEntityEvent((BulkEntityEvent) applicationEvent);
+            return;
+        }
+
+        if (applicationEvent instanceof MultiTargetCreatedEvent) {
+            final MultiTargetCreatedEvent event = (MultiTargetCreatedEvent) applicationEvent;
+            event.getTargetIds().forEach(targetId -> offerEvent(new TargetAddedEvent(event.getTenant(), targetId)));
+            return;
+        }
+
         if (!(applicationEvent instanceof EntityIdEvent)) {
             return;
         }
@@ -341,6 +359,35 @@ public class DelayedEventBusPushStrategy
         }
     }
 
+    /**
+     * Expands the event of a bulk operation into the UI events of the
+     * entities, the number of events is limited by the queue.
+     */
+    private void collectBulkEntityEvent(final BulkEntityEvent event) {
+        final String tenant = event.getTenant();
+        for (int i = 0; i < event.getRolloutIds().size(); i++) {
+            final Long rolloutId = event.getRolloutIds().get(i);
+            offerEventIfNotContains(new RolloutChangedEvent(tenant, rolloutId));
+            final Long rolloutGroupId = event.getRolloutGroupIds().get(i);
+            if (rolloutGroupId != null) {
+                offerEventIfNotContains(new RolloutGroupChangedEvent(tenant, rolloutId, rolloutGroupId));
+            }
+        }
+
+        if (event.isEntityOfType(Action.class)) {
+            if (event.getKind() == Kind.UPDATED && event.getParentIds().size() == event.getEntityIds().size()) {
+                for (int i = 0; i < event.getEntityIds().size(); i++) {
+                    offerEvent(new ActionChangedEvent(tenant, event.getParentIds().get(i),
+                            event.getEntityIds().get(i)));
+                }
+            }
+        } else if (event.isEntityOfType(Target.class)) {
+            event.getEntityIds().forEach(targetId -> offerEvent(event.getKind() == Kind.CREATED
+                    ? new TargetAddedEvent(tenant, targetId)
+                    : new TargetChangedEvent(tenant, targetId)));
+        }
+    }
+
     private void offerEventIfNotContains(final EntityIdEvent event) {
         if (queue.contains(event)) {
             return;
@@ -45,6 +45,8 @@ import org.eclipse.hawkbit.ui.SpPermissionChecker;
 import org.eclipse.hawkbit.ui.push.event.ActionChangedEvent;
 import org.eclipse.hawkbit.ui.push.event.RolloutChangedEvent;
 import org.eclipse.hawkbit.ui.push.event.RolloutGroupChangedEvent;
+import org.eclipse.hawkbit.ui.push.event.TargetAddedEvent;
+import org.eclipse.hawkbit.ui.push.event.TargetChangedEvent;
 
 /**
  * The default hawkbit event permission checker.
@@ -70,8 +72,9 @@ public class HawkbitEventPermissionChecker implements UIEventPermissionChecker {
         eventPermissionRules.put(
                 Arrays.asList(TargetCreatedEvent.class, TargetUpdatedEvent.class, TargetDeletedEvent.class,
                         TargetTagCreatedEvent.class, TargetTagUpdatedEvent.class, TargetTagDeletedEvent.class,
-                        ActionChangedEvent.class, TargetFilterQueryCreatedEvent.class,
-                        TargetFilterQueryUpdatedEvent.class, TargetFilterQueryDeletedEvent.class),
+                        ActionChangedEvent.class, TargetAddedEvent.class, TargetChangedEvent.class,
+                        TargetFilterQueryCreatedEvent.class, TargetFilterQueryUpdatedEvent.class,
+                        TargetFilterQueryDeletedEvent.class),
                 permChecker::hasTargetReadPermission);
 
         eventPermissionRules.put(Arrays.asList(DistributionSetCreatedEvent.class, DistributionSetUpdatedEvent.class,
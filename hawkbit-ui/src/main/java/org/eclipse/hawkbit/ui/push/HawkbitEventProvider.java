@@ -52,6 +52,8 @@ import org.eclipse.hawkbit.ui.common.event.EventNotificationType;
 import org.eclipse.hawkbit.ui.push.event.ActionChangedEvent;
 import org.eclipse.hawkbit.ui.push.event.RolloutChangedEvent;
 import org.eclipse.hawkbit.ui.push.event.RolloutGroupChangedEvent;
+import org.eclipse.hawkbit.ui.push.event.TargetAddedEvent;
+import org.eclipse.hawkbit.ui.push.event.TargetChangedEvent;
 
 import com.google.common.collect.Maps;
 
@@ -61,7 +63,7 @@ import com.google.common.collect.Maps;
 public class HawkbitEventProvider implements UIEventProvider {
 
     private static final Map<Class<? extends EntityIdEvent>, EntityModifiedEventPayloadIdentifier> EVENTS = Maps
-            .newHashMapWithExpectedSize(29);
+            .newHashMapWithExpectedSize(31);
 
     static {
         EVENTS.put(TargetCreatedEvent.class, new EntityModifiedEventPayloadIdentifier(ProxyTarget.class,
@@ -70,6 +72,10 @@ public class HawkbitEventProvider implements UIEventProvider {
                 new EntityModifiedEventPayloadIdentifier(ProxyTarget.class, EntityModifiedEventType.ENTITY_UPDATED));
         EVENTS.put(TargetDeletedEvent.class, new EntityModifiedEventPayloadIdentifier(ProxyTarget.class,
                 EntityModifiedEventType.ENTITY_REMOVED, EventNotificationType.TARGET_DELETED));
+        EVENTS.put(TargetAddedEvent.class, new EntityModifiedEventPayloadIdentifier(ProxyTarget.class,
+                EntityModifiedEventType.ENTITY_ADDED, EventNotificationType.TARGET_CREATED));
+        EVENTS.put(TargetChangedEvent.class,
+                new EntityModifiedEventPayloadIdentifier(ProxyTarget.class, EntityModifiedEventType.ENTITY_UPDATED));
 
         EVENTS.put(DistributionSetCreatedEvent.class,
                 new EntityModifiedEventPayloadIdentifier(ProxyDistributionSet.class,
@@ -0,0 +1,42 @@
+/**
+ * Copyright (c) 2021 Bosch.IO GmbH and others.
+ *
+ * All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v1.0
+ * which accompanies this distribution, and is available at
+ * http://www.eclipse.org/legal/epl-v10.html
+ */
+package org.eclipse.hawkbit.ui.push.event;
+
+import org.eclipse.hawkbit.repository.event.entity.EntityCreatedEvent;
+import org.eclipse.hawkbit.repository.event.remote.RemoteIdEvent;
+import org.eclipse.hawkbit.repository.model.Target;
+
+/**
+ * TenantAwareEvent declaration for the UI to notify the UI that a target has
+ * been created by a bulk operation.
+ * 
+ */
+public class TargetAddedEvent extends RemoteIdEvent implements EntityCreatedEvent {
+    private static final long serialVersionUID = 1L;
+
+    /**
+     * Default constructor.
+     */
+    public TargetAddedEvent() {
+        // for serialization libs like jackson
+    }
+
+    /**
+     * Constructor for json serialization.
+     * 
+     * @param tenant
+     *            the tenant
+     * @param entityId
+     *            the entity Id
+     */
+    public TargetAddedEvent(final String tenant, final Long entityId) {
+        // application id is not needed, because we compose the event ourselves
+        super(entityId, tenant, Target.class.getName(), null);
+    }
+}